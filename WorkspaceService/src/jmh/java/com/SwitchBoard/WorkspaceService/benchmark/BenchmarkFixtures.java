@@ -0,0 +1,155 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.AssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.enums.AssignmentType;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.projection.TaskRow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shared by the benchmarks, shaped like a roadmap import.
+ */
+final class BenchmarkFixtures {
+
+    static final int TASKS_PER_ASSIGNMENT = 50;
+
+    private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String[] TOPICS = {"Java Basics", "Collections", "Concurrency", "Spring Boot", "JPA", "Testing"};
+    private static final String[] COLORS = {"#FF5733", "#33FF57", "#3357FF", "#F1C40F"};
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Task> tasks(int size) {
+        Random random = new Random(42);
+        UUID assignmentId = UUID.randomUUID();
+        UUID assigneeId = UUID.randomUUID();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i % TASKS_PER_ASSIGNMENT == 0) {
+                assignmentId = new UUID(random.nextLong(), random.nextLong());
+            }
+            Task task = Task.builder()
+                    .assigneeUserId(assigneeId)
+                    .reporterUserId(assigneeId)
+                    .title("Task " + i + " - " + TOPICS[i % TOPICS.length])
+                    .description(description(random))
+                    .statusKey(STATUSES[i % STATUSES.length])
+                    .priority(1 + random.nextInt(5))
+                    .rewardPoints(10 * (1 + random.nextInt(10)))
+                    .estimatedHours(0.5 + random.nextInt(8))
+                    .titleColor(COLORS[i % COLORS.length])
+                    .orderNumber(i)
+                    .topic(TOPICS[i % TOPICS.length])
+                    .deadline(BASE_TIME.plus(Duration.ofDays(i / 5)))
+                    .assignmentId(assignmentId)
+                    .build();
+            task.setId(new UUID(random.nextLong(), random.nextLong()));
+            task.setCreatedAt(BASE_TIME);
+            task.setUpdatedAt(BASE_TIME);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskRow> taskRows(List<Task> tasks) {
+        List<TaskRow> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            rows.add(new TaskRow(task.getId(), task.getAssignmentId(), task.getTitle(), task.getDescription(), task.getStatusKey(),
+                    task.getPriority(), task.getRewardPoints(), task.getEstimatedHours(), task.getTitleColor(),
+                    task.getDeadline(), task.getStartedAt(), task.getCompletedAt(), task.getAssigneeUserId(),
+                    task.getReporterUserId(), task.getCreatedAt(), task.getUpdatedAt(), 0L));
+        }
+        return rows;
+    }
+
+    static List<TaskRoadmapRequest> roadmapTasks(int size) {
+        Random random = new Random(42);
+        List<TaskRoadmapRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskRoadmapRequest request = new TaskRoadmapRequest();
+            request.setTitle("Roadmap step " + i);
+            request.setDescription(description(random));
+            request.setRewardPoints(10);
+            request.setTitleColor(COLORS[i % COLORS.length]);
+            request.setDaysToComplete(1 + random.nextInt(3));
+            request.setTopic(TOPICS[i % TOPICS.length]);
+            request.setOrderNumber(i);
+            request.setEstimatedHours(0.5 + random.nextInt(4));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static List<TaskResponse> taskResponses(int size) {
+        List<TaskResponse> responses = new ArrayList<>(size);
+        for (Task task : tasks(size)) {
+            responses.add(TaskResponse.builder()
+                    .id(task.getId())
+                    .assignmentId(task.getAssignmentId())
+                    .assigneeUserId(task.getAssigneeUserId())
+                    .reporterUserId(task.getReporterUserId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .statusKey(task.getStatusKey())
+                    .priority(task.getPriority())
+                    .rewardPoints(task.getRewardPoints())
+                    .estimatedHours(task.getEstimatedHours())
+                    .titleColor(task.getTitleColor())
+                    .deadline(task.getDeadline())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .orderNumber(task.getOrderNumber())
+                    .topic(task.getTopic())
+                    .commentCount(0)
+                    .build());
+        }
+        return responses;
+    }
+
+    static List<AssignmentResponse> assignmentResponses(int taskCount) {
+        List<TaskResponse> tasks = taskResponses(taskCount);
+        List<AssignmentResponse> assignments = new ArrayList<>();
+        for (int from = 0; from < tasks.size(); from += TASKS_PER_ASSIGNMENT) {
+            List<TaskResponse> slice = tasks.subList(from, Math.min(from + TASKS_PER_ASSIGNMENT, tasks.size()));
+            assignments.add(AssignmentResponse.builder()
+                    .id(slice.get(0).getAssignmentId())
+                    .title("Assignment " + (from / TASKS_PER_ASSIGNMENT))
+                    .description("Roadmap assignment generated for benchmarking")
+                    .assignmentTypeKey(AssignmentType.ROADMAP)
+                    .totalRewardPoints(500)
+                    .totalEstimatedHours(120.0)
+                    .deadline(BASE_TIME.plus(Duration.ofDays(30)))
+                    .totalTasks(slice.size())
+                    .completedTasks(slice.size() / 3)
+                    .pendingTasks(slice.size() - slice.size() / 3)
+                    .completionPercentage(33.3)
+                    .createdAt(BASE_TIME)
+                    .updatedAt(BASE_TIME)
+                    .tasks(new ArrayList<>(slice))
+                    .build());
+        }
+        return assignments;
+    }
+
+    private static String description(Random random) {
+        // Roadmap descriptions are a few sentences of prose; vary the length so payloads are not uniform.
+        int sentences = 1 + random.nextInt(4);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            builder.append("Work through the material, take notes and finish the practice exercises before moving on. ");
+        }
+        return builder.toString();
+    }
+}
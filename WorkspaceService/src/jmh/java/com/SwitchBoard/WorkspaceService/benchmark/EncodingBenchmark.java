@@ -0,0 +1,77 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writing and reading a task list in each encoding the API negotiates, with and without the gzip the server
+ * applies above its size threshold. The encoded size of every combination is printed once per trial:
+ * {@code mvn -Pjmh test -Djmh.args="Encoding -p size=10000"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String encoding;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (encoding) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        tasks = BenchmarkFixtures.taskResponses(size);
+        encoded = write();
+        System.out.printf("%n%d tasks as %s%s: %d bytes%n", size, encoding, gzip ? "+gzip" : "", encoded.length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(tasks);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, tasks);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<TaskResponse> read() throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(new ByteArrayInputStream(encoded)) : new ByteArrayInputStream(encoded)) {
+            return objectMapper.readValue(in, TASK_LIST);
+        }
+    }
+}
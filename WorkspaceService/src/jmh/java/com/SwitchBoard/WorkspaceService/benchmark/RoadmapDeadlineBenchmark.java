@@ -0,0 +1,73 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.AssignmentRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
+import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
+import com.SwitchBoard.WorkspaceService.service.impl.RoadmapServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Roadmap import without the database: {@code RoadmapServiceImpl.calculateSmartDeadlines} plus
+ * building the task set that is saved into the roadmap workspace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoadmapDeadlineBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    private RoadmapServiceImpl roadmapService;
+    private AssignmentRoadmapRequest request;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        userId = UUID.randomUUID();
+        request = AssignmentRoadmapRequest.builder()
+                .title("Java Backend Roadmap")
+                .description("Generated roadmap used for benchmarking")
+                .tasks(BenchmarkFixtures.roadmapTasks(size))
+                .build();
+
+        WorkspaceService workspaceService = mock(WorkspaceService.class, withSettings().stubOnly());
+        // A fresh workspace per call, otherwise assignments pile up across invocations
+        when(workspaceService.getRoadmapWorkspaceByUserId(any())).thenAnswer(invocation -> Workspace.builder()
+                .name("Roadmap Workspace")
+                .workspaceType(WorkspaceType.ROADMAP)
+                .ownerUserId(userId)
+                .build());
+
+        roadmapService = new RoadmapServiceImpl(
+                mock(WorkspaceRepository.class, withSettings().stubOnly()),
+                mock(AssignmentRepository.class, withSettings().stubOnly()),
+                mock(TaskRepository.class, withSettings().stubOnly()),
+                workspaceService,
+                mock(WorkspaceTypeaheadIndex.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(roadmapService, "DAILY_CAPACITY_HOURS", 5.0);
+    }
+
+    @Benchmark
+    public ApiResponse calculateSmartDeadlines() {
+        return roadmapService.addRoadmapAssignmentToWorkspace(request, userId);
+    }
+}
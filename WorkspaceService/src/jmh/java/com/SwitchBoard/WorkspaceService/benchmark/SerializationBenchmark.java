@@ -0,0 +1,56 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.AssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list payloads the controllers return, using the same
+ * {@link ObjectMapper} defaults Spring Boot configures for MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+    private List<AssignmentResponse> assignments;
+    private ApiResponse apiResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tasks = BenchmarkFixtures.taskResponses(size);
+        assignments = BenchmarkFixtures.assignmentResponses(size);
+        apiResponse = ApiResponse.response("Tasks fetched successfully", tasks, "/api/v1/tasks");
+    }
+
+    @Benchmark
+    public byte[] taskResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] assignmentResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(assignments);
+    }
+
+    @Benchmark
+    public byte[] apiResponseWithTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+}
@@ -0,0 +1,61 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.utility.SlugUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugBenchmark {
+
+    private static final String[] GROUP_NAMES = {
+            "Java Learners",
+            "  Spring Boot -- Study Group (2025)  ",
+            "DSA & Competitive Programming!!!",
+            "Frontend   Folks: React / Angular / Vue",
+            "Équipe Données & IA"
+    };
+
+    private final SlugUtils slugUtils = new SlugUtils();
+
+    @Param({"10", "1000"})
+    private int takenSuffixes;
+
+    private Set<String> takenSlugs;
+
+    @Setup
+    public void setUp() {
+        takenSlugs = new HashSet<>();
+        takenSlugs.add("java-learners");
+        for (int i = 1; i <= takenSuffixes; i++) {
+            takenSlugs.add("java-learners-" + i);
+        }
+    }
+
+    @Benchmark
+    public void generateSlug(Blackhole blackhole) {
+        for (String name : GROUP_NAMES) {
+            blackhole.consume(slugUtils.generateSlug(name));
+        }
+    }
+
+    @Benchmark
+    public void normalizeSlug(Blackhole blackhole) {
+        for (String name : GROUP_NAMES) {
+            blackhole.consume(slugUtils.normalizeSlug(name));
+        }
+    }
+
+    @Benchmark
+    public String generateUniqueSlug() {
+        return slugUtils.generateUniqueSlug("Java Learners", base -> takenSlugs);
+    }
+}
@@ -0,0 +1,87 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.analytics.ProgressRollups;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.SparseFieldsetQuery;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.UserTaskViewRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
+import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
+import com.SwitchBoard.WorkspaceService.service.TaskService;
+import com.SwitchBoard.WorkspaceService.service.impl.AssignmentService;
+import com.SwitchBoard.WorkspaceService.service.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * DTO mapping cost of {@code TaskServiceImpl.mapRowsToTaskResponses} (from row projections) and
+ * {@code AssignmentService.convertToTaskResponse} (from entities), driven through the public list methods with
+ * stub repositories so that only the mapping (and its allocation) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    private TaskService taskService;
+    private AssignmentService assignmentService;
+    private UUID assignmentId;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = BenchmarkFixtures.tasks(size);
+        assignmentId = UUID.randomUUID();
+
+        // stubOnly: Mockito must not record millions of invocations while the benchmark runs
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        when(taskRepository.findByAssignmentId(any())).thenReturn(tasks);
+        when(taskRepository.findRowsByAssignmentId(any())).thenReturn(BenchmarkFixtures.taskRows(tasks));
+
+        taskService = new TaskServiceImpl(
+                taskRepository,
+                mock(AssignmentRepository.class, withSettings().stubOnly()),
+                mock(WorkspaceTypeaheadIndex.class, withSettings().stubOnly()),
+                mock(ProgressRollups.class, withSettings().stubOnly()),
+                mock(UserTaskViewRepository.class, withSettings().stubOnly()),
+                mock(UserTaskViewProjector.class, withSettings().stubOnly()),
+                mock(TransactionTemplate.class, withSettings().stubOnly()),
+                mock(SparseFieldsetQuery.class, withSettings().stubOnly()));
+        assignmentService = new AssignmentService(
+                mock(AssignmentRepository.class, withSettings().stubOnly()),
+                taskRepository,
+                mock(WorkspaceRepository.class, withSettings().stubOnly()),
+                taskService,
+                mock(TaskAssignmentService.class, withSettings().stubOnly()),
+                mock(WorkspaceTypeaheadIndex.class, withSettings().stubOnly()),
+                mock(SparseFieldsetQuery.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskServiceMapToTaskResponse() {
+        return taskService.getTasksByAssignmentId(assignmentId);
+    }
+
+    @Benchmark
+    public List<TaskResponse> assignmentServiceConvertToTaskResponse() {
+        return assignmentService.getTasksByAssignmentId(assignmentId);
+    }
+}
@@ -0,0 +1,165 @@
+package com.SwitchBoard.WorkspaceService.benchmark;
+
+import com.SwitchBoard.WorkspaceService.WorkspaceServiceApplication;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskAssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
+import com.SwitchBoard.WorkspaceService.service.TaskService;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a task list from the database through managed entities, as the list endpoints used to, against the
+ * record projections they read now. Boots the application on an in-memory H2 database seeded with one assignment
+ * of {@code size} tasks, each with two comments and a task assignment for the owner.
+ * <p>
+ * Allocation per call is the {@code gc.alloc.rate.norm} column of
+ * {@code mvn -Pjmh test -Djmh.args="TaskReadPath -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadPathBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+    private TaskAssignmentService taskAssignmentService;
+    private UUID assignmentId;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WorkspaceServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.cloud.config.enabled=false",
+                        "spring.cloud.config.import-check.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "daily.task.deadline.hours=5",
+                        "outbox.relay-enabled=false",
+                        "outbox.transport=in-memory",
+                        "grpc.enabled=false")
+                .run();
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskService = context.getBean(TaskService.class);
+        taskAssignmentService = context.getBean(TaskAssignmentService.class);
+
+        WorkspaceGraphSeeder.SeededGraph graph = new WorkspaceGraphSeeder(
+                context.getBean(WorkspaceRepository.class),
+                context.getBean(WorkspaceAccessRepository.class),
+                context.getBean(TaskAssignmentRepository.class),
+                transactionManager).seed(1, size, 1, 0);
+        assignmentId = graph.assignmentIds().get(0);
+        userId = graph.ownerId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** Managed tasks, their grouped comment counts and the mapping the service did before. */
+    @Benchmark
+    public List<TaskResponse> tasksThroughEntities() {
+        return readOnlyTransaction.execute(status -> {
+            List<Task> tasks = taskRepository.findByAssignmentId(assignmentId);
+            Map<UUID, Integer> commentCounts = new HashMap<>();
+            for (Object[] row : taskRepository.countCommentsByTaskIds(tasks.stream().map(Task::getId).toList())) {
+                commentCounts.put((UUID) row[0], ((Long) row[1]).intValue());
+            }
+            return tasks.stream()
+                    .map(task -> TaskResponse.builder()
+                            .id(task.getId())
+                            .title(task.getTitle())
+                            .description(task.getDescription())
+                            .statusKey(task.getStatusKey())
+                            .priority(task.getPriority())
+                            .rewardPoints(task.getRewardPoints())
+                            .estimatedHours(task.getEstimatedHours())
+                            .titleColor(task.getTitleColor())
+                            .deadline(task.getDeadline())
+                            .startedAt(task.getStartedAt())
+                            .completedAt(task.getCompletedAt())
+                            .createdAt(task.getCreatedAt())
+                            .updatedAt(task.getUpdatedAt())
+                            .assigneeUserId(task.getAssigneeUserId())
+                            .reporterUserId(task.getReporterUserId())
+                            .commentCount(commentCounts.getOrDefault(task.getId(), 0))
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<TaskResponse> tasksThroughRows() {
+        return taskService.getTasksByAssignmentId(assignmentId);
+    }
+
+    /** Managed task assignments, each initializing its lazy task for the title. */
+    @Benchmark
+    public List<TaskAssignmentResponse> taskAssignmentsThroughEntities() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT ta FROM TaskAssignment ta WHERE ta.assignedUserId = :userId", TaskAssignment.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(assignment -> TaskAssignmentResponse.builder()
+                        .id(assignment.getId())
+                        .taskId(assignment.getTask().getId())
+                        .taskTitle(assignment.getTask().getTitle())
+                        .assignedUserId(assignment.getAssignedUserId())
+                        .assignedByUserId(assignment.getAssignedByUserId())
+                        .status(assignment.getStatus())
+                        .rewardPointsEarned(assignment.getRewardPointsEarned())
+                        .startedAt(assignment.getStartedAt())
+                        .completedAt(assignment.getCompletedAt())
+                        .assignedAt(assignment.getAssignedAt())
+                        .userNotes(assignment.getUserNotes())
+                        .submissionText(assignment.getSubmissionText())
+                        .submissionUrl(assignment.getSubmissionUrl())
+                        .submissionStatus(assignment.getSubmissionStatus())
+                        .gradeReceived(assignment.getGradeReceived())
+                        .feedback(assignment.getFeedback())
+                        .createdAt(assignment.getCreatedAt())
+                        .updatedAt(assignment.getUpdatedAt())
+                        .build())
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskAssignmentResponse> taskAssignmentsThroughRows() {
+        return taskAssignmentService.getTaskAssignmentsByUserId(userId);
+    }
+}
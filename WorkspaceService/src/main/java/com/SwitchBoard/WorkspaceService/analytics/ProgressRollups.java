@@ -0,0 +1,281 @@
+package com.SwitchBoard.WorkspaceService.analytics;
+
+import com.SwitchBoard.WorkspaceService.entity.DailyAssignmentProgress;
+import com.SwitchBoard.WorkspaceService.entity.DailyUserProgress;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.DailyAssignmentProgressRepository;
+import com.SwitchBoard.WorkspaceService.repository.DailyUserProgressRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the daily progress rollups per user and per assignment.
+ * <p>
+ * A task completed through its status counts for its assignee and its assignment; a user's own task assignment
+ * counts for that user only. Starts are counted on the day of the latest {@code startedAt}, completions on the
+ * day of {@code completedAt}, with the task's reward points and estimated hours. The task and task assignment
+ * services report every transition here and the rollups are adjusted in the same transaction, so analytics
+ * read a handful of rollup rows instead of aggregating the task tables.
+ * <p>
+ * {@link #rebuild} recomputes a range of days from the task tables; it is what the backfill runs and what
+ * repairs the rollups after tasks are edited or deleted once completed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProgressRollups {
+
+    public static final ZoneId ROLLUP_ZONE = ZoneOffset.UTC;
+
+    private final DailyUserProgressRepository userProgressRepository;
+    private final DailyAssignmentProgressRepository assignmentProgressRepository;
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Whether the database has INSERT ... ON CONFLICT DO UPDATE; decided on the first write
+    private volatile Boolean upsertSupported;
+
+    private record RollupKey(UUID id, LocalDate day) {
+    }
+
+    private static final class Tally {
+        private int tasksStarted;
+        private int tasksCompleted;
+        private long rewardPoints;
+        private double hoursCompleted;
+
+        private boolean isEmpty() {
+            return tasksStarted == 0 && tasksCompleted == 0 && rewardPoints == 0 && hoursCompleted == 0;
+        }
+    }
+
+    /** Changes to several rollup rows, merged per user or assignment and day before they are written. */
+    private static final class Changes {
+        private final Map<RollupKey, Tally> users = new HashMap<>();
+        private final Map<RollupKey, Tally> assignments = new HashMap<>();
+
+        private void started(UUID userId, UUID assignmentId, Instant startedAt, int count) {
+            for (Tally tally : tallies(userId, assignmentId, startedAt)) {
+                tally.tasksStarted += count;
+            }
+        }
+
+        private void completed(UUID userId, UUID assignmentId, Instant completedAt, int count, Integer rewardPoints, Double estimatedHours) {
+            for (Tally tally : tallies(userId, assignmentId, completedAt)) {
+                tally.tasksCompleted += count;
+                tally.rewardPoints += count * (rewardPoints != null ? rewardPoints : 0L);
+                tally.hoursCompleted += count * (estimatedHours != null ? estimatedHours : 0.0);
+            }
+        }
+
+        private List<Tally> tallies(UUID userId, UUID assignmentId, Instant at) {
+            List<Tally> tallies = new ArrayList<>(2);
+            if (at == null) {
+                return tallies;
+            }
+            LocalDate day = LocalDate.ofInstant(at, ROLLUP_ZONE);
+            if (userId != null) {
+                tallies.add(users.computeIfAbsent(new RollupKey(userId, day), key -> new Tally()));
+            }
+            if (assignmentId != null) {
+                tallies.add(assignments.computeIfAbsent(new RollupKey(assignmentId, day), key -> new Tally()));
+            }
+            return tallies;
+        }
+    }
+
+    /**
+     * Transitions of many tasks, merged per user or assignment and day so a bulk change writes each rollup row
+     * once; see {@link #write(Batch)}.
+     */
+    public static final class Batch {
+        private final Changes changes = new Changes();
+
+        /** A task moved to ONGOING; its start moves from {@code previousStartedAt}, if any, to its new {@code startedAt}. */
+        public void taskStarted(Task task, Instant previousStartedAt) {
+            changes.started(task.getAssigneeUserId(), task.getAssignmentId(), previousStartedAt, -1);
+            changes.started(task.getAssigneeUserId(), task.getAssignmentId(), task.getStartedAt(), 1);
+        }
+
+        public void taskCompleted(Task task) {
+            changes.completed(task.getAssigneeUserId(), task.getAssignmentId(), task.getCompletedAt(), 1,
+                    task.getRewardPoints(), task.getEstimatedHours());
+        }
+
+        /** A completed task moved back to another status; its completion is taken off the day it was made. */
+        public void taskReopened(Task task) {
+            changes.completed(task.getAssigneeUserId(), task.getAssignmentId(), task.getCompletedAt(), -1,
+                    task.getRewardPoints(), task.getEstimatedHours());
+        }
+
+        /** A task moved to another assignment; its start and completion, if any, move with it. */
+        public void taskMoved(Task task, UUID previousAssignmentId) {
+            changes.started(null, previousAssignmentId, task.getStartedAt(), -1);
+            changes.started(null, task.getAssignmentId(), task.getStartedAt(), 1);
+            if (task.getStatusKey() == TaskStatus.COMPLETED) {
+                changes.completed(null, previousAssignmentId, task.getCompletedAt(), -1,
+                        task.getRewardPoints(), task.getEstimatedHours());
+                changes.completed(null, task.getAssignmentId(), task.getCompletedAt(), 1,
+                        task.getRewardPoints(), task.getEstimatedHours());
+            }
+        }
+    }
+
+    public void taskStarted(Task task, Instant previousStartedAt) {
+        Batch batch = new Batch();
+        batch.taskStarted(task, previousStartedAt);
+        write(batch);
+    }
+
+    public void taskCompleted(Task task) {
+        Batch batch = new Batch();
+        batch.taskCompleted(task);
+        write(batch);
+    }
+
+    public void taskReopened(Task task) {
+        Batch batch = new Batch();
+        batch.taskReopened(task);
+        write(batch);
+    }
+
+    public void write(Batch batch) {
+        write(batch.changes);
+    }
+
+    public void taskAssignmentStarted(TaskAssignment assignment) {
+        Changes changes = new Changes();
+        changes.started(assignment.getAssignedUserId(), null, assignment.getStartedAt(), 1);
+        write(changes);
+    }
+
+    public void taskAssignmentCompleted(TaskAssignment assignment) {
+        Changes changes = new Changes();
+        changes.completed(assignment.getAssignedUserId(), null, assignment.getCompletedAt(), 1,
+                assignment.getRewardPointsEarned(), assignment.getTask().getEstimatedHours());
+        write(changes);
+    }
+
+    /**
+     * Recomputes the rollups of the days in {@code [from, to)} from the task tables; must run in a transaction.
+     * Returns the number of rollup rows written.
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        Instant start = from.atStartOfDay(ROLLUP_ZONE).toInstant();
+        Instant end = to.atStartOfDay(ROLLUP_ZONE).toInstant();
+
+        Changes changes = new Changes();
+        for (Object[] row : taskRepository.findStartsBetween(start, end)) {
+            changes.started((UUID) row[0], (UUID) row[1], (Instant) row[2], 1);
+        }
+        for (Object[] row : taskRepository.findCompletionsBetween(start, end, TaskStatus.COMPLETED)) {
+            changes.completed((UUID) row[0], (UUID) row[1], (Instant) row[2], 1, (Integer) row[3], (Double) row[4]);
+        }
+        for (Object[] row : taskAssignmentRepository.findStartsBetween(start, end)) {
+            changes.started((UUID) row[0], null, (Instant) row[1], 1);
+        }
+        for (Object[] row : taskAssignmentRepository.findCompletionsBetween(start, end)) {
+            changes.completed((UUID) row[0], null, (Instant) row[1], 1, (Integer) row[2], (Double) row[3]);
+        }
+
+        userProgressRepository.deleteByDayRange(from, to);
+        assignmentProgressRepository.deleteByDayRange(from, to);
+        List<DailyUserProgress> userRows = new ArrayList<>(changes.users.size());
+        changes.users.forEach((key, tally) -> userRows.add(newUserRow(key, tally)));
+        List<DailyAssignmentProgress> assignmentRows = new ArrayList<>(changes.assignments.size());
+        changes.assignments.forEach((key, tally) -> assignmentRows.add(newAssignmentRow(key, tally)));
+        userProgressRepository.saveAll(userRows);
+        assignmentProgressRepository.saveAll(assignmentRows);
+        return userRows.size() + assignmentRows.size();
+    }
+
+    // One upsert per row on PostgreSQL. Elsewhere (H2 in tests) one UPDATE per row, plus an INSERT the first time
+    // a user or assignment makes progress on a day, which is not safe against a concurrent first write
+    private void write(Changes changes) {
+        boolean upsert = isUpsertSupported();
+        Instant now = Instant.now();
+        changes.users.forEach((key, tally) -> {
+            if (tally.isEmpty()) {
+                return;
+            }
+            if (upsert) {
+                userProgressRepository.upsert(UUID.randomUUID(), key.id(), key.day(),
+                        tally.tasksStarted, tally.tasksCompleted, tally.rewardPoints, tally.hoursCompleted, now);
+                return;
+            }
+            int updated = userProgressRepository.increment(key.id(), key.day(),
+                    tally.tasksStarted, tally.tasksCompleted, tally.rewardPoints, tally.hoursCompleted);
+            if (updated == 0) {
+                userProgressRepository.save(newUserRow(key, tally));
+            }
+        });
+        changes.assignments.forEach((key, tally) -> {
+            if (tally.isEmpty()) {
+                return;
+            }
+            if (upsert) {
+                assignmentProgressRepository.upsert(UUID.randomUUID(), key.id(), key.day(),
+                        tally.tasksStarted, tally.tasksCompleted, tally.rewardPoints, tally.hoursCompleted, now);
+                return;
+            }
+            int updated = assignmentProgressRepository.increment(key.id(), key.day(),
+                    tally.tasksStarted, tally.tasksCompleted, tally.rewardPoints, tally.hoursCompleted);
+            if (updated == 0) {
+                assignmentProgressRepository.save(newAssignmentRow(key, tally));
+            }
+        });
+    }
+
+    private boolean isUpsertSupported() {
+        Boolean supported = upsertSupported;
+        if (supported == null) {
+            String databaseProduct = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            supported = "PostgreSQL".equalsIgnoreCase(databaseProduct);
+            upsertSupported = supported;
+            log.info("ProgressRollups :: isUpsertSupported :: Database is {}, rollups written with {}",
+                    databaseProduct, supported ? "INSERT ... ON CONFLICT" : "UPDATE then INSERT");
+        }
+        return supported;
+    }
+
+    private static DailyUserProgress newUserRow(RollupKey key, Tally tally) {
+        return DailyUserProgress.builder()
+                .userId(key.id())
+                .day(key.day())
+                .tasksStarted(tally.tasksStarted)
+                .tasksCompleted(tally.tasksCompleted)
+                .rewardPoints(tally.rewardPoints)
+                .hoursCompleted(tally.hoursCompleted)
+                .build();
+    }
+
+    private static DailyAssignmentProgress newAssignmentRow(RollupKey key, Tally tally) {
+        return DailyAssignmentProgress.builder()
+                .assignmentId(key.id())
+                .day(key.day())
+                .tasksStarted(tally.tasksStarted)
+                .tasksCompleted(tally.tasksCompleted)
+                .rewardPoints(tally.rewardPoints)
+                .hoursCompleted(tally.hoursCompleted)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.SwitchBoard.WorkspaceService.cache;
+
+import com.SwitchBoard.WorkspaceService.repository.UserGroupMembershipRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active group memberships, kept in both directions: the groups of a user and the
+ * members of a group. Membership checks and member counts are a hash lookup with no locking and no query.
+ * <p>
+ * The index is loaded once the application is ready and then maintained by the group service, which reports
+ * every membership write here; changes are applied only after the surrounding transaction commits, so a
+ * rolled back write never shows up. Until the first load completes every lookup falls back to the database.
+ * Changes reported while the load is running are replayed on top of the loaded snapshot, in order.
+ * <p>
+ * Each instance only sees the writes made through it. Since membership decides access, the index is reloaded
+ * every {@code group-membership.reload-interval} (30 seconds by default), which bounds how long a membership
+ * added or revoked on another instance goes unnoticed here.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupMembershipIndex {
+
+    private final UserGroupMembershipRepository membershipRepository;
+    private final TransactionUtils transactionUtils;
+
+    private volatile Map<UUID, Set<UUID>> groupsByUser = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Set<UUID>> membersByGroup = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // Guarded by this
+    private boolean loading;
+    private final List<Runnable> changesDuringLoad = new ArrayList<>();
+
+    // Held for a whole load, so the startup load and a scheduled reload never overlap
+    private final Object loadLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${group-membership.reload-interval:PT30S}",
+            fixedDelayString = "${group-membership.reload-interval:PT30S}")
+    public void load() {
+        synchronized (loadLock) {
+            loadMemberships();
+        }
+    }
+
+    private void loadMemberships() {
+        log.debug("GroupMembershipIndex :: load :: Loading group memberships");
+        synchronized (this) {
+            loading = true;
+            changesDuringLoad.clear();
+        }
+        try {
+            Map<UUID, Set<UUID>> newGroupsByUser = new ConcurrentHashMap<>();
+            Map<UUID, Set<UUID>> newMembersByGroup = new ConcurrentHashMap<>();
+            List<Object[]> pairs = membershipRepository.findActiveGroupUserPairs();
+            for (Object[] pair : pairs) {
+                UUID groupId = (UUID) pair[0];
+                UUID userId = (UUID) pair[1];
+                newGroupsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(groupId);
+                newMembersByGroup.computeIfAbsent(groupId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+            synchronized (this) {
+                groupsByUser = newGroupsByUser;
+                membersByGroup = newMembersByGroup;
+                changesDuringLoad.forEach(Runnable::run);
+                changesDuringLoad.clear();
+                loading = false;
+                loaded = true;
+            }
+            log.info("GroupMembershipIndex :: load :: Loaded {} memberships of {} users in {} groups",
+                    pairs.size(), newGroupsByUser.size(), newMembersByGroup.size());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringLoad.clear();
+                loading = false;
+            }
+            log.error("GroupMembershipIndex :: load :: Failed to load group memberships, lookups keep using {} :: {}",
+                    loaded ? "the previous load" : "the database", e.getMessage(), e);
+        }
+    }
+
+    public boolean isMember(UUID groupId, UUID userId) {
+        if (!loaded) {
+            return membershipRepository.isActiveMember(groupId, userId);
+        }
+        Set<UUID> groups = groupsByUser.get(userId);
+        return groups != null && groups.contains(groupId);
+    }
+
+    public Set<UUID> getGroupIds(UUID userId) {
+        if (!loaded) {
+            return new HashSet<>(membershipRepository.findActiveGroupIdsByUserId(userId));
+        }
+        Set<UUID> groups = groupsByUser.get(userId);
+        return groups == null ? Collections.emptySet() : Collections.unmodifiableSet(groups);
+    }
+
+    public Set<UUID> getMemberIds(UUID groupId) {
+        if (!loaded) {
+            return new HashSet<>(membershipRepository.findActiveUserIdsByGroupId(groupId));
+        }
+        Set<UUID> members = membersByGroup.get(groupId);
+        return members == null ? Collections.emptySet() : Collections.unmodifiableSet(members);
+    }
+
+    public int getMemberCount(UUID groupId) {
+        return getMemberIds(groupId).size();
+    }
+
+    public void membersAdded(UUID groupId, Collection<UUID> userIds) {
+        List<UUID> added = List.copyOf(userIds);
+        afterCommit(() -> {
+            for (UUID userId : added) {
+                groupsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(groupId);
+                membersByGroup.computeIfAbsent(groupId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        });
+    }
+
+    public void membersRemoved(UUID groupId, Collection<UUID> userIds) {
+        List<UUID> removed = List.copyOf(userIds);
+        afterCommit(() -> {
+            for (UUID userId : removed) {
+                removeFrom(groupsByUser, userId, groupId);
+                removeFrom(membersByGroup, groupId, userId);
+            }
+        });
+    }
+
+    public void groupRemoved(UUID groupId) {
+        afterCommit(() -> {
+            Set<UUID> members = membersByGroup.remove(groupId);
+            if (members != null) {
+                for (UUID userId : members) {
+                    removeFrom(groupsByUser, userId, groupId);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        transactionUtils.runAfterCommit(() -> apply(change));
+    }
+
+    private synchronized void apply(Runnable change) {
+        if (loading) {
+            changesDuringLoad.add(change);
+        }
+        if (loaded) {
+            change.run();
+        }
+    }
+
+    private static void removeFrom(Map<UUID, Set<UUID>> index, UUID key, UUID value) {
+        index.computeIfPresent(key, (id, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.SwitchBoard.WorkspaceService.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Users ranked by points, most first, in an {@link OrderStatisticTree}: changing a user's points, reading the top
+ * {@code k} and finding one user's rank are all {@code O(log n)}. Users with equal points share a rank, the next
+ * rank skipping accordingly (1, 2, 2, 4); among them lower user ids are listed first.
+ * <p>
+ * All methods lock the leaderboard; they are short.
+ */
+public class Leaderboard {
+
+    private static final UUID LOWEST_USER_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final Comparator<Standing> MOST_POINTS_FIRST = Comparator
+            .comparingLong(Standing::points).reversed()
+            .thenComparing(Standing::userId);
+
+    private final Map<UUID, Long> pointsByUser = new HashMap<>();
+    private final OrderStatisticTree<Standing> ranking = new OrderStatisticTree<>(MOST_POINTS_FIRST);
+
+    private record Standing(UUID userId, long points) {
+    }
+
+    public record RankedStanding(int rank, UUID userId, long points) {
+    }
+
+    /** Sets a user's points; zero or less takes the user off the leaderboard. */
+    public synchronized void set(UUID userId, long points) {
+        Long previous = points > 0 ? pointsByUser.put(userId, points) : pointsByUser.remove(userId);
+        if (previous != null) {
+            ranking.remove(new Standing(userId, previous));
+        }
+        if (points > 0) {
+            ranking.add(new Standing(userId, points));
+        }
+    }
+
+    public synchronized void add(UUID userId, long points) {
+        set(userId, pointsByUser.getOrDefault(userId, 0L) + points);
+    }
+
+    public synchronized int size() {
+        return ranking.size();
+    }
+
+    public synchronized List<RankedStanding> top(int limit) {
+        List<RankedStanding> top = new ArrayList<>();
+        RankedStanding previous = null;
+        for (Standing standing : ranking.first(limit)) {
+            int rank = previous != null && previous.points() == standing.points() ? previous.rank() : top.size() + 1;
+            previous = new RankedStanding(rank, standing.userId(), standing.points());
+            top.add(previous);
+        }
+        return top;
+    }
+
+    /** The rank and points of a user, null when the user has no points here. */
+    public synchronized RankedStanding standingOf(UUID userId) {
+        Long points = pointsByUser.get(userId);
+        if (points == null) {
+            return null;
+        }
+        // Users with more points come before the lowest possible id at this score
+        return new RankedStanding(ranking.countBefore(new Standing(LOWEST_USER_ID, points)) + 1, userId, points);
+    }
+}
@@ -0,0 +1,216 @@
+package com.SwitchBoard.WorkspaceService.cache;
+
+import com.SwitchBoard.WorkspaceService.entity.PointsLedgerEntry;
+import com.SwitchBoard.WorkspaceService.repository.PointsLedgerRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Reward-point leaderboards per workspace and per group, kept in memory and updated one award at a time, so a
+ * leaderboard read never sums the ledger.
+ * <p>
+ * Workspace leaderboards rank users by the points earned in that workspace. Group leaderboards rank members by
+ * their total points; one is built from the running totals the first time it is asked for and dropped whenever
+ * the group's membership changes.
+ * <p>
+ * Everything is rebuilt by streaming the points ledger once the application is ready, then maintained by the
+ * task assignment service, which reports every award here after its transaction commits. Until the first load
+ * completes, lookups fall back to summing the ledger. Awards reported while the load is running are replayed
+ * on top of it unless they were committed recently enough to have been streamed already.
+ * <p>
+ * Each instance only sees the awards made through it, so the whole index is rebuilt every
+ * {@code leaderboard.reload-interval} (5 minutes by default); leaderboards on different instances agree again
+ * within that bound. Group leaderboards are dropped on every rebuild, which also picks up memberships changed on
+ * other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointsLeaderboardIndex {
+
+    // Awards this recent are looked for in the streamed ledger before being replayed after a load
+    private static final Duration RECENT_AWARD_WINDOW = Duration.ofMinutes(5);
+
+    private final PointsLedgerRepository ledgerRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final TransactionUtils transactionUtils;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Map<UUID, Long> pointsByUser = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Leaderboard> workspaceBoards = new ConcurrentHashMap<>();
+    private final Map<UUID, Leaderboard> groupBoards = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // Guarded by this
+    private boolean loading;
+    private final List<Award> awardsDuringLoad = new ArrayList<>();
+
+    // Held for a whole load, so the startup load and a scheduled reload never overlap
+    private final Object loadLock = new Object();
+
+    private record Award(UUID entryId, UUID userId, UUID workspaceId, long points) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${leaderboard.reload-interval:PT5M}",
+            fixedDelayString = "${leaderboard.reload-interval:PT5M}")
+    public void load() {
+        synchronized (loadLock) {
+            loadLedger();
+        }
+    }
+
+    private void loadLedger() {
+        log.debug("PointsLeaderboardIndex :: load :: Loading points ledger");
+        synchronized (this) {
+            loading = true;
+            awardsDuringLoad.clear();
+        }
+        try {
+            Instant recentSince = Instant.now().minus(RECENT_AWARD_WINDOW);
+            Map<UUID, Long> newPointsByUser = new ConcurrentHashMap<>();
+            Map<UUID, Map<UUID, Long>> pointsByWorkspace = new HashMap<>();
+            Set<UUID> recentEntryIds = new HashSet<>();
+            long[] entries = new long[1];
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Object[]> ledger = ledgerRepository.streamAll()) {
+                    ledger.forEach(row -> {
+                        UUID userId = (UUID) row[1];
+                        UUID workspaceId = (UUID) row[2];
+                        long points = ((Number) row[3]).longValue();
+                        newPointsByUser.merge(userId, points, Long::sum);
+                        if (workspaceId != null) {
+                            pointsByWorkspace.computeIfAbsent(workspaceId, id -> new HashMap<>()).merge(userId, points, Long::sum);
+                        }
+                        if (((Instant) row[4]).isAfter(recentSince)) {
+                            recentEntryIds.add((UUID) row[0]);
+                        }
+                        entries[0]++;
+                    });
+                }
+            });
+
+            Map<UUID, Leaderboard> newWorkspaceBoards = new ConcurrentHashMap<>();
+            pointsByWorkspace.forEach((workspaceId, points) -> newWorkspaceBoards.put(workspaceId, toLeaderboard(points)));
+
+            synchronized (this) {
+                pointsByUser = newPointsByUser;
+                workspaceBoards = newWorkspaceBoards;
+                groupBoards.clear();
+                for (Award award : awardsDuringLoad) {
+                    if (!recentEntryIds.contains(award.entryId())) {
+                        applyAward(award);
+                    }
+                }
+                awardsDuringLoad.clear();
+                loading = false;
+                loaded = true;
+            }
+            log.info("PointsLeaderboardIndex :: load :: Loaded {} ledger entries of {} users in {} workspaces",
+                    entries[0], newPointsByUser.size(), newWorkspaceBoards.size());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                awardsDuringLoad.clear();
+                loading = false;
+            }
+            log.error("PointsLeaderboardIndex :: load :: Failed to load points ledger, leaderboards keep using {} :: {}",
+                    loaded ? "the previous load" : "the database", e.getMessage(), e);
+        }
+    }
+
+    public Leaderboard getWorkspaceLeaderboard(UUID workspaceId) {
+        if (!loaded) {
+            return toLeaderboard(ledgerRepository.sumPointsByUserInWorkspace(workspaceId));
+        }
+        Leaderboard board = workspaceBoards.get(workspaceId);
+        return board != null ? board : new Leaderboard();
+    }
+
+    public Leaderboard getGroupLeaderboard(UUID groupId) {
+        if (!loaded) {
+            Set<UUID> memberIds = groupMembershipIndex.getMemberIds(groupId);
+            return memberIds.isEmpty() ? new Leaderboard() : toLeaderboard(ledgerRepository.sumPointsByUserIn(memberIds));
+        }
+        Leaderboard board = groupBoards.get(groupId);
+        return board != null ? board : buildGroupLeaderboard(groupId);
+    }
+
+    public void pointsAwarded(PointsLedgerEntry entry) {
+        Award award = new Award(entry.getId(), entry.getUserId(), entry.getWorkspaceId(), entry.getPoints());
+        transactionUtils.runAfterCommit(() -> apply(award));
+    }
+
+    /** Drops the leaderboard of a group whose members changed; call after reporting the change to the membership index. */
+    public void groupChanged(UUID groupId) {
+        transactionUtils.runAfterCommit(() -> groupBoards.remove(groupId));
+    }
+
+    // Locked so that no award lands between reading the members' totals and publishing the leaderboard
+    private synchronized Leaderboard buildGroupLeaderboard(UUID groupId) {
+        return groupBoards.computeIfAbsent(groupId, id -> {
+            Leaderboard board = new Leaderboard();
+            for (UUID userId : groupMembershipIndex.getMemberIds(id)) {
+                board.set(userId, pointsByUser.getOrDefault(userId, 0L));
+            }
+            return board;
+        });
+    }
+
+    private synchronized void apply(Award award) {
+        if (loading) {
+            awardsDuringLoad.add(award);
+        }
+        if (loaded) {
+            applyAward(award);
+        }
+    }
+
+    private void applyAward(Award award) {
+        long total = pointsByUser.merge(award.userId(), award.points(), Long::sum);
+        if (award.workspaceId() != null) {
+            workspaceBoards.computeIfAbsent(award.workspaceId(), id -> new Leaderboard()).add(award.userId(), award.points());
+        }
+        for (UUID groupId : groupMembershipIndex.getGroupIds(award.userId())) {
+            Leaderboard board = groupBoards.get(groupId);
+            if (board != null) {
+                board.set(award.userId(), total);
+            }
+        }
+    }
+
+    private static Leaderboard toLeaderboard(Map<UUID, Long> pointsByUser) {
+        Leaderboard board = new Leaderboard();
+        pointsByUser.forEach(board::set);
+        return board;
+    }
+
+    private static Leaderboard toLeaderboard(List<Object[]> totals) {
+        Leaderboard board = new Leaderboard();
+        for (Object[] row : totals) {
+            board.set((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return board;
+    }
+}
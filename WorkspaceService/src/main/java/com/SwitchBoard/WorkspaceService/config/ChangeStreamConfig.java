@@ -0,0 +1,23 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Threads writing the change stream to connections, each connection drained by at most one of them at a time.
+ * Changes are read from the outbox and dispatched in offset order by the scheduler.
+ */
+@Configuration
+public class ChangeStreamConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor changeStreamWriterExecutor(@Value("${change-stream.writer-threads:4}") int writerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writerThreads);
+        executor.setMaxPoolSize(writerThreads);
+        executor.setThreadNamePrefix("change-stream-");
+        return executor;
+    }
+}
@@ -9,5 +9,36 @@ public final class Constant {
     public static final String PROJECT_WORKSPACE_NAME = "Project Workspace";
     public static final String PROJECT_WORKSPACE_DESC = "A collaborative workspace for teams to work together on tasks, discussions, and shared goals.";
 
+    // Slug used for groups whose name yields no slug characters
+    public static final String DEFAULT_GROUP_SLUG = "group";
+
+    // Result limits for name search
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 50;
+
+    // Suggestions returned per typeahead keystroke
+    public static final int DEFAULT_TYPEAHEAD_LIMIT = 10;
+
+    // Users returned from the top of a leaderboard
+    public static final int DEFAULT_LEADERBOARD_LIMIT = 10;
+    public static final int MAX_LEADERBOARD_LIMIT = 100;
+
+    // Days in an analytics time series when no range is given, and at most
+    public static final int DEFAULT_ANALYTICS_DAYS = 30;
+    public static final int MAX_ANALYTICS_DAYS = 366;
+
+    // Events returned per change feed page
+    public static final int DEFAULT_CHANGE_FEED_LIMIT = 100;
+    public static final int MAX_CHANGE_FEED_LIMIT = 1000;
+
+    // IDs resolved by one batch-get request
+    public static final int MAX_BATCH_GET_IDS = 500;
+
+    // Tasks changed by one batch update request
+    public static final int MAX_BATCH_UPDATE_TASKS = 500;
+
+    // Tasks in one roadmap, whether posted over REST or streamed over gRPC
+    public static final int MAX_ROADMAP_TASKS = 1000;
+
 
 }
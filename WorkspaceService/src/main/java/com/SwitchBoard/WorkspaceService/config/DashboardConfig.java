@@ -0,0 +1,28 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor for the dashboard's parallel queries. Every thread holds a pooled connection while its query runs, so
+ * the pool is kept well below the connection pool size; when it is saturated the request thread runs the query
+ * itself rather than queueing behind other dashboards.
+ */
+@Configuration
+public class DashboardConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${dashboard.query-threads:4}") int queryThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(queryThreads);
+        executor.setMaxPoolSize(queryThreads);
+        executor.setQueueCapacity(queryThreads * 4);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping such as evicting idle in-memory indexes.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,169 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the versioned PostgreSQL scripts in {@code db/migration} ({@code V<version>__<description>.sql}) once
+ * the application is up, recording each in {@code schema_migration} so it runs once per database. Instances that
+ * boot together serialize on an advisory lock; the first applies the pending scripts and the others find them done.
+ * <p>
+ * A script runs in a transaction unless it builds an index {@code CONCURRENTLY}, which PostgreSQL refuses inside
+ * one. A failed script stops the run and is retried at the next start. Set {@code schema.migrations.enabled=false}
+ * to apply the scripts by hand instead, e.g. in a maintenance window for a table rewrite.
+ */
+@Component
+@Slf4j
+public class SchemaMigrationRunner {
+
+    /** Listeners that need the migrated schema order themselves after this. */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    static final String LOCATION = "classpath:db/migration/V*__*.sql";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private static final Pattern CONCURRENT_INDEX = Pattern.compile("\\bINDEX\\s+CONCURRENTLY\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final long LOCK_KEY = 0x5377_4d69_6772L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate,
+                                 @Value("${schema.migrations.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    record Migration(int version, String description, Resource script, boolean transactional) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(ORDER)
+    public void migrate() {
+        if (!enabled) {
+            log.info("SchemaMigrationRunner :: migrate :: Disabled, expecting db/migration to be applied by hand");
+            return;
+        }
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("SchemaMigrationRunner :: migrate :: Database is {}, skipping PostgreSQL migrations", databaseProduct);
+            return;
+        }
+
+        List<Migration> migrations = migrations();
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                apply(connection, migrations);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Features that depend on a migration check for its schema themselves and fall back without it
+            log.error("SchemaMigrationRunner :: migrate :: Migration failed, will retry at next start :: {}", e.getMessage(), e);
+        }
+    }
+
+    /** The scripts under {@link #LOCATION}, by version. */
+    List<Migration> migrations() {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver(getClass().getClassLoader()).getResources(LOCATION);
+            List<Migration> migrations = new ArrayList<>();
+            for (Resource script : scripts) {
+                Matcher name = SCRIPT_NAME.matcher(script.getFilename());
+                if (!name.matches()) {
+                    throw new IllegalStateException("Migration script name is not V<version>__<description>.sql :: " + script.getFilename());
+                }
+                String sql = script.getContentAsString(StandardCharsets.UTF_8);
+                migrations.add(new Migration(Integer.parseInt(name.group(1)), name.group(2), script,
+                        !CONCURRENT_INDEX.matcher(sql).find()));
+            }
+            migrations.sort(Comparator.comparingInt(Migration::version));
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void apply(Connection connection, List<Migration> migrations) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+            try {
+                statement.execute("CREATE TABLE IF NOT EXISTS schema_migration (version integer PRIMARY KEY, "
+                        + "description varchar(200) NOT NULL, applied_at timestamptz NOT NULL DEFAULT now())");
+                Set<Integer> applied = new HashSet<>();
+                try (ResultSet rows = statement.executeQuery("SELECT version FROM schema_migration")) {
+                    while (rows.next()) {
+                        applied.add(rows.getInt(1));
+                    }
+                }
+                for (Migration migration : migrations) {
+                    if (!applied.contains(migration.version())) {
+                        apply(connection, migration);
+                    }
+                }
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        log.info("SchemaMigrationRunner :: apply :: Applying V{} {}", migration.version(), migration.description());
+        long start = System.nanoTime();
+        connection.setAutoCommit(!migration.transactional());
+        try {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script(), StandardCharsets.UTF_8));
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO schema_migration (version, description) VALUES (?, ?)")) {
+                insert.setInt(1, migration.version());
+                insert.setString(2, migration.description());
+                insert.executeUpdate();
+            }
+            if (migration.transactional()) {
+                connection.commit();
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (migration.transactional()) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        log.info("SchemaMigrationRunner :: apply :: Applied V{} {} in {} ms", migration.version(), migration.description(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
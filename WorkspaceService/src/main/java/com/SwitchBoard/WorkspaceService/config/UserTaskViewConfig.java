@@ -0,0 +1,23 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Single thread projecting task changes into the user task view. One thread keeps projections of the same
+ * task in commit order and holds at most one connection.
+ */
+@Configuration
+public class UserTaskViewConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor userTaskViewExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("user-task-view-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,115 @@
+package com.SwitchBoard.WorkspaceService.config.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The configuration last fetched from the config server, flattened to one value per key, with the application,
+ * profiles and label it was fetched for.
+ * <p>
+ * On disk it is a JSON document holding the content and a SHA-256 of it. The file is replaced atomically and is
+ * readable by its owner only, as the config server also serves credentials; a file whose checksum does not match
+ * is rejected rather than booted from.
+ */
+public record ConfigSnapshot(String application, String profiles, String label, String version, Instant fetchedAt,
+                             Map<String, String> properties) {
+
+    public static final String PROPERTY_SOURCE_NAME = "configSnapshot";
+    public static final String PATH_PROPERTY = "config.snapshot.path";
+    public static final String LOADED_PROPERTY = "config.snapshot.loaded";
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToEnable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public ConfigSnapshot {
+        properties = new TreeMap<>(properties);
+    }
+
+    public static Path path(Environment environment) {
+        return Path.of(environment.getProperty(PATH_PROPERTY, "config-snapshot.json"));
+    }
+
+    /** Profiles as the config server is asked for them: comma separated, {@code default} when none is active. */
+    public static String profilesOf(Environment environment) {
+        String[] activeProfiles = environment.getActiveProfiles();
+        return activeProfiles.length > 0 ? String.join(",", activeProfiles) : "default";
+    }
+
+    /**
+     * @return the snapshot stored at {@code path}, or null if there is none
+     * @throws IOException if the file cannot be read or parsed, or its checksum does not match its content
+     */
+    public static ConfigSnapshot read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        StoredSnapshot stored = OBJECT_MAPPER.readValue(path.toFile(), StoredSnapshot.class);
+        if (stored.content() == null || !checksumOf(stored.content()).equals(stored.sha256())) {
+            throw new IOException("Checksum mismatch in config snapshot " + path);
+        }
+        return stored.content();
+    }
+
+    public void write(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            if (temporary.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-------"));
+            }
+            OBJECT_MAPPER.writeValue(temporary.toFile(), new StoredSnapshot(this, checksumOf(this)));
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * The properties as a property source. A source used at boot also switches the config client off, so the
+     * config server import is skipped, and marks itself so the reconciler knows the server is still wanted.
+     */
+    public MapPropertySource toPropertySource(boolean bootedFromSnapshot) {
+        Map<String, Object> source = new LinkedHashMap<>(properties);
+        if (bootedFromSnapshot) {
+            source.put("spring.cloud.config.enabled", "false");
+            source.put(LOADED_PROPERTY, "true");
+        }
+        return new MapPropertySource(PROPERTY_SOURCE_NAME, source);
+    }
+
+    private static String checksumOf(ConfigSnapshot content) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(OBJECT_MAPPER.writeValueAsBytes(content));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record StoredSnapshot(ConfigSnapshot content, String sha256) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.SwitchBoard.WorkspaceService.config.snapshot;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Boots from the local {@link ConfigSnapshot} instead of waiting on the config server. Runs just before the
+ * config data import: when a valid snapshot for the active profiles exists, its properties are added where the
+ * config server's would rank (below system properties and the environment, above {@code application.properties})
+ * and the config server import is skipped; {@link ConfigSnapshotReconciler} then catches up in the background.
+ * <p>
+ * Without a usable snapshot the import runs as before, {@code fail-fast} included. Set {@code config.snapshot.path}
+ * to a volume the instances share so a new instance finds the snapshot its peers wrote.
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final int ORDER = ConfigDataEnvironmentPostProcessor.ORDER - 1;
+
+    private final Log log;
+
+    public ConfigSnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ConfigSnapshotEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("config.snapshot.enabled", Boolean.class, true)
+                || !environment.getProperty("spring.cloud.config.enabled", Boolean.class, true)) {
+            return;
+        }
+        Path path = ConfigSnapshot.path(environment);
+        ConfigSnapshot snapshot;
+        try {
+            snapshot = ConfigSnapshot.read(path);
+        } catch (IOException e) {
+            log.warn("ConfigSnapshotEnvironmentPostProcessor :: postProcessEnvironment :: Ignoring unusable config snapshot, "
+                    + "fetching from the config server :: " + e.getMessage());
+            return;
+        }
+        if (snapshot == null) {
+            log.info("ConfigSnapshotEnvironmentPostProcessor :: postProcessEnvironment :: No config snapshot at " + path
+                    + ", fetching from the config server");
+            return;
+        }
+        String profiles = ConfigSnapshot.profilesOf(environment);
+        if (!profiles.equals(snapshot.profiles())) {
+            log.info("ConfigSnapshotEnvironmentPostProcessor :: postProcessEnvironment :: Config snapshot is for profiles "
+                    + snapshot.profiles() + ", not " + profiles + ", fetching from the config server");
+            return;
+        }
+        environment.getPropertySources().addLast(snapshot.toPropertySource(true));
+        log.info("ConfigSnapshotEnvironmentPostProcessor :: postProcessEnvironment :: Booting from config snapshot of "
+                + snapshot.properties().size() + " properties, version " + snapshot.version() + ", fetched at "
+                + snapshot.fetchedAt());
+    }
+}
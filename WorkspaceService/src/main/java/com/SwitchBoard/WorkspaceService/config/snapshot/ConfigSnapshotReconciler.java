@@ -0,0 +1,190 @@
+package com.SwitchBoard.WorkspaceService.config.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps the running configuration and the local {@link ConfigSnapshot} in step with the config server, off the
+ * startup path: fetches on a schedule, writes the snapshot whenever the server's properties differ from it, and
+ * applies changes live. Changed keys are announced with an {@link EnvironmentChangeEvent}, which rebinds
+ * {@code @ConfigurationProperties} beans and log levels, and refresh-scoped beans are recreated. Values injected
+ * with {@code @Value} keep their startup value until the next restart.
+ * <p>
+ * A failed fetch only logs; the instance carries on with what it has.
+ */
+@Component
+@Slf4j
+public class ConfigSnapshotReconciler {
+
+    private static final String CONFIG_SERVER_IMPORT = "configserver:";
+
+    private final ConfigurableEnvironment environment;
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<RefreshScope> refreshScope;
+    private final RestTemplate restTemplate;
+
+    public ConfigSnapshotReconciler(ConfigurableEnvironment environment, ApplicationContext applicationContext,
+                                    ObjectProvider<RefreshScope> refreshScope, RestTemplateBuilder restTemplateBuilder,
+                                    @Value("${config.snapshot.fetch-timeout:PT5S}") Duration fetchTimeout) {
+        this.environment = environment;
+        this.applicationContext = applicationContext;
+        this.refreshScope = refreshScope;
+        RestTemplateBuilder builder = restTemplateBuilder.connectTimeout(fetchTimeout).readTimeout(fetchTimeout);
+        String username = environment.getProperty("spring.cloud.config.username");
+        if (username != null) {
+            builder = builder.basicAuthentication(username, environment.getProperty("spring.cloud.config.password", ""));
+        }
+        this.restTemplate = builder.build();
+    }
+
+    @Scheduled(initialDelayString = "${config.snapshot.reconcile-initial-delay:PT0S}",
+            fixedDelayString = "${config.snapshot.reconcile-interval:PT5M}")
+    public void reconcile() {
+        if (!environment.getProperty("config.snapshot.enabled", Boolean.class, true)
+                || !(environment.getProperty(ConfigSnapshot.LOADED_PROPERTY, Boolean.class, false)
+                || environment.getProperty("spring.cloud.config.enabled", Boolean.class, true))) {
+            return;
+        }
+        ConfigSnapshot fetched;
+        try {
+            fetched = fetch();
+        } catch (RestClientException e) {
+            log.warn("ConfigSnapshotReconciler :: reconcile :: Config server unavailable, keeping the current configuration :: {}",
+                    e.getMessage());
+            return;
+        }
+        apply(fetched);
+    }
+
+    /**
+     * Makes {@code fetched} the live configuration and the stored snapshot.
+     *
+     * @return the keys whose value changed
+     */
+    synchronized Set<String> apply(ConfigSnapshot fetched) {
+        MutablePropertySources propertySources = environment.getPropertySources();
+        PropertySource<?> current = propertySources.get(ConfigSnapshot.PROPERTY_SOURCE_NAME);
+        Map<String, String> previous = current != null ? stringValues(current) : bootedRemoteProperties();
+        Set<String> changedKeys = new HashSet<>(previous.keySet());
+        changedKeys.addAll(fetched.properties().keySet());
+        changedKeys.removeIf(key -> Objects.equals(previous.get(key), fetched.properties().get(key)));
+
+        Path path = ConfigSnapshot.path(environment);
+        if (!changedKeys.isEmpty() || !Files.exists(path)) {
+            try {
+                fetched.write(path);
+                log.info("ConfigSnapshotReconciler :: apply :: Stored config snapshot version {} at {}", fetched.version(), path);
+            } catch (IOException e) {
+                log.error("ConfigSnapshotReconciler :: apply :: Could not store config snapshot at {} :: {}", path, e.getMessage(), e);
+            }
+        }
+        if (changedKeys.isEmpty()) {
+            return changedKeys;
+        }
+
+        boolean bootedFromSnapshot = current != null && current.containsProperty(ConfigSnapshot.LOADED_PROPERTY);
+        PropertySource<?> updated = fetched.toPropertySource(bootedFromSnapshot);
+        if (current != null) {
+            propertySources.replace(ConfigSnapshot.PROPERTY_SOURCE_NAME, updated);
+        } else {
+            addAboveConfigData(propertySources, updated);
+        }
+        applicationContext.publishEvent(new EnvironmentChangeEvent(applicationContext, changedKeys));
+        refreshScope.ifAvailable(RefreshScope::refreshAll);
+        log.info("ConfigSnapshotReconciler :: apply :: Applied {} changed properties from config server version {}",
+                changedKeys.size(), fetched.version());
+        return changedKeys;
+    }
+
+    private ConfigSnapshot fetch() {
+        String name = environment.getProperty("spring.cloud.config.name", environment.getProperty("spring.application.name", "application"));
+        String profiles = ConfigSnapshot.profilesOf(environment);
+        String label = environment.getProperty("spring.cloud.config.label");
+        Environment remote = label != null
+                ? restTemplate.getForObject(configServerUri() + "/{name}/{profiles}/{label}", Environment.class, name, profiles, label)
+                : restTemplate.getForObject(configServerUri() + "/{name}/{profiles}", Environment.class, name, profiles);
+        if (remote == null) {
+            throw new RestClientException("Empty response from the config server");
+        }
+        // The server lists its sources highest precedence first
+        Map<String, String> properties = new HashMap<>();
+        for (org.springframework.cloud.config.environment.PropertySource source : remote.getPropertySources()) {
+            source.getSource().forEach((key, value) -> properties.putIfAbsent(String.valueOf(key), String.valueOf(value)));
+        }
+        return new ConfigSnapshot(name, profiles, label, remote.getVersion(), Instant.now(), properties);
+    }
+
+    private String configServerUri() {
+        for (String location : environment.getProperty("spring.config.import", String[].class, new String[0])) {
+            String trimmed = location.trim();
+            if (trimmed.startsWith("optional:")) {
+                trimmed = trimmed.substring("optional:".length());
+            }
+            if (trimmed.startsWith(CONFIG_SERVER_IMPORT) && trimmed.length() > CONFIG_SERVER_IMPORT.length()) {
+                return trimmed.substring(CONFIG_SERVER_IMPORT.length());
+            }
+        }
+        return environment.getProperty("spring.cloud.config.uri", "http://localhost:8888");
+    }
+
+    /** What the config server import contributed at boot, when the instance did not boot from a snapshot. */
+    private Map<String, String> bootedRemoteProperties() {
+        Map<String, String> properties = new HashMap<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (source.getName().startsWith(CONFIG_SERVER_IMPORT) && source instanceof EnumerablePropertySource<?> enumerable) {
+                for (String key : enumerable.getPropertyNames()) {
+                    properties.putIfAbsent(key, String.valueOf(enumerable.getProperty(key)));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static Map<String, String> stringValues(PropertySource<?> source) {
+        Map<String, String> values = new HashMap<>();
+        if (source instanceof EnumerablePropertySource<?> enumerable) {
+            for (String key : enumerable.getPropertyNames()) {
+                if (!key.equals(ConfigSnapshot.LOADED_PROPERTY) && !key.equals("spring.cloud.config.enabled")) {
+                    values.put(key, String.valueOf(enumerable.getProperty(key)));
+                }
+            }
+        }
+        return values;
+    }
+
+    // Where the config server's sources rank: above the local application properties, below everything else
+    private static void addAboveConfigData(MutablePropertySources propertySources, PropertySource<?> source) {
+        for (PropertySource<?> existing : propertySources) {
+            if (existing.getName().startsWith(CONFIG_SERVER_IMPORT) || existing.getName().startsWith("Config resource")) {
+                propertySources.addBefore(existing.getName(), source);
+                return;
+            }
+        }
+        propertySources.addLast(source);
+    }
+}
@@ -0,0 +1,103 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.DailyProgressResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.RollupBackfillResponse;
+import com.SwitchBoard.WorkspaceService.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Analytics", description = "Daily progress time series served from rollup tables")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/users/me/daily")
+    @Operation(
+        summary = "Get my daily progress",
+        description = "Returns one entry per UTC day between from and to, inclusive, with the tasks the authenticated user started and completed, " +
+                "the reward points earned and the estimated hours completed. Defaults to the last 30 days."
+    )
+    public ResponseEntity<List<DailyProgressResponse>> getMyDailyProgress(
+            @Parameter(description = "First day, ISO format", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, ISO format, today by default", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("AnalyticsController :: getMyDailyProgress :: Received request for user :: {}", userId);
+
+        return ResponseEntity.ok(analyticsService.getUserDailyProgress(userId, from, to, userId));
+    }
+
+    @GetMapping("/users/{userId}/daily")
+    @Operation(
+        summary = "Get daily progress of a user",
+        description = "Same as the user's own time series, for the authenticated user or a user sharing a workspace with them."
+    )
+    public ResponseEntity<List<DailyProgressResponse>> getUserDailyProgress(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable UUID userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID requesterId = UUID.fromString(userIdHeader);
+        log.info("AnalyticsController :: getUserDailyProgress :: Received request for user :: {} :: from user :: {}", userId, requesterId);
+
+        return ResponseEntity.ok(analyticsService.getUserDailyProgress(userId, from, to, requesterId));
+    }
+
+    @GetMapping("/assignments/{assignmentId}/daily")
+    @Operation(
+        summary = "Get daily progress of an assignment",
+        description = "Returns one entry per UTC day between from and to, inclusive, with the assignment's tasks started and completed, " +
+                "their reward points and estimated hours. Defaults to the last 30 days. Requires access to the assignment's workspace."
+    )
+    public ResponseEntity<List<DailyProgressResponse>> getAssignmentDailyProgress(
+            @Parameter(description = "Assignment ID", required = true)
+            @PathVariable UUID assignmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID requesterId = UUID.fromString(userIdHeader);
+        log.info("AnalyticsController :: getAssignmentDailyProgress :: Received request for assignment :: {} :: from user :: {}",
+                assignmentId, requesterId);
+
+        return ResponseEntity.ok(analyticsService.getAssignmentDailyProgress(assignmentId, from, to, requesterId));
+    }
+
+    @PostMapping("/rollups/backfill")
+    @Operation(
+        summary = "Backfill daily rollups",
+        description = "Recomputes the daily rollups of every UTC day between from and to, inclusive, from the task tables, a few days per transaction. " +
+                "Used to seed the rollups and to repair them after completed tasks are edited or deleted. " +
+                "Covers at most 366 days and is limited to the users configured in analytics.backfill-user-ids."
+    )
+    public ResponseEntity<RollupBackfillResponse> backfillRollups(
+            @Parameter(description = "First day, ISO format", required = true, example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, ISO format", required = true, example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID requesterId = UUID.fromString(userIdHeader);
+        log.info("AnalyticsController :: backfillRollups :: Received backfill request :: {} to {} :: from user :: {}", from, to, requesterId);
+
+        RollupBackfillResponse backfill = analyticsService.backfillRollups(from, to, requesterId);
+
+        log.info("AnalyticsController :: backfillRollups :: Backfill finished :: {} rows written", backfill.getRowsWritten());
+        return ResponseEntity.ok(backfill);
+    }
+}
@@ -4,9 +4,12 @@ import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
 import com.SwitchBoard.WorkspaceService.dto.request.AssignmentCreateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.AssignmentTaskManagementRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.AssignmentUpdateRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.BatchGetRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskCreateRequest;
 import com.SwitchBoard.WorkspaceService.dto.response.AssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.BatchGetResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.service.EntityTagService;
 import com.SwitchBoard.WorkspaceService.service.impl.AssignmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,9 +20,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +37,7 @@ import java.util.UUID;
 public class AssignmentController {
 
     private final AssignmentService assignmentService;
+    private final EntityTagService entityTagService;
 
     @PostMapping
     @Operation(
@@ -58,15 +64,37 @@ public class AssignmentController {
     )
     public ResponseEntity<AssignmentResponse> getAssignmentById(
             @Parameter(description = "Unique UUID identifier of the assignment", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
         log.info("AssignmentController :: getAssignmentById :: Fetching assignment :: {}", id);
 
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.getAssignmentTag(id), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("AssignmentController :: getAssignmentById :: Assignment not modified :: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         AssignmentResponse assignmentResponse = assignmentService.getAssignmentById(id);
 
         log.info("AssignmentController :: getAssignmentById :: Assignment retrieved :: {}", id);
         return ResponseEntity.ok(assignmentResponse);
     }
 
+    @PostMapping("/batch-get")
+    @Operation(
+        summary = "Get assignments by IDs",
+        description = "Retrieves up to 500 assignments with their task statistics in one call, answering every requested ID in request order and marking the ones not found. Tasks are not included; fetch them with the tasks batch-get."
+    )
+    public ResponseEntity<BatchGetResponse<AssignmentResponse>> getAssignmentsByIds(@Valid @RequestBody BatchGetRequest request) {
+        log.info("AssignmentController :: getAssignmentsByIds :: Fetching {} assignments", request.getIds().size());
+
+        BatchGetResponse<AssignmentResponse> response = assignmentService.getAssignmentsByIds(request.getIds());
+
+        log.info("AssignmentController :: getAssignmentsByIds :: {} of {} assignments not found", response.getNotFoundCount(), request.getIds().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(
         summary = "Get all assignments with pagination",
@@ -89,11 +117,25 @@ public class AssignmentController {
         summary = "Get assignments by workspace",
         description = "Retrieves all assignments belonging to a specific workspace. This endpoint is essential for workspace-based assignment management, enabling users to view and manage assignments within their learning environment."
     )
-    public ResponseEntity<List<AssignmentResponse>> getAssignmentsByWorkspaceId(
+    public ResponseEntity<List<?>> getAssignmentsByWorkspaceId(
             @Parameter(description = "UUID of the workspace to get assignments for", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID workspaceId) {
+            @PathVariable UUID workspaceId,
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "title,deadline,completionPercentage")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("AssignmentController :: getAssignmentsByWorkspaceId :: Fetching assignments for workspace :: {}", workspaceId);
 
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.withFieldset(entityTagService.getAssignmentsByWorkspaceTag(workspaceId), fields),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("AssignmentController :: getAssignmentsByWorkspaceId :: Assignments of workspace not modified :: {}", workspaceId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(assignmentService.getAssignmentsByWorkspaceId(workspaceId, fields));
+        }
+
         List<AssignmentResponse> assignments = assignmentService.getAssignmentsByWorkspaceId(workspaceId);
 
         log.info("AssignmentController :: getAssignmentsByWorkspaceId :: Retrieved {} assignments for workspace {}", assignments.size(), workspaceId);
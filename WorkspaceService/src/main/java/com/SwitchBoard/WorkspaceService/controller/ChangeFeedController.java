@@ -0,0 +1,52 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.ChangeFeedResponse;
+import com.SwitchBoard.WorkspaceService.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Change Feed", description = "Committed changes to tasks, assignments and workspaces, replayable by offset")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    @Operation(
+        summary = "Replay changes",
+        description = "Returns change events from an offset on, in offset order, with the offset to continue from. Events are kept for outbox.retention after they are published."
+    )
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @Parameter(description = "First offset to return, 0 for the oldest retained event")
+            @RequestParam(defaultValue = "0") long fromOffset,
+            @Parameter(description = "Number of events to return, 100 by default and at most 1000")
+            @RequestParam(required = false) Integer limit) {
+        log.debug("ChangeFeedController :: getChanges :: Received request from offset :: {}", fromOffset);
+
+        ChangeFeedResponse changes = changeFeedService.getChanges(fromOffset, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream changes of authenticated user",
+        description = "Server-sent events for every change to the user's tasks and task assignments and to the workspaces they can access, named by aggregate type with the offset as id. Replaces polling the task and assignment lists; refetch them after reconnecting."
+    )
+    public SseEmitter streamChanges(@RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("ChangeFeedController :: streamChanges :: Opening change stream for user :: {}", userId);
+        return changeFeedService.streamChanges(userId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
+import com.SwitchBoard.WorkspaceService.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "Aggregated home screen data for the authenticated user")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @Operation(
+        summary = "Get user dashboard",
+        description = "Returns in one call the workspaces the authenticated user owns or has access to with the progress of every assignment in them, " +
+                "the user's open tasks due today and later this week, and the number of their overdue tasks. Replaces the per-workspace calls the home screen used to make."
+    )
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Parameter(description = "IANA time zone deciding what today and this week are, the server zone by default", example = "Asia/Kolkata")
+            @RequestParam(required = false) String timeZone,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("DashboardController :: getDashboard :: Received request for dashboard of user :: {}", userId);
+
+        DashboardResponse dashboard = dashboardService.getDashboard(userId, resolveZone(timeZone));
+
+        log.info("DashboardController :: getDashboard :: Dashboard returned for user :: {}", userId);
+        return ResponseEntity.ok(dashboard);
+    }
+
+    private static ZoneId resolveZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Unknown time zone: " + timeZone);
+        }
+    }
+}
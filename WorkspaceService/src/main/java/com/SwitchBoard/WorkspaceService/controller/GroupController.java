@@ -0,0 +1,244 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupCreateRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupMembersRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupUpdateRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.GroupResponse;
+import com.SwitchBoard.WorkspaceService.service.GroupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/groups")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Group Management", description = "APIs for managing groups of users and their memberships")
+public class GroupController {
+
+    private final GroupService groupService;
+
+    @PostMapping
+    @Operation(
+        summary = "Create group",
+        description = "Creates a group with the creator as its leader. When no slug is given, a unique slug is derived from the group name."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Group created successfully",
+            content = @Content(schema = @Schema(implementation = GroupResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request or slug already in use"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<GroupResponse> createGroup(@Valid @RequestBody GroupCreateRequest request) {
+        log.info("GroupController :: createGroup :: Received request to create group :: {}", request.getName());
+
+        GroupResponse groupResponse = groupService.createGroup(request);
+
+        log.info("GroupController :: createGroup :: Group created successfully :: {}", groupResponse.getId());
+        return new ResponseEntity<>(groupResponse, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{groupId}")
+    @Operation(
+        summary = "Get group by ID",
+        description = "Retrieves a group with its member count. Private groups are only visible to their members."
+    )
+    public ResponseEntity<GroupResponse> getGroupById(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: getGroupById :: Received request to fetch group :: {} :: for user :: {}", groupId, userId);
+
+        GroupResponse groupResponse = groupService.getGroupById(groupId, userId);
+
+        log.info("GroupController :: getGroupById :: Successfully retrieved group :: {}", groupId);
+        return ResponseEntity.ok(groupResponse);
+    }
+
+    @GetMapping("/slug/{slug}")
+    @Operation(
+        summary = "Get group by slug",
+        description = "Retrieves a group by its slug. Private groups are only visible to their members."
+    )
+    public ResponseEntity<GroupResponse> getGroupBySlug(
+            @Parameter(description = "Slug of the group", required = true, example = "java-learners")
+            @PathVariable String slug,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: getGroupBySlug :: Received request to fetch group :: {} :: for user :: {}", slug, userId);
+
+        GroupResponse groupResponse = groupService.getGroupBySlug(slug, userId);
+
+        log.info("GroupController :: getGroupBySlug :: Successfully retrieved group :: {}", slug);
+        return ResponseEntity.ok(groupResponse);
+    }
+
+    @GetMapping("/joined")
+    @Operation(
+        summary = "Get groups of user",
+        description = "Retrieves all groups the authenticated user is an active member of."
+    )
+    public ResponseEntity<List<GroupResponse>> getGroupsOfUser(
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: getGroupsOfUser :: Received request to fetch groups of user :: {}", userId);
+
+        List<GroupResponse> groups = groupService.getGroupsByUserId(userId);
+
+        log.info("GroupController :: getGroupsOfUser :: Successfully retrieved {} groups for user :: {}", groups.size(), userId);
+        return ResponseEntity.ok(groups);
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search groups by name",
+        description = "Case-insensitive substring search over the names of public groups and the private groups the authenticated user belongs to. Exact and prefix matches rank first, then closer names. Meant for typeahead group pickers."
+    )
+    public ResponseEntity<List<GroupResponse>> searchGroups(
+            @Parameter(description = "Text to look for in group names", required = true, example = "java")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results, 20 by default and at most 50")
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: searchGroups :: Received search :: {} :: for user :: {}", query, userId);
+
+        List<GroupResponse> groups = groupService.searchGroups(query, userId, limit);
+
+        log.info("GroupController :: searchGroups :: Returning {} groups for user :: {}", groups.size(), userId);
+        return ResponseEntity.ok(groups);
+    }
+
+    @PutMapping("/{groupId}")
+    @Operation(
+        summary = "Update group",
+        description = "Updates the name, slug, description or visibility of a group. Fields left empty are not changed. Only the group's creator and leaders may update it."
+    )
+    public ResponseEntity<GroupResponse> updateGroup(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @Valid @RequestBody GroupUpdateRequest request,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: updateGroup :: Received request to update group :: {} :: from user :: {}", groupId, userId);
+
+        GroupResponse groupResponse = groupService.updateGroup(groupId, request, userId);
+
+        log.info("GroupController :: updateGroup :: Group updated successfully :: {}", groupId);
+        return ResponseEntity.ok(groupResponse);
+    }
+
+    @DeleteMapping("/{groupId}")
+    @Operation(
+        summary = "Delete group",
+        description = "Deletes a group and deactivates all its memberships. Only the group's creator and leaders may delete it."
+    )
+    public ResponseEntity<ApiResponse> deleteGroup(
+            @Parameter(description = "UUID of the group to delete", required = true)
+            @PathVariable UUID groupId,
+            @RequestHeader("X-User-Id") String userIdHeader,
+            HttpServletRequest httpRequest) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: deleteGroup :: Received request to delete group :: {} :: from user :: {}", groupId, userId);
+
+        groupService.deleteGroup(groupId, userId);
+        ApiResponse response = ApiResponse.response("Group deleted successfully", null, httpRequest.getRequestURI());
+
+        log.info("GroupController :: deleteGroup :: Group deleted successfully :: {}", groupId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{groupId}/members")
+    @Operation(
+        summary = "Add members to group",
+        description = "Adds several users to a group in one batch. Users who are already members are skipped. Only the group's creator and leaders may add members."
+    )
+    public ResponseEntity<ApiResponse> addMembers(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @Valid @RequestBody GroupMembersRequest request,
+            @RequestHeader("X-User-Id") String userIdHeader,
+            HttpServletRequest httpRequest) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: addMembers :: Received request to add {} users to group :: {} :: from user :: {}",
+                request.getUserIds().size(), groupId, userId);
+
+        int added = groupService.addMembers(groupId, request, userId);
+        ApiResponse response = ApiResponse.response(added + " members added to group", added, httpRequest.getRequestURI());
+
+        log.info("GroupController :: addMembers :: {} users added to group :: {}", added, groupId);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{groupId}/members")
+    @Operation(
+        summary = "Remove members from group",
+        description = "Removes several users from a group in one statement. Members may remove themselves; removing others is limited to the group's creator and leaders."
+    )
+    public ResponseEntity<ApiResponse> removeMembers(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "UUIDs of the users to remove", required = true)
+            @RequestParam List<UUID> userIds,
+            @RequestHeader("X-User-Id") String userIdHeader,
+            HttpServletRequest httpRequest) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: removeMembers :: Received request to remove {} users from group :: {} :: from user :: {}",
+                userIds.size(), groupId, userId);
+
+        int removed = groupService.removeMembers(groupId, userIds, userId);
+        ApiResponse response = ApiResponse.response(removed + " members removed from group", removed, httpRequest.getRequestURI());
+
+        log.info("GroupController :: removeMembers :: {} users removed from group :: {}", removed, groupId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{groupId}/members")
+    @Operation(
+        summary = "Get group members",
+        description = "Retrieves the IDs of all active members of a group. Members of private groups are only visible to their members."
+    )
+    public ResponseEntity<List<UUID>> getGroupMembers(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("GroupController :: getGroupMembers :: Received request to fetch members of group :: {} :: for user :: {}", groupId, userId);
+
+        List<UUID> userIds = groupService.getGroupMembers(groupId, userId);
+
+        log.info("GroupController :: getGroupMembers :: Successfully retrieved {} members of group :: {}", userIds.size(), groupId);
+        return ResponseEntity.ok(userIds);
+    }
+
+    @GetMapping("/{groupId}/members/{userId}")
+    @Operation(
+        summary = "Check group membership",
+        description = "Returns whether a user is an active member of a group. Answered from memory without a database query when callers ask about themselves or belong to the group; memberships of private groups are only visible to their members."
+    )
+    public ResponseEntity<Boolean> isMember(
+            @Parameter(description = "UUID of the group", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "UUID of the user", required = true)
+            @PathVariable("userId") UUID memberId,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.debug("GroupController :: isMember :: Checking membership :: User: {} :: Group: {} :: for user :: {}", memberId, groupId, userId);
+        return ResponseEntity.ok(groupService.isMember(groupId, memberId, userId));
+    }
+}
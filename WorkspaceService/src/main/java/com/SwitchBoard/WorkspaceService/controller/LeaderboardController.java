@@ -0,0 +1,61 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.LeaderboardResponse;
+import com.SwitchBoard.WorkspaceService.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/leaderboards")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Leaderboards", description = "Reward-point rankings per workspace and per group")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/workspaces/{workspaceId}")
+    @Operation(
+        summary = "Get workspace leaderboard",
+        description = "Returns the users with the most reward points earned in a workspace and, when a user is given, that user's rank. Served from memory."
+    )
+    public ResponseEntity<LeaderboardResponse> getWorkspaceLeaderboard(
+            @Parameter(description = "Workspace ID", required = true)
+            @PathVariable UUID workspaceId,
+            @Parameter(description = "Number of top users to return, 10 by default and at most 100")
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
+        log.debug("LeaderboardController :: getWorkspaceLeaderboard :: Received request for workspace :: {}", workspaceId);
+
+        LeaderboardResponse leaderboard = leaderboardService.getWorkspaceLeaderboard(workspaceId, parseUserId(userIdHeader), limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    @GetMapping("/groups/{groupId}")
+    @Operation(
+        summary = "Get group leaderboard",
+        description = "Returns the group members with the most reward points across all workspaces and, when a user is given, that user's rank. Served from memory."
+    )
+    public ResponseEntity<LeaderboardResponse> getGroupLeaderboard(
+            @Parameter(description = "Group ID", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "Number of top members to return, 10 by default and at most 100")
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
+        log.debug("LeaderboardController :: getGroupLeaderboard :: Received request for group :: {}", groupId);
+
+        LeaderboardResponse leaderboard = leaderboardService.getGroupLeaderboard(groupId, parseUserId(userIdHeader), limit);
+        return ResponseEntity.ok(leaderboard);
+    }
+
+    private static UUID parseUserId(String userIdHeader) {
+        return userIdHeader != null && !userIdHeader.isBlank() ? UUID.fromString(userIdHeader) : null;
+    }
+}
@@ -22,7 +22,7 @@ public class RoadmapController {
     @PostMapping("/add-assignment")
     @Operation(
             summary = "Add a roadmap to workspace and new assignment",
-            description = "Adds a roadmap assignment to the specified workspace"
+            description = "Adds a roadmap assignment of at most 1000 tasks to the roadmap workspace of the user"
     )
     public ResponseEntity<ApiResponse> addRoadmapAssignmentToWorkspace(@RequestBody AssignmentRoadmapRequest assignmentRoadmapRequest,@RequestHeader("X-User-Id") UUID userId) {
         return ResponseEntity.ok(roadmapService.addRoadmapAssignmentToWorkspace(assignmentRoadmapRequest , userId));
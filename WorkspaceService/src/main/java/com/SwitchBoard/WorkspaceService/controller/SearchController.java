@@ -0,0 +1,54 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SearchHitResponse;
+import com.SwitchBoard.WorkspaceService.service.ContentSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_SEARCH_LIMIT;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_SEARCH_LIMIT;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Search", description = "Full-text search over the tasks and assignments a user can access")
+public class SearchController {
+
+    private final ContentSearchService contentSearchService;
+
+    @GetMapping
+    @Operation(
+        summary = "Search tasks and assignments",
+        description = "Full-text search over task titles, topics and descriptions and assignment titles and descriptions, limited to the workspaces the authenticated user owns or has access to. " +
+                "Hits are ranked by relevance and paginated; titles and snippets are HTML-escaped with matched terms wrapped in <mark>. " +
+                "The query accepts web search syntax: quoted phrases, OR and -excluded words."
+    )
+    public ResponseEntity<Page<SearchHitResponse>> search(
+            @Parameter(description = "Search query", required = true, example = "binary search tree")
+            @RequestParam("q") String query,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, 20 by default and at most 50")
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int size,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("SearchController :: search :: Received search :: {} :: for user :: {} :: page {}", query, userId, page);
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_SEARCH_LIMIT)));
+        Page<SearchHitResponse> hits = contentSearchService.search(query, userId, pageRequest);
+
+        log.info("SearchController :: search :: Returning {} of {} hits for user :: {}",
+                hits.getNumberOfElements(), hits.getTotalElements(), userId);
+        return ResponseEntity.ok(hits);
+    }
+}
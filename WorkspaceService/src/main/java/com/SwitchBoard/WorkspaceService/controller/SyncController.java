@@ -0,0 +1,43 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SyncResponse;
+import com.SwitchBoard.WorkspaceService.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Sync", description = "Delta synchronization for offline clients")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(
+        summary = "Sync changes of authenticated user",
+        description = "Returns the user's tasks, task assignments, assignments and workspace access written since the token, the ids of those deleted since, " +
+                "and the token to pass next time. Without a token, or with one older than outbox.retention, everything in scope is returned with fullSync set. " +
+                "Rows may be returned again by the next sync; apply them by id."
+    )
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "nextToken of the previous sync, omitted for the first one")
+            @RequestParam(required = false) String since,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("SyncController :: sync :: Received sync request for user :: {}", userId);
+
+        SyncResponse response = syncService.sync(userId, since);
+
+        log.info("SyncController :: sync :: Sync returned for user :: {} :: full {}", userId, response.getFullSync());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,10 +1,17 @@
 package com.SwitchBoard.WorkspaceService.controller;
 
 import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.BatchGetRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskBatchUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskCreateRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.BatchGetResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.InboxTaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskBatchUpdateResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TypeaheadSuggestionResponse;
 import com.SwitchBoard.WorkspaceService.entity.Task;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.service.EntityTagService;
 import com.SwitchBoard.WorkspaceService.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,9 +23,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,6 +40,7 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final EntityTagService entityTagService;
 
 //    @PostMapping
 //    @Operation(
@@ -57,15 +67,37 @@ public class TaskController {
     )
     public ResponseEntity<TaskResponse> getTaskById(
             @Parameter(description = "Unique UUID identifier of the task", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
         log.info("TaskController :: getTaskById :: Fetching task :: {}", id);
         
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.getTaskTag(id), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("TaskController :: getTaskById :: Task not modified :: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         TaskResponse taskResponse = taskService.getTaskById(id);
         
         log.info("TaskController :: getTaskById :: Task retrieved successfully :: {}", id);
         return ResponseEntity.ok(taskResponse);
     }
 
+    @PostMapping("/batch-get")
+    @Operation(
+        summary = "Get tasks by IDs",
+        description = "Retrieves up to 500 tasks in one call, answering every requested ID in request order and marking the ones not found. Replaces calling get task by ID in a loop."
+    )
+    public ResponseEntity<BatchGetResponse<TaskResponse>> getTasksByIds(@Valid @RequestBody BatchGetRequest request) {
+        log.info("TaskController :: getTasksByIds :: Fetching {} tasks", request.getIds().size());
+
+        BatchGetResponse<TaskResponse> response = taskService.getTasksByIds(request.getIds());
+
+        log.info("TaskController :: getTasksByIds :: {} of {} tasks not found", response.getNotFoundCount(), request.getIds().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(
         summary = "Get all tasks with pagination",
@@ -104,24 +136,61 @@ public class TaskController {
         summary = "Get tasks by assignment",
         description = "Retrieves all tasks that belong to a specific assignment. This endpoint is essential for assignment-based learning where tasks are grouped together as part of a larger learning objective or project. Useful for tracking assignment completion and progress."
     )
-    public ResponseEntity<List<TaskResponse>> getTasksByAssignmentId(
+    public ResponseEntity<List<?>> getTasksByAssignmentId(
             @Parameter(description = "UUID of the assignment to get tasks for", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID assignmentId) {
+            @PathVariable UUID assignmentId,
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "title,statusKey,deadline")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.info("TaskController :: getTasksByAssignmentId :: Fetching tasks for assignment :: {}", assignmentId);
         
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.withFieldset(entityTagService.getTasksByAssignmentTag(assignmentId), fields),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("TaskController :: getTasksByAssignmentId :: Tasks of assignment not modified :: {}", assignmentId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.getTasksByAssignmentId(assignmentId, fields));
+        }
+
         List<TaskResponse> tasks = taskService.getTasksByAssignmentId(assignmentId);
         
         log.info("TaskController :: getTasksByAssignmentId :: Retrieved {} tasks for assignment {}", tasks.size(), assignmentId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/workspace/{workspaceId}/typeahead")
+    @Operation(
+        summary = "Suggest task titles and topics",
+        description = "Autocomplete for the task filter of a workspace: task titles and topics with a word starting with the typed text, ignoring case. Titles and topics starting with the text come first, then the ones used by the most tasks. Served from memory; only the first lookup in a workspace reads the database."
+    )
+    public ResponseEntity<List<TypeaheadSuggestionResponse>> getTypeaheadSuggestions(
+            @Parameter(description = "UUID of the workspace", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID workspaceId,
+            @Parameter(description = "Text typed so far", required = true, example = "bin")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of suggestions, 10 by default and at most 50")
+            @RequestParam(required = false) Integer limit) {
+        log.debug("TaskController :: getTypeaheadSuggestions :: Suggesting :: {} :: in workspace :: {}", query, workspaceId);
+
+        List<TypeaheadSuggestionResponse> suggestions = taskService.getTypeaheadSuggestions(workspaceId, query, limit);
+
+        log.debug("TaskController :: getTypeaheadSuggestions :: Returning {} suggestions for workspace {}", suggestions.size(), workspaceId);
+        return ResponseEntity.ok(suggestions);
+    }
+
     @GetMapping("/assigned-to-me")
     @Operation(
         summary = "Get tasks assigned to authenticated user",
         description = "Retrieves all tasks assigned to the authenticated user. This endpoint is crucial for personal task management, allowing users to view their workload, track progress, and prioritize their learning activities. Commonly used in personal dashboards and to-do lists."
     )
-    public ResponseEntity<List<TaskResponse>> getTasksByAssigneeId(
-            HttpServletRequest httpRequest) {
+    public ResponseEntity<List<?>> getTasksByAssigneeId(
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "title,statusKey,deadline")
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
         // Get the logged-in user ID from the header set by API Gateway
         String userIdHeader = httpRequest.getHeader("X-User-Id");
         if (userIdHeader == null) {
@@ -131,18 +200,62 @@ public class TaskController {
         
         log.info("TaskController :: getTasksByAssigneeId :: Fetching tasks for assignee :: {}", assigneeId);
         
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.withFieldset(entityTagService.getTasksByAssigneeTag(assigneeId), fields),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("TaskController :: getTasksByAssigneeId :: Tasks of assignee not modified :: {}", assigneeId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.getTasksByAssigneeId(assigneeId, fields));
+        }
+
         List<TaskResponse> tasks = taskService.getTasksByAssigneeId(assigneeId);
         
         log.info("TaskController :: getTasksByAssigneeId :: Retrieved {} tasks for assignee {}", tasks.size(), assigneeId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/inbox")
+    @Operation(
+        summary = "Get inbox of authenticated user",
+        description = "Returns every task the authenticated user is the assignee of or has a task assignment for, with the user's own status and points, " +
+                "soonest deadline first. Read from a denormalized view that trails task changes by a moment."
+    )
+    public ResponseEntity<List<InboxTaskResponse>> getInbox(@RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("TaskController :: getInbox :: Fetching inbox of user :: {}", userId);
+
+        List<InboxTaskResponse> inbox = taskService.getInbox(userId);
+
+        log.info("TaskController :: getInbox :: Retrieved {} inbox tasks for user {}", inbox.size(), userId);
+        return ResponseEntity.ok(inbox);
+    }
+
+    @PostMapping("/inbox/rebuild")
+    @Operation(
+        summary = "Rebuild task inboxes",
+        description = "Re-projects every task into the user task view and removes rows of deleted tasks. Used for recovery after a failed projection " +
+                "or after writes made outside this service."
+    )
+    public ResponseEntity<ApiResponse> rebuildInbox(HttpServletRequest httpRequest) {
+        log.info("TaskController :: rebuildInbox :: Rebuilding user task view");
+
+        int projected = taskService.rebuildInbox();
+
+        log.info("TaskController :: rebuildInbox :: Rebuilt user task view from {} tasks", projected);
+        return ResponseEntity.ok(ApiResponse.response("User task view rebuilt from " + projected + " tasks", projected, httpRequest.getRequestURI()));
+    }
+
     @GetMapping("/created-by-me")
     @Operation(
         summary = "Get tasks created by authenticated user",
         description = "Retrieves all tasks that were created/reported by the authenticated user. This endpoint helps track task creation patterns, manage instructor-created assignments, and provide accountability for task generation within the learning system."
     )
-    public ResponseEntity<List<TaskResponse>> getTasksByReporterId(
+    public ResponseEntity<List<?>> getTasksByReporterId(
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "title,statusKey,deadline")
+            @RequestParam(required = false) String fields,
             HttpServletRequest httpRequest) {
         // Get the logged-in user ID from the header set by API Gateway
         String userIdHeader = httpRequest.getHeader("X-User-Id");
@@ -152,6 +265,9 @@ public class TaskController {
         UUID reporterId = UUID.fromString(userIdHeader);
         
         log.info("TaskController :: getTasksByReporterId :: Fetching tasks for reporter :: {}", reporterId);
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.getTasksByReporterId(reporterId, fields));
+        }
         
         List<TaskResponse> tasks = taskService.getTasksByReporterId(reporterId);
         
@@ -201,6 +317,21 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch-update")
+    @Operation(
+        summary = "Update many tasks",
+        description = "Applies status, priority, color and deadline changes and moves between assignments to up to 500 tasks in one transaction. Each change carries the task version it was made against; " +
+                "stale, missing and invalid changes are reported per item and skipped, the others applied with the same status rules as the single update. Replaces one PUT per task for board drag-and-drop and mark all done."
+    )
+    public ResponseEntity<TaskBatchUpdateResponse> updateTasks(@Valid @RequestBody TaskBatchUpdateRequest request) {
+        log.info("TaskController :: updateTasks :: Applying {} task changes", request.getChanges().size());
+
+        TaskBatchUpdateResponse response = taskService.updateTasks(request.getChanges());
+
+        log.info("TaskController :: updateTasks :: Updated {} of {} tasks", response.getUpdatedCount(), request.getChanges().size());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/assign")
     @Operation(
         summary = "Assign task to user",
@@ -3,6 +3,7 @@ package com.SwitchBoard.WorkspaceService.controller;
 import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.WorkspaceResponse;
 import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
+import com.SwitchBoard.WorkspaceService.service.EntityTagService;
 import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,9 +15,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +32,7 @@ import java.util.UUID;
 public class WorkspaceController {
 
     private final WorkspaceService workspaceService;
+    private final EntityTagService entityTagService;
 
     @PostMapping("/activate/{userId}")
     @Operation(
@@ -58,9 +62,17 @@ public class WorkspaceController {
     })
     public ResponseEntity<WorkspaceResponse> getWorkspaceById(
             @Parameter(description = "UUID of the workspace", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
         log.info("WorkspaceController :: getWorkspaceById :: Received request to fetch workspace :: {}", id);
 
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.getWorkspaceTag(id), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("WorkspaceController :: getWorkspaceById :: Workspace not modified :: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         WorkspaceResponse workspaceResponse = workspaceService.getWorkspaceById(id);
 
         log.info("WorkspaceController :: getWorkspaceById :: Successfully retrieved workspace :: {}", id);
@@ -72,12 +84,26 @@ public class WorkspaceController {
         summary = "Get workspaces by owner user",
         description = "Retrieves all workspaces owned by the authenticated user. Users can own multiple workspaces for different projects or learning contexts."
     )
-    public ResponseEntity<List<WorkspaceResponse>> getWorkspacesByOwnerUserId(
-            @RequestHeader("X-User-Id") String userIdHeader){
+    public ResponseEntity<List<?>> getWorkspacesByOwnerUserId(
+            @RequestHeader("X-User-Id") String userIdHeader,
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "name,workspaceType")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest){
         UUID userId = UUID.fromString(userIdHeader);
         
         log.info("WorkspaceController :: getWorkspacesByOwnerUserId :: Received request to fetch workspaces for user :: {}", userId);
 
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.withFieldset(entityTagService.getWorkspacesByOwnerTag(userId), fields),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("WorkspaceController :: getWorkspacesByOwnerUserId :: Workspaces of user not modified :: {}", userId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(workspaceService.getWorkspacesByOwnerUserId(userId, fields));
+        }
+
         List<WorkspaceResponse> workspaces = workspaceService.getWorkspacesByOwnerUserId(userId);
 
         log.info("WorkspaceController :: getWorkspacesByOwnerUserId :: Successfully retrieved {} workspaces for user :: {}", 
@@ -90,8 +116,11 @@ public class WorkspaceController {
         summary = "Get workspaces accessible by user",
         description = "Retrieves all workspaces that the authenticated user has access to, including owned workspaces and workspaces shared with them through explicit user access permissions."
     )
-    public ResponseEntity<List<WorkspaceResponse>> getWorkspacesAccessibleByUser(
-            HttpServletRequest httpRequest) {
+    public ResponseEntity<List<?>> getWorkspacesAccessibleByUser(
+            @Parameter(description = "Comma separated fields to return, all by default; only their columns are read", example = "name,workspaceType")
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
         String userIdHeader = httpRequest.getHeader("X-User-Id");
         if (userIdHeader == null) {
             log.error("WorkspaceController :: getWorkspacesAccessibleByUser :: User ID not found in request header");
@@ -101,6 +130,18 @@ public class WorkspaceController {
         
         log.info("WorkspaceController :: getWorkspacesAccessibleByUser :: Received request to fetch accessible workspaces for user :: {}", userId);
 
+        // Lists the user's own workspaces, like the owner endpoint
+        String eTag = entityTagService.withRepresentation(
+                entityTagService.withFieldset(entityTagService.getWorkspacesByOwnerTag(userId), fields),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.debug("WorkspaceController :: getWorkspacesAccessibleByUser :: Workspaces of user not modified :: {}", userId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(workspaceService.getWorkspacesAccessibleByUser(userId, fields));
+        }
+
         List<WorkspaceResponse> workspaces = workspaceService.getWorkspacesAccessibleByUser(userId);
 
         log.info("WorkspaceController :: getWorkspacesAccessibleByUser :: Successfully retrieved {} accessible workspaces for user :: {}", 
@@ -108,6 +149,26 @@ public class WorkspaceController {
         return ResponseEntity.ok(workspaces);
     }
 
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search workspaces by name",
+        description = "Case-insensitive substring search over the names of the workspaces the authenticated user owns or has access to. Exact and prefix matches rank first, then closer names."
+    )
+    public ResponseEntity<List<WorkspaceResponse>> searchWorkspaces(
+            @Parameter(description = "Text to look for in workspace names", required = true, example = "road")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results, 20 by default and at most 50")
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader("X-User-Id") String userIdHeader) {
+        UUID userId = UUID.fromString(userIdHeader);
+        log.info("WorkspaceController :: searchWorkspaces :: Received search :: {} :: for user :: {}", query, userId);
+
+        List<WorkspaceResponse> workspaces = workspaceService.searchWorkspaces(query, userId, limit);
+
+        log.info("WorkspaceController :: searchWorkspaces :: Returning {} workspaces for user :: {}", workspaces.size(), userId);
+        return ResponseEntity.ok(workspaces);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
         summary = "Delete workspace",
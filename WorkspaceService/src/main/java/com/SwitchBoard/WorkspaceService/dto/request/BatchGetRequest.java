@@ -0,0 +1,24 @@
+package com.SwitchBoard.WorkspaceService.dto.request;
+
+import com.SwitchBoard.WorkspaceService.config.Constant;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchGetRequest {
+
+    @NotEmpty(message = "IDs list cannot be empty")
+    @Size(max = Constant.MAX_BATCH_GET_IDS, message = "At most 500 IDs can be fetched at once")
+    private List<@NotNull(message = "ID cannot be null") UUID> ids;
+}
@@ -0,0 +1,23 @@
+package com.SwitchBoard.WorkspaceService.dto.request;
+
+import com.SwitchBoard.WorkspaceService.entity.UserGroupMembership;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupMembersRequest {
+
+    @NotEmpty(message = "User IDs list cannot be empty")
+    @Size(max = 1000, message = "At most 1000 users can be added at once")
+    private List<@NotNull(message = "User ID cannot be null") UUID> userIds;
+
+    private UserGroupMembership.MembershipRole role; // Optional: defaults to MEMBER
+}
@@ -0,0 +1,49 @@
+package com.SwitchBoard.WorkspaceService.dto.request;
+
+import com.SwitchBoard.WorkspaceService.config.Constant;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchUpdateRequest {
+
+    @NotEmpty(message = "Changes list cannot be empty")
+    @Size(max = Constant.MAX_BATCH_UPDATE_TASKS, message = "At most 500 tasks can be changed at once")
+    private List<@NotNull(message = "Change cannot be null") @Valid TaskChange> changes;
+
+    /** Changes to one task; fields left null are kept. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TaskChange {
+
+        @NotNull(message = "Task ID is required")
+        private UUID id;
+
+        @NotNull(message = "Task version is required")
+        private Long version; // The version the change was made against
+
+        private TaskStatus statusKey;
+        private Integer priority;
+        private String titleColor;
+        private Instant deadline;
+        private Duration deadlineShift; // Moves the current deadline, e.g. P1D; not with deadline
+        private UUID assignmentId; // Moves the task to another assignment
+    }
+}
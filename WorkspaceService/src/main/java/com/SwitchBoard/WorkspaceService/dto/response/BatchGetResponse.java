@@ -0,0 +1,38 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchGetResponse<T> {
+
+    private List<Result<T>> results; // One per requested ID, in request order
+    private Integer notFoundCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result<T> {
+        private UUID id;
+        private Boolean found;
+        private T data; // Null when not found
+    }
+
+    public static <T> BatchGetResponse<T> of(List<UUID> ids, Map<UUID, T> foundById) {
+        List<Result<T>> results = ids.stream()
+                .map(id -> new Result<>(id, foundById.containsKey(id), foundById.get(id)))
+                .toList();
+        int notFoundCount = (int) results.stream().filter(result -> !result.getFound()).count();
+        return new BatchGetResponse<>(results, notFoundCount);
+    }
+}
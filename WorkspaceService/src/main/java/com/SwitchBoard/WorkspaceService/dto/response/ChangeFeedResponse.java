@@ -0,0 +1,21 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import com.SwitchBoard.WorkspaceService.outbox.ChangeEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedResponse {
+
+    private List<ChangeEvent> events;
+
+    // Offset to ask for next; equal to the requested one when nothing newer exists yet
+    private Long nextOffset;
+}
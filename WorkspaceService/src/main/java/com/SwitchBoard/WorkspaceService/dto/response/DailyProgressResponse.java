@@ -0,0 +1,21 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyProgressResponse {
+
+    private LocalDate day; // UTC day
+    private Integer tasksStarted;
+    private Integer tasksCompleted;
+    private Long rewardPoints;
+    private Double hoursCompleted; // Estimated hours of the tasks completed
+}
@@ -0,0 +1,50 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.AssignmentType;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+
+    private List<WorkspaceSummary> workspaces;
+    private List<TaskResponse> tasksDueToday; // Open tasks assigned to the user
+    private List<TaskResponse> tasksDueThisWeek; // Open tasks due after today until the end of the week
+    private Long overdueTaskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WorkspaceSummary {
+        private UUID id;
+        private String name;
+        private WorkspaceType workspaceType;
+        private UUID ownerUserId;
+        private List<AssignmentProgress> assignments;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AssignmentProgress {
+        private UUID id;
+        private String title;
+        private AssignmentType assignmentTypeKey;
+        private Instant deadline;
+        private Integer totalTasks;
+        private Integer completedTasks;
+        private Double completionPercentage;
+    }
+}
@@ -0,0 +1,35 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InboxTaskResponse {
+
+    private UUID taskId;
+    private UUID assignmentId;
+    private UUID workspaceId;
+    private UUID taskAssignmentId; // Null when the user is only the task's assignee
+    private Boolean assignee;
+    private String title;
+    private String topic;
+    private TaskStatus statusKey;
+    private TaskStatus myStatus;
+    private Integer priority;
+    private Integer rewardPoints;
+    private Integer rewardPointsEarned;
+    private Double estimatedHours;
+    private String titleColor;
+    private Instant deadline;
+    private Instant completedAt;
+    private Instant updatedAt;
+}
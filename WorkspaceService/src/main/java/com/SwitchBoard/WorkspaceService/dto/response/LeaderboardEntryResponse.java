@@ -0,0 +1,19 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryResponse {
+
+    private Integer rank; // Users with equal points share a rank
+    private UUID userId;
+    private Long points;
+}
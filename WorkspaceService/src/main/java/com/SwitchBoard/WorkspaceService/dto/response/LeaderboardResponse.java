@@ -0,0 +1,19 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardResponse {
+
+    private List<LeaderboardEntryResponse> top;
+    private LeaderboardEntryResponse me; // Null when the caller is anonymous or has no points here
+    private Integer rankedUsers;
+}
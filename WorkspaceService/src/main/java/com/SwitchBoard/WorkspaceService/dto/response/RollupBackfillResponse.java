@@ -0,0 +1,20 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupBackfillResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Integer chunks; // Transactions the range was rebuilt in
+    private Integer rowsWritten;
+}
@@ -0,0 +1,26 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitResponse {
+
+    private HitType type;
+    private UUID id;
+    private UUID assignmentId; // The assignment itself for ASSIGNMENT hits
+    private UUID workspaceId;
+    private String title; // HTML-escaped, matched terms wrapped in <mark>
+    private String snippet; // HTML-escaped description excerpt, matched terms wrapped in <mark>
+    private Double score;
+
+    public enum HitType {
+        TASK, ASSIGNMENT
+    }
+}
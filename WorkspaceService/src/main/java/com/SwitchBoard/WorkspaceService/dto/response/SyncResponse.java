@@ -0,0 +1,36 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+
+    private List<TaskResponse> tasks; // Tasks assigned to the user
+    private List<TaskAssignmentResponse> taskAssignments; // The user's own task assignments
+    private List<AssignmentResponse> assignments; // Assignments in the workspaces the user can access, without task statistics
+    private List<WorkspaceAccessResponse> workspaceAccess; // The user's access rows, revoked ones included
+    private List<Tombstone> deleted; // Removed or out of the user's scope since the token; may name rows the user never received
+
+    private String nextToken;
+
+    // True when the token was missing or too old: everything in scope is returned, replace local data with it
+    private Boolean fullSync;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Tombstone {
+        private String type;
+        private UUID id;
+    }
+}
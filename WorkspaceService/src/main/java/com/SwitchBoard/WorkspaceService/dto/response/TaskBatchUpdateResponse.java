@@ -0,0 +1,34 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchUpdateResponse {
+
+    private List<Result> results; // One per change, in request order
+    private Integer updatedCount;
+
+    public enum Outcome {
+        UPDATED, CONFLICT, NOT_FOUND, INVALID
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private UUID id;
+        private Outcome outcome;
+        private Long version; // The task's version after the change, or its current one on a conflict
+        private String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypeaheadSuggestionResponse {
+
+    private String text;
+    private SuggestionType type;
+    private Integer taskCount; // Tasks in the workspace with this title or topic
+
+    public enum SuggestionType {
+        TITLE, TOPIC
+    }
+}
@@ -0,0 +1,27 @@
+package com.SwitchBoard.WorkspaceService.dto.response;
+
+import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkspaceAccessResponse {
+
+    private UUID id;
+    private UUID workspaceId;
+    private UUID userId;
+    private WorkspaceAccess.AccessLevel accessLevel;
+    private Boolean isActive;
+
+    // Audit fields
+    private Instant createdAt;
+    private Instant updatedAt;
+}
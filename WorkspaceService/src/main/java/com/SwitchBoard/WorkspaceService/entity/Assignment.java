@@ -9,7 +9,8 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "assignment")
+@Table(name = "assignment",
+       indexes = @Index(name = "idx_assignment_workspace_id", columnList = "workspace_id"))
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = false)
@@ -33,8 +34,9 @@ public class Assignment extends BaseEntity {
     private Double totalEstimatedHours;
     private Instant deadline;
 
+    @EqualsAndHashCode.Exclude
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "assignmentId")
+    @JoinColumn(name = "assignmentId", insertable = false, updatable = false)
     @Builder.Default
     private Set<Task> tasks = new HashSet<>();
 
@@ -5,7 +5,7 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = @Index(name = "idx_comment_task_id", columnList = "task_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,44 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Progress of the tasks of one assignment on one UTC day, kept up to date as tasks change status so analytics never aggregate
+ * the task tables.
+ */
+@Entity
+@Table(name = "daily_assignment_progress",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"assignment_id", "progress_day"}))
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAssignmentProgress extends BaseEntity {
+
+    @Column(name = "assignment_id", nullable = false)
+    private UUID assignmentId;
+
+    @Column(name = "progress_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tasksStarted = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tasksCompleted = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long rewardPoints = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Double hoursCompleted = 0.0; // Estimated hours of the tasks completed
+}
@@ -0,0 +1,44 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Progress of one user on one UTC day, kept up to date as tasks change status so analytics never aggregate
+ * the task tables.
+ */
+@Entity
+@Table(name = "daily_user_progress",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "progress_day"}))
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyUserProgress extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "progress_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tasksStarted = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tasksCompleted = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long rewardPoints = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Double hoursCompleted = 0.0; // Estimated hours of the tasks completed
+}
@@ -2,12 +2,16 @@ package com.SwitchBoard.WorkspaceService.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+// Deleted groups keep their row, so their slugs stay taken and their memberships stay deactivated rather than gone;
+// BaseEntity's @Where does not reach entities from a mapped superclass, so the restriction is repeated here
 @Entity
+@SQLRestriction("deleted_at IS NULL")
 @Table(name = "group_table") // "group" is reserved keyword in SQL
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -19,6 +23,7 @@ public class Group extends BaseEntity {
     @Column(nullable = false)
     private String name;
 
+    @Column(unique = true)
     private String slug;
     private String description;
     
@@ -28,6 +33,8 @@ public class Group extends BaseEntity {
     @Column(name = "created_by")
     private UUID createdByUserId;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<UserGroupMembership> memberships = new HashSet<>();
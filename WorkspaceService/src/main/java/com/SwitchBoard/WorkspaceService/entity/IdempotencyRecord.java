@@ -0,0 +1,42 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+/**
+ * A request made with an {@code Idempotency-Key}, kept by
+ * {@link com.SwitchBoard.WorkspaceService.idempotency.IdempotencyFilter} until it expires. While the first attempt
+ * runs only the key and fingerprint are set; once it succeeds its response is stored, deflated, for retries.
+ */
+@Entity
+@Table(name = "idempotency_record",
+       indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 64)
+    private String id; // SHA-256 of the caller and the key, hex
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint; // SHA-256 of the request, hex
+
+    private Integer responseStatus; // Null while the first attempt is running
+
+    @Column(length = 100)
+    private String responseContentType;
+
+    @Column(columnDefinition = "bytea")
+    private byte[] responseBody; // Deflated
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,67 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import com.SwitchBoard.WorkspaceService.outbox.ChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A change to an aggregate, written in the transaction that made it and relayed afterwards by
+ * {@link com.SwitchBoard.WorkspaceService.outbox.OutboxRelay}. The id doubles as the offset consumers replay from;
+ * it is assigned from {@link OutboxOffset} as the transaction commits, so offsets follow commit order.
+ * <p>
+ * The event also stores who the change concerns, resolved when it is written, before and after the change: every
+ * user with access to one of its workspaces, and its users themselves. Deleted rows and the users a row moved away
+ * from are covered this way, which a lookup after the fact can no longer find.
+ */
+@Entity
+@Table(name = "outbox_event",
+       indexes = @Index(name = "idx_outbox_event_unpublished", columnList = "published_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    private Long aggregateVersion;
+
+    @Column(columnDefinition = "TEXT")
+    private String changedFields; // Comma separated, updates only
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "outbox_event_workspace", joinColumns = @JoinColumn(name = "event_id"),
+                     indexes = @Index(name = "idx_outbox_event_workspace_workspace_id", columnList = "workspace_id, event_id"))
+    @Column(name = "workspace_id", nullable = false)
+    @Builder.Default
+    private Set<UUID> audienceWorkspaceIds = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "outbox_event_user", joinColumns = @JoinColumn(name = "event_id"),
+                     indexes = @Index(name = "idx_outbox_event_user_user_id", columnList = "user_id, event_id"))
+    @Column(name = "user_id", nullable = false)
+    @Builder.Default
+    private Set<UUID> audienceUserIds = new HashSet<>();
+}
@@ -0,0 +1,26 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The last offset handed out to an {@link OutboxEvent}, in a single row. A transaction takes its events' offsets
+ * by incrementing it just before it commits, and holds the row lock until it does, so offsets are taken in commit
+ * order without gaps.
+ */
+@Entity
+@Table(name = "outbox_offset")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxOffset {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastOffset;
+}
@@ -0,0 +1,41 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One award of reward points, appended when a user completes a task and never updated. Running totals and
+ * leaderboards are derived from the ledger rather than summed per read.
+ */
+@Entity
+@Table(name = "points_ledger",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"task_assignment_id"}), // One award per completion
+       indexes = @Index(name = "idx_points_ledger_workspace_user", columnList = "workspace_id, user_id"))
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointsLedgerEntry extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "workspace_id")
+    private UUID workspaceId;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "task_assignment_id", nullable = false)
+    private UUID taskAssignmentId;
+
+    @Column(nullable = false)
+    private Integer points;
+
+    @Column(nullable = false)
+    private Instant awardedAt;
+}
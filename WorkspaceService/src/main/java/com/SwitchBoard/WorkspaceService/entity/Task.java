@@ -9,7 +9,8 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task",
+       indexes = @Index(name = "idx_task_assignee_user_id", columnList = "assignee_user_id"))
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = false)
@@ -46,11 +47,13 @@ public class Task extends BaseEntity {
     private Instant completedAt;
 
 
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<Comment> comments = new HashSet<>();
 
-    @Column(name = "assignmentId", insertable = false, updatable = false)
+    // Owns the column: Assignment.tasks only reads it, so set it before the task is saved
+    @Column(name = "assignmentId")
     private UUID assignmentId;
 
 }
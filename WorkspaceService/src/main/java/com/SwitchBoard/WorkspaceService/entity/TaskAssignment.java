@@ -3,12 +3,17 @@ package com.SwitchBoard.WorkspaceService.entity;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.Instant;
 import java.util.UUID;
 
+// Unassigning soft-deletes the row (see TaskAssignmentRepository.softDeleteByTaskIdInAndAssignedUserIdIn), and
+// BaseEntity's @Where does not reach entities from a mapped superclass, so the restriction is repeated here
 @Entity
+@SQLRestriction("deleted_at IS NULL")
 @Table(name = "task_assignment", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"task_id", "assigned_user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"task_id", "assigned_user_id"}),
+       indexes = @Index(name = "idx_task_assignment_assigned_user_id", columnList = "assigned_user_id"))
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = false)
@@ -17,6 +22,7 @@ import java.util.UUID;
 @Builder
 public class TaskAssignment extends BaseEntity {
 
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
@@ -18,6 +18,7 @@ public class UserGroupMembership extends BaseEntity {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_id", nullable = false)
     private Group group;
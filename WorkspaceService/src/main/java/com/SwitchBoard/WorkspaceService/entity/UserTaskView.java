@@ -0,0 +1,85 @@
+package com.SwitchBoard.WorkspaceService.entity;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of a user's task inbox: one row per task a user is the assignee of or has a task assignment for,
+ * with everything the inbox shows, so the inbox is one range scan of {@code (user_id, deadline, task_id)}.
+ * Written only by {@link com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector}.
+ */
+@Entity
+@Table(name = "user_task_view",
+       indexes = @Index(name = "idx_user_task_view_inbox", columnList = "user_id, deadline, task_id"))
+@IdClass(UserTaskView.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTaskView implements Persistable<UserTaskView.Key> {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    private Instant deadline;
+
+    @Column(name = "assignment_id")
+    private UUID assignmentId;
+
+    @Column(name = "workspace_id")
+    private UUID workspaceId;
+
+    @Column(name = "task_assignment_id")
+    private UUID taskAssignmentId; // Null when the user is only the task's assignee
+
+    private boolean assignee; // The user is the task's assignee
+
+    @Column(nullable = false)
+    private String title;
+
+    private String topic;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus statusKey;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus myStatus; // Status of the user's task assignment, if any
+
+    private Integer priority;
+    private Integer rewardPoints;
+    private Integer rewardPointsEarned;
+    private Double estimatedHours;
+    private String titleColor;
+    private Instant completedAt; // When the user completed it, or the task for its assignee
+    private Instant taskUpdatedAt;
+
+    @Override
+    public Key getId() {
+        return new Key(userId, taskId);
+    }
+
+    // Rows are only ever replaced, never updated, so saving one always inserts it without a merge lookup
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private UUID taskId;
+    }
+}
@@ -28,10 +28,12 @@ public class Workspace extends BaseEntity {
     @Column(name = "owner_user_id", nullable = false)
     private UUID ownerUserId;
 
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<WorkspaceAccess> workspaceAccess = new HashSet<>();
 
+    @EqualsAndHashCode.Exclude
     @OneToMany( cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "workspaceId")
     @Builder.Default
@@ -6,7 +6,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "workspace_access", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"workspace_id", "user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"workspace_id", "user_id"}),
+       indexes = @Index(name = "idx_workspace_access_user_id", columnList = "user_id"))
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = false)
@@ -15,6 +16,7 @@ import java.util.UUID;
 @Builder
 public class WorkspaceAccess extends BaseEntity {
 
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id", nullable = false)
     private Workspace workspace;
@@ -0,0 +1,89 @@
+package com.SwitchBoard.WorkspaceService.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves every {@link BindableService} bean on {@code grpc.address}:{@code grpc.port} next to the HTTP server, for
+ * internal callers. The server binds to the loopback interface unless told otherwise, and every call must carry the
+ * {@code grpc.auth-token} as a bearer token when one is set; it refuses to start on any other interface without one.
+ * Incoming messages are capped at {@code grpc.max-inbound-message-size}.
+ * Switched off with {@code grpc.enabled=false}; tests serve the services in-process instead.
+ */
+@Component
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final List<BindableService> services;
+    private final InetSocketAddress address;
+    private final String authToken;
+    private final DataSize maxInboundMessageSize;
+    private Server server;
+
+    public GrpcServer(List<BindableService> services,
+                      @Value("${grpc.address:127.0.0.1}") String host,
+                      @Value("${grpc.port:9090}") int port,
+                      @Value("${grpc.auth-token:}") String authToken,
+                      @Value("${grpc.max-inbound-message-size:1MB}") DataSize maxInboundMessageSize) {
+        this.services = services;
+        this.address = new InetSocketAddress(host, port);
+        this.authToken = authToken;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+    }
+
+    @Override
+    public void start() {
+        boolean authenticated = StringUtils.hasText(authToken);
+        if (!authenticated && (address.isUnresolved() || !address.getAddress().isLoopbackAddress())) {
+            throw new IllegalStateException("grpc.auth-token is required to serve gRPC on " + address);
+        }
+        NettyServerBuilder builder = NettyServerBuilder.forAddress(address)
+                .maxInboundMessageSize(Math.toIntExact(maxInboundMessageSize.toBytes()));
+        if (authenticated) {
+            builder.intercept(new GrpcAuthInterceptor(authToken));
+        }
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the gRPC server on " + address, e);
+        }
+        log.info("GrpcServer :: start :: Serving {} gRPC services on {}{}", services.size(), address,
+                authenticated ? " with token authentication" : "");
+    }
+
+    // Lets calls in flight finish for a few seconds, like the HTTP server's graceful shutdown
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(10, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("GrpcServer :: stop :: gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+}
@@ -0,0 +1,99 @@
+package com.SwitchBoard.WorkspaceService.grpc;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The gRPC API other SwitchBoard services call instead of the REST endpoints: workspace activation, roadmap
+ * import streamed in chunks, bulk assignment progress and a streamed task export.
+ * <p>
+ * Messages are the REST DTOs and the records below, encoded with Smile, so there is no schema to compile; callers
+ * build their stubs from these descriptors with {@code io.grpc.stub.ClientCalls}.
+ */
+public final class WorkspaceInternalGrpc {
+
+    public static final String SERVICE_NAME = "switchboard.workspace.WorkspaceInternal";
+
+    private static final ObjectMapper SMILE = Jackson2ObjectMapperBuilder.smile().build();
+
+    public record ActivateWorkspaceRequest(UUID userId) {
+    }
+
+    /** One piece of a roadmap; the first carries the user and the assignment, every one may carry tasks. */
+    public record RoadmapChunk(UUID userId, String title, String description, List<TaskRoadmapRequest> tasks) {
+    }
+
+    public record AssignmentProgressRequest(List<UUID> assignmentIds) {
+    }
+
+    public record AssignmentProgressReply(List<DashboardResponse.AssignmentProgress> assignments) {
+    }
+
+    public record ExportTasksRequest(UUID workspaceId) {
+    }
+
+    public static final MethodDescriptor<ActivateWorkspaceRequest, ApiResponse> ACTIVATE_WORKSPACE =
+            method("ActivateWorkspace", MethodDescriptor.MethodType.UNARY, ActivateWorkspaceRequest.class, ApiResponse.class);
+
+    public static final MethodDescriptor<RoadmapChunk, ApiResponse> IMPORT_ROADMAP =
+            method("ImportRoadmap", MethodDescriptor.MethodType.CLIENT_STREAMING, RoadmapChunk.class, ApiResponse.class);
+
+    public static final MethodDescriptor<AssignmentProgressRequest, AssignmentProgressReply> GET_ASSIGNMENT_PROGRESS =
+            method("GetAssignmentProgress", MethodDescriptor.MethodType.UNARY, AssignmentProgressRequest.class, AssignmentProgressReply.class);
+
+    public static final MethodDescriptor<ExportTasksRequest, TaskResponse> EXPORT_TASKS =
+            method("ExportTasks", MethodDescriptor.MethodType.SERVER_STREAMING, ExportTasksRequest.class, TaskResponse.class);
+
+    public static final ServiceDescriptor SERVICE = ServiceDescriptor.newBuilder(SERVICE_NAME)
+            .addMethod(ACTIVATE_WORKSPACE)
+            .addMethod(IMPORT_ROADMAP)
+            .addMethod(GET_ASSIGNMENT_PROGRESS)
+            .addMethod(EXPORT_TASKS)
+            .build();
+
+    private WorkspaceInternalGrpc() {
+    }
+
+    private static <Q, R> MethodDescriptor<Q, R> method(String name, MethodDescriptor.MethodType type, Class<Q> request, Class<R> response) {
+        return MethodDescriptor.<Q, R>newBuilder()
+                .setType(type)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, name))
+                .setRequestMarshaller(new SmileMarshaller<>(request))
+                .setResponseMarshaller(new SmileMarshaller<>(response))
+                .build();
+    }
+
+    private record SmileMarshaller<T>(Class<T> type) implements MethodDescriptor.Marshaller<T> {
+
+        @Override
+        public InputStream stream(T value) {
+            try {
+                return new ByteArrayInputStream(SMILE.writeValueAsBytes(value));
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Cannot encode " + type.getSimpleName()).withCause(e).asRuntimeException();
+            }
+        }
+
+        @Override
+        public T parse(InputStream stream) {
+            try {
+                return SMILE.readValue(stream, type);
+            } catch (IOException e) {
+                throw Status.INVALID_ARGUMENT.withDescription("Cannot decode " + type.getSimpleName()).withCause(e).asRuntimeException();
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.SwitchBoard.WorkspaceService.grpc;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
+import com.SwitchBoard.WorkspaceService.config.Constant;
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.AssignmentRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.ActivateWorkspaceRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.AssignmentProgressReply;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.AssignmentProgressRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.ExportTasksRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.RoadmapChunk;
+import com.SwitchBoard.WorkspaceService.service.RoadmapService;
+import com.SwitchBoard.WorkspaceService.service.TaskService;
+import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
+import com.SwitchBoard.WorkspaceService.service.impl.AssignmentService;
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_BATCH_GET_IDS;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_ROADMAP_TASKS;
+
+/**
+ * Implements {@link WorkspaceInternalGrpc} on top of the same services as the REST controllers. Errors map to gRPC
+ * statuses the way the exception handler maps them to HTTP: bad requests to INVALID_ARGUMENT, missing resources to
+ * NOT_FOUND and anything else to INTERNAL. A roadmap upload over {@link Constant#MAX_ROADMAP_TASKS} tasks, the limit
+ * the REST endpoint applies too, is refused with RESOURCE_EXHAUSTED as soon as the chunk that crosses it arrives.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkspaceInternalGrpcService implements BindableService {
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final WorkspaceService workspaceService;
+    private final RoadmapService roadmapService;
+    private final AssignmentService assignmentService;
+    private final TaskService taskService;
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(WorkspaceInternalGrpc.SERVICE)
+                .addMethod(WorkspaceInternalGrpc.ACTIVATE_WORKSPACE, ServerCalls.asyncUnaryCall(this::activateWorkspace))
+                .addMethod(WorkspaceInternalGrpc.IMPORT_ROADMAP, ServerCalls.asyncClientStreamingCall(this::importRoadmap))
+                .addMethod(WorkspaceInternalGrpc.GET_ASSIGNMENT_PROGRESS, ServerCalls.asyncUnaryCall(this::getAssignmentProgress))
+                .addMethod(WorkspaceInternalGrpc.EXPORT_TASKS, ServerCalls.asyncServerStreamingCall(this::exportTasks))
+                .build();
+    }
+
+    private void activateWorkspace(ActivateWorkspaceRequest request, StreamObserver<ApiResponse> responseObserver) {
+        log.info("WorkspaceInternalGrpcService :: activateWorkspace :: Activating workspaces of user :: {}", request.userId());
+        reply(responseObserver, () -> {
+            if (request.userId() == null) {
+                throw new BadRequestException("User ID is required");
+            }
+            return workspaceService.activateWorkspace(request.userId());
+        });
+    }
+
+    // Collects the tasks of every chunk and imports the roadmap in one transaction once the caller is done sending
+    private StreamObserver<RoadmapChunk> importRoadmap(StreamObserver<ApiResponse> responseObserver) {
+        return new StreamObserver<>() {
+            private UUID userId;
+            private final AssignmentRoadmapRequest request = AssignmentRoadmapRequest.builder().tasks(new ArrayList<>()).build();
+            private int chunks;
+            private boolean rejected;
+
+            @Override
+            public void onNext(RoadmapChunk chunk) {
+                if (rejected) {
+                    return;
+                }
+                int tasks = chunk.tasks() != null ? chunk.tasks().size() : 0;
+                if (request.getTasks().size() + tasks > MAX_ROADMAP_TASKS) {
+                    log.warn("WorkspaceInternalGrpcService :: importRoadmap :: Roadmap upload over {} tasks refused after {} chunks",
+                            MAX_ROADMAP_TASKS, chunks);
+                    rejected = true;
+                    request.getTasks().clear();
+                    responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                            .withDescription("A roadmap can have at most " + MAX_ROADMAP_TASKS + " tasks").asRuntimeException());
+                    return;
+                }
+                if (chunks++ == 0) {
+                    userId = chunk.userId();
+                    request.setTitle(chunk.title());
+                    request.setDescription(chunk.description());
+                }
+                if (chunk.tasks() != null) {
+                    request.getTasks().addAll(chunk.tasks());
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("WorkspaceInternalGrpcService :: importRoadmap :: Roadmap upload aborted after {} chunks :: {}", chunks, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (rejected) {
+                    return;
+                }
+                log.info("WorkspaceInternalGrpcService :: importRoadmap :: Importing roadmap of {} tasks in {} chunks for user :: {}",
+                        request.getTasks().size(), chunks, userId);
+                reply(responseObserver, () -> {
+                    if (userId == null || request.getTitle() == null) {
+                        throw new BadRequestException("The first roadmap chunk must carry the user ID and the title");
+                    }
+                    return roadmapService.addRoadmapAssignmentToWorkspace(request, userId);
+                });
+            }
+        };
+    }
+
+    private void getAssignmentProgress(AssignmentProgressRequest request, StreamObserver<AssignmentProgressReply> responseObserver) {
+        log.info("WorkspaceInternalGrpcService :: getAssignmentProgress :: Fetching progress of {} assignments",
+                request.assignmentIds() != null ? request.assignmentIds().size() : 0);
+        reply(responseObserver, () -> {
+            if (request.assignmentIds() == null || request.assignmentIds().isEmpty() || request.assignmentIds().size() > MAX_BATCH_GET_IDS) {
+                throw new BadRequestException("Between 1 and " + MAX_BATCH_GET_IDS + " assignment IDs are required");
+            }
+            return new AssignmentProgressReply(assignmentService.getAssignmentProgress(request.assignmentIds()));
+        });
+    }
+
+    // One message per task, read a page at a time and only sent while the caller keeps up: the transport calls
+    // the ready handler again once its buffer drains, so a slow caller holds at most a page in memory
+    private void exportTasks(ExportTasksRequest request, StreamObserver<TaskResponse> responseObserver) {
+        log.info("WorkspaceInternalGrpcService :: exportTasks :: Exporting tasks of workspace :: {}", request.workspaceId());
+        ServerCallStreamObserver<TaskResponse> call = (ServerCallStreamObserver<TaskResponse>) responseObserver;
+        if (request.workspaceId() == null) {
+            call.onError(toStatus(new BadRequestException("Workspace ID is required"), "exportTasks"));
+            return;
+        }
+        TaskExport export = new TaskExport(request.workspaceId(), call);
+        call.setOnCancelHandler(() -> log.info("WorkspaceInternalGrpcService :: exportTasks :: Export of workspace {} cancelled after {} tasks",
+                request.workspaceId(), export.exported));
+        call.setOnReadyHandler(export::drain);
+    }
+
+    /** The cursor of one export: the last task id sent and the rest of the page read after it. */
+    private final class TaskExport {
+
+        private final UUID workspaceId;
+        private final ServerCallStreamObserver<TaskResponse> call;
+        private final Deque<TaskResponse> page = new ArrayDeque<>();
+        private UUID afterId = new UUID(0L, 0L);
+        private boolean lastPage;
+        private boolean done;
+        private long exported;
+
+        TaskExport(UUID workspaceId, ServerCallStreamObserver<TaskResponse> call) {
+            this.workspaceId = workspaceId;
+            this.call = call;
+        }
+
+        synchronized void drain() {
+            try {
+                while (!done && call.isReady() && !call.isCancelled()) {
+                    if (page.isEmpty()) {
+                        if (lastPage) {
+                            done = true;
+                            call.onCompleted();
+                            log.info("WorkspaceInternalGrpcService :: exportTasks :: Exported {} tasks of workspace {}", exported, workspaceId);
+                            return;
+                        }
+                        List<TaskResponse> next = taskService.exportTasksByWorkspaceId(workspaceId, afterId, EXPORT_PAGE_SIZE);
+                        lastPage = next.size() < EXPORT_PAGE_SIZE;
+                        if (!next.isEmpty()) {
+                            afterId = next.get(next.size() - 1).getId();
+                        }
+                        page.addAll(next);
+                        continue;
+                    }
+                    call.onNext(page.poll());
+                    exported++;
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                if (!call.isCancelled()) {
+                    call.onError(toStatus(e, "exportTasks"));
+                }
+            }
+        }
+    }
+
+    private static <T> void reply(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e, "reply"));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException e, String method) {
+        if (e instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (e instanceof BadRequestException || e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("WorkspaceInternalGrpcService :: {} :: Call failed :: {}", method, e.getMessage(), e);
+        return Status.INTERNAL.withDescription("Internal error").withCause(e).asRuntimeException();
+    }
+}
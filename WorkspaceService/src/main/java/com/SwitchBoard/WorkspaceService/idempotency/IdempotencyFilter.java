@@ -0,0 +1,259 @@
+package com.SwitchBoard.WorkspaceService.idempotency;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.entity.IdempotencyRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs a mutating request carrying an {@code Idempotency-Key} header at most once per caller and key. The first
+ * attempt claims the key in the {@link IdempotencyStore} and, if it succeeds, its response is stored; a retry with
+ * the same key and the same request gets the stored response, marked {@code Idempotent-Replayed}, without running
+ * again. A retry while the first attempt is still running gets 409, the same key on a different request 422.
+ * A failed attempt releases its key, so it can be retried.
+ * <p>
+ * The caller is the gateway's {@code X-User-Id}, which a keyed request must carry, and the request fingerprint covers
+ * the method, path, query, {@code Accept} header and body. A keyed request body over
+ * {@code idempotency.max-body-size} is refused with 413 before it is read in full. Requests without the
+ * {@code Idempotency-Key} header are not affected.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // Creation and bulk endpoints whose retries would duplicate assignments and tasks
+    private static final List<PathPattern> IDEMPOTENT_POSTS = Stream.of(
+                    "/api/v1/assignments",
+                    "/api/v1/assignments/{id}/tasks",
+                    "/api/v1/assignments/{id}/assign-users",
+                    "/api/roadmap/add-assignment")
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.max-body-size:1MB}")
+    private DataSize maxBodySize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return IDEMPOTENT_POSTS.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "BAD_REQUEST",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId == null || userId.isBlank()) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "BAD_REQUEST",
+                    "X-User-Id is required with an Idempotency-Key");
+            return;
+        }
+        int maxBytes = Math.toIntExact(maxBodySize.toBytes());
+        byte[] body = request.getContentLengthLong() > maxBytes ? null : request.getInputStream().readNBytes(maxBytes + 1);
+        if (body == null || body.length > maxBytes) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                    "Requests with an Idempotency-Key can have a body of at most " + maxBodySize.toKilobytes() + " KB");
+            return;
+        }
+        String id = sha256(userId, key);
+        String fingerprint = sha256(body, request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                request.getHeader(HttpHeaders.ACCEPT));
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim(id, fingerprint);
+        if (!claim.isHeld()) {
+            replay(claim.holder(), fingerprint, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+            if (HttpStatus.valueOf(cachingResponse.getStatus()).is2xxSuccessful()) {
+                stored = store(claim, cachingResponse, request);
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(claim);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    // The request already succeeded; failing to store its response only costs the dedupe of its retries
+    private boolean store(IdempotencyStore.Claim claim, ContentCachingResponseWrapper response, HttpServletRequest request) {
+        try {
+            if (!idempotencyStore.complete(claim, response.getStatus(), response.getContentType(), response.getContentAsByteArray())) {
+                log.warn("IdempotencyFilter :: store :: Idempotency-Key lock timed out before {} completed, response not stored",
+                        request.getRequestURI());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("IdempotencyFilter :: store :: Could not store response for {} :: {}", request.getRequestURI(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void replay(IdempotencyRecord record, String fingerprint, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            log.warn("IdempotencyFilter :: replay :: Idempotency-Key reused for a different request at {}", request.getRequestURI());
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key was already used for a different request");
+            return;
+        }
+        if (record.getResponseStatus() == null) {
+            log.info("IdempotencyFilter :: replay :: Request with this Idempotency-Key still running at {}", request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+            return;
+        }
+        log.info("IdempotencyFilter :: replay :: Returning stored response for {}", request.getRequestURI());
+        byte[] body = idempotencyStore.responseBody(record);
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getResponseContentType() != null) {
+            response.setContentType(record.getResponseContentType());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String errorCode,
+                            String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, errorCode, request.getRequestURI()));
+    }
+
+    private static String sha256(String... parts) {
+        return sha256(null, parts);
+    }
+
+    // The body, if any, is hashed as is after the text parts
+    private static String sha256(byte[] body, String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                if (part != null) {
+                    digest.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0);
+            }
+            if (body != null) {
+                digest.update(body);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** The request with its body already read, so it can be both fingerprinted and handled. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
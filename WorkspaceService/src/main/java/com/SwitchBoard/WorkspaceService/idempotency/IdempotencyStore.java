@@ -0,0 +1,123 @@
+package com.SwitchBoard.WorkspaceService.idempotency;
+
+import com.SwitchBoard.WorkspaceService.entity.IdempotencyRecord;
+import com.SwitchBoard.WorkspaceService.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Idempotency records in the database, shared by every instance. A key is claimed with a short lock, so an
+ * attempt that dies with its instance frees the key after {@code idempotency.lock-timeout}; a completed record
+ * is kept for {@code idempotency.ttl} and then purged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${idempotency.lock-timeout:PT5M}")
+    private Duration lockTimeout;
+
+    /**
+     * Claims {@code id} for a first attempt.
+     *
+     * @return the claim, held by the caller unless a live record already holds the key
+     */
+    public Claim claim(String id, String fingerprint) {
+        return transactionTemplate.execute(status -> {
+            // Stored to the microsecond, so the claim can be matched on it when completed or released
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            idempotencyRecordRepository.deleteIfExpired(id, now);
+            for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+                if (idempotencyRecordRepository.insertIfAbsent(id, fingerprint, now, now.plus(lockTimeout)) == 1) {
+                    return new Claim(id, now, null);
+                }
+                Optional<IdempotencyRecord> holder = idempotencyRecordRepository.findById(id);
+                if (holder.isPresent()) {
+                    return new Claim(id, now, holder.get());
+                }
+                // The attempt holding the key failed and released it in between
+            }
+            throw new IllegalStateException("Could not claim idempotency key " + id);
+        });
+    }
+
+    /**
+     * Stores the response of the attempt holding {@code claim}, for retries until the record expires.
+     *
+     * @return false if the claim was lost, its lock having timed out and the key claimed again
+     */
+    public boolean complete(Claim claim, int status, String contentType, byte[] body) {
+        Integer completed = transactionTemplate.execute(tx -> idempotencyRecordRepository.complete(
+                claim.id(), claim.claimedAt(), status, contentType, deflate(body), Instant.now().plus(ttl)));
+        return completed != null && completed == 1;
+    }
+
+    /** Frees the key of {@code claim} after a failed attempt, so a retry runs the request again; a lost claim is left alone. */
+    public void release(Claim claim) {
+        transactionTemplate.executeWithoutResult(tx -> idempotencyRecordRepository.release(claim.id(), claim.claimedAt()));
+    }
+
+    public byte[] responseBody(IdempotencyRecord record) {
+        if (record.getResponseBody() == null) {
+            return new byte[0];
+        }
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(record.getResponseBody()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(Instant.now()));
+        if (purged != null && purged > 0) {
+            log.info("IdempotencyStore :: purgeExpired :: Purged {} expired idempotency records", purged);
+        }
+    }
+
+    /**
+     * An attempt's claim on a key. {@code holder} is the live record of an earlier attempt when that one holds
+     * the key instead.
+     */
+    public record Claim(String id, Instant claimedAt, IdempotencyRecord holder) {
+
+        public boolean isHeld() {
+            return holder == null;
+        }
+    }
+
+    private static byte[] deflate(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, body.length / 4));
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package com.SwitchBoard.WorkspaceService.inbox;
+
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reports every committed insert, update and delete of a task or task assignment to the
+ * {@link UserTaskViewProjector}. Hibernate raises these events only once the transaction has committed, so
+ * rolled back writes never reach the view; bulk JPQL statements raise none and are reported by their callers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserTaskViewEventListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserTaskViewProjector userTaskViewProjector;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.info("UserTaskViewEventListener :: register :: Listening for committed task changes");
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return entityClass == Task.class || entityClass == TaskAssignment.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        taskChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        taskChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        taskChanged(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void taskChanged(Object entity) {
+        UUID taskId = null;
+        if (entity instanceof Task task) {
+            taskId = task.getId();
+        } else if (entity instanceof TaskAssignment assignment && assignment.getTask() != null) {
+            taskId = assignment.getTask().getId(); // Reading the id does not initialize a lazy task
+        }
+        if (taskId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userTaskViewProjector.enqueue(List.of(taskId));
+            return;
+        }
+        // Hibernate raises these while Spring commits; gather the transaction's tasks and queue them as one batch
+        @SuppressWarnings("unchecked")
+        Set<UUID> committedTaskIds = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (committedTaskIds == null) {
+            Set<UUID> taskIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, taskIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UserTaskViewEventListener.this);
+                    userTaskViewProjector.enqueue(taskIds);
+                }
+            });
+            committedTaskIds = taskIds;
+        }
+        committedTaskIds.add(taskId);
+    }
+}
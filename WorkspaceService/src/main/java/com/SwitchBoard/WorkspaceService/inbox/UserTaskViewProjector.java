@@ -0,0 +1,193 @@
+package com.SwitchBoard.WorkspaceService.inbox;
+
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.UserTaskView;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.UserTaskViewRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps the {@link UserTaskView} read model in step with tasks and task assignments.
+ * <p>
+ * Changed tasks are reported after their transaction commits, mostly by {@link UserTaskViewEventListener}, and
+ * queued; a single background thread re-projects them in batches, replacing every row of a batch's tasks from
+ * two queries. A task changed many times before its turn is projected once. The view therefore trails the
+ * tables by the length of the queue, and a batch that fails stays stale until its tasks change again or
+ * {@link #rebuild()} runs.
+ * <p>
+ * Each instance projects the writes it commits; run a rebuild after writes that bypassed the application.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserTaskViewProjector {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final UserTaskViewRepository userTaskViewRepository;
+    private final TransactionUtils transactionUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor userTaskViewExecutor;
+
+    // Guarded by this
+    private final Set<UUID> pendingTaskIds = new LinkedHashSet<>();
+    private boolean draining;
+
+    // Serializes batch projections with rebuilds so they never replace the same rows at once
+    private final Object projectionLock = new Object();
+
+    /**
+     * Reports tasks whose rows changed through a path Hibernate raises no events for, such as a bulk JPQL
+     * statement; they are queued once the current transaction commits.
+     */
+    public void tasksChanged(Collection<UUID> taskIds) {
+        List<UUID> changed = List.copyOf(taskIds);
+        transactionUtils.runAfterCommit(() -> enqueue(changed));
+    }
+
+    /** Queues committed changes to be projected. */
+    void enqueue(Collection<UUID> taskIds) {
+        synchronized (this) {
+            pendingTaskIds.addAll(taskIds);
+            if (draining || pendingTaskIds.isEmpty()) {
+                return;
+            }
+            draining = true;
+        }
+        userTaskViewExecutor.execute(this::drain);
+    }
+
+    /** Waits until every queued change is projected; returns false on timeout. */
+    public synchronized boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (draining) {
+            long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            wait(remainingMillis);
+        }
+        return true;
+    }
+
+    /** Re-projects every task and drops rows of tasks that are gone. Returns the number of tasks projected. */
+    public int rebuild() {
+        log.info("UserTaskViewProjector :: rebuild :: Rebuilding user task view");
+        int projected = 0;
+        UUID afterId = new UUID(0L, 0L);
+        while (true) {
+            UUID after = afterId;
+            List<UUID> taskIds = transactionTemplate.execute(status ->
+                    taskRepository.findIdsAfter(after, PageRequest.of(0, BATCH_SIZE)));
+            if (taskIds == null || taskIds.isEmpty()) {
+                break;
+            }
+            project(taskIds);
+            projected += taskIds.size();
+            afterId = taskIds.get(taskIds.size() - 1);
+        }
+        Integer orphans = transactionTemplate.execute(status -> userTaskViewRepository.deleteOrphans());
+        log.info("UserTaskViewProjector :: rebuild :: Rebuilt user task view :: {} tasks projected, {} orphan rows removed",
+                projected, orphans);
+        return projected;
+    }
+
+    private void drain() {
+        while (true) {
+            List<UUID> batch = new ArrayList<>(BATCH_SIZE);
+            synchronized (this) {
+                Iterator<UUID> pending = pendingTaskIds.iterator();
+                while (pending.hasNext() && batch.size() < BATCH_SIZE) {
+                    batch.add(pending.next());
+                    pending.remove();
+                }
+                if (batch.isEmpty()) {
+                    draining = false;
+                    notifyAll();
+                    return;
+                }
+            }
+            try {
+                project(batch);
+            } catch (RuntimeException e) {
+                log.error("UserTaskViewProjector :: drain :: Failed to project {} tasks, they stay stale until changed again or rebuilt :: {}",
+                        batch.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void project(List<UUID> taskIds) {
+        synchronized (projectionLock) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<UserTaskView.Key, UserTaskView> rows = new LinkedHashMap<>();
+                Map<UUID, UUID> workspaceByTask = new LinkedHashMap<>();
+                Map<UUID, Task> tasks = new LinkedHashMap<>();
+                for (Object[] row : taskRepository.findWithWorkspaceIdByIdIn(taskIds)) {
+                    Task task = (Task) row[0];
+                    tasks.put(task.getId(), task);
+                    if (row[1] != null) {
+                        workspaceByTask.put(task.getId(), (UUID) row[1]);
+                    }
+                    if (task.getAssigneeUserId() != null) {
+                        UserTaskView view = newRow(task, task.getAssigneeUserId(), workspaceByTask.get(task.getId()));
+                        view.setAssignee(true);
+                        view.setCompletedAt(task.getStatusKey() == TaskStatus.COMPLETED ? task.getCompletedAt() : null);
+                        rows.put(new UserTaskView.Key(view.getUserId(), view.getTaskId()), view);
+                    }
+                }
+                for (TaskAssignment assignment : taskAssignmentRepository.findByTaskIdIn(tasks.keySet())) {
+                    Task task = tasks.get(assignment.getTask().getId());
+                    UserTaskView view = rows.computeIfAbsent(new UserTaskView.Key(assignment.getAssignedUserId(), task.getId()),
+                            key -> newRow(task, key.getUserId(), workspaceByTask.get(task.getId())));
+                    view.setTaskAssignmentId(assignment.getId());
+                    view.setMyStatus(assignment.getStatus());
+                    view.setRewardPointsEarned(assignment.getRewardPointsEarned());
+                    view.setCompletedAt(assignment.getCompletedAt());
+                }
+
+                userTaskViewRepository.deleteByTaskIdIn(taskIds);
+                userTaskViewRepository.saveAll(rows.values());
+            });
+        }
+    }
+
+    private static UserTaskView newRow(Task task, UUID userId, UUID workspaceId) {
+        return UserTaskView.builder()
+                .userId(userId)
+                .taskId(task.getId())
+                .deadline(task.getDeadline())
+                .assignmentId(task.getAssignmentId())
+                .workspaceId(workspaceId)
+                .title(task.getTitle())
+                .topic(task.getTopic())
+                .statusKey(task.getStatusKey())
+                .priority(task.getPriority())
+                .rewardPoints(task.getRewardPoints())
+                .estimatedHours(task.getEstimatedHours())
+                .titleColor(task.getTitleColor())
+                .taskUpdatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
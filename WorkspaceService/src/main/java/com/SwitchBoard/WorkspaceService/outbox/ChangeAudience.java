@@ -0,0 +1,8 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import java.util.Set;
+import java.util.UUID;
+
+/** Who hears about a change: every user with access to one of {@code workspaceIds}, and {@code userIds} themselves. */
+public record ChangeAudience(Set<UUID> workspaceIds, Set<UUID> userIds) {
+}
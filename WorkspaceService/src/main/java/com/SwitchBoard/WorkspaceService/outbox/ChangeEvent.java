@@ -0,0 +1,30 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import com.SwitchBoard.WorkspaceService.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A committed change to a task, task assignment, assignment, workspace or workspace access, as published by the
+ * {@link OutboxRelay}. Subscribers in this service listen for it as an application event. A delete is its
+ * tombstone: it carries only the type and id of what is gone.
+ *
+ * @param offset           position in the outbox, increasing in commit order without gaps
+ * @param aggregateType    entity name, such as {@code Task}
+ * @param aggregateVersion the aggregate's version after the change
+ * @param changedFields    properties an update changed; empty for creates and deletes
+ */
+public record ChangeEvent(long offset, String aggregateType, UUID aggregateId, ChangeType changeType,
+                          Long aggregateVersion, List<String> changedFields, Instant occurredAt) {
+
+    public static ChangeEvent of(OutboxEvent event) {
+        List<String> changedFields = event.getChangedFields() != null
+                ? Arrays.asList(event.getChangedFields().split(","))
+                : List.of();
+        return new ChangeEvent(event.getId(), event.getAggregateType(), event.getAggregateId(), event.getChangeType(),
+                event.getAggregateVersion(), changedFields, event.getOccurredAt());
+    }
+}
@@ -0,0 +1,5 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,28 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Transport that keeps what it is sent, standing in for a message broker when {@code outbox.transport=in-memory}. */
+@Component
+@ConditionalOnProperty(name = "outbox.transport", havingValue = "in-memory")
+public class InMemoryOutboxTransport implements OutboxTransport {
+
+    private final List<ChangeEvent> sent = new ArrayList<>();
+
+    @Override
+    public synchronized void send(List<ChangeEvent> events) {
+        sent.addAll(events);
+    }
+
+    public synchronized List<ChangeEvent> sent() {
+        return List.copyOf(sent);
+    }
+
+    public synchronized void clear() {
+        sent.clear();
+    }
+}
@@ -0,0 +1,315 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import com.SwitchBoard.WorkspaceService.entity.Assignment;
+import com.SwitchBoard.WorkspaceService.entity.BaseEntity;
+import com.SwitchBoard.WorkspaceService.entity.OutboxEvent;
+import com.SwitchBoard.WorkspaceService.entity.OutboxOffset;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes an {@link OutboxEvent} for every insert, update and delete of a tracked aggregate, in the transaction
+ * that made it. Changes are gathered while Hibernate flushes and inserted as one JDBC batch just before the
+ * transaction commits, through a session sharing its connection, so an event exists exactly when its change does.
+ * Their offsets are taken from {@link OutboxOffset} at that point; the counter row stays locked until the
+ * transaction ends, so one transaction's offsets all come after those of every transaction committed before it.
+ * An update that sets {@code deletedAt} is reported as a delete too. Bulk JPQL statements bypass Hibernate's
+ * events; their callers record them through {@link OutboxRecorder}.
+ * <p>
+ * Each event is stored with its {@link ChangeAudience}, taken from the aggregate's state before and after the
+ * change, and completed with at most two queries per transaction: tasks to their assignment and assigned users,
+ * and assignments to their workspace. Rows deleted in the transaction are covered by what their own events
+ * recorded.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Properties of each aggregate naming who its changes concern: a workspace, an assignment or task resolved to
+    // one, and a user; null where the aggregate has none
+    private static final Map<Class<?>, AudienceProperties> AUDIENCE_PROPERTIES = Map.of(
+            Task.class, new AudienceProperties(null, "assignmentId", null, "assigneeUserId"),
+            TaskAssignment.class, new AudienceProperties(null, null, "task", "assignedUserId"),
+            Assignment.class, new AudienceProperties("workspaceId", null, null, null),
+            Workspace.class, new AudienceProperties(null, null, null, "ownerUserId"),
+            WorkspaceAccess.class, new AudienceProperties("workspace", null, null, "userId"));
+
+    private static final int AUDIENCE_QUERY_CHUNK_SIZE = 500;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<SharedSessionContractImplementor, PendingEvents> pendingBySession = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        log.info("OutboxEventListener :: register :: Recording changes of {} aggregate types", AUDIENCE_PROPERTIES.size());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getPersister(), event.getEntity(), ChangeType.CREATED, List.of(),
+                event.getState(), null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!AUDIENCE_PROPERTIES.containsKey(event.getPersister().getMappedClass())) {
+            return;
+        }
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        List<String> changedFields = new ArrayList<>();
+        if (event.getDirtyProperties() != null) {
+            for (int index : event.getDirtyProperties()) {
+                changedFields.add(propertyNames[index]);
+            }
+        }
+        boolean softDeleted = changedFields.contains("deletedAt") && ((BaseEntity) event.getEntity()).getDeletedAt() != null;
+        record(event.getSession(), event.getPersister(), event.getEntity(), softDeleted ? ChangeType.DELETED : ChangeType.UPDATED,
+                softDeleted ? List.of() : changedFields, event.getState(), event.getOldState());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getPersister(), event.getEntity(), ChangeType.DELETED, List.of(),
+                event.getDeletedState(), null);
+    }
+
+    /**
+     * Adds events for changes Hibernate raised no events for, with their audience already set; they are written
+     * with the transaction's others.
+     */
+    void record(EventSource session, List<OutboxEvent> events) {
+        PendingEvents pending = pendingOf(session);
+        events.forEach(event -> pending.events.add(new PendingEvent(event, new HashSet<>(), new HashSet<>())));
+    }
+
+    private void record(EventSource session, EntityPersister persister, Object entity, ChangeType changeType,
+                        List<String> changedFields, Object[] state, Object[] oldState) {
+        AudienceProperties properties = AUDIENCE_PROPERTIES.get(entity.getClass());
+        if (properties == null || !(entity instanceof BaseEntity aggregate)) {
+            return;
+        }
+        PendingEvent pending = new PendingEvent(OutboxEvent.builder()
+                .aggregateType(entity.getClass().getSimpleName())
+                .aggregateId(aggregate.getId())
+                .changeType(changeType)
+                .aggregateVersion(aggregate.getVersion())
+                .changedFields(changedFields.isEmpty() ? null : String.join(",", changedFields))
+                .occurredAt(Instant.now())
+                .build(), new HashSet<>(), new HashSet<>());
+        for (Object[] values : oldState == null ? new Object[][]{state} : new Object[][]{state, oldState}) {
+            addIdOf(pending.event().getAudienceWorkspaceIds(), persister, values, properties.workspace());
+            addIdOf(pending.assignmentIds(), persister, values, properties.assignment());
+            addIdOf(pending.taskIds(), persister, values, properties.task());
+            addIdOf(pending.event().getAudienceUserIds(), persister, values, properties.user());
+        }
+        // A workspace concerns its own users, a task its assigned users too, and an assignment added through its
+        // workspace's collection has no workspace in its state yet
+        if (entity instanceof Workspace) {
+            pending.event().getAudienceWorkspaceIds().add(aggregate.getId());
+        } else if (entity instanceof Task) {
+            pending.taskIds().add(aggregate.getId());
+        } else if (entity instanceof Assignment && pending.event().getAudienceWorkspaceIds().isEmpty()) {
+            pending.assignmentIds().add(aggregate.getId());
+        }
+        pendingOf(session).events.add(pending);
+    }
+
+    private PendingEvents pendingOf(EventSource session) {
+        return pendingBySession.computeIfAbsent(session, key -> {
+            PendingEvents events = new PendingEvents();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) events);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) events);
+            return events;
+        });
+    }
+
+    private static void addIdOf(Set<UUID> ids, EntityPersister persister, Object[] values, String property) {
+        if (property == null || values == null) {
+            return;
+        }
+        Object value = values[persister.getPropertyIndex(property)];
+        LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(value);
+        if (lazyInitializer != null) {
+            value = lazyInitializer.getIdentifier();
+        } else if (value instanceof BaseEntity entity) {
+            value = entity.getId();
+        }
+        if (value instanceof UUID id) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Completes the audiences from the rows as this transaction left them: tasks to their assignment and assigned
+     * users, then assignments to their workspace. Rows deleted in the transaction are gone, so what the events of
+     * the transaction recorded for them stands in.
+     */
+    private static void resolveAudiences(Session session, List<PendingEvent> events) {
+        Map<UUID, Set<UUID>> assignmentsByTask = new HashMap<>();
+        Map<UUID, Set<UUID>> usersByTask = new HashMap<>();
+        Map<UUID, Set<UUID>> workspacesByAssignment = new HashMap<>();
+        Set<UUID> taskIds = new HashSet<>();
+        for (PendingEvent pending : events) {
+            OutboxEvent event = pending.event();
+            switch (event.getAggregateType()) {
+                case "Task" -> assignmentsByTask.computeIfAbsent(event.getAggregateId(), id -> new HashSet<>())
+                        .addAll(pending.assignmentIds());
+                case "TaskAssignment" -> pending.taskIds().forEach(taskId ->
+                        usersByTask.computeIfAbsent(taskId, id -> new HashSet<>()).addAll(event.getAudienceUserIds()));
+                case "Assignment" -> workspacesByAssignment.computeIfAbsent(event.getAggregateId(), id -> new HashSet<>())
+                        .addAll(event.getAudienceWorkspaceIds());
+                default -> {
+                }
+            }
+            taskIds.addAll(pending.taskIds());
+        }
+
+        for (Object[] row : findByIds(session, "SELECT t.id, t.assignmentId, ta.assignedUserId FROM Task t " +
+                "LEFT JOIN TaskAssignment ta ON ta.task = t WHERE t.id IN :ids", taskIds)) {
+            addIfPresent(assignmentsByTask.computeIfAbsent((UUID) row[0], id -> new HashSet<>()), row[1]);
+            addIfPresent(usersByTask.computeIfAbsent((UUID) row[0], id -> new HashSet<>()), row[2]);
+        }
+        Set<UUID> assignmentIds = new HashSet<>();
+        for (PendingEvent pending : events) {
+            pending.taskIds().forEach(taskId -> pending.assignmentIds().addAll(assignmentsByTask.getOrDefault(taskId, Set.of())));
+            if (pending.event().getAggregateType().equals("Task")) {
+                pending.event().getAudienceUserIds().addAll(usersByTask.getOrDefault(pending.event().getAggregateId(), Set.of()));
+            }
+            assignmentIds.addAll(pending.assignmentIds());
+        }
+
+        assignmentIds.removeIf(assignmentId -> !workspacesByAssignment.getOrDefault(assignmentId, Set.of()).isEmpty());
+        for (Object[] row : findByIds(session, "SELECT a.id, a.workspaceId FROM Assignment a WHERE a.id IN :ids", assignmentIds)) {
+            addIfPresent(workspacesByAssignment.computeIfAbsent((UUID) row[0], id -> new HashSet<>()), row[1]);
+        }
+        for (PendingEvent pending : events) {
+            pending.assignmentIds().forEach(assignmentId -> pending.event().getAudienceWorkspaceIds()
+                    .addAll(workspacesByAssignment.getOrDefault(assignmentId, Set.of())));
+        }
+    }
+
+    private static List<Object[]> findByIds(Session session, String query, Set<UUID> ids) {
+        List<Object[]> rows = new ArrayList<>();
+        List<UUID> idList = List.copyOf(ids);
+        for (int from = 0; from < idList.size(); from += AUDIENCE_QUERY_CHUNK_SIZE) {
+            rows.addAll(session.createQuery(query, Object[].class)
+                    .setParameter("ids", idList.subList(from, Math.min(from + AUDIENCE_QUERY_CHUNK_SIZE, idList.size())))
+                    .getResultList());
+        }
+        return rows;
+    }
+
+    private static void addIfPresent(Collection<UUID> ids, Object id) {
+        if (id != null) {
+            ids.add((UUID) id);
+        }
+    }
+
+    /**
+     * Takes the next {@code count} offsets and returns the last of them. The first write ever creates the counter,
+     * starting after any events already stored.
+     */
+    private static long takeOffsets(Session session, int count) {
+        String increment = "UPDATE outbox_offset SET last_offset = last_offset + :count WHERE id = :id";
+        if (session.createNativeMutationQuery(increment)
+                .setParameter("count", count).setParameter("id", OutboxOffset.ID).executeUpdate() == 0) {
+            session.createNativeMutationQuery("INSERT INTO outbox_offset (id, last_offset) " +
+                            "SELECT :id, COALESCE(MAX(id), 0) FROM outbox_event ON CONFLICT DO NOTHING")
+                    .setParameter("id", OutboxOffset.ID).executeUpdate();
+            session.createNativeMutationQuery(increment)
+                    .setParameter("count", count).setParameter("id", OutboxOffset.ID).executeUpdate();
+        }
+        return session.createNativeQuery("SELECT last_offset FROM outbox_offset WHERE id = :id", Long.class)
+                .setParameter("id", OutboxOffset.ID).getSingleResult();
+    }
+
+    private record AudienceProperties(String workspace, String assignment, String task, String user) {
+    }
+
+    /** An event with the assignments and tasks its audience is still to be resolved from. */
+    private record PendingEvent(OutboxEvent event, Set<UUID> assignmentIds, Set<UUID> taskIds) {
+    }
+
+    /** The events of one transaction, written before it commits and forgotten however it ends. */
+    private final class PendingEvents implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final List<PendingEvent> events = new ArrayList<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            pendingBySession.remove(session);
+            if (events.isEmpty()) {
+                return;
+            }
+            try (Session outboxSession = session.sessionWithOptions()
+                    .connection()
+                    .autoClose(false)
+                    .connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION)
+                    .openSession()) {
+                resolveAudiences(outboxSession, events);
+                long offset = takeOffsets(outboxSession, events.size()) - events.size();
+                for (PendingEvent pending : events) {
+                    pending.event().setId(++offset);
+                    outboxSession.persist(pending.event());
+                }
+                outboxSession.flush();
+            }
+            log.debug("OutboxEventListener :: doBeforeTransactionCompletion :: Wrote {} outbox events", events.size());
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingBySession.remove(session);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import com.SwitchBoard.WorkspaceService.entity.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.EventSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records changes made by bulk statements, which {@link OutboxEventListener} never sees, in the caller's
+ * transaction. They are written and take their offsets together with the transaction's other events. Callers
+ * read the audience of the rows before the statement changes them.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    private final OutboxEventListener outboxEventListener;
+    private final EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Class<?> aggregateType, Map<UUID, ChangeAudience> audiences) {
+        Instant now = Instant.now();
+        outboxEventListener.record(entityManager.unwrap(EventSource.class), audiences.entrySet().stream()
+                .map(entry -> OutboxEvent.builder()
+                        .aggregateType(aggregateType.getSimpleName())
+                        .aggregateId(entry.getKey())
+                        .changeType(ChangeType.DELETED)
+                        .occurredAt(now)
+                        .audienceWorkspaceIds(new HashSet<>(entry.getValue().workspaceIds()))
+                        .audienceUserIds(new HashSet<>(entry.getValue().userIds()))
+                        .build())
+                .toList());
+    }
+}
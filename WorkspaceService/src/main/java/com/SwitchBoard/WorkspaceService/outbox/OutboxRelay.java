@@ -0,0 +1,113 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import com.SwitchBoard.WorkspaceService.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes outbox events written by {@link OutboxEventListener}: each batch goes to every {@link OutboxTransport}
+ * and is then marked published, after which its events are raised one by one as {@link ChangeEvent} application
+ * events for subscribers in this service.
+ * <p>
+ * Events are published in offset order by one thread. Offsets are taken in commit order without gaps, so
+ * events are published in the order their changes committed, and nothing ever commits below an offset already
+ * published. Transports get every event at least once, in-process subscribers at most once and can
+ * {@link #replay} what they missed.
+ * <p>
+ * Run the relay on one instance only, with {@code outbox.relay-enabled} off elsewhere. The change stream does
+ * not go through it: every instance tails the outbox for its own connections.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<OutboxTransport> transports;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.retention:P7D}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval:PT1S}")
+    public void scheduledRelay() {
+        if (relayEnabled) {
+            relayPending();
+        }
+    }
+
+    /** Publishes every unpublished event, a batch at a time; returns how many were published. */
+    public synchronized int relayPending() {
+        int published = 0;
+        List<ChangeEvent> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<ChangeEvent> events = outboxEventRepository.findUnpublished(PageRequest.ofSize(batchSize)).stream()
+                        .map(ChangeEvent::of)
+                        .toList();
+                if (!events.isEmpty()) {
+                    transports.orderedStream().forEach(transport -> transport.send(events));
+                    outboxEventRepository.markPublished(events.stream().map(ChangeEvent::offset).toList(), Instant.now());
+                }
+                return events;
+            });
+            batch.forEach(this::publishInProcess);
+            published += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (published > 0) {
+            log.debug("OutboxRelay :: relayPending :: Published {} change events", published);
+        }
+        return published;
+    }
+
+    /** Up to {@code limit} events from {@code fromOffset} on, published or not, in offset order. */
+    public List<ChangeEvent> replay(long fromOffset, int limit) {
+        return outboxEventRepository.findFromOffset(fromOffset, PageRequest.ofSize(limit)).stream()
+                .map(ChangeEvent::of)
+                .toList();
+    }
+
+    /** Deletes events published longer than {@code outbox.retention} ago; they can no longer be replayed. */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        if (!relayEnabled) {
+            return;
+        }
+        Instant publishedBefore = Instant.now().minus(retention);
+        Integer purged = transactionTemplate.execute(status -> {
+            outboxEventRepository.deleteAudienceWorkspacesPublishedBefore(publishedBefore);
+            outboxEventRepository.deleteAudienceUsersPublishedBefore(publishedBefore);
+            return outboxEventRepository.deletePublishedBefore(publishedBefore);
+        });
+        if (purged != null && purged > 0) {
+            log.info("OutboxRelay :: purgePublished :: Purged {} published change events", purged);
+        }
+    }
+
+    private void publishInProcess(ChangeEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("OutboxRelay :: publishInProcess :: Subscriber failed on change event :: {}", event.offset(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import java.util.List;
+
+/**
+ * Carries relayed change events to other services. Every bean of this type receives each batch, in offset order;
+ * a batch is retried until every transport accepts it, so delivery is at least once.
+ */
+public interface OutboxTransport {
+
+    void send(List<ChangeEvent> events);
+}
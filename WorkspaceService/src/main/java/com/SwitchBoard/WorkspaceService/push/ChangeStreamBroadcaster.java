@@ -0,0 +1,277 @@
+package com.SwitchBoard.WorkspaceService.push;
+
+import com.SwitchBoard.WorkspaceService.entity.OutboxEvent;
+import com.SwitchBoard.WorkspaceService.outbox.ChangeEvent;
+import com.SwitchBoard.WorkspaceService.repository.OutboxEventRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Pushes committed changes to users over server-sent events. A user hears about every task, task assignment and
+ * assignment in the workspaces they can access, changes to those workspaces, and the tasks and task assignments
+ * they are assigned, including those that just moved away from them.
+ * <p>
+ * Every instance tails the outbox itself, so its connections hear about changes made through any instance,
+ * whether or not it runs the relay. While anyone is connected, one thread reads the events committed since its
+ * last poll every {@code change-stream.poll-interval}, in batches, with the audience stored with each event;
+ * offsets follow commit order without gaps, so nothing is skipped. Events are then offered to a bounded buffer
+ * per connection and written by a small pool, so no connection ever holds up the others: a connection whose
+ * buffer is full is closed, and its client reconnects and refetches what it shows.
+ * <p>
+ * Events carry the change's offset as id, its aggregate type as name and the {@link ChangeEvent} as JSON data;
+ * a deletion is pushed as its tombstone, a {@link ChangeEvent} of type {@code DELETED}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeStreamBroadcaster {
+
+    private static final int DISPATCH_BATCH_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final Executor changeStreamWriterExecutor;
+
+    @Value("${change-stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${change-stream.timeout:PT30M}")
+    private Duration timeout;
+
+    private final Map<UUID, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Connection>> connectionsByWorkspace = new ConcurrentHashMap<>();
+
+    // Offset of the last change streamed, null while nobody is connected; guarded by tailLock
+    private Long lastOffset;
+    private final Object tailLock = new Object();
+
+    /** Opens a stream of the changes {@code userId} can see, starting with the next change committed. */
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(error -> close(connection));
+
+        connection.workspaceIds = Set.copyOf(workspaceRepository.findIdsAccessibleByUser(userId));
+        connectionsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connection.workspaceIds.forEach(workspaceId ->
+                connectionsByWorkspace.computeIfAbsent(workspaceId, id -> ConcurrentHashMap.newKeySet()).add(connection));
+        startTailing();
+        offer(connection, SseEmitter.event().comment("connected").build());
+        log.info("ChangeStreamBroadcaster :: subscribe :: User {} connected, watching {} workspaces",
+                userId, connection.workspaceIds.size());
+        return emitter;
+    }
+
+    public int connectionCount() {
+        return connectionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /** Streams the changes committed since the last poll; stops tailing the outbox while nobody is connected. */
+    @Scheduled(fixedDelayString = "${change-stream.poll-interval:PT1S}")
+    public void pollOutbox() {
+        synchronized (tailLock) {
+            if (connectionsByUser.isEmpty()) {
+                lastOffset = null;
+                return;
+            }
+            if (lastOffset == null) {
+                lastOffset = outboxEventRepository.findLastOffset();
+                return;
+            }
+            List<OutboxEvent> batch;
+            do {
+                batch = outboxEventRepository.findFromOffset(lastOffset + 1, PageRequest.ofSize(DISPATCH_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    dispatch(batch);
+                } catch (RuntimeException e) {
+                    log.error("ChangeStreamBroadcaster :: pollOutbox :: Failed to dispatch {} change events", batch.size(), e);
+                }
+                lastOffset = batch.get(batch.size() - 1).getId();
+            } while (batch.size() == DISPATCH_BATCH_SIZE);
+        }
+    }
+
+    /** Keeps idle connections open through proxies that close silent ones. */
+    @Scheduled(fixedDelayString = "${change-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        connectionsByUser.values().forEach(connections ->
+                connections.forEach(connection -> offer(connection, SseEmitter.event().comment("heartbeat").build())));
+    }
+
+    private void startTailing() {
+        synchronized (tailLock) {
+            if (lastOffset == null) {
+                lastOffset = outboxEventRepository.findLastOffset();
+            }
+        }
+    }
+
+    private void dispatch(List<OutboxEvent> batch) {
+        long fromOffset = batch.get(0).getId();
+        long toOffset = batch.get(batch.size() - 1).getId();
+        Map<Long, Set<UUID>> workspaceIdsByOffset = byOffset(outboxEventRepository.findAudienceWorkspaceIds(fromOffset, toOffset));
+        Map<Long, Set<UUID>> userIdsByOffset = byOffset(outboxEventRepository.findAudienceUserIds(fromOffset, toOffset));
+        for (OutboxEvent outboxEvent : batch) {
+            ChangeEvent event = ChangeEvent.of(outboxEvent);
+            Set<UUID> userIds = userIdsByOffset.getOrDefault(event.offset(), Set.of());
+            if (event.aggregateType().equals("Workspace") || event.aggregateType().equals("WorkspaceAccess")) {
+                userIds.forEach(this::refreshWorkspaces);
+            }
+            Set<Connection> recipients = new LinkedHashSet<>();
+            userIds.forEach(userId -> recipients.addAll(connectionsByUser.getOrDefault(userId, Set.of())));
+            workspaceIdsByOffset.getOrDefault(event.offset(), Set.of()).forEach(workspaceId ->
+                    recipients.addAll(connectionsByWorkspace.getOrDefault(workspaceId, Set.of())));
+            if (recipients.isEmpty()) {
+                continue;
+            }
+            // Built once and shared; connections serialize the data as they write it
+            Set<DataWithMediaType> sseEvent = SseEmitter.event()
+                    .id(String.valueOf(event.offset()))
+                    .name(event.aggregateType())
+                    .data(event, MediaType.APPLICATION_JSON)
+                    .build();
+            recipients.forEach(connection -> offer(connection, sseEvent));
+        }
+    }
+
+    private static Map<Long, Set<UUID>> byOffset(List<Object[]> rows) {
+        Map<Long, Set<UUID>> idsByOffset = new HashMap<>();
+        for (Object[] row : rows) {
+            idsByOffset.computeIfAbsent((Long) row[0], offset -> new HashSet<>()).add((UUID) row[1]);
+        }
+        return idsByOffset;
+    }
+
+    /** Re-reads the workspaces a connected user can access after their access or ownership changed. */
+    private void refreshWorkspaces(UUID userId) {
+        Set<Connection> connections = connectionsByUser.get(userId);
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        Set<UUID> workspaceIds = Set.copyOf(workspaceRepository.findIdsAccessibleByUser(userId));
+        for (Connection connection : connections) {
+            Set<UUID> previous = connection.workspaceIds;
+            connection.workspaceIds = workspaceIds;
+            Set<UUID> removed = new HashSet<>(previous);
+            removed.removeAll(workspaceIds);
+            removed.forEach(workspaceId -> removeFrom(connectionsByWorkspace, workspaceId, connection));
+            workspaceIds.forEach(workspaceId ->
+                    connectionsByWorkspace.computeIfAbsent(workspaceId, id -> ConcurrentHashMap.newKeySet()).add(connection));
+        }
+    }
+
+    private void offer(Connection connection, Set<DataWithMediaType> event) {
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            if (connection.buffer.size() >= bufferSize) {
+                log.warn("ChangeStreamBroadcaster :: offer :: Dropping slow connection of user :: {}", connection.userId);
+                connection.closed = true;
+                connection.buffer.clear();
+            } else {
+                connection.buffer.add(event);
+                if (connection.writing) {
+                    return;
+                }
+                connection.writing = true;
+            }
+        }
+        if (connection.closed) {
+            close(connection);
+        } else {
+            changeStreamWriterExecutor.execute(() -> write(connection));
+        }
+    }
+
+    private void write(Connection connection) {
+        while (true) {
+            Set<DataWithMediaType> event;
+            synchronized (connection) {
+                event = connection.buffer.poll();
+                if (event == null || connection.closed) {
+                    connection.writing = false;
+                    return;
+                }
+            }
+            try {
+                connection.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("ChangeStreamBroadcaster :: write :: Connection of user {} is gone :: {}", connection.userId, e.getMessage());
+                synchronized (connection) {
+                    connection.writing = false;
+                }
+                close(connection);
+                return;
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        synchronized (connection) {
+            connection.closed = true;
+            connection.buffer.clear();
+        }
+        unregister(connection);
+        try {
+            connection.emitter.complete();
+        } catch (IllegalStateException e) {
+            // Already completed
+        }
+    }
+
+    private void unregister(Connection connection) {
+        removeFrom(connectionsByUser, connection.userId, connection);
+        connection.workspaceIds.forEach(workspaceId -> removeFrom(connectionsByWorkspace, workspaceId, connection));
+    }
+
+    private static void removeFrom(Map<UUID, Set<Connection>> index, UUID key, Connection connection) {
+        index.computeIfPresent(key, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    private static final class Connection {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private volatile Set<UUID> workspaceIds = Set.of();
+        // Guarded by this
+        private final Deque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+        private boolean writing;
+        private boolean closed;
+
+        private Connection(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -28,4 +30,64 @@ public interface AssignmentRepository extends JpaRepository<Assignment, UUID> {
 //
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignmentId = :assignmentId AND t.statusKey = 'COMPLETED'")
     Long countCompletedTasksByAssignmentId(@Param("assignmentId") UUID assignmentId);
-}
\ No newline at end of file
+
+    // Task statistics for a batch of assignments as [assignmentId, totalTasks, completedTasks] rows
+    @Query("SELECT t.assignmentId, COUNT(t), SUM(CASE WHEN t.statusKey = 'COMPLETED' THEN 1 ELSE 0 END) " +
+           "FROM Task t WHERE t.assignmentId IN :assignmentIds GROUP BY t.assignmentId")
+    List<Object[]> countTaskStatsByAssignmentIds(@Param("assignmentIds") Collection<UUID> assignmentIds);
+
+    // Content search fallback for databases without full-text search: assignments in the user's workspaces
+    // whose title or description contains the lowercase pattern
+    @Query("SELECT a FROM Assignment a " +
+           "WHERE (a.workspaceId IN (SELECT w.id FROM Workspace w WHERE w.ownerUserId = :userId) " +
+           "  OR a.workspaceId IN (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)) " +
+           "AND (LOWER(a.title) LIKE :pattern OR LOWER(a.description) LIKE :pattern)")
+    List<Assignment> findMatchingInAccessibleWorkspaces(@Param("userId") UUID userId, @Param("pattern") String pattern);
+
+    @Query("SELECT COUNT(a) > 0 FROM Assignment a WHERE a.id = :assignmentId " +
+           "AND (a.workspaceId IN (SELECT w.id FROM Workspace w WHERE w.ownerUserId = :userId) " +
+           "  OR a.workspaceId IN (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true))")
+    boolean isAccessibleByUser(@Param("assignmentId") UUID assignmentId, @Param("userId") UUID userId);
+
+    @Query("SELECT a.workspaceId FROM Assignment a WHERE a.id = :assignmentId")
+    Optional<UUID> findWorkspaceIdById(@Param("assignmentId") UUID assignmentId);
+
+    // Typeahead terms of a workspace as [assignmentId, taskTitle, taskTopic] rows, one per task, and one with
+    // null title and topic per assignment without tasks
+    @Query("SELECT a.id, t.title, t.topic FROM Assignment a LEFT JOIN Task t ON t.assignmentId = a.id " +
+           "WHERE a.workspaceId = :workspaceId")
+    List<Object[]> findTypeaheadTermsByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+
+    // Progress of every assignment in the workspaces a user owns or has access to, as
+    // [assignmentId, workspaceId, title, assignmentTypeKey, deadline, totalTasks, completedTasks] rows
+    @Query("SELECT a.id, a.workspaceId, a.title, a.assignmentTypeKey, a.deadline, COUNT(t), " +
+           "SUM(CASE WHEN t.statusKey = 'COMPLETED' THEN 1 ELSE 0 END) " +
+           "FROM Assignment a LEFT JOIN Task t ON t.assignmentId = a.id " +
+           "WHERE a.workspaceId IN (SELECT w.id FROM Workspace w WHERE w.ownerUserId = :userId) " +
+           "   OR a.workspaceId IN (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true) " +
+           "GROUP BY a.id, a.workspaceId, a.title, a.assignmentTypeKey, a.deadline")
+    List<Object[]> findProgressInAccessibleWorkspaces(@Param("userId") UUID userId);
+
+    @Query("SELECT a FROM Assignment a WHERE a.id IN :ids")
+    List<Assignment> findByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a.id FROM Assignment a WHERE a.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Assignments of several workspaces at once, served by idx_assignment_workspace_id
+    @Query("SELECT a FROM Assignment a WHERE a.workspaceId IN :workspaceIds")
+    List<Assignment> findByWorkspaceIdIn(@Param("workspaceIds") Collection<UUID> workspaceIds);
+
+    // Validator of an assignment with its tasks as [version, taskCount, sum of task versions, latest task update];
+    // no row when the assignment does not exist
+    @Query("SELECT a.version, COUNT(t), SUM(t.version), MAX(t.updatedAt) " +
+           "FROM Assignment a LEFT JOIN Task t ON t.assignmentId = a.id WHERE a.id = :assignmentId GROUP BY a.version")
+    List<Object[]> findValidatorById(@Param("assignmentId") UUID assignmentId);
+
+    // Validator of a workspace's assignments and their task counts as [assignmentCount, weighted sum of assignment
+    // versions, latest assignment update, taskCount, sum of task versions, latest task update]. The assignment sums
+    // count each version once per task row, which still moves with every change.
+    @Query("SELECT COUNT(DISTINCT a.id), SUM(a.version), MAX(a.updatedAt), COUNT(t), SUM(t.version), MAX(t.updatedAt) " +
+           "FROM Assignment a LEFT JOIN Task t ON t.assignmentId = a.id WHERE a.workspaceId = :workspaceId")
+    List<Object[]> findValidatorByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+}
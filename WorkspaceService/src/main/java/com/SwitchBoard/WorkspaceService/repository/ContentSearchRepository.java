@@ -0,0 +1,90 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SearchHitResponse;
+import com.SwitchBoard.WorkspaceService.search.FullTextSearchSupport;
+import com.SwitchBoard.WorkspaceService.search.Highlighter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PostgreSQL full-text search over tasks and assignments, on the {@code search_vector} columns created by the
+ * {@code db/migration} scripts and checked by {@link FullTextSearchSupport}. Hits from both tables are ranked together with {@code ts_rank}; the total comes
+ * from a window count on the same query, and {@code ts_headline}, which re-parses the text, only runs on the rows
+ * of the requested page.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentSearchRepository {
+
+    private static final String CONFIG = "'" + FullTextSearchSupport.TEXT_SEARCH_CONFIG + "'";
+
+    private static final String HITS = "WITH query AS (SELECT websearch_to_tsquery(" + CONFIG + ", :query) AS q), " +
+            "scope AS (" +
+            "  SELECT id FROM workspace WHERE owner_user_id = :userId AND deleted_at IS NULL " +
+            "  UNION " +
+            "  SELECT wa.workspace_id FROM workspace_access wa JOIN workspace w ON w.id = wa.workspace_id " +
+            "  WHERE wa.user_id = :userId AND wa.is_active = true AND wa.deleted_at IS NULL AND w.deleted_at IS NULL), " +
+            "hits AS (" +
+            "  SELECT 'TASK' AS hit_type, t.id, t.assignment_id, a.workspace_id, t.title, t.description, " +
+            "         ts_rank(t.search_vector, query.q) AS score " +
+            "  FROM task t JOIN assignment a ON a.id = t.assignment_id, query " +
+            "  WHERE a.workspace_id IN (SELECT id FROM scope) AND t.deleted_at IS NULL AND a.deleted_at IS NULL " +
+            "    AND t.search_vector @@ query.q " +
+            "  UNION ALL " +
+            "  SELECT 'ASSIGNMENT', a.id, a.id, a.workspace_id, a.title, a.description, " +
+            "         ts_rank(a.search_vector, query.q) " +
+            "  FROM assignment a, query " +
+            "  WHERE a.workspace_id IN (SELECT id FROM scope) AND a.deleted_at IS NULL AND a.search_vector @@ query.q) ";
+
+    private static final String PAGE_QUERY = HITS +
+            "SELECT page.hit_type, page.id, page.assignment_id, page.workspace_id, page.score, page.total, " +
+            "       ts_headline(" + CONFIG + ", page.title, query.q, :titleOptions) AS title, " +
+            "       ts_headline(" + CONFIG + ", coalesce(page.description, ''), query.q, :snippetOptions) AS snippet " +
+            "FROM (SELECT hits.*, count(*) OVER () AS total FROM hits ORDER BY score DESC, id LIMIT :limit OFFSET :offset) page, query " +
+            "ORDER BY page.score DESC, page.id";
+
+    private static final String COUNT_QUERY = HITS + "SELECT count(*) FROM hits";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** Titles and snippets carry {@link Highlighter} markers, not HTML. */
+    public Page<SearchHitResponse> search(String query, UUID userId, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("userId", userId)
+                .addValue("titleOptions", Highlighter.FULL_OPTIONS)
+                .addValue("snippetOptions", Highlighter.SNIPPET_OPTIONS)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        long[] total = {0};
+        List<SearchHitResponse> hits = new ArrayList<>(jdbcTemplate.query(PAGE_QUERY, parameters, (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return SearchHitResponse.builder()
+                    .type(SearchHitResponse.HitType.valueOf(rs.getString("hit_type")))
+                    .id(rs.getObject("id", UUID.class))
+                    .assignmentId(rs.getObject("assignment_id", UUID.class))
+                    .workspaceId(rs.getObject("workspace_id", UUID.class))
+                    .score(rs.getDouble("score"))
+                    .title(rs.getString("title"))
+                    .snippet(rs.getString("snippet"))
+                    .build();
+        }));
+
+        if (hits.isEmpty() && pageable.getOffset() > 0) {
+            // Past the last page: the window count had no row to ride on
+            Long count = jdbcTemplate.queryForObject(COUNT_QUERY, parameters, Long.class);
+            total[0] = count == null ? 0 : count;
+        }
+        return new PageImpl<>(hits, pageable, total[0]);
+    }
+}
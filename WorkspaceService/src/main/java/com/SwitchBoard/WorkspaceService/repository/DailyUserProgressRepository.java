@@ -0,0 +1,49 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.DailyUserProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailyUserProgressRepository extends JpaRepository<DailyUserProgress, UUID> {
+
+    List<DailyUserProgress> findByUserIdAndDayBetweenOrderByDay(UUID userId, LocalDate from, LocalDate to);
+
+    // Adds to the counters of an existing rollup row; returns 0 when there is none yet. For databases without upsert
+    @Modifying
+    @Query("UPDATE DailyUserProgress p SET p.tasksStarted = p.tasksStarted + :tasksStarted, " +
+           "p.tasksCompleted = p.tasksCompleted + :tasksCompleted, p.rewardPoints = p.rewardPoints + :rewardPoints, " +
+           "p.hoursCompleted = p.hoursCompleted + :hoursCompleted " +
+           "WHERE p.userId = :userId AND p.day = :day")
+    int increment(@Param("userId") UUID userId, @Param("day") LocalDate day,
+                  @Param("tasksStarted") int tasksStarted, @Param("tasksCompleted") int tasksCompleted,
+                  @Param("rewardPoints") long rewardPoints, @Param("hoursCompleted") double hoursCompleted);
+
+    // Adds to the counters of the rollup row, creating it the first time; one statement, so concurrent first
+    // writes of a day add up instead of one failing on the unique key. PostgreSQL only
+    @Modifying
+    @Query(value = "INSERT INTO daily_user_progress (id, user_id, progress_day, tasks_started, tasks_completed, " +
+                   "reward_points, hours_completed, created_at, updated_at, version) " +
+                   "VALUES (:id, :userId, :day, :tasksStarted, :tasksCompleted, :rewardPoints, :hoursCompleted, :now, :now, 0) " +
+                   "ON CONFLICT (user_id, progress_day) DO UPDATE SET " +
+                   "tasks_started = daily_user_progress.tasks_started + EXCLUDED.tasks_started, " +
+                   "tasks_completed = daily_user_progress.tasks_completed + EXCLUDED.tasks_completed, " +
+                   "reward_points = daily_user_progress.reward_points + EXCLUDED.reward_points, " +
+                   "hours_completed = daily_user_progress.hours_completed + EXCLUDED.hours_completed, " +
+                   "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsert(@Param("id") UUID id, @Param("userId") UUID userId, @Param("day") LocalDate day,
+               @Param("tasksStarted") int tasksStarted, @Param("tasksCompleted") int tasksCompleted,
+               @Param("rewardPoints") long rewardPoints, @Param("hoursCompleted") double hoursCompleted,
+               @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyUserProgress p WHERE p.day >= :from AND p.day < :to")
+    int deleteByDayRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
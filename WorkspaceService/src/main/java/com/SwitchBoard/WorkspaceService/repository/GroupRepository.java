@@ -2,9 +2,12 @@ package com.SwitchBoard.WorkspaceService.repository;
 
 import com.SwitchBoard.WorkspaceService.entity.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,13 +18,47 @@ public interface GroupRepository extends JpaRepository<Group, UUID> {
     Optional<Group> findBySlug(String slug);
     
     boolean existsBySlug(String slug);
+
+    /**
+     * Every slug that is {@code slug} itself or starts with {@code prefix} (pass {@code slug + "-%"}), in one
+     * query. The unique slug index uses the default collation, so it answers the equality only; the {@code LIKE}
+     * prefix needs the {@code text_pattern_ops} index created by {@code TrigramSearchSupport}, and is scanned on a
+     * database without it. Deleted groups are included since their slugs stay taken.
+     */
+    @Query(value = "SELECT slug FROM group_table WHERE slug = :slug OR slug LIKE :prefix", nativeQuery = true)
+    List<String> findSlugsByBase(@Param("slug") String slug, @Param("prefix") String prefix);
     
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.deletedAt = :now, g.version = g.version + 1 WHERE g.id = :id AND g.deletedAt IS NULL")
+    int softDeleteById(@Param("id") UUID id, @Param("now") Instant now);
+
     List<Group> findByCreatedByUserId(UUID createdByUserId);
     
     List<Group> findByVisibility(Group.GroupVisibility visibility);
     
-    @Query("SELECT g FROM Group g WHERE g.name LIKE %:name%")
+    @Query("SELECT g FROM Group g WHERE LOWER(g.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Group> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    // id, name, visibility and creator of every group, used to build the in-memory search index
+    @Query("SELECT g.id, g.name, g.visibility, g.createdByUserId FROM Group g")
+    List<Object[]> findSearchEntries();
+
+    /**
+     * Case-insensitive substring search served by the pg_trgm GIN index on name, limited to groups the user
+     * may see. Exact matches rank first, then prefix matches, then by trigram similarity.
+     */
+    @Query(value = "SELECT g.* FROM group_table g " +
+            "WHERE g.deleted_at IS NULL AND g.name ILIKE :pattern " +
+            "AND (g.visibility = 'PUBLIC' OR g.created_by = :userId OR g.id IN (:groupIds)) " +
+            "ORDER BY lower(g.name) = lower(:query) DESC, g.name ILIKE :prefix DESC, " +
+            "similarity(g.name, :query) DESC, lower(g.name), g.name " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Group> searchVisibleByName(@Param("query") String query,
+                                    @Param("pattern") String pattern,
+                                    @Param("prefix") String prefix,
+                                    @Param("userId") UUID userId,
+                                    @Param("groupIds") Collection<UUID> groupIds,
+                                    @Param("limit") int limit);
     
     @Query("SELECT g FROM Group g JOIN g.memberships m WHERE m.userId = :userId AND m.isActive = true")
     List<Group> findByUserId(@Param("userId") UUID userId);
@@ -0,0 +1,39 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // Claims the key for a first attempt; 0 when a live record already holds it
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_record (id, fingerprint, created_at, expires_at) " +
+                   "VALUES (:id, :fingerprint, :createdAt, :expiresAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("fingerprint") String fingerprint,
+                       @Param("createdAt") Instant createdAt, @Param("expiresAt") Instant expiresAt);
+
+    // Only touches the claim made at claimedAt: once its lock timed out, the key may have been claimed again
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.responseContentType = :contentType, " +
+           "r.responseBody = :body, r.expiresAt = :expiresAt WHERE r.id = :id AND r.createdAt = :claimedAt")
+    int complete(@Param("id") String id, @Param("claimedAt") Instant claimedAt, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("body") byte[] body, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.createdAt = :claimedAt AND r.responseStatus IS NULL")
+    int release(@Param("id") String id, @Param("claimedAt") Instant claimedAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,68 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id >= :fromOffset ORDER BY e.id")
+    List<OutboxEvent> findFromOffset(@Param("fromOffset") long fromOffset, Pageable pageable);
+
+    // Aggregates of the given types changed after an offset and up to another whose audience includes the user, as
+    // [aggregateType, aggregateId, changeType, changedFields, workspaceId] rows, one per audience workspace; served
+    // by idx_outbox_event_user_user_id
+    @Query("SELECT DISTINCT e.aggregateType, e.aggregateId, e.changeType, e.changedFields, w FROM OutboxEvent e " +
+           "JOIN e.audienceUserIds u LEFT JOIN e.audienceWorkspaceIds w WHERE u = :userId " +
+           "AND e.id > :afterOffset AND e.id <= :toOffset AND e.aggregateType IN :aggregateTypes")
+    List<Object[]> findChangesConcerningUser(@Param("userId") UUID userId, @Param("aggregateTypes") Collection<String> aggregateTypes,
+                                             @Param("afterOffset") long afterOffset, @Param("toOffset") long toOffset);
+
+    // Aggregates of a type changed after an offset and up to another in any of the given workspaces, served by
+    // idx_outbox_event_workspace_workspace_id
+    @Query("SELECT DISTINCT e.aggregateId FROM OutboxEvent e JOIN e.audienceWorkspaceIds w WHERE w IN :workspaceIds " +
+           "AND e.id > :afterOffset AND e.id <= :toOffset AND e.aggregateType = :aggregateType")
+    List<UUID> findAggregateIdsInWorkspaces(@Param("workspaceIds") Collection<UUID> workspaceIds, @Param("aggregateType") String aggregateType,
+                                            @Param("afterOffset") long afterOffset, @Param("toOffset") long toOffset);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findLastOffset();
+
+    // Audiences of the events in an offset range, as [offset, workspaceId] and [offset, userId] rows
+    @Query("SELECT e.id, w FROM OutboxEvent e JOIN e.audienceWorkspaceIds w WHERE e.id BETWEEN :fromOffset AND :toOffset")
+    List<Object[]> findAudienceWorkspaceIds(@Param("fromOffset") long fromOffset, @Param("toOffset") long toOffset);
+
+    @Query("SELECT e.id, u FROM OutboxEvent e JOIN e.audienceUserIds u WHERE e.id BETWEEN :fromOffset AND :toOffset")
+    List<Object[]> findAudienceUserIds(@Param("fromOffset") long fromOffset, @Param("toOffset") long toOffset);
+
+    // Bulk deletes skip the audience tables, so purges clear them first
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event_workspace WHERE event_id IN " +
+                   "(SELECT id FROM outbox_event WHERE published_at < :publishedBefore)", nativeQuery = true)
+    int deleteAudienceWorkspacesPublishedBefore(@Param("publishedBefore") Instant publishedBefore);
+
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event_user WHERE event_id IN " +
+                   "(SELECT id FROM outbox_event WHERE published_at < :publishedBefore)", nativeQuery = true)
+    int deleteAudienceUsersPublishedBefore(@Param("publishedBefore") Instant publishedBefore);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") Instant publishedBefore);
+}
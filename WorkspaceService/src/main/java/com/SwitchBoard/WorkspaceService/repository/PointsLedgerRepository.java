@@ -0,0 +1,37 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.PointsLedgerEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface PointsLedgerRepository extends JpaRepository<PointsLedgerEntry, UUID> {
+
+    // The whole ledger as (id, userId, workspaceId, points, awardedAt), read in batches to rebuild the leaderboards;
+    // must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id, e.userId, e.workspaceId, e.points, e.awardedAt FROM PointsLedgerEntry e")
+    Stream<Object[]> streamAll();
+
+    boolean existsByTaskAssignmentId(UUID taskAssignmentId);
+
+    // Per-user totals in a workspace, only used until the leaderboards are loaded
+    @Query("SELECT e.userId, SUM(e.points) FROM PointsLedgerEntry e WHERE e.workspaceId = :workspaceId GROUP BY e.userId")
+    List<Object[]> sumPointsByUserInWorkspace(@Param("workspaceId") UUID workspaceId);
+
+    // Per-user totals of several users, only used until the leaderboards are loaded
+    @Query("SELECT e.userId, SUM(e.points) FROM PointsLedgerEntry e WHERE e.userId IN :userIds GROUP BY e.userId")
+    List<Object[]> sumPointsByUserIn(@Param("userIds") Collection<UUID> userIds);
+}
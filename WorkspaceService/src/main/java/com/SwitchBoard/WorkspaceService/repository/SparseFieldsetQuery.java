@@ -0,0 +1,52 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects only the given attributes of an entity, as rows keyed by attribute name, so sparse fieldsets never read
+ * the columns, such as TEXT descriptions, that were not asked for. The rows are plain values, not managed entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class SparseFieldsetQuery {
+
+    private final EntityManager entityManager;
+
+    @FunctionalInterface
+    public interface Filter<T> {
+        Predicate toPredicate(Root<T> root, CriteriaBuilder criteriaBuilder);
+    }
+
+    public <T> List<Map<String, Object>> find(Class<T> entityClass, List<String> attributes, Filter<T> filter) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(attributes.stream().<Selection<?>>map(attribute -> root.get(attribute).alias(attribute)).toList())
+                .where(filter.toPredicate(root, criteriaBuilder));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(SparseFieldsetQuery::toRow)
+                .toList();
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+}
@@ -2,11 +2,14 @@ package com.SwitchBoard.WorkspaceService.repository;
 
 import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.projection.TaskAssignmentRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,8 +20,13 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
     // Find all assignments for a specific task
     List<TaskAssignment> findByTaskId(UUID taskId);
     
-    // Find all assignments for a specific user
-    List<TaskAssignment> findByAssignedUserId(UUID userId);
+    // Find all assignments for a specific user, with the title of their task, without hydrating either
+    @Query("SELECT new com.SwitchBoard.WorkspaceService.repository.projection.TaskAssignmentRow(" +
+            "ta.id, t.id, t.title, ta.assignedUserId, ta.assignedByUserId, ta.status, ta.rewardPointsEarned, " +
+            "ta.startedAt, ta.completedAt, ta.assignedAt, ta.userNotes, ta.submissionText, ta.submissionUrl, " +
+            "ta.submissionStatus, ta.gradeReceived, ta.feedback, ta.createdAt, ta.updatedAt) " +
+            "FROM TaskAssignment ta JOIN ta.task t WHERE ta.assignedUserId = :userId")
+    List<TaskAssignmentRow> findRowsByAssignedUserId(@Param("userId") UUID userId);
     
     // Find specific assignment for a user and task
     Optional<TaskAssignment> findByTaskIdAndAssignedUserId(UUID taskId, UUID userId);
@@ -33,6 +41,46 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
     // Delete all assignments for a task
     void deleteByTaskId(UUID taskId);
     
-    // Delete specific assignment
-    void deleteByTaskIdAndAssignedUserId(UUID taskId, UUID userId);
-}
\ No newline at end of file
+    // Unassigned (soft-deleted) assignments of the given users, to revive rather than insert again on a re-assign
+    @Query(value = "SELECT * FROM task_assignment WHERE task_id IN (:taskIds) AND assigned_user_id IN (:userIds) " +
+                   "AND deleted_at IS NOT NULL", nativeQuery = true)
+    List<TaskAssignment> findUnassignedByTaskIdInAndAssignedUserIdIn(@Param("taskIds") Collection<UUID> taskIds,
+                                                                     @Param("userIds") Collection<UUID> userIds);
+
+    // Existing [taskId, userId] pairs among the given tasks and users
+    @Query("SELECT ta.task.id, ta.assignedUserId FROM TaskAssignment ta WHERE ta.task.id IN :taskIds AND ta.assignedUserId IN :userIds")
+    List<Object[]> findAssignedPairs(@Param("taskIds") Collection<UUID> taskIds, @Param("userIds") Collection<UUID> userIds);
+
+    // Assignments of a user with their tasks for a full sync, served by idx_task_assignment_assigned_user_id
+    @Query("SELECT ta FROM TaskAssignment ta JOIN FETCH ta.task WHERE ta.assignedUserId = :userId")
+    List<TaskAssignment> findWithTaskByAssignedUserId(@Param("userId") UUID userId);
+
+    // Those of the given assignments still held by the user, with their tasks, for an incremental sync
+    @Query("SELECT ta FROM TaskAssignment ta JOIN FETCH ta.task WHERE ta.id IN :ids AND ta.assignedUserId = :userId")
+    List<TaskAssignment> findWithTaskByIdInAndAssignedUserId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    // Who hears about the removal of the given users' task assignments, as [taskAssignmentId, workspaceId, assignedUserId]
+    @Query("SELECT ta.id, a.workspaceId, ta.assignedUserId FROM TaskAssignment ta JOIN ta.task t " +
+           "LEFT JOIN Assignment a ON a.id = t.assignmentId WHERE t.id IN :taskIds AND ta.assignedUserId IN :userIds")
+    List<Object[]> findChangeAudienceByTaskIdInAndAssignedUserIdIn(@Param("taskIds") Collection<UUID> taskIds,
+                                                                   @Param("userIds") Collection<UUID> userIds);
+
+    // Soft-delete assignments of the given users across many tasks in one statement, the way @SQLDelete does one by one
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskAssignment ta SET ta.deletedAt = :now, ta.version = ta.version + 1 " +
+           "WHERE ta.task.id IN :taskIds AND ta.assignedUserId IN :userIds AND ta.deletedAt IS NULL")
+    int softDeleteByTaskIdInAndAssignedUserIdIn(@Param("taskIds") Collection<UUID> taskIds, @Param("userIds") Collection<UUID> userIds,
+                                                @Param("now") Instant now);
+
+    // Completed user assignments as (assignedUserId, completedAt, rewardPointsEarned, estimatedHours), for the rollup backfill
+    @Query("SELECT ta.assignedUserId, ta.completedAt, ta.rewardPointsEarned, t.estimatedHours FROM TaskAssignment ta JOIN ta.task t " +
+           "WHERE ta.completedAt >= :from AND ta.completedAt < :to")
+    List<Object[]> findCompletionsBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    // Started user assignments as (assignedUserId, startedAt), for the rollup backfill
+    @Query("SELECT ta.assignedUserId, ta.startedAt FROM TaskAssignment ta WHERE ta.startedAt >= :from AND ta.startedAt < :to")
+    List<Object[]> findStartsBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT ta FROM TaskAssignment ta WHERE ta.task.id IN :taskIds")
+    List<TaskAssignment> findByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+}
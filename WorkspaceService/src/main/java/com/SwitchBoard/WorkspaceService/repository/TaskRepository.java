@@ -2,28 +2,48 @@ package com.SwitchBoard.WorkspaceService.repository;
 
 import com.SwitchBoard.WorkspaceService.entity.Task;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.projection.TaskRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
 
+    // Read-only task lists with their comment counts in one statement, never hydrating a Task
+    String SELECT_TASK_ROW = "SELECT new com.SwitchBoard.WorkspaceService.repository.projection.TaskRow(" +
+            "t.id, t.assignmentId, t.title, t.description, t.statusKey, t.priority, t.rewardPoints, t.estimatedHours, t.titleColor, " +
+            "t.deadline, t.startedAt, t.completedAt, t.assigneeUserId, t.reporterUserId, t.createdAt, t.updatedAt, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.task.id = t.id)) FROM Task t ";
+
 //    List<Task> findByWorkspaceId(UUID workspaceId);
     
     List<Task> findByAssignmentId(UUID assignmentId);
     
-    List<Task> findByAssigneeUserId(UUID assigneeId);
-    
-    List<Task> findByReporterUserId(UUID reporterId);
+    @Query(SELECT_TASK_ROW + "WHERE t.assignmentId = :assignmentId")
+    List<TaskRow> findRowsByAssignmentId(@Param("assignmentId") UUID assignmentId);
+
+    @Query(SELECT_TASK_ROW + "WHERE t.assigneeUserId = :assigneeId")
+    List<TaskRow> findRowsByAssigneeUserId(@Param("assigneeId") UUID assigneeId);
+
+    @Query(SELECT_TASK_ROW + "WHERE t.reporterUserId = :reporterId")
+    List<TaskRow> findRowsByReporterUserId(@Param("reporterId") UUID reporterId);
     
 //    List<Task> findByParentTaskId(UUID parentTaskId);
     
-    List<Task> findByStatusKey(TaskStatus statusKey);
+    @Query(SELECT_TASK_ROW + "WHERE t.statusKey = :statusKey")
+    List<TaskRow> findRowsByStatusKey(@Param("statusKey") TaskStatus statusKey);
+
+    // One page of a workspace's tasks in id order, starting after the last task of the previous page
+    @Query(SELECT_TASK_ROW + "WHERE t.assignmentId IN (SELECT a.id FROM Assignment a WHERE a.workspaceId = :workspaceId) " +
+           "AND t.id > :afterId ORDER BY t.id")
+    List<TaskRow> findRowsByWorkspaceIdAfter(@Param("workspaceId") UUID workspaceId, @Param("afterId") UUID afterId, Pageable pageable);
     
 //    List<Task> findByWorkspaceIdAndStatusKey(UUID workspaceId, TaskStatus statusKey);
     
@@ -35,6 +55,41 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 //
     @Query("SELECT t FROM Task t WHERE t.deadline < :deadline AND t.statusKey != :completedStatus")
     List<Task> findOverdueTasks(@Param("deadline") Instant deadline, @Param("completedStatus") TaskStatus completedStatus);
+
+    // Open tasks of an assignee due in [from, to) as [task, commentCount] rows, earliest deadline first
+    @Query("SELECT t, (SELECT COUNT(c) FROM Comment c WHERE c.task = t) FROM Task t " +
+           "WHERE t.assigneeUserId = :assigneeId AND t.deadline >= :from AND t.deadline < :to " +
+           "AND (t.statusKey IS NULL OR t.statusKey <> :completedStatus) ORDER BY t.deadline")
+    List<Object[]> findOpenByAssigneeDueBetween(@Param("assigneeId") UUID assigneeId, @Param("from") Instant from,
+                                                @Param("to") Instant to, @Param("completedStatus") TaskStatus completedStatus);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.assigneeUserId = :assigneeId AND t.deadline < :deadline " +
+           "AND (t.statusKey IS NULL OR t.statusKey <> :completedStatus)")
+    long countOverdueByAssignee(@Param("assigneeId") UUID assigneeId, @Param("deadline") Instant deadline,
+                                @Param("completedStatus") TaskStatus completedStatus);
+
+    // Content search fallback for databases without full-text search: [task, workspaceId] rows in the user's
+    // workspaces whose title, description or topic contains the lowercase pattern
+    @Query("SELECT t, a.workspaceId FROM Task t, Assignment a WHERE a.id = t.assignmentId " +
+           "AND (a.workspaceId IN (SELECT w.id FROM Workspace w WHERE w.ownerUserId = :userId) " +
+           "  OR a.workspaceId IN (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)) " +
+           "AND (LOWER(t.title) LIKE :pattern OR LOWER(t.description) LIKE :pattern OR LOWER(t.topic) LIKE :pattern)")
+    List<Object[]> findMatchingInAccessibleWorkspaces(@Param("userId") UUID userId, @Param("pattern") String pattern);
+
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Comment counts for a batch of tasks as [taskId, count] rows, tasks without comments are absent
+    @Query("SELECT c.task.id, COUNT(c) FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<Object[]> countCommentsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    // Tasks of an assignee for a full sync, served by idx_task_assignee_user_id
+    @Query("SELECT t FROM Task t WHERE t.assigneeUserId = :assigneeId")
+    List<Task> findByAssigneeUserId(@Param("assigneeId") UUID assigneeId);
+
+    // Those of the given tasks still assigned to the assignee, for an incremental sync
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids AND t.assigneeUserId = :assigneeId")
+    List<Task> findByIdInAndAssigneeUserId(@Param("ids") Collection<UUID> ids, @Param("assigneeId") UUID assigneeId);
     
 //    @Query("SELECT t FROM Task t WHERE t.workspace.id = :workspaceId AND t.title LIKE %:title%")
 //    List<Task> findByWorkspaceIdAndTitleContainingIgnoreCase(@Param("workspaceId") UUID workspaceId, @Param("title") String title);
@@ -44,4 +99,37 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 //
 //    @Query("SELECT SUM(t.rewardPoints) FROM Task t WHERE t.assigneeUserId = :userId AND t.statusKey = :completedStatus")
 //    Integer getTotalRewardPointsByUserId(@Param("userId") UUID userId, @Param("completedStatus") TaskStatus completedStatus);
-}
\ No newline at end of file
+
+    // Completed tasks as (assigneeUserId, assignmentId, completedAt, rewardPoints, estimatedHours), for the rollup backfill
+    @Query("SELECT t.assigneeUserId, t.assignmentId, t.completedAt, t.rewardPoints, t.estimatedHours FROM Task t " +
+           "WHERE t.statusKey = :completedStatus AND t.completedAt >= :from AND t.completedAt < :to")
+    List<Object[]> findCompletionsBetween(@Param("from") Instant from, @Param("to") Instant to,
+                                          @Param("completedStatus") TaskStatus completedStatus);
+
+    // Started tasks as (assigneeUserId, assignmentId, startedAt), for the rollup backfill
+    @Query("SELECT t.assigneeUserId, t.assignmentId, t.startedAt FROM Task t WHERE t.startedAt >= :from AND t.startedAt < :to")
+    List<Object[]> findStartsBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    // Tasks with the workspace of their assignment, to project into the user task view
+    @Query("SELECT t, a.workspaceId FROM Task t LEFT JOIN Assignment a ON a.id = t.assignmentId WHERE t.id IN :taskIds")
+    List<Object[]> findWithWorkspaceIdByIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    // Task ids in id order, one page after another, to rebuild the user task view
+    @Query("SELECT t.id FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    // Validator of a task's representation as [version, commentCount]; no row when the task does not exist
+    @Query("SELECT t.version, (SELECT COUNT(c) FROM Comment c WHERE c.task = t) FROM Task t WHERE t.id = :taskId")
+    List<Object[]> findValidatorById(@Param("taskId") UUID taskId);
+
+    // Validators of task lists as [count, sum of versions, latest update, comment count], without loading the tasks
+    @Query("SELECT COUNT(t), SUM(t.version), MAX(t.updatedAt), " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.task.assignmentId = :assignmentId) " +
+           "FROM Task t WHERE t.assignmentId = :assignmentId")
+    List<Object[]> findValidatorByAssignmentId(@Param("assignmentId") UUID assignmentId);
+
+    @Query("SELECT COUNT(t), SUM(t.version), MAX(t.updatedAt), " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.task.assigneeUserId = :assigneeId) " +
+           "FROM Task t WHERE t.assigneeUserId = :assigneeId")
+    List<Object[]> findValidatorByAssigneeUserId(@Param("assigneeId") UUID assigneeId);
+}
@@ -0,0 +1,47 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.UserGroupMembership;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserGroupMembershipRepository extends JpaRepository<UserGroupMembership, UUID> {
+
+    // Every active (groupId, userId) pair, used to build the in-memory membership index
+    @Query("SELECT m.group.id, m.userId FROM UserGroupMembership m WHERE m.isActive = true")
+    List<Object[]> findActiveGroupUserPairs();
+
+    // Existing memberships of several users in one group, active or not
+    @Query("SELECT m FROM UserGroupMembership m WHERE m.group.id = :groupId AND m.userId IN :userIds")
+    List<UserGroupMembership> findByGroupIdAndUserIdIn(@Param("groupId") UUID groupId, @Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT m.userId FROM UserGroupMembership m WHERE m.group.id = :groupId AND m.isActive = true")
+    List<UUID> findActiveUserIdsByGroupId(@Param("groupId") UUID groupId);
+
+    @Query("SELECT m.group.id FROM UserGroupMembership m WHERE m.userId = :userId AND m.isActive = true")
+    List<UUID> findActiveGroupIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT COUNT(m) > 0 FROM UserGroupMembership m WHERE m.group.id = :groupId AND m.userId = :userId AND m.isActive = true")
+    boolean isActiveMember(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
+
+    @Query("SELECT COUNT(m) > 0 FROM UserGroupMembership m WHERE m.group.id = :groupId AND m.userId = :userId " +
+           "AND m.isActive = true AND m.role = com.SwitchBoard.WorkspaceService.entity.UserGroupMembership.MembershipRole.LEADER")
+    boolean isActiveLeader(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
+
+    // Memberships are deactivated rather than deleted, so addMembers finds and reactivates them
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserGroupMembership m SET m.isActive = false, m.version = m.version + 1 " +
+           "WHERE m.group.id = :groupId AND m.userId IN :userIds AND m.isActive = true")
+    int deactivateByGroupIdAndUserIdIn(@Param("groupId") UUID groupId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserGroupMembership m SET m.isActive = false, m.version = m.version + 1 " +
+           "WHERE m.group.id = :groupId AND m.isActive = true")
+    int deactivateByGroupId(@Param("groupId") UUID groupId);
+}
@@ -0,0 +1,28 @@
+package com.SwitchBoard.WorkspaceService.repository;
+
+import com.SwitchBoard.WorkspaceService.entity.UserTaskView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTaskViewRepository extends JpaRepository<UserTaskView, UserTaskView.Key> {
+
+    // A user's inbox, read along idx_user_task_view_inbox
+    @Query("SELECT v FROM UserTaskView v WHERE v.userId = :userId ORDER BY v.deadline, v.taskId")
+    List<UserTaskView> findInbox(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM UserTaskView v WHERE v.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    // Rows of tasks that no longer exist or were deleted
+    @Modifying
+    @Query("DELETE FROM UserTaskView v WHERE NOT EXISTS (SELECT 1 FROM Task t WHERE t.id = v.taskId)")
+    int deleteOrphans();
+}
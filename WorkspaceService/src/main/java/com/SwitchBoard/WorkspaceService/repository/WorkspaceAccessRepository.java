@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +24,9 @@ public interface WorkspaceAccessRepository extends JpaRepository<WorkspaceAccess
     
     // Find all active access records for a workspace
     List<WorkspaceAccess> findByWorkspaceIdAndIsActiveTrue(UUID workspaceId);
+
+    // Find all active access records for several workspaces at once
+    List<WorkspaceAccess> findByWorkspaceIdInAndIsActiveTrue(Collection<UUID> workspaceIds);
     
     // Find all active access records for a user
     List<WorkspaceAccess> findByUserIdAndIsActiveTrue(UUID userId);
@@ -47,4 +51,8 @@ public interface WorkspaceAccessRepository extends JpaRepository<WorkspaceAccess
     
     // Delete all access records for a workspace
     void deleteByWorkspaceId(UUID workspaceId);
-}
\ No newline at end of file
+
+    // Those of the given access records that belong to the user, revoked ones included, for an incremental sync
+    @Query("SELECT wa FROM WorkspaceAccess wa WHERE wa.id IN :ids AND wa.userId = :userId")
+    List<WorkspaceAccess> findByIdInAndUserId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+}
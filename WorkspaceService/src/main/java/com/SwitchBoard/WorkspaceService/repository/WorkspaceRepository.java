@@ -13,16 +13,59 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, UUID> {
 
     List<Workspace> findByOwnerUserId(UUID ownerUserId);
     
-    @Query("SELECT w FROM Workspace w WHERE w.name LIKE %:name%")
+    @Query("SELECT w FROM Workspace w WHERE LOWER(w.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Workspace> findByNameContainingIgnoreCase(@Param("name") String name);
     
-//    @Query("SELECT w FROM Workspace w WHERE w.ownerUserId = :userId OR w.id IN " +
-//           "(SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)")
-//    List<Workspace> findWorkspacesAccessibleByUser(@Param("userId") UUID userId);
+    @Query("SELECT w FROM Workspace w WHERE w.ownerUserId = :userId OR w.id IN " +
+           "(SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)")
+    List<Workspace> findWorkspacesAccessibleByUser(@Param("userId") UUID userId);
+
+    /**
+     * Case-insensitive substring search over the workspaces a user owns or has active access to, served by
+     * the pg_trgm GIN index on name. Exact matches rank first, then prefix matches, then by trigram similarity.
+     */
+    @Query(value = "SELECT w.* FROM workspace w " +
+            "WHERE w.deleted_at IS NULL AND w.name ILIKE :pattern " +
+            "AND (w.owner_user_id = :userId OR w.id IN " +
+            "(SELECT wa.workspace_id FROM workspace_access wa " +
+            "WHERE wa.user_id = :userId AND wa.is_active = true AND wa.deleted_at IS NULL)) " +
+            "ORDER BY lower(w.name) = lower(:query) DESC, w.name ILIKE :prefix DESC, " +
+            "similarity(w.name, :query) DESC, lower(w.name), w.name " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Workspace> searchAccessibleByName(@Param("query") String query,
+                                           @Param("pattern") String pattern,
+                                           @Param("prefix") String prefix,
+                                           @Param("userId") UUID userId,
+                                           @Param("limit") int limit);
     
 //    @Query("SELECT COUNT(t) FROM Task t WHERE t.workspace.id = :workspaceId")
 //    Long countTasksByWorkspaceId(@Param("workspaceId") UUID workspaceId);
     
     @Query("SELECT COUNT(a) FROM Assignment a WHERE a.workspaceId = :workspaceId")
     Long countAssignmentsByWorkspaceId(@Param("workspaceId") UUID workspaceId);
-}
\ No newline at end of file
+
+    @Query("SELECT w.id FROM Workspace w WHERE w.ownerUserId = :userId OR w.id IN " +
+           "(SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)")
+    List<UUID> findIdsAccessibleByUser(@Param("userId") UUID userId);
+
+    /** Whether both users own or have active access to at least one common workspace. */
+    @Query("SELECT COUNT(w) > 0 FROM Workspace w " +
+           "WHERE (w.ownerUserId = :userId OR w.id IN " +
+           "  (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :userId AND wa.isActive = true)) " +
+           "AND (w.ownerUserId = :otherUserId OR w.id IN " +
+           "  (SELECT wa.workspace.id FROM WorkspaceAccess wa WHERE wa.userId = :otherUserId AND wa.isActive = true))")
+    boolean sharesWorkspace(@Param("userId") UUID userId, @Param("otherUserId") UUID otherUserId);
+
+    // Validator of a workspace with its active users as [version, accessCount, sum of access versions, latest access
+    // update]; no row when the workspace does not exist
+    @Query("SELECT w.version, COUNT(wa), SUM(wa.version), MAX(wa.updatedAt) FROM Workspace w " +
+           "LEFT JOIN WorkspaceAccess wa ON wa.workspace = w AND wa.isActive = true " +
+           "WHERE w.id = :workspaceId GROUP BY w.version")
+    List<Object[]> findValidatorById(@Param("workspaceId") UUID workspaceId);
+
+    // Validator of a user's own workspaces with their active users, weighted as in the assignment validators
+    @Query("SELECT COUNT(DISTINCT w.id), SUM(w.version), MAX(w.updatedAt), COUNT(wa), SUM(wa.version), MAX(wa.updatedAt) " +
+           "FROM Workspace w LEFT JOIN WorkspaceAccess wa ON wa.workspace = w AND wa.isActive = true " +
+           "WHERE w.ownerUserId = :userId")
+    List<Object[]> findValidatorByOwnerUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,18 @@
+package com.SwitchBoard.WorkspaceService.repository.projection;
+
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A task assignment with the title of its task, selected straight into this record by a JPQL constructor
+ * expression; the task is joined in the same statement instead of being loaded through a lazy proxy.
+ */
+public record TaskAssignmentRow(UUID id, UUID taskId, String taskTitle, UUID assignedUserId, UUID assignedByUserId,
+                                TaskStatus status, Integer rewardPointsEarned, Instant startedAt,
+                                Instant completedAt, Instant assignedAt, String userNotes, String submissionText,
+                                String submissionUrl, TaskAssignment.SubmissionStatus submissionStatus,
+                                Double gradeReceived, String feedback, Instant createdAt, Instant updatedAt) {
+}
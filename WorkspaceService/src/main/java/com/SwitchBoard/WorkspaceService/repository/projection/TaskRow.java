@@ -0,0 +1,16 @@
+package com.SwitchBoard.WorkspaceService.repository.projection;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A task as the list endpoints return it, selected straight into this record by a JPQL constructor expression:
+ * nothing is attached to the persistence context, snapshotted for dirty checking or proxied.
+ */
+public record TaskRow(UUID id, UUID assignmentId, String title, String description, TaskStatus statusKey, Integer priority,
+                      Integer rewardPoints, Double estimatedHours, String titleColor, Instant deadline,
+                      Instant startedAt, Instant completedAt, UUID assigneeUserId, UUID reporterUserId,
+                      Instant createdAt, Instant updatedAt, Long commentCount) {
+}
@@ -0,0 +1,75 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import com.SwitchBoard.WorkspaceService.config.SchemaMigrationRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks whether PostgreSQL full-text search over tasks and assignments is set up: a weighted {@code search_vector}
+ * column on each table (title A, topic B, description C) and a GIN index on it. The columns are
+ * {@code GENERATED ... STORED}, so PostgreSQL keeps them current on every insert and update with no application
+ * code involved.
+ * <p>
+ * The schema comes from the versioned scripts in {@code db/migration}, applied by {@link SchemaMigrationRunner}
+ * just before this check runs, or by hand when the runner is disabled. This class only validates. Until both
+ * columns and indexes exist, and on other databases, content search uses the {@code LIKE} fallback in
+ * {@code ContentSearchServiceImpl}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextSearchSupport {
+
+    public static final String TEXT_SEARCH_CONFIG = "english";
+
+    private static final String SEARCH_COLUMNS = "SELECT count(*) FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name IN ('task', 'assignment') " +
+            "AND column_name = 'search_vector' AND is_generated = 'ALWAYS'";
+
+    // An index left invalid by a failed concurrent build is not used by the planner
+    private static final String SEARCH_INDEXES = "SELECT count(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname IN ('idx_task_search_vector', 'idx_assignment_search_vector') " +
+            "AND c.relnamespace = current_schema()::regnamespace AND i.indisvalid";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean databaseSearchEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(SchemaMigrationRunner.ORDER + 1)
+    public void initialize() {
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("FullTextSearchSupport :: initialize :: Database is {}, using LIKE content search", databaseProduct);
+            return;
+        }
+
+        try {
+            Integer columns = jdbcTemplate.queryForObject(SEARCH_COLUMNS, Integer.class);
+            Integer indexes = jdbcTemplate.queryForObject(SEARCH_INDEXES, Integer.class);
+            if (columns == null || columns < 2 || indexes == null || indexes < 2) {
+                log.warn("FullTextSearchSupport :: initialize :: Found {} of 2 search columns and {} of 2 valid indexes; "
+                        + "apply db/migration V1 and V2, using LIKE content search until then", columns, indexes);
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.error("FullTextSearchSupport :: initialize :: Could not check the full-text search schema, using LIKE content search :: {}",
+                    e.getMessage(), e);
+            return;
+        }
+        databaseSearchEnabled = true;
+        log.info("FullTextSearchSupport :: initialize :: Using tsvector for content search");
+    }
+
+    public boolean isDatabaseSearchEnabled() {
+        return databaseSearchEnabled;
+    }
+}
@@ -0,0 +1,91 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import com.SwitchBoard.WorkspaceService.entity.Group;
+import com.SwitchBoard.WorkspaceService.repository.GroupRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Group names in a {@link TrigramIndex}, for databases without {@code pg_trgm}. Loaded once the application is
+ * ready and then kept current by the group service after each group write commits; until loaded, search runs a
+ * case-insensitive {@code LIKE} and ranks the rows in memory.
+ * <p>
+ * Callers resolve the returned ids against the database, so an entry left behind by a group deleted while the
+ * index was loading never surfaces.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupSearchIndex {
+
+    private final GroupRepository groupRepository;
+    private final TrigramSearchSupport trigramSearchSupport;
+    private final TransactionUtils transactionUtils;
+
+    private final TrigramIndex<GroupEntry> index = new TrigramIndex<>();
+    private volatile boolean maintained;
+    private volatile boolean loaded;
+
+    public record GroupEntry(UUID id, Group.GroupVisibility visibility, UUID createdByUserId) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (trigramSearchSupport.isDatabaseSearchEnabled()) {
+            return;
+        }
+        log.info("GroupSearchIndex :: load :: Loading group names");
+        maintained = true;
+        List<Object[]> rows = groupRepository.findSearchEntries();
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            index.put(id, (String) row[1], new GroupEntry(id, (Group.GroupVisibility) row[2], (UUID) row[3]));
+        }
+        loaded = true;
+        log.info("GroupSearchIndex :: load :: Indexed {} groups", index.size());
+    }
+
+    /** Ids of the groups whose name contains {@code query}, best ranked first. */
+    public List<UUID> search(String query, Predicate<GroupEntry> filter, int limit) {
+        if (loaded) {
+            return index.search(query, filter, limit).stream()
+                    .map(GroupEntry::id)
+                    .collect(Collectors.toList());
+        }
+        List<Group> matches = groupRepository.findByNameContainingIgnoreCase(query).stream()
+                .filter(group -> filter.test(toEntry(group)))
+                .collect(Collectors.toList());
+        return TrigramIndex.rank(matches, Group::getName, query, limit).stream()
+                .map(Group::getId)
+                .collect(Collectors.toList());
+    }
+
+    public void groupSaved(Group group) {
+        if (!maintained) {
+            return;
+        }
+        String name = group.getName();
+        GroupEntry entry = toEntry(group);
+        transactionUtils.runAfterCommit(() -> index.put(entry.id(), name, entry));
+    }
+
+    public void groupRemoved(UUID groupId) {
+        if (!maintained) {
+            return;
+        }
+        transactionUtils.runAfterCommit(() -> index.remove(groupId));
+    }
+
+    private static GroupEntry toEntry(Group group) {
+        return new GroupEntry(group.getId(), group.getVisibility(), group.getCreatedByUserId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Highlighting shared by the database and in-memory search paths. Matches are first delimited with control
+ * characters, which cannot be confused with user text, and only turned into {@code <mark>} tags after the text
+ * has been HTML-escaped, so task content can never inject markup.
+ */
+public final class Highlighter {
+
+    public static final String START = "\u0002";
+    public static final String STOP = "\u0003";
+
+    /** {@code ts_headline} options for a whole field, such as a title. */
+    public static final String FULL_OPTIONS = "HighlightAll=true, StartSel=" + START + ", StopSel=" + STOP;
+
+    /** {@code ts_headline} options for an excerpt of a long field. */
+    public static final String SNIPPET_OPTIONS = "MaxFragments=2, MaxWords=25, MinWords=8, FragmentDelimiter=\" ... \", "
+            + "StartSel=" + START + ", StopSel=" + STOP;
+
+    private static final int SNIPPET_RADIUS = 80;
+
+    private Highlighter() {
+    }
+
+    /** HTML-escapes marked text and turns the markers into {@code <mark>} tags. */
+    public static String toHtml(String markedText) {
+        if (markedText == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(markedText).replace(START, "<mark>").replace(STOP, "</mark>");
+    }
+
+    /** Marks every case-insensitive occurrence of the terms in the whole text. */
+    public static String markAll(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        return mark(text, terms, 0, text.length());
+    }
+
+    /** Marks the terms in an excerpt around the first match, or returns the start of the text when nothing matches. */
+    public static String markSnippet(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        int first = -1;
+        if (lowerText.length() != text.length()) {
+            terms = List.of();
+        }
+        for (String term : terms) {
+            int index = lowerText.indexOf(term);
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+        int from = first < 0 ? 0 : Math.max(0, first - SNIPPET_RADIUS);
+        int to = Math.min(text.length(), (first < 0 ? 0 : first) + 2 * SNIPPET_RADIUS);
+        String marked = mark(text, terms, from, to);
+        return (from > 0 ? "... " : "") + marked + (to < text.length() ? " ..." : "");
+    }
+
+    private static String mark(String text, List<String> terms, int from, int to) {
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        if (lowerText.length() != text.length()) {
+            // Lowercasing changed the length (rare letters such as U+0130), so offsets no longer line up
+            return text.substring(from, to);
+        }
+        StringBuilder marked = new StringBuilder(to - from + 8);
+        int i = from;
+        while (i < to) {
+            int matchLength = 0;
+            for (String term : terms) {
+                if (term.length() > matchLength && lowerText.startsWith(term, i)) {
+                    matchLength = term.length();
+                }
+            }
+            if (matchLength > 0) {
+                int end = Math.min(to, i + matchLength);
+                marked.append(START).append(text, i, end).append(STOP);
+                i = end;
+            } else {
+                marked.append(text.charAt(i++));
+            }
+        }
+        return marked.toString();
+    }
+}
@@ -0,0 +1,171 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable case-insensitive prefix dictionary over short texts such as task titles, answering "which texts
+ * have a word starting with this" for typeahead.
+ * <p>
+ * Rather than a node per character, the dictionary keeps the lowercased texts and one sorted {@code int[]} of
+ * word starts, each packing a text index with the offset of a word in it. Every word start is a prefix-trie
+ * path flattened into one array slot: all word starts beginning with a query are adjacent, so a lookup is one
+ * binary search plus a scan of the matches, and the whole structure costs four bytes per word on top of the
+ * strings. Texts are matched at every word start so {@code "tree"} finds {@code "Binary Trees"}; words
+ * starting past offset {@value #MAX_OFFSET} are not indexed.
+ * <p>
+ * Matches are ranked with texts that start with the query first, then by the caller's order.
+ */
+public final class PrefixDictionary<T> {
+
+    private static final int OFFSET_BITS = 8;
+    private static final int MAX_OFFSET = (1 << OFFSET_BITS) - 1;
+
+    private final List<T> values;
+    private final String[] lowerTexts;
+    private final int[] wordStarts;
+
+    private PrefixDictionary(List<T> values, String[] lowerTexts, int[] wordStarts) {
+        this.values = values;
+        this.lowerTexts = lowerTexts;
+        this.wordStarts = wordStarts;
+    }
+
+    public static <T> PrefixDictionary<T> of(Collection<T> values, Function<T, String> text) {
+        List<T> indexed = new ArrayList<>(values);
+        String[] lowerTexts = new String[indexed.size()];
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < lowerTexts.length; i++) {
+            String lowerText = normalize(text.apply(indexed.get(i)));
+            lowerTexts[i] = lowerText;
+            int end = Math.min(lowerText.length(), MAX_OFFSET + 1);
+            for (int offset = 0; offset < end; offset++) {
+                if (isWordStart(lowerText, offset)) {
+                    starts.add(i << OFFSET_BITS | offset);
+                }
+            }
+        }
+        starts.sort((a, b) -> compareSuffixes(lowerTexts, a, b));
+        int[] wordStarts = new int[starts.size()];
+        for (int i = 0; i < wordStarts.length; i++) {
+            wordStarts[i] = starts.get(i);
+        }
+        return new PrefixDictionary<>(indexed, lowerTexts, wordStarts);
+    }
+
+    /**
+     * A dictionary over the same texts with every value replaced; linear, no re-sorting. {@code update} must
+     * keep each value's text unchanged.
+     */
+    public PrefixDictionary<T> withValues(UnaryOperator<T> update) {
+        List<T> updated = new ArrayList<>(values.size());
+        for (T value : values) {
+            updated.add(update.apply(value));
+        }
+        return new PrefixDictionary<>(updated, lowerTexts, wordStarts);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Values with a word starting with {@code query}, ignoring case, that pass {@code filter}; texts starting with
+     * the query first, then in {@code order}.
+     */
+    public List<T> search(String query, Predicate<T> filter, Comparator<T> order, int limit) {
+        String lowerQuery = normalize(query);
+        if (lowerQuery.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        Comparator<Integer> ranking = Comparator
+                .comparing((Integer index) -> !lowerTexts[index].startsWith(lowerQuery))
+                .thenComparing(index -> values.get(index), order);
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+        BitSet seen = new BitSet(values.size());
+        for (int i = firstWordStartAtOrAfter(lowerQuery); i < wordStarts.length; i++) {
+            int index = wordStarts[i] >>> OFFSET_BITS;
+            if (!lowerTexts[index].startsWith(lowerQuery, wordStarts[i] & MAX_OFFSET)) {
+                break;
+            }
+            if (seen.get(index)) {
+                continue;
+            }
+            seen.set(index);
+            if (filter.test(values.get(index))) {
+                best.offer(index);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        Integer[] ranked = best.toArray(new Integer[0]);
+        Arrays.sort(ranked, ranking);
+        List<T> matches = new ArrayList<>(ranked.length);
+        for (Integer index : ranked) {
+            matches.add(values.get(index));
+        }
+        return matches;
+    }
+
+    /** Lower bound of the word starts sorting at or after {@code lowerQuery}. */
+    private int firstWordStartAtOrAfter(String lowerQuery) {
+        int low = 0;
+        int high = wordStarts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int start = wordStarts[mid];
+            if (compareRegion(lowerTexts[start >>> OFFSET_BITS], start & MAX_OFFSET, lowerQuery) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compareSuffixes(String[] lowerTexts, int a, int b) {
+        String textA = lowerTexts[a >>> OFFSET_BITS];
+        String textB = lowerTexts[b >>> OFFSET_BITS];
+        int offsetA = a & MAX_OFFSET;
+        int offsetB = b & MAX_OFFSET;
+        int length = Math.min(textA.length() - offsetA, textB.length() - offsetB);
+        for (int i = 0; i < length; i++) {
+            int diff = textA.charAt(offsetA + i) - textB.charAt(offsetB + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (textA.length() - offsetA) - (textB.length() - offsetB);
+    }
+
+    /** Compares the suffix of {@code text} at {@code offset} with {@code other}, as if the suffix were a string. */
+    private static int compareRegion(String text, int offset, String other) {
+        int length = Math.min(text.length() - offset, other.length());
+        for (int i = 0; i < length; i++) {
+            int diff = text.charAt(offset + i) - other.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (text.length() - offset) - other.length();
+    }
+
+    private static boolean isWordStart(String lowerText, int offset) {
+        return Character.isLetterOrDigit(lowerText.charAt(offset))
+                && (offset == 0 || !Character.isLetterOrDigit(lowerText.charAt(offset - 1)));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
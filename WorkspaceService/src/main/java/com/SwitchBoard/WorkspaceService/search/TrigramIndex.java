@@ -0,0 +1,214 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory case-insensitive substring index over short texts such as names, used where the database cannot
+ * serve trigram search (anything but PostgreSQL with {@code pg_trgm}).
+ * <p>
+ * Every three-character window of the lowercased text is posted to the entry, so a query of three or more
+ * characters only looks at the entries in the shortest posting list of its windows, which are then checked
+ * with a plain {@code contains}. Shorter queries scan every entry. Matches are ranked like the database
+ * queries: exact match, then prefix match, then {@code pg_trgm} similarity, then text.
+ * <p>
+ * Reads do not lock; writes are serialized.
+ */
+public class TrigramIndex<T> {
+
+    private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    private record Entry<T>(String text, String lowerText, Set<String> trigrams, T value) {
+    }
+
+    private record Match<T>(Entry<T> entry, boolean exact, boolean prefix, double similarity) {
+    }
+
+    public synchronized void put(UUID id, String text, T value) {
+        remove(id);
+        if (text == null) {
+            return;
+        }
+        String lowerText = normalize(text);
+        entries.put(id, new Entry<>(text, lowerText, trigrams(lowerText), value));
+        for (String window : windows(lowerText)) {
+            postings.computeIfAbsent(window, w -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(UUID id) {
+        Entry<T> entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String window : windows(entry.lowerText())) {
+            postings.computeIfPresent(window, (w, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Values whose text contains {@code query}, ignoring case, that pass {@code filter}; best ranked first.
+     */
+    public List<T> search(String query, Predicate<T> filter, int limit) {
+        String lowerQuery = normalize(query);
+        if (lowerQuery.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Collection<UUID> candidates = candidates(lowerQuery);
+        Set<String> queryTrigrams = trigrams(lowerQuery);
+        PriorityQueue<Match<T>> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (UUID id : candidates) {
+            Entry<T> entry = entries.get(id);
+            if (entry != null && entry.lowerText().contains(lowerQuery) && filter.test(entry.value())) {
+                offer(best, match(entry, lowerQuery, queryTrigrams), limit);
+            }
+        }
+        return drain(best);
+    }
+
+    /**
+     * Ranks a small list without indexing it: keeps the items whose text contains {@code query}, ignoring
+     * case, ordered like {@link #search}.
+     */
+    public static <T> List<T> rank(Collection<T> items, Function<T, String> text, String query, int limit) {
+        String lowerQuery = normalize(query);
+        if (lowerQuery.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> queryTrigrams = trigrams(lowerQuery);
+        PriorityQueue<Match<T>> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (T item : items) {
+            String itemText = text.apply(item);
+            if (itemText == null) {
+                continue;
+            }
+            String lowerText = normalize(itemText);
+            if (lowerText.contains(lowerQuery)) {
+                Entry<T> entry = new Entry<>(itemText, lowerText, trigrams(lowerText), item);
+                offer(best, match(entry, lowerQuery, queryTrigrams), limit);
+            }
+        }
+        return drain(best);
+    }
+
+    /**
+     * Similarity as computed by {@code pg_trgm}: shared trigrams over all distinct trigrams of both texts.
+     */
+    public static double similarity(String a, String b) {
+        return similarity(trigrams(normalize(a)), trigrams(normalize(b)));
+    }
+
+    private Collection<UUID> candidates(String lowerQuery) {
+        if (lowerQuery.length() < 3) {
+            return entries.keySet();
+        }
+        Set<UUID> shortest = null;
+        for (String window : windows(lowerQuery)) {
+            Set<UUID> ids = postings.get(window);
+            if (ids == null) {
+                return List.of();
+            }
+            if (shortest == null || ids.size() < shortest.size()) {
+                shortest = ids;
+            }
+        }
+        return shortest;
+    }
+
+    private static final Comparator<Match<?>> RANKING = Comparator
+            .comparing((Match<?> m) -> !m.exact())
+            .thenComparing(m -> !m.prefix())
+            .thenComparing(Match::similarity, Comparator.reverseOrder())
+            .thenComparing(m -> m.entry().lowerText())
+            .thenComparing(m -> m.entry().text());
+
+    private static <T> Match<T> match(Entry<T> entry, String lowerQuery, Set<String> queryTrigrams) {
+        return new Match<>(entry,
+                entry.lowerText().equals(lowerQuery),
+                entry.lowerText().startsWith(lowerQuery),
+                similarity(entry.trigrams(), queryTrigrams));
+    }
+
+    private static <T> void offer(PriorityQueue<Match<T>> best, Match<T> match, int limit) {
+        best.offer(match);
+        if (best.size() > limit) {
+            best.poll();
+        }
+    }
+
+    private static <T> List<T> drain(PriorityQueue<Match<T>> best) {
+        List<Match<T>> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        List<T> values = new ArrayList<>(matches.size());
+        for (Match<T> match : matches) {
+            values.add(match.entry().value());
+        }
+        return values;
+    }
+
+    private static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int shared = 0;
+        for (String trigram : smaller) {
+            if (larger.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Every three-character window of the text, used for substring candidates. */
+    private static Set<String> windows(String lowerText) {
+        Set<String> windows = new HashSet<>();
+        for (int i = 0; i + 3 <= lowerText.length(); i++) {
+            windows.add(lowerText.substring(i, i + 3));
+        }
+        return windows;
+    }
+
+    /** Trigrams the way {@code pg_trgm} extracts them: per alphanumeric word, padded with two spaces before and one after. */
+    private static Set<String> trigrams(String lowerText) {
+        Set<String> trigrams = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= lowerText.length(); i++) {
+            boolean wordChar = i < lowerText.length() && Character.isLetterOrDigit(lowerText.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String padded = "  " + lowerText.substring(start, i) + " ";
+                for (int j = 0; j + 3 <= padded.length(); j++) {
+                    trigrams.add(padded.substring(j, j + 3));
+                }
+                start = -1;
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,107 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_SEARCH_LIMIT;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_SEARCH_LIMIT;
+
+/**
+ * Decides whether name search runs in the database. On PostgreSQL it enables {@code pg_trgm} and creates the
+ * GIN trigram indexes that serve {@code ILIKE '%term%'}; anywhere else, or when the extension cannot be
+ * enabled, search falls back to the in-memory {@link TrigramIndex}.
+ * <p>
+ * Indexes are built {@code CONCURRENTLY} so startup does not block writes on large tables. Database search is
+ * switched on before the builds start since the queries are correct without the indexes, only slower.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrigramSearchSupport {
+
+    private static final List<String> INDEX_STATEMENTS = List.of(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_workspace_name_trgm ON workspace USING gin (name gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_group_table_name_trgm ON group_table USING gin (name gin_trgm_ops)",
+            // Lets the slug allocator's LIKE 'base-%' use an index whatever the database collation
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_group_table_slug_pattern ON group_table (slug text_pattern_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean databaseSearchEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initialize() {
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("TrigramSearchSupport :: initialize :: Database is {}, using in-memory trigram search", databaseProduct);
+            return;
+        }
+
+        if (!enableExtension()) {
+            log.warn("TrigramSearchSupport :: initialize :: pg_trgm is not available, using in-memory trigram search");
+            return;
+        }
+        databaseSearchEnabled = true;
+
+        for (String statement : INDEX_STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("TrigramSearchSupport :: initialize :: Could not create index, search stays correct but slower :: {} :: {}",
+                        statement, e.getMessage());
+            }
+        }
+        log.info("TrigramSearchSupport :: initialize :: Using pg_trgm for name search");
+    }
+
+    public boolean isDatabaseSearchEnabled() {
+        return databaseSearchEnabled;
+    }
+
+    /** Requested result limit, defaulted and capped. */
+    public int resolveLimit(Integer requestedLimit) {
+        if (requestedLimit == null || requestedLimit <= 0) {
+            return DEFAULT_SEARCH_LIMIT;
+        }
+        return Math.min(requestedLimit, MAX_SEARCH_LIMIT);
+    }
+
+    /** {@code %term%} for {@code ILIKE}, with the term's own wildcards escaped. */
+    public String containsPattern(String term) {
+        return "%" + escapeLike(term) + "%";
+    }
+
+    /** {@code term%} for {@code ILIKE}, with the term's own wildcards escaped. */
+    public String prefixPattern(String term) {
+        return escapeLike(term) + "%";
+    }
+
+    private boolean enableExtension() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            return true;
+        } catch (DataAccessException e) {
+            // Not allowed to create extensions; it may still have been installed by an administrator
+            log.debug("TrigramSearchSupport :: enableExtension :: Cannot create pg_trgm :: {}", e.getMessage());
+            Integer installed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+            return installed != null && installed > 0;
+        }
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
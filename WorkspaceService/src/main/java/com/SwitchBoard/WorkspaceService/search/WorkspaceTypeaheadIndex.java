@@ -0,0 +1,324 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Typeahead over the task titles and topics of a workspace, answered from memory in a {@link PrefixDictionary}.
+ * <p>
+ * A workspace is loaded with one query the first time it is asked for, then kept current by the task and
+ * assignment services: new tasks and renames are applied after their transaction commits, while deletions
+ * drop the workspace so it is reloaded on the next keystroke. Workspaces nobody typed in for
+ * {@code typeahead.idle-timeout} are evicted, as are the least recently used ones beyond
+ * {@code typeahead.max-workspaces}.
+ * <p>
+ * Suggestions are hints, not a source of truth: a write committing while its workspace loads can leave a task
+ * count off by one until the workspace is evicted. Each instance only sees the writes made through it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkspaceTypeaheadIndex {
+
+    private static final Comparator<Suggestion> MOST_USED_FIRST = Comparator
+            .comparingInt(Suggestion::taskCount).reversed()
+            .thenComparing(Suggestion::text);
+
+    private final AssignmentRepository assignmentRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final TransactionUtils transactionUtils;
+
+    @Value("${typeahead.idle-timeout:PT30M}")
+    private Duration idleTimeout;
+
+    @Value("${typeahead.max-workspaces:1000}")
+    private int maxWorkspaces;
+
+    private final Map<UUID, WorkspaceTerms> workspaces = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> workspaceByAssignment = new ConcurrentHashMap<>();
+    // Workspaces being loaded, flagged when one of their tasks changes before the load is published
+    private final Map<UUID, Load> loads = new ConcurrentHashMap<>();
+
+    public enum TermType {
+        TITLE, TOPIC
+    }
+
+    public record Suggestion(String text, TermType type, int taskCount) {
+    }
+
+    private record TermKey(TermType type, String lowerText) {
+
+        static TermKey of(TermType type, String text) {
+            return new TermKey(type, text.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private record TermDelta(TermType type, String text, int taskCount) {
+    }
+
+    /** Titles and topics of a workspace that start a word with {@code query}, most used first. */
+    public List<Suggestion> suggest(UUID workspaceId, String query, int limit) {
+        WorkspaceTerms terms = workspaces.get(workspaceId);
+        if (terms == null) {
+            terms = load(workspaceId);
+        }
+        terms.lastAccessNanos = System.nanoTime();
+        return terms.dictionary.search(query, suggestion -> suggestion.taskCount() > 0, MOST_USED_FIRST, limit);
+    }
+
+    /**
+     * Records tasks added to an assignment. {@code workspaceId} may be null when the caller does not know it,
+     * for instance for an assignment created in the same transaction.
+     */
+    public void tasksAdded(UUID workspaceId, UUID assignmentId, Collection<Task> tasks) {
+        List<TermDelta> deltas = new ArrayList<>();
+        for (Task task : tasks) {
+            addDelta(deltas, TermType.TITLE, task.getTitle(), 1);
+            addDelta(deltas, TermType.TOPIC, task.getTopic(), 1);
+        }
+        if (assignmentId == null || deltas.isEmpty()) {
+            return;
+        }
+        UUID resolvedWorkspaceId = resolveWorkspaceId(workspaceId, assignmentId);
+        transactionUtils.runAfterCommit(() -> apply(resolvedWorkspaceId, assignmentId, deltas));
+    }
+
+    public void taskRenamed(UUID assignmentId, String oldTitle, String newTitle) {
+        if (assignmentId == null || (oldTitle != null && oldTitle.equals(newTitle))) {
+            return;
+        }
+        List<TermDelta> deltas = new ArrayList<>();
+        addDelta(deltas, TermType.TITLE, oldTitle, -1);
+        addDelta(deltas, TermType.TITLE, newTitle, 1);
+        UUID workspaceId = resolveWorkspaceId(null, assignmentId);
+        transactionUtils.runAfterCommit(() -> apply(workspaceId, assignmentId, deltas));
+    }
+
+    /** Records tasks deleted from an assignment; the workspace is reloaded on its next lookup. */
+    public void tasksRemoved(UUID assignmentId) {
+        UUID workspaceId = assignmentId != null ? workspaceByAssignment.get(assignmentId) : null;
+        if (workspaceId != null) {
+            workspaceRemoved(workspaceId);
+        }
+    }
+
+    public void workspaceRemoved(UUID workspaceId) {
+        transactionUtils.runAfterCommit(() -> {
+            markChangedDuringLoad(workspaceId);
+            evict(workspaceId);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${typeahead.eviction-interval:PT1M}")
+    public void evictIdleWorkspaces() {
+        long now = System.nanoTime();
+        List<UUID> idle = new ArrayList<>();
+        workspaces.forEach((workspaceId, terms) -> {
+            if (now - terms.lastAccessNanos > idleTimeout.toNanos()) {
+                idle.add(workspaceId);
+            }
+        });
+        idle.forEach(this::evict);
+
+        int excess = workspaces.size() - maxWorkspaces;
+        if (excess > 0) {
+            workspaces.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(this::evict);
+        }
+        if (!idle.isEmpty() || excess > 0) {
+            log.info("WorkspaceTypeaheadIndex :: evictIdleWorkspaces :: Evicted {} idle and {} least recently used workspaces, {} loaded",
+                    idle.size(), Math.max(excess, 0), workspaces.size());
+        }
+    }
+
+    /**
+     * Loads a workspace outside the map, so the query never runs inside a map operation: the first caller
+     * registers a {@link Load} and publishes what it read, concurrent first keystrokes wait on its future.
+     */
+    private WorkspaceTerms load(UUID workspaceId) {
+        Load load = new Load();
+        Load inFlight = loads.putIfAbsent(workspaceId, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // Published by a load that finished between the caller's lookup and the registration above
+            WorkspaceTerms terms = workspaces.get(workspaceId);
+            if (terms == null) {
+                terms = loadTerms(workspaceId);
+                publish(workspaceId, terms, load);
+            }
+            load.terms.complete(terms);
+            return terms;
+        } catch (RuntimeException e) {
+            load.terms.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(workspaceId, load);
+        }
+    }
+
+    /**
+     * Publishes before checking for changes, the reverse of {@link #apply}: a change either sees the published
+     * terms or is seen here. A task changed while loading may or may not be in the rows read, so the terms are
+     * then withdrawn and served once, to be loaded again next time.
+     */
+    private void publish(UUID workspaceId, WorkspaceTerms terms, Load load) {
+        workspaces.put(workspaceId, terms);
+        if (load.changed.get()) {
+            workspaces.remove(workspaceId, terms);
+            return;
+        }
+        terms.assignmentIds.forEach(assignmentId -> workspaceByAssignment.put(assignmentId, workspaceId));
+    }
+
+    private static WorkspaceTerms await(Load load) {
+        try {
+            return load.terms.join();
+        } catch (CompletionException e) {
+            // Rethrow the loader's exception, e.g. ResourceNotFoundException for an unknown workspace
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private WorkspaceTerms loadTerms(UUID workspaceId) {
+        log.debug("WorkspaceTypeaheadIndex :: loadTerms :: Loading task titles and topics of workspace :: {}", workspaceId);
+        List<Object[]> rows = assignmentRepository.findTypeaheadTermsByWorkspaceId(workspaceId);
+        if (rows.isEmpty() && !workspaceRepository.existsById(workspaceId)) {
+            log.error("WorkspaceTypeaheadIndex :: loadTerms :: Workspace not found :: {}", workspaceId);
+            throw new ResourceNotFoundException("Workspace not found with ID: " + workspaceId);
+        }
+
+        WorkspaceTerms terms = new WorkspaceTerms();
+        List<TermDelta> deltas = new ArrayList<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            terms.assignmentIds.add((UUID) row[0]);
+            addDelta(deltas, TermType.TITLE, (String) row[1], 1);
+            addDelta(deltas, TermType.TOPIC, (String) row[2], 1);
+        }
+        terms.apply(deltas);
+        log.info("WorkspaceTypeaheadIndex :: loadTerms :: Loaded {} titles and topics of workspace :: {}",
+                terms.dictionary.size(), workspaceId);
+        return terms;
+    }
+
+    /** The workspace of an assignment, looked up only while some workspace is loaded or loading. */
+    private UUID resolveWorkspaceId(UUID workspaceId, UUID assignmentId) {
+        if (workspaceId != null) {
+            return workspaceId;
+        }
+        UUID known = workspaceByAssignment.get(assignmentId);
+        if (known != null || (workspaces.isEmpty() && loads.isEmpty())) {
+            return known;
+        }
+        return assignmentRepository.findWorkspaceIdById(assignmentId).orElse(null);
+    }
+
+    private void apply(UUID workspaceId, UUID assignmentId, List<TermDelta> deltas) {
+        if (workspaceId == null) {
+            // Loads that started after the lookup cannot be told apart; none of them is published
+            loads.values().forEach(load -> load.changed.set(true));
+            return;
+        }
+        markChangedDuringLoad(workspaceId);
+        WorkspaceTerms terms = workspaces.get(workspaceId);
+        if (terms != null) {
+            terms.assignmentIds.add(assignmentId);
+            workspaceByAssignment.put(assignmentId, workspaceId);
+            terms.apply(deltas);
+        }
+    }
+
+    private void markChangedDuringLoad(UUID workspaceId) {
+        Load load = loads.get(workspaceId);
+        if (load != null) {
+            load.changed.set(true);
+        }
+    }
+
+    private void evict(UUID workspaceId) {
+        WorkspaceTerms terms = workspaces.remove(workspaceId);
+        if (terms != null) {
+            terms.assignmentIds.forEach(assignmentId -> workspaceByAssignment.remove(assignmentId, workspaceId));
+        }
+    }
+
+    private static void addDelta(List<TermDelta> deltas, TermType type, String text, int taskCount) {
+        if (text != null && !text.isBlank()) {
+            deltas.add(new TermDelta(type, text.trim(), taskCount));
+        }
+    }
+
+    /** A workspace being loaded: the terms read, for callers that arrive meanwhile, and whether a task changed. */
+    private static final class Load {
+
+        private final CompletableFuture<WorkspaceTerms> terms = new CompletableFuture<>();
+        private final AtomicBoolean changed = new AtomicBoolean();
+    }
+
+    /**
+     * The titles and topics of one workspace with the number of tasks using each. Lookups read the current
+     * dictionary without locking; writers replace it. A change that only moves counts swaps the values of the
+     * existing dictionary, a new title or topic rebuilds it and drops the ones no task uses any more.
+     */
+    private static final class WorkspaceTerms {
+
+        private final Set<UUID> assignmentIds = ConcurrentHashMap.newKeySet();
+        // Guarded by this
+        private final Map<TermKey, Suggestion> terms = new HashMap<>();
+        private volatile PrefixDictionary<Suggestion> dictionary = PrefixDictionary.of(List.of(), Suggestion::text);
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        synchronized void apply(List<TermDelta> deltas) {
+            boolean rebuild = false;
+            for (TermDelta delta : deltas) {
+                TermKey key = TermKey.of(delta.type(), delta.text());
+                Suggestion term = terms.get(key);
+                if (term == null) {
+                    if (delta.taskCount() > 0) {
+                        terms.put(key, new Suggestion(delta.text(), delta.type(), delta.taskCount()));
+                        rebuild = true;
+                    }
+                } else {
+                    terms.put(key, new Suggestion(term.text(), term.type(), Math.max(term.taskCount() + delta.taskCount(), 0)));
+                }
+            }
+            if (rebuild) {
+                terms.values().removeIf(term -> term.taskCount() == 0);
+                dictionary = PrefixDictionary.of(terms.values(), Suggestion::text);
+            } else {
+                dictionary = dictionary.withValues(term -> terms.getOrDefault(TermKey.of(term.type(), term.text()), term));
+            }
+        }
+    }
+}
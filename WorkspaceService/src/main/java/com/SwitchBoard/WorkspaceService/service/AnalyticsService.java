@@ -0,0 +1,17 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.DailyProgressResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.RollupBackfillResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalyticsService {
+
+    List<DailyProgressResponse> getUserDailyProgress(UUID userId, LocalDate from, LocalDate to, UUID requesterId);
+
+    List<DailyProgressResponse> getAssignmentDailyProgress(UUID assignmentId, LocalDate from, LocalDate to, UUID requesterId);
+
+    RollupBackfillResponse backfillRollups(LocalDate from, LocalDate to, UUID requesterId);
+}
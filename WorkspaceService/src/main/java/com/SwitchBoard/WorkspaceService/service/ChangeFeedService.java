@@ -0,0 +1,13 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.ChangeFeedResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface ChangeFeedService {
+
+    ChangeFeedResponse getChanges(long fromOffset, Integer limit);
+
+    SseEmitter streamChanges(UUID userId);
+}
@@ -0,0 +1,12 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SearchHitResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface ContentSearchService {
+
+    Page<SearchHitResponse> search(String query, UUID userId, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
+
+import java.time.ZoneId;
+import java.util.UUID;
+
+public interface DashboardService {
+
+    DashboardResponse getDashboard(UUID userId, ZoneId zone);
+}
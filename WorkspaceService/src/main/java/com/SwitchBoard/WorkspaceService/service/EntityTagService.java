@@ -0,0 +1,34 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import java.util.UUID;
+
+/**
+ * Entity tags for conditional GETs, each read with one aggregate query so that an unchanged resource can be
+ * answered with 304 before it is loaded. Single resources get strong tags from their {@code @Version} and that of
+ * what they embed; lists get weak tags. A tag is null when the resource does not exist.
+ */
+public interface EntityTagService {
+
+    String getTaskTag(UUID taskId);
+
+    String getAssignmentTag(UUID assignmentId);
+
+    String getWorkspaceTag(UUID workspaceId);
+
+    String getTasksByAssignmentTag(UUID assignmentId);
+
+    String getTasksByAssigneeTag(UUID assigneeId);
+
+    String getAssignmentsByWorkspaceTag(UUID workspaceId);
+
+    String getWorkspacesByOwnerTag(UUID ownerUserId);
+
+    /** The tag of a list narrowed to a sparse fieldset, which is a representation of its own. */
+    String withFieldset(String eTag, String fields);
+
+    /**
+     * The tag of a resource in the encoding negotiated from {@code accept}; Smile and CBOR are representations of
+     * their own, JSON keeps the tag as it is.
+     */
+    String withRepresentation(String eTag, String accept);
+}
@@ -0,0 +1,35 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.request.GroupCreateRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupMembersRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupUpdateRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.GroupResponse;
+import java.util.List;
+import java.util.UUID;
+
+public interface GroupService {
+
+    GroupResponse createGroup(GroupCreateRequest request);
+
+    GroupResponse getGroupById(UUID groupId, UUID userId);
+
+    GroupResponse getGroupBySlug(String slug, UUID userId);
+
+    List<GroupResponse> getGroupsByUserId(UUID userId);
+
+    List<GroupResponse> searchGroups(String query, UUID userId, Integer limit);
+
+    // Changes to a group and its members are limited to its creator and leaders; userId is the caller
+    GroupResponse updateGroup(UUID groupId, GroupUpdateRequest request, UUID userId);
+
+    void deleteGroup(UUID groupId, UUID userId);
+
+    // Group membership management methods
+    int addMembers(UUID groupId, GroupMembersRequest request, UUID userId);
+
+    int removeMembers(UUID groupId, List<UUID> memberIds, UUID userId);
+
+    List<UUID> getGroupMembers(UUID groupId, UUID userId);
+
+    boolean isMember(UUID groupId, UUID memberId, UUID userId);
+}
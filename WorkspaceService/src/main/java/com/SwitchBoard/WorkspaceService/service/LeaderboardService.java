@@ -0,0 +1,12 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.LeaderboardResponse;
+
+import java.util.UUID;
+
+public interface LeaderboardService {
+
+    LeaderboardResponse getWorkspaceLeaderboard(UUID workspaceId, UUID userId, Integer limit);
+
+    LeaderboardResponse getGroupLeaderboard(UUID groupId, UUID userId, Integer limit);
+}
@@ -0,0 +1,10 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SyncResponse;
+
+import java.util.UUID;
+
+public interface SyncService {
+
+    SyncResponse sync(UUID userId, String sinceToken);
+}
@@ -3,6 +3,7 @@ package com.SwitchBoard.WorkspaceService.service;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskUserAssignmentRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskAssignmentUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskAssignmentResponse;
+import com.SwitchBoard.WorkspaceService.entity.Task;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +14,15 @@ public interface TaskAssignmentService {
     List<TaskAssignmentResponse> assignUsersToTask(UUID taskId, TaskUserAssignmentRequest request);
 
 
+    List<TaskAssignmentResponse> assignUsersToTasks(List<Task> tasks, TaskUserAssignmentRequest request);
+
+
     void unassignUsersFromTask(UUID taskId, List<UUID> userIds);
 
 
+    void unassignUsersFromTasks(List<UUID> taskIds, List<UUID> userIds);
+
+
     TaskAssignmentResponse updateTaskAssignment(UUID assignmentId, TaskAssignmentUpdateRequest request);
 
 
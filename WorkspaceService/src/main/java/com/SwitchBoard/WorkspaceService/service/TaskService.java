@@ -1,47 +1,72 @@
 package com.SwitchBoard.WorkspaceService.service;
 
 import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskBatchUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskCreateRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.BatchGetResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.InboxTaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskBatchUpdateResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TypeaheadSuggestionResponse;
 import com.SwitchBoard.WorkspaceService.entity.Task;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface TaskService {
 
-    List<Task> createTask(TaskCreateRequest request);
+    List<Task> createTask(UUID assignmentId, TaskCreateRequest request);
     
     TaskResponse getTaskById(UUID id);
+
+    BatchGetResponse<TaskResponse> getTasksByIds(List<UUID> ids);
     
     Page<TaskResponse> getAllTasks(Pageable pageable);
     
 //    List<TaskResponse> getTasksByWorkspaceId(UUID workspaceId);
     
     List<TaskResponse> getTasksByAssignmentId(UUID assignmentId);
+
+    List<Map<String, Object>> getTasksByAssignmentId(UUID assignmentId, String fields);
     
     List<TaskResponse> getTasksByAssigneeId(UUID assigneeId);
+
+    List<Map<String, Object>> getTasksByAssigneeId(UUID assigneeId, String fields);
+
+    List<InboxTaskResponse> getInbox(UUID userId);
+
+    int rebuildInbox();
     
     List<TaskResponse> getTasksByReporterId(UUID reporterId);
+
+    List<Map<String, Object>> getTasksByReporterId(UUID reporterId, String fields);
     
 //    List<TaskResponse> getSubTasks(UUID parentTaskId);
 //
 //    List<TaskResponse> getRootTasksByWorkspaceId(UUID workspaceId);
 //
     List<TaskResponse> getTasksByStatus(TaskStatus status);
+
+    /** Up to {@code limit} tasks of a workspace in id order, after {@code afterId}; an export pages through with the last id. */
+    List<TaskResponse> exportTasksByWorkspaceId(UUID workspaceId, UUID afterId, int limit);
 //
 //    List<TaskResponse> getTasksByWorkspaceAndStatus(UUID workspaceId, TaskStatus status);
 //
     List<TaskResponse> getOverdueTasks();
+
+    List<TypeaheadSuggestionResponse> getTypeaheadSuggestions(UUID workspaceId, String query, Integer limit);
 //
 //    List<TaskResponse> searchTasksByTitle(UUID workspaceId, String title);
     
     TaskResponse updateTask(UUID id, TaskCreateRequest request);
     
     TaskResponse updateTaskStatus(UUID id, TaskStatus status);
+
+    TaskBatchUpdateResponse updateTasks(List<TaskBatchUpdateRequest.TaskChange> changes);
     
     TaskResponse assignTask(UUID id, UUID assigneeId);
     
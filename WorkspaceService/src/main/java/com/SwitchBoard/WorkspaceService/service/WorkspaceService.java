@@ -5,6 +5,7 @@ import com.SwitchBoard.WorkspaceService.dto.response.WorkspaceResponse;
 import com.SwitchBoard.WorkspaceService.entity.Workspace;
 import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface WorkspaceService {
@@ -12,9 +13,15 @@ public interface WorkspaceService {
     WorkspaceResponse getWorkspaceById(UUID id);
     
     List<WorkspaceResponse> getWorkspacesByOwnerUserId(UUID ownerUserId);
+
+    List<Map<String, Object>> getWorkspacesByOwnerUserId(UUID ownerUserId, String fields);
     
     List<WorkspaceResponse> getWorkspacesAccessibleByUser(UUID userId);
 
+    List<Map<String, Object>> getWorkspacesAccessibleByUser(UUID userId, String fields);
+
+    List<WorkspaceResponse> searchWorkspaces(String query, UUID userId, Integer limit);
+
     void deleteWorkspace(UUID id);
 
     // Workspace access management methods
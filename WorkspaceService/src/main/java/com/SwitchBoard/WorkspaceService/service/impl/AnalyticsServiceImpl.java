@@ -0,0 +1,162 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.Exception.UnauthorizedException;
+import com.SwitchBoard.WorkspaceService.analytics.ProgressRollups;
+import com.SwitchBoard.WorkspaceService.dto.response.DailyProgressResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.RollupBackfillResponse;
+import com.SwitchBoard.WorkspaceService.entity.DailyAssignmentProgress;
+import com.SwitchBoard.WorkspaceService.entity.DailyUserProgress;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.DailyAssignmentProgressRepository;
+import com.SwitchBoard.WorkspaceService.repository.DailyUserProgressRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_ANALYTICS_DAYS;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_ANALYTICS_DAYS;
+
+/**
+ * Time series read only from the daily rollups maintained by {@link ProgressRollups}, one row per day with
+ * progress; days without progress are filled with zeros. A user's series is visible to the users sharing a
+ * workspace with them, an assignment's to the users with access to its workspace.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final DailyUserProgressRepository userProgressRepository;
+    private final DailyAssignmentProgressRepository assignmentProgressRepository;
+    private final ProgressRollups progressRollups;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkspaceRepository workspaceRepository;
+    private final AssignmentRepository assignmentRepository;
+
+    @Value("${analytics.backfill-chunk-days:7}")
+    private int backfillChunkDays;
+
+    // Users allowed to start a backfill; nobody when empty
+    @Value("${analytics.backfill-user-ids:}")
+    private Set<UUID> backfillUserIds;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyProgressResponse> getUserDailyProgress(UUID userId, LocalDate from, LocalDate to, UUID requesterId) {
+        log.info("AnalyticsServiceImpl :: getUserDailyProgress :: Fetching daily progress of user :: {} :: {} to {} :: for user :: {}",
+                userId, from, to, requesterId);
+
+        LocalDate[] range = resolveRange(from, to);
+        if (!userId.equals(requesterId) && !workspaceRepository.sharesWorkspace(requesterId, userId)) {
+            log.error("AnalyticsServiceImpl :: getUserDailyProgress :: User {} shares no workspace with user {}", requesterId, userId);
+            throw new UnauthorizedException("Only users sharing a workspace can see each other's progress");
+        }
+        Map<LocalDate, DailyProgressResponse> byDay = new HashMap<>();
+        for (DailyUserProgress progress : userProgressRepository.findByUserIdAndDayBetweenOrderByDay(userId, range[0], range[1])) {
+            byDay.put(progress.getDay(), new DailyProgressResponse(progress.getDay(), progress.getTasksStarted(),
+                    progress.getTasksCompleted(), progress.getRewardPoints(), progress.getHoursCompleted()));
+        }
+        return toSeries(byDay, range);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyProgressResponse> getAssignmentDailyProgress(UUID assignmentId, LocalDate from, LocalDate to, UUID requesterId) {
+        log.info("AnalyticsServiceImpl :: getAssignmentDailyProgress :: Fetching daily progress of assignment :: {} :: {} to {} :: for user :: {}",
+                assignmentId, from, to, requesterId);
+
+        LocalDate[] range = resolveRange(from, to);
+        if (!assignmentRepository.isAccessibleByUser(assignmentId, requesterId)) {
+            log.error("AnalyticsServiceImpl :: getAssignmentDailyProgress :: User {} cannot see assignment {}", requesterId, assignmentId);
+            throw new UnauthorizedException("User does not have access to this assignment");
+        }
+        Map<LocalDate, DailyProgressResponse> byDay = new HashMap<>();
+        for (DailyAssignmentProgress progress : assignmentProgressRepository.findByAssignmentIdAndDayBetweenOrderByDay(assignmentId, range[0], range[1])) {
+            byDay.put(progress.getDay(), new DailyProgressResponse(progress.getDay(), progress.getTasksStarted(),
+                    progress.getTasksCompleted(), progress.getRewardPoints(), progress.getHoursCompleted()));
+        }
+        return toSeries(byDay, range);
+    }
+
+    /**
+     * Rebuilds the rollups of {@code [from, to]} from the task tables, {@code analytics.backfill-chunk-days} days
+     * per transaction so no transaction holds more than a few days of rows or locks. Progress made on a day while
+     * its chunk is being rebuilt may be counted twice or not at all; run it for past days or while writes are quiet.
+     * Only the users in {@code analytics.backfill-user-ids} may start one, for at most {@code MAX_ANALYTICS_DAYS} days.
+     */
+    @Override
+    public RollupBackfillResponse backfillRollups(LocalDate from, LocalDate to, UUID requesterId) {
+        log.info("AnalyticsServiceImpl :: backfillRollups :: Backfilling daily rollups :: {} to {} :: for user :: {}",
+                from, to, requesterId);
+
+        if (!backfillUserIds.contains(requesterId)) {
+            log.error("AnalyticsServiceImpl :: backfillRollups :: User {} may not backfill rollups", requesterId);
+            throw new UnauthorizedException("User is not allowed to backfill rollups");
+        }
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException("A backfill needs a from date on or before its to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_ANALYTICS_DAYS) {
+            throw new BadRequestException("A backfill covers at most " + MAX_ANALYTICS_DAYS + " days");
+        }
+        int chunks = 0;
+        int rowsWritten = 0;
+        for (LocalDate chunkStart = from; !chunkStart.isAfter(to); chunkStart = chunkStart.plusDays(backfillChunkDays)) {
+            LocalDate start = chunkStart;
+            LocalDate end = min(chunkStart.plusDays(backfillChunkDays), to.plusDays(1));
+            Integer written = transactionTemplate.execute(status -> progressRollups.rebuild(start, end));
+            rowsWritten += written != null ? written : 0;
+            chunks++;
+            log.debug("AnalyticsServiceImpl :: backfillRollups :: Rebuilt {} to {} :: {} rows", start, end, written);
+        }
+
+        log.info("AnalyticsServiceImpl :: backfillRollups :: Backfilled {} to {} in {} chunks :: {} rows written",
+                from, to, chunks, rowsWritten);
+        return RollupBackfillResponse.builder()
+                .from(from)
+                .to(to)
+                .chunks(chunks)
+                .rowsWritten(rowsWritten)
+                .build();
+    }
+
+    private static LocalDate[] resolveRange(LocalDate from, LocalDate to) {
+        LocalDate resolvedTo = to != null ? to : LocalDate.now(ProgressRollups.ROLLUP_ZONE);
+        LocalDate resolvedFrom = from != null ? from : resolvedTo.minusDays(DEFAULT_ANALYTICS_DAYS - 1);
+        if (resolvedTo.isBefore(resolvedFrom)) {
+            throw new BadRequestException("The from date must be on or before the to date");
+        }
+        if (ChronoUnit.DAYS.between(resolvedFrom, resolvedTo) >= MAX_ANALYTICS_DAYS) {
+            throw new BadRequestException("A time series covers at most " + MAX_ANALYTICS_DAYS + " days");
+        }
+        return new LocalDate[]{resolvedFrom, resolvedTo};
+    }
+
+    private static List<DailyProgressResponse> toSeries(Map<LocalDate, DailyProgressResponse> byDay, LocalDate[] range) {
+        List<DailyProgressResponse> series = new ArrayList<>();
+        for (LocalDate day = range[0]; !day.isAfter(range[1]); day = day.plusDays(1)) {
+            DailyProgressResponse progress = byDay.get(day);
+            series.add(progress != null ? progress : new DailyProgressResponse(day, 0, 0, 0L, 0.0));
+        }
+        return series;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
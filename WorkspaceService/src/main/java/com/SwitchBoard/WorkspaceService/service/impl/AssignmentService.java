@@ -4,16 +4,21 @@ import com.SwitchBoard.WorkspaceService.dto.request.AssignmentCreateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.AssignmentUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskCreateRequest;
 import com.SwitchBoard.WorkspaceService.dto.response.AssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.BatchGetResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
 import com.SwitchBoard.WorkspaceService.entity.*;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
 import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.SparseFieldsetQuery;
 import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
 import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
 import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
 import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
 import com.SwitchBoard.WorkspaceService.service.TaskService;
+import com.SwitchBoard.WorkspaceService.utility.SparseFieldset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,20 +27,36 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AssignmentService {
 
+    // Fields of AssignmentResponse a sparse fieldset reads from assignment columns, and the task statistics it counts
+    private static final Set<String> ASSIGNMENT_COLUMNS = Set.of("id", "title", "description", "assignmentTypeKey",
+            "totalRewardPoints", "totalEstimatedHours", "deadline", "createdAt", "updatedAt");
+    private static final List<String> ASSIGNMENT_STATISTICS = List.of("totalTasks", "completedTasks", "pendingTasks",
+            "completionPercentage");
+    private static final Set<String> ASSIGNMENT_FIELDS = Stream.concat(ASSIGNMENT_COLUMNS.stream(), ASSIGNMENT_STATISTICS.stream())
+            .collect(Collectors.toUnmodifiableSet());
+
     private final AssignmentRepository assignmentRepository;
     private final TaskRepository taskRepository;
     private final WorkspaceRepository workspaceRepository;
     private final TaskService taskService;
     private final TaskAssignmentService taskAssignmentService;
+    private final WorkspaceTypeaheadIndex workspaceTypeaheadIndex;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
 
     @Transactional
     public AssignmentResponse createAssignment(AssignmentCreateRequest request) {
@@ -78,13 +99,50 @@ public class AssignmentService {
         return convertToAssignmentResponse(assignment, true);
     }
 
+    /** Resolves many assignments with their task statistics in two queries, answering every ID in request order. */
+    @Transactional(readOnly = true)
+    public BatchGetResponse<AssignmentResponse> getAssignmentsByIds(List<UUID> ids) {
+        log.info("AssignmentService :: getAssignmentsByIds :: Fetching {} assignments", ids.size());
+
+        Map<UUID, AssignmentResponse> assignmentsById = convertToAssignmentResponses(assignmentRepository.findByIdIn(new LinkedHashSet<>(ids))).stream()
+                .collect(Collectors.toMap(AssignmentResponse::getId, Function.identity()));
+        BatchGetResponse<AssignmentResponse> response = BatchGetResponse.of(ids, assignmentsById);
+
+        log.info("AssignmentService :: getAssignmentsByIds :: Found {} of {} assignments", ids.size() - response.getNotFoundCount(), ids.size());
+        return response;
+    }
+
+    /** Task progress of many assignments in two queries; unknown ids are left out. */
+    @Transactional(readOnly = true)
+    public List<DashboardResponse.AssignmentProgress> getAssignmentProgress(List<UUID> ids) {
+        log.info("AssignmentService :: getAssignmentProgress :: Fetching progress of {} assignments", ids.size());
+
+        List<Assignment> assignments = assignmentRepository.findByIdIn(new LinkedHashSet<>(ids));
+        Map<UUID, long[]> taskStats = countTaskStatsByAssignmentId(assignments);
+        return assignments.stream()
+                .map(assignment -> {
+                    long[] stats = taskStats.getOrDefault(assignment.getId(), new long[2]);
+                    return DashboardResponse.AssignmentProgress.builder()
+                            .id(assignment.getId())
+                            .title(assignment.getTitle())
+                            .assignmentTypeKey(assignment.getAssignmentTypeKey())
+                            .deadline(assignment.getDeadline())
+                            .totalTasks((int) stats[0])
+                            .completedTasks((int) stats[1])
+                            .completionPercentage(stats[0] > 0 ? (double) stats[1] / stats[0] * 100 : 0.0)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public Page<AssignmentResponse> getAllAssignments(Pageable pageable) {
         log.info("AssignmentService :: getAllAssignments :: Fetching assignments :: page: {}, size: {}", 
                 pageable.getPageNumber(), pageable.getPageSize());
 
         Page<Assignment> assignments = assignmentRepository.findAll(pageable);
-        return assignments.map(assignment -> convertToAssignmentResponse(assignment, false));
+        Map<UUID, long[]> taskStats = countTaskStatsByAssignmentId(assignments.getContent());
+        return assignments.map(assignment -> convertToAssignmentResponse(assignment, taskStats.get(assignment.getId()), null));
     }
 
     @Transactional(readOnly = true)
@@ -92,9 +150,31 @@ public class AssignmentService {
         log.info("AssignmentService :: getAssignmentsByWorkspaceId :: Fetching assignments for workspace :: {}", workspaceId);
 
         List<Assignment> assignments = assignmentRepository.findByWorkspaceId(workspaceId);
-        return assignments.stream()
-                .map(assignment -> convertToAssignmentResponse(assignment, false))
-                .collect(Collectors.toList());
+        return convertToAssignmentResponses(assignments);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAssignmentsByWorkspaceId(UUID workspaceId, String fields) {
+        log.info("AssignmentService :: getAssignmentsByWorkspaceId :: Fetching fields {} of assignments for workspace :: {}", fields, workspaceId);
+
+        SparseFieldset fieldset = SparseFieldset.parse(fields, ASSIGNMENT_FIELDS);
+        List<Map<String, Object>> rows = sparseFieldsetQuery.find(Assignment.class, fieldset.columns(ASSIGNMENT_COLUMNS),
+                (assignment, criteriaBuilder) -> criteriaBuilder.equal(assignment.get("workspaceId"), workspaceId));
+        if (rows.isEmpty() || !fieldset.includesAny(ASSIGNMENT_STATISTICS)) {
+            return rows;
+        }
+
+        Map<UUID, long[]> taskStats = countTaskStatsByAssignmentIds(rows.stream().map(row -> (UUID) row.get(SparseFieldset.ID)).toList());
+        for (Map<String, Object> row : rows) {
+            long[] stats = taskStats.getOrDefault((UUID) row.get(SparseFieldset.ID), new long[2]);
+            Map<String, Object> statistics = Map.of(
+                    "totalTasks", (int) stats[0],
+                    "completedTasks", (int) stats[1],
+                    "pendingTasks", (int) (stats[0] - stats[1]),
+                    "completionPercentage", stats[0] > 0 ? (double) stats[1] / stats[0] * 100 : 0.0);
+            ASSIGNMENT_STATISTICS.stream().filter(fieldset::includes).forEach(field -> row.put(field, statistics.get(field)));
+        }
+        return rows;
     }
 
 //    @Transactional(readOnly = true)
@@ -112,9 +192,7 @@ public class AssignmentService {
         log.info("AssignmentService :: getOverdueAssignments :: Fetching overdue assignments");
 
         List<Assignment> assignments = assignmentRepository.findOverdueAssignments(Instant.now());
-        return assignments.stream()
-                .map(assignment -> convertToAssignmentResponse(assignment, false))
-                .collect(Collectors.toList());
+        return convertToAssignmentResponses(assignments);
     }
 
     @Transactional
@@ -152,6 +230,7 @@ public class AssignmentService {
         taskRepository.saveAll(tasks);
 
         assignmentRepository.delete(assignment);
+        workspaceTypeaheadIndex.tasksRemoved(id);
         log.info("AssignmentService :: deleteAssignment :: Assignment deleted :: {}", id);
     }
 
@@ -159,13 +238,14 @@ public class AssignmentService {
     public AssignmentResponse addTasksToAssignment(UUID assignmentId, TaskCreateRequest taskCreateRequest) {
         log.info("AssignmentService :: addTasksToAssignment :: Adding {} tasks to assignment :: {}", 
                 taskCreateRequest.getTasks().size(), assignmentId);
-        List<Task> tasks = taskService.createTask(taskCreateRequest);
-
         Assignment assignment = assignmentRepository.findById(assignmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with ID: " + assignmentId));
 
+        List<Task> tasks = taskService.createTask(assignmentId, taskCreateRequest);
+
         assignment.getTasks().addAll(tasks);
         assignmentRepository.save(assignment);
+        workspaceTypeaheadIndex.tasksAdded(assignment.getWorkspaceId(), assignmentId, tasks);
         log.info("AssignmentService :: addTasksToAssignment :: {} tasks added to assignment :: {}", 
                 tasks.size(), assignmentId);
 
@@ -181,6 +261,7 @@ public class AssignmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with ID: " + assignmentId));
 
          taskRepository.deleteAllById(taskIds);
+        workspaceTypeaheadIndex.tasksRemoved(assignmentId);
         log.info("AssignmentService :: removeTasksFromAssignment :: {} tasks removed from assignment :: {}", 
                 taskIds.size(), assignmentId);
 
@@ -209,13 +290,8 @@ public class AssignmentService {
                         .assignedBy(assignedBy)
                         .build();
 
-        // Assign users to each task
-        int totalAssignments = 0;
-        for (Task task : tasks) {
-            List<com.SwitchBoard.WorkspaceService.dto.response.TaskAssignmentResponse> taskAssignments = 
-                    taskAssignmentService.assignUsersToTask(task.getId(), assignmentRequest);
-            totalAssignments += taskAssignments.size();
-        }
+        // Assign users to all tasks in one pass
+        int totalAssignments = taskAssignmentService.assignUsersToTasks(tasks, assignmentRequest).size();
 
         log.info("AssignmentService :: assignUsersToAllTasks :: {} total user assignments created for assignment :: {}", 
                 totalAssignments, assignmentId);
@@ -234,10 +310,8 @@ public class AssignmentService {
         // Get all tasks in the assignment
         List<Task> tasks = taskRepository.findByAssignmentId(assignmentId);
 
-        // Unassign users from each task
-        for (Task task : tasks) {
-            taskAssignmentService.unassignUsersFromTask(task.getId(), userIds);
-        }
+        // Unassign users from all tasks in one statement
+        taskAssignmentService.unassignUsersFromTasks(tasks.stream().map(Task::getId).toList(), userIds);
 
         log.info("AssignmentService :: unassignUsersFromAllTasks :: {} users unassigned from all tasks in assignment :: {}", 
                 userIds.size(), assignmentId);
@@ -258,16 +332,43 @@ public class AssignmentService {
 
 
 
+    private List<AssignmentResponse> convertToAssignmentResponses(List<Assignment> assignments) {
+        Map<UUID, long[]> taskStats = countTaskStatsByAssignmentId(assignments);
+        return assignments.stream()
+                .map(assignment -> convertToAssignmentResponse(assignment, taskStats.get(assignment.getId()), null))
+                .collect(Collectors.toList());
+    }
+
+    // Total and completed task counts for every assignment in one grouped query
+    private Map<UUID, long[]> countTaskStatsByAssignmentId(List<Assignment> assignments) {
+        if (assignments.isEmpty()) {
+            return new HashMap<>();
+        }
+        return countTaskStatsByAssignmentIds(assignments.stream().map(Assignment::getId).toList());
+    }
+
+    private Map<UUID, long[]> countTaskStatsByAssignmentIds(List<UUID> assignmentIds) {
+        Map<UUID, long[]> taskStats = new HashMap<>();
+        for (Object[] row : assignmentRepository.countTaskStatsByAssignmentIds(assignmentIds)) {
+            taskStats.put((UUID) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        return taskStats;
+    }
+
     private AssignmentResponse convertToAssignmentResponse(Assignment assignment, boolean includeTasks) {
         // Calculate statistics
         Long totalTasks = assignmentRepository.countTasksByAssignmentId(assignment.getId());
         Long completedTasks = assignmentRepository.countCompletedTasksByAssignmentId(assignment.getId());
+        List<Task> tasks = includeTasks ? taskRepository.findByAssignmentId(assignment.getId()) : null;
+        return convertToAssignmentResponse(assignment, new long[]{totalTasks, completedTasks}, tasks);
+    }
+
+    private AssignmentResponse convertToAssignmentResponse(Assignment assignment, long[] taskStats, List<Task> tasks) {
+        long totalTasks = taskStats != null ? taskStats[0] : 0L;
+        Long completedTasks = taskStats != null ? taskStats[1] : 0L;
         Integer pendingTasks = (int) (totalTasks - completedTasks);
         Double completionPercentage = totalTasks > 0 ? (completedTasks.doubleValue() / totalTasks) * 100 : 0.0;
 
-        // Calculate total spent hours
-        List<Task> tasks = taskRepository.findByAssignmentId(assignment.getId());
-
         AssignmentResponse.AssignmentResponseBuilder builder = AssignmentResponse.builder()
                 .id(assignment.getId())
                 .title(assignment.getTitle())
@@ -286,7 +387,7 @@ public class AssignmentService {
 //                .createdBy(assignment.getCreatedBy())
 //                .updatedBy(assignment.getUpdatedBy());
 
-        if (includeTasks) {
+        if (tasks != null) {
             List<TaskResponse> taskResponses = tasks.stream()
                     .map(this::convertToTaskResponse)
                     .collect(Collectors.toList());
@@ -0,0 +1,50 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.dto.response.ChangeFeedResponse;
+import com.SwitchBoard.WorkspaceService.outbox.ChangeEvent;
+import com.SwitchBoard.WorkspaceService.outbox.OutboxRelay;
+import com.SwitchBoard.WorkspaceService.push.ChangeStreamBroadcaster;
+import com.SwitchBoard.WorkspaceService.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_CHANGE_FEED_LIMIT;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_CHANGE_FEED_LIMIT;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final OutboxRelay outboxRelay;
+    private final ChangeStreamBroadcaster changeStreamBroadcaster;
+
+    @Override
+    public ChangeFeedResponse getChanges(long fromOffset, Integer limit) {
+        if (fromOffset < 0) {
+            log.error("ChangeFeedServiceImpl :: getChanges :: Negative offset :: {}", fromOffset);
+            throw new BadRequestException("fromOffset must not be negative");
+        }
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_CHANGE_FEED_LIMIT : Math.min(limit, MAX_CHANGE_FEED_LIMIT);
+
+        List<ChangeEvent> events = outboxRelay.replay(fromOffset, resolvedLimit);
+        long nextOffset = events.isEmpty() ? fromOffset : events.get(events.size() - 1).offset() + 1;
+        log.debug("ChangeFeedServiceImpl :: getChanges :: {} change events from offset {}", events.size(), fromOffset);
+        return ChangeFeedResponse.builder()
+                .events(events)
+                .nextOffset(nextOffset)
+                .build();
+    }
+
+    @Override
+    public SseEmitter streamChanges(UUID userId) {
+        log.debug("ChangeFeedServiceImpl :: streamChanges :: Opening change stream for user :: {}", userId);
+        return changeStreamBroadcaster.subscribe(userId);
+    }
+}
@@ -0,0 +1,147 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SearchHitResponse;
+import com.SwitchBoard.WorkspaceService.entity.Assignment;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.ContentSearchRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.search.FullTextSearchSupport;
+import com.SwitchBoard.WorkspaceService.search.Highlighter;
+import com.SwitchBoard.WorkspaceService.service.ContentSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentSearchServiceImpl implements ContentSearchService {
+
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double TOPIC_WEIGHT = 0.4;
+    private static final double DESCRIPTION_WEIGHT = 0.2;
+
+    private final ContentSearchRepository contentSearchRepository;
+    private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final FullTextSearchSupport fullTextSearchSupport;
+
+    /**
+     * Full-text search over the titles, topics and descriptions of the tasks and assignments in the workspaces the
+     * user owns or has access to. Uses the tsvector index on PostgreSQL and a LIKE scan elsewhere.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SearchHitResponse> search(String query, UUID userId, Pageable pageable) {
+        log.info("ContentSearchServiceImpl :: search :: Searching :: {} :: for user :: {} :: page {}",
+                query, userId, pageable.getPageNumber());
+
+        String term = query == null ? "" : query.trim();
+        if (term.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<SearchHitResponse> hits = fullTextSearchSupport.isDatabaseSearchEnabled()
+                ? contentSearchRepository.search(term, userId, pageable)
+                : searchWithLike(term, userId, pageable);
+        hits.forEach(hit -> {
+            hit.setTitle(Highlighter.toHtml(hit.getTitle()));
+            hit.setSnippet(Highlighter.toHtml(hit.getSnippet()));
+        });
+
+        log.info("ContentSearchServiceImpl :: search :: Found {} hits for :: {} :: for user :: {}",
+                hits.getTotalElements(), query, userId);
+        return hits;
+    }
+
+    /**
+     * Portable fallback: loads the rows containing the first word with a LIKE query, keeps those containing every
+     * word, and scores them by the fields the words appear in, weighted like the tsvector columns.
+     */
+    private Page<SearchHitResponse> searchWithLike(String query, UUID userId, Pageable pageable) {
+        List<String> words = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (words.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String pattern = "%" + words.get(0) + "%";
+
+        List<SearchHitResponse> hits = new ArrayList<>();
+        for (Object[] row : taskRepository.findMatchingInAccessibleWorkspaces(userId, pattern)) {
+            Task task = (Task) row[0];
+            double score = score(words, task.getTitle(), task.getTopic(), task.getDescription());
+            if (score > 0) {
+                hits.add(hit(SearchHitResponse.HitType.TASK, task.getId(), task.getAssignmentId(), (UUID) row[1],
+                        task.getTitle(), task.getDescription(), score));
+            }
+        }
+        for (Assignment assignment : assignmentRepository.findMatchingInAccessibleWorkspaces(userId, pattern)) {
+            double score = score(words, assignment.getTitle(), null, assignment.getDescription());
+            if (score > 0) {
+                hits.add(hit(SearchHitResponse.HitType.ASSIGNMENT, assignment.getId(), assignment.getId(),
+                        assignment.getWorkspaceId(), assignment.getTitle(), assignment.getDescription(), score));
+            }
+        }
+
+        hits.sort(Comparator.comparing(SearchHitResponse::getScore, Comparator.reverseOrder())
+                .thenComparing(SearchHitResponse::getId));
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<SearchHitResponse> page = new ArrayList<>(hits.subList(from, to));
+        page.forEach(hit -> {
+            hit.setTitle(Highlighter.markAll(hit.getTitle(), words));
+            hit.setSnippet(Highlighter.markSnippet(hit.getSnippet(), words));
+        });
+        return new PageImpl<>(page, pageable, hits.size());
+    }
+
+    /** Sum of the field weights each word appears in, or 0 when some word appears in none. */
+    private static double score(List<String> words, String title, String topic, String description) {
+        String lowerTitle = lower(title);
+        String lowerTopic = lower(topic);
+        String lowerDescription = lower(description);
+        double score = 0;
+        for (String word : words) {
+            double wordScore = (lowerTitle.contains(word) ? TITLE_WEIGHT : 0)
+                    + (lowerTopic.contains(word) ? TOPIC_WEIGHT : 0)
+                    + (lowerDescription.contains(word) ? DESCRIPTION_WEIGHT : 0);
+            if (wordScore == 0) {
+                return 0;
+            }
+            score += wordScore;
+        }
+        return score;
+    }
+
+    private static String lower(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static SearchHitResponse hit(SearchHitResponse.HitType type, UUID id, UUID assignmentId, UUID workspaceId,
+                                         String title, String description, double score) {
+        return SearchHitResponse.builder()
+                .type(type)
+                .id(id)
+                .assignmentId(assignmentId)
+                .workspaceId(workspaceId)
+                .title(title)
+                .snippet(description)
+                .score(score)
+                .build();
+    }
+}
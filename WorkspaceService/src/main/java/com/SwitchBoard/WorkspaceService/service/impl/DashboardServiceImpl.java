@@ -0,0 +1,159 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.enums.AssignmentType;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final TaskRepository taskRepository;
+    private final Executor dashboardExecutor;
+
+    /**
+     * Everything the home screen needs in four set-based queries that run in parallel, each in its own read-only
+     * repository transaction: the user's workspaces, the progress of every assignment in them, the user's open
+     * tasks due this week and their overdue count. Deliberately not transactional itself so the request thread
+     * holds no connection while it waits.
+     * <p>
+     * Today and this week are calendar days in {@code zone}, the week ending on Sunday; overdue tasks are those
+     * past their deadline now, so a task due earlier today is both due today and overdue.
+     */
+    @Override
+    public DashboardResponse getDashboard(UUID userId, ZoneId zone) {
+        log.info("DashboardServiceImpl :: getDashboard :: Building dashboard for user :: {}", userId);
+
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        Instant startOfToday = today.atStartOfDay(zone).toInstant();
+        Instant startOfTomorrow = today.plusDays(1).atStartOfDay(zone).toInstant();
+        Instant endOfWeek = today.with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay(zone).toInstant();
+
+        CompletableFuture<List<Workspace>> workspaces = query(
+                () -> workspaceRepository.findWorkspacesAccessibleByUser(userId));
+        CompletableFuture<List<Object[]>> progress = query(
+                () -> assignmentRepository.findProgressInAccessibleWorkspaces(userId));
+        CompletableFuture<List<Object[]>> dueThisWeek = query(
+                () -> taskRepository.findOpenByAssigneeDueBetween(userId, startOfToday, endOfWeek, TaskStatus.COMPLETED));
+        CompletableFuture<Long> overdueCount = query(
+                () -> taskRepository.countOverdueByAssignee(userId, now, TaskStatus.COMPLETED));
+        await(CompletableFuture.allOf(workspaces, progress, dueThisWeek, overdueCount));
+
+        List<TaskResponse> tasksDueToday = new ArrayList<>();
+        List<TaskResponse> tasksDueLaterThisWeek = new ArrayList<>();
+        for (Object[] row : dueThisWeek.join()) {
+            Task task = (Task) row[0];
+            TaskResponse taskResponse = mapToTaskResponse(task, ((Long) row[1]).intValue());
+            (task.getDeadline().isBefore(startOfTomorrow) ? tasksDueToday : tasksDueLaterThisWeek).add(taskResponse);
+        }
+
+        DashboardResponse dashboard = DashboardResponse.builder()
+                .workspaces(mapToWorkspaceSummaries(workspaces.join(), progress.join()))
+                .tasksDueToday(tasksDueToday)
+                .tasksDueThisWeek(tasksDueLaterThisWeek)
+                .overdueTaskCount(overdueCount.join())
+                .build();
+
+        log.info("DashboardServiceImpl :: getDashboard :: Dashboard built for user :: {} :: {} workspaces, {} tasks due this week, {} overdue",
+                userId, dashboard.getWorkspaces().size(), tasksDueToday.size() + tasksDueLaterThisWeek.size(),
+                dashboard.getOverdueTaskCount());
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, dashboardExecutor);
+    }
+
+    private static void await(CompletableFuture<Void> queries) {
+        try {
+            queries.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<DashboardResponse.WorkspaceSummary> mapToWorkspaceSummaries(List<Workspace> workspaces, List<Object[]> progressRows) {
+        Map<UUID, List<DashboardResponse.AssignmentProgress>> progressByWorkspace = new HashMap<>();
+        for (Object[] row : progressRows) {
+            long totalTasks = ((Number) row[5]).longValue();
+            long completedTasks = row[6] != null ? ((Number) row[6]).longValue() : 0L;
+            progressByWorkspace.computeIfAbsent((UUID) row[1], id -> new ArrayList<>())
+                    .add(DashboardResponse.AssignmentProgress.builder()
+                            .id((UUID) row[0])
+                            .title((String) row[2])
+                            .assignmentTypeKey((AssignmentType) row[3])
+                            .deadline((Instant) row[4])
+                            .totalTasks((int) totalTasks)
+                            .completedTasks((int) completedTasks)
+                            .completionPercentage(totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0.0)
+                            .build());
+        }
+
+        return workspaces.stream()
+                .map(workspace -> DashboardResponse.WorkspaceSummary.builder()
+                        .id(workspace.getId())
+                        .name(workspace.getName())
+                        .workspaceType(workspace.getWorkspaceType())
+                        .ownerUserId(workspace.getOwnerUserId())
+                        .assignments(progressByWorkspace.getOrDefault(workspace.getId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private TaskResponse mapToTaskResponse(Task task, Integer commentCount) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .assignmentId(task.getAssignmentId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .statusKey(task.getStatusKey())
+                .priority(task.getPriority())
+                .rewardPoints(task.getRewardPoints())
+                .estimatedHours(task.getEstimatedHours())
+                .titleColor(task.getTitleColor())
+                .orderNumber(task.getOrderNumber())
+                .topic(task.getTopic())
+                .deadline(task.getDeadline())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .assigneeUserId(task.getAssigneeUserId())
+                .reporterUserId(task.getReporterUserId())
+                .commentCount(commentCount)
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
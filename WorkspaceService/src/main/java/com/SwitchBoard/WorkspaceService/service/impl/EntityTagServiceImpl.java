@@ -0,0 +1,127 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.EntityTagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityTagServiceImpl implements EntityTagService {
+
+    private static final List<MediaType> BINARY_ENCODINGS = List.of(
+            MediaType.parseMediaType("application/x-jackson-smile"), MediaType.parseMediaType("application/cbor"));
+
+    private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final WorkspaceRepository workspaceRepository;
+
+    @Override
+    public String getTaskTag(UUID taskId) {
+        return strongTag(taskRepository.findValidatorById(taskId));
+    }
+
+    @Override
+    public String getAssignmentTag(UUID assignmentId) {
+        return strongTag(assignmentRepository.findValidatorById(assignmentId));
+    }
+
+    @Override
+    public String getWorkspaceTag(UUID workspaceId) {
+        return strongTag(workspaceRepository.findValidatorById(workspaceId));
+    }
+
+    @Override
+    public String getTasksByAssignmentTag(UUID assignmentId) {
+        return weakTag(taskRepository.findValidatorByAssignmentId(assignmentId));
+    }
+
+    @Override
+    public String getTasksByAssigneeTag(UUID assigneeId) {
+        return weakTag(taskRepository.findValidatorByAssigneeUserId(assigneeId));
+    }
+
+    @Override
+    public String getAssignmentsByWorkspaceTag(UUID workspaceId) {
+        return weakTag(assignmentRepository.findValidatorByWorkspaceId(workspaceId));
+    }
+
+    @Override
+    public String getWorkspacesByOwnerTag(UUID ownerUserId) {
+        return weakTag(workspaceRepository.findValidatorByOwnerUserId(ownerUserId));
+    }
+
+    @Override
+    public String withFieldset(String eTag, String fields) {
+        if (eTag == null || fields == null) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "-f" + Integer.toHexString(fields.hashCode()) + "\"";
+    }
+
+    @Override
+    public String withRepresentation(String eTag, String accept) {
+        MediaType encoding = eTag == null || accept == null ? null : binaryEncoding(accept);
+        if (encoding == null) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "-" + encoding.getSubtype() + "\"";
+    }
+
+    // The binary encoding the body is written in, or null for JSON: the first accepted type in order of
+    // preference that any encoding matches, with wildcards answered in JSON as the first converter
+    private static MediaType binaryEncoding(String accept) {
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+            if (acceptedType.isWildcardSubtype() || MediaType.APPLICATION_JSON.isCompatibleWith(acceptedType)) {
+                return null;
+            }
+            for (MediaType encoding : BINARY_ENCODINGS) {
+                if (encoding.isCompatibleWith(acceptedType)) {
+                    return encoding;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String strongTag(List<Object[]> validator) {
+        return validator.isEmpty() ? null : "\"" + join(validator.get(0)) + "\"";
+    }
+
+    private static String weakTag(List<Object[]> validator) {
+        return validator.isEmpty() ? null : "W/\"" + join(validator.get(0)) + "\"";
+    }
+
+    // Counts, version sums and update times as one token; empty aggregates read as 0
+    private static String join(Object[] parts) {
+        return Arrays.stream(parts)
+                .map(part -> part == null ? "0"
+                        : part instanceof Instant instant ? Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, instant))
+                        : part.toString())
+                .collect(Collectors.joining("-"));
+    }
+}
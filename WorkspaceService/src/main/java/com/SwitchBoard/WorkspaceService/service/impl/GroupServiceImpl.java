@@ -0,0 +1,367 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
+import com.SwitchBoard.WorkspaceService.Exception.UnauthorizedException;
+import com.SwitchBoard.WorkspaceService.cache.GroupMembershipIndex;
+import com.SwitchBoard.WorkspaceService.cache.PointsLeaderboardIndex;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupCreateRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupMembersRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.GroupUpdateRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.GroupResponse;
+import com.SwitchBoard.WorkspaceService.entity.Group;
+import com.SwitchBoard.WorkspaceService.entity.UserGroupMembership;
+import com.SwitchBoard.WorkspaceService.repository.GroupRepository;
+import com.SwitchBoard.WorkspaceService.repository.UserGroupMembershipRepository;
+import com.SwitchBoard.WorkspaceService.search.GroupSearchIndex;
+import com.SwitchBoard.WorkspaceService.search.TrigramSearchSupport;
+import com.SwitchBoard.WorkspaceService.service.GroupService;
+import com.SwitchBoard.WorkspaceService.utility.SlugUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_GROUP_SLUG;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupServiceImpl implements GroupService {
+
+    private final GroupRepository groupRepository;
+    private final UserGroupMembershipRepository membershipRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final PointsLeaderboardIndex pointsLeaderboardIndex;
+    private final GroupSearchIndex groupSearchIndex;
+    private final TrigramSearchSupport trigramSearchSupport;
+    private final SlugUtils slugUtils;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Not transactional on purpose: every slug attempt inserts in its own transaction, so a unique index
+     * violation from a concurrent create only rolls back that attempt.
+     */
+    @Override
+    public GroupResponse createGroup(GroupCreateRequest request) {
+        log.info("GroupServiceImpl :: createGroup :: Creating group :: {} :: Created by: {}",
+                request.getName(), request.getCreatedByUserId());
+
+        Group group;
+        if (request.getSlug() != null && !request.getSlug().isBlank()) {
+            String slug = validateRequestedSlug(request.getSlug());
+            try {
+                group = insertGroup(request, slug);
+            } catch (DataIntegrityViolationException e) {
+                log.error("GroupServiceImpl :: createGroup :: Slug taken concurrently :: {}", slug);
+                throw new BadRequestException("Slug is already in use: " + slug);
+            }
+        } else {
+            String slugSource = slugUtils.generateSlug(request.getName()).isEmpty() ? DEFAULT_GROUP_SLUG : request.getName();
+            group = slugUtils.insertWithUniqueSlug(slugSource,
+                    base -> groupRepository.findSlugsByBase(base, base + "-%"),
+                    slug -> insertGroup(request, slug));
+        }
+
+        log.info("GroupServiceImpl :: createGroup :: Group created :: {} :: Slug: {}", group.getId(), group.getSlug());
+        return convertToGroupResponse(group);
+    }
+
+    private Group insertGroup(GroupCreateRequest request, String slug) {
+        return transactionTemplate.execute(status -> {
+            Group group = Group.builder()
+                    .name(request.getName())
+                    .slug(slug)
+                    .description(request.getDescription())
+                    .visibility(request.getVisibility())
+                    .createdByUserId(request.getCreatedByUserId())
+                    .build();
+            group.getMemberships().add(UserGroupMembership.builder()
+                    .group(group)
+                    .userId(request.getCreatedByUserId())
+                    .role(UserGroupMembership.MembershipRole.LEADER)
+                    .build());
+
+            Group savedGroup = groupRepository.saveAndFlush(group);
+            groupMembershipIndex.membersAdded(savedGroup.getId(), List.of(request.getCreatedByUserId()));
+            groupSearchIndex.groupSaved(savedGroup);
+            return savedGroup;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GroupResponse getGroupById(UUID groupId, UUID userId) {
+        log.info("GroupServiceImpl :: getGroupById :: Fetching group :: {} :: for user :: {}", groupId, userId);
+
+        Group group = findGroup(groupId);
+        checkVisibleTo(group, userId);
+        return convertToGroupResponse(group);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GroupResponse getGroupBySlug(String slug, UUID userId) {
+        log.info("GroupServiceImpl :: getGroupBySlug :: Fetching group :: {} :: for user :: {}", slug, userId);
+
+        Group group = groupRepository.findBySlug(slugUtils.normalizeSlug(slug))
+                .orElseThrow(() -> {
+                    log.error("GroupServiceImpl :: getGroupBySlug :: Group not found :: {}", slug);
+                    return new ResourceNotFoundException("Group not found with slug: " + slug);
+                });
+        checkVisibleTo(group, userId);
+        return convertToGroupResponse(group);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupResponse> getGroupsByUserId(UUID userId) {
+        log.info("GroupServiceImpl :: getGroupsByUserId :: Fetching groups for user :: {}", userId);
+
+        Set<UUID> groupIds = groupMembershipIndex.getGroupIds(userId);
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<GroupResponse> responses = groupRepository.findAllById(groupIds).stream()
+                .map(this::convertToGroupResponse)
+                .collect(Collectors.toList());
+
+        log.info("GroupServiceImpl :: getGroupsByUserId :: Found {} groups for user :: {}", responses.size(), userId);
+        return responses;
+    }
+
+    /**
+     * Substring search over the names of the groups the user may see: public ones, the ones they created and
+     * the ones they belong to. Runs on the pg_trgm index when available, otherwise on the in-memory index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupResponse> searchGroups(String query, UUID userId, Integer limit) {
+        log.info("GroupServiceImpl :: searchGroups :: Searching groups :: {} :: for user :: {}", query, userId);
+
+        String term = query == null ? "" : query.trim();
+        if (term.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int resultLimit = trigramSearchSupport.resolveLimit(limit);
+        Set<UUID> memberGroupIds = groupMembershipIndex.getGroupIds(userId);
+
+        List<Group> groups;
+        if (trigramSearchSupport.isDatabaseSearchEnabled()) {
+            groups = groupRepository.searchVisibleByName(term,
+                    trigramSearchSupport.containsPattern(term),
+                    trigramSearchSupport.prefixPattern(term),
+                    userId,
+                    // IN () is not valid SQL, so an empty set is replaced by an id no group has
+                    memberGroupIds.isEmpty() ? Set.of(new UUID(0, 0)) : memberGroupIds,
+                    resultLimit);
+        } else {
+            List<UUID> groupIds = groupSearchIndex.search(term,
+                    entry -> entry.visibility() == Group.GroupVisibility.PUBLIC
+                            || userId.equals(entry.createdByUserId())
+                            || memberGroupIds.contains(entry.id()),
+                    resultLimit);
+            Map<UUID, Group> groupsById = groupRepository.findAllById(groupIds).stream()
+                    .collect(Collectors.toMap(Group::getId, Function.identity()));
+            groups = groupIds.stream()
+                    .map(groupsById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        log.info("GroupServiceImpl :: searchGroups :: Found {} groups for :: {}", groups.size(), query);
+        return groups.stream()
+                .map(this::convertToGroupResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public GroupResponse updateGroup(UUID groupId, GroupUpdateRequest request, UUID userId) {
+        log.info("GroupServiceImpl :: updateGroup :: Updating group :: {} :: by user :: {}", groupId, userId);
+
+        Group group = findGroup(groupId);
+        checkManagedBy(group, userId);
+        if (request.getName() != null) {
+            group.setName(request.getName());
+        }
+        if (request.getSlug() != null && !request.getSlug().isBlank()) {
+            String slug = slugUtils.normalizeSlug(request.getSlug());
+            if (!slug.equals(group.getSlug())) {
+                group.setSlug(validateRequestedSlug(request.getSlug()));
+            }
+        }
+        if (request.getDescription() != null) {
+            group.setDescription(request.getDescription());
+        }
+        if (request.getVisibility() != null) {
+            group.setVisibility(request.getVisibility());
+        }
+
+        Group updatedGroup = groupRepository.save(group);
+        groupSearchIndex.groupSaved(updatedGroup);
+        log.info("GroupServiceImpl :: updateGroup :: Group updated :: {}", groupId);
+        return convertToGroupResponse(updatedGroup);
+    }
+
+    @Override
+    @Transactional
+    public void deleteGroup(UUID groupId, UUID userId) {
+        log.info("GroupServiceImpl :: deleteGroup :: Deleting group :: {} :: by user :: {}", groupId, userId);
+
+        checkManagedBy(findGroup(groupId), userId);
+        int removedMemberships = membershipRepository.deactivateByGroupId(groupId);
+        groupRepository.softDeleteById(groupId, Instant.now());
+        groupMembershipIndex.groupRemoved(groupId);
+        pointsLeaderboardIndex.groupChanged(groupId);
+        groupSearchIndex.groupRemoved(groupId);
+
+        log.info("GroupServiceImpl :: deleteGroup :: Group deleted :: {} :: Memberships removed: {}", groupId, removedMemberships);
+    }
+
+    /**
+     * Adds every user in one pass: a single query finds existing memberships, inactive ones are reactivated
+     * and the rest are inserted as one JDBC batch.
+     */
+    @Override
+    @Transactional
+    public int addMembers(UUID groupId, GroupMembersRequest request, UUID userId) {
+        log.info("GroupServiceImpl :: addMembers :: Adding {} users to group :: {}", request.getUserIds().size(), groupId);
+
+        Group group = findGroup(groupId);
+        checkManagedBy(group, userId);
+        UserGroupMembership.MembershipRole role = request.getRole() != null
+                ? request.getRole() : UserGroupMembership.MembershipRole.MEMBER;
+
+        Set<UUID> newUserIds = new LinkedHashSet<>(request.getUserIds());
+        List<UUID> addedUserIds = new ArrayList<>();
+        for (UserGroupMembership membership : membershipRepository.findByGroupIdAndUserIdIn(groupId, newUserIds)) {
+            newUserIds.remove(membership.getUserId());
+            if (!Boolean.TRUE.equals(membership.getIsActive())) {
+                membership.setIsActive(true);
+                membership.setRole(role);
+                addedUserIds.add(membership.getUserId());
+            }
+        }
+
+        membershipRepository.saveAll(newUserIds.stream()
+                .map(memberId -> UserGroupMembership.builder()
+                        .group(group)
+                        .userId(memberId)
+                        .role(role)
+                        .build())
+                .collect(Collectors.toList()));
+        addedUserIds.addAll(newUserIds);
+        groupMembershipIndex.membersAdded(groupId, addedUserIds);
+        pointsLeaderboardIndex.groupChanged(groupId);
+
+        log.info("GroupServiceImpl :: addMembers :: {} users added to group :: {}", addedUserIds.size(), groupId);
+        return addedUserIds.size();
+    }
+
+    @Override
+    @Transactional
+    public int removeMembers(UUID groupId, List<UUID> memberIds, UUID userId) {
+        log.info("GroupServiceImpl :: removeMembers :: Removing {} users from group :: {}", memberIds.size(), groupId);
+
+        Group group = findGroup(groupId);
+        // Any member may leave; removing someone else takes a creator or leader
+        if (!memberIds.stream().allMatch(userId::equals)) {
+            checkManagedBy(group, userId);
+        }
+        int removed = membershipRepository.deactivateByGroupIdAndUserIdIn(groupId, memberIds);
+        groupMembershipIndex.membersRemoved(groupId, memberIds);
+        pointsLeaderboardIndex.groupChanged(groupId);
+
+        log.info("GroupServiceImpl :: removeMembers :: {} users removed from group :: {}", removed, groupId);
+        return removed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> getGroupMembers(UUID groupId, UUID userId) {
+        log.info("GroupServiceImpl :: getGroupMembers :: Fetching members of group :: {} :: for user :: {}", groupId, userId);
+
+        checkVisibleTo(findGroup(groupId), userId);
+        return new ArrayList<>(groupMembershipIndex.getMemberIds(groupId));
+    }
+
+    /**
+     * Answered from the membership index without touching the database when the caller asks about themselves or
+     * is a member, so it is cheap enough to run on every authorization check. Anyone else needs the group to be
+     * visible to them, as for {@link #getGroupById}.
+     */
+    @Override
+    public boolean isMember(UUID groupId, UUID memberId, UUID userId) {
+        if (!memberId.equals(userId) && !groupMembershipIndex.isMember(groupId, userId)) {
+            checkVisibleTo(findGroup(groupId), userId);
+        }
+        return groupMembershipIndex.isMember(groupId, memberId);
+    }
+
+    private Group findGroup(UUID groupId) {
+        return groupRepository.findById(groupId)
+                .orElseThrow(() -> {
+                    log.error("GroupServiceImpl :: findGroup :: Group not found :: {}", groupId);
+                    return new ResourceNotFoundException("Group not found with ID: " + groupId);
+                });
+    }
+
+    private String validateRequestedSlug(String requestedSlug) {
+        String slug = slugUtils.normalizeSlug(requestedSlug);
+        if (!slugUtils.isValidSlug(slug)) {
+            log.error("GroupServiceImpl :: validateRequestedSlug :: Invalid slug :: {}", requestedSlug);
+            throw new BadRequestException("Invalid slug: " + requestedSlug);
+        }
+        if (groupRepository.existsBySlug(slug)) {
+            log.error("GroupServiceImpl :: validateRequestedSlug :: Slug already in use :: {}", slug);
+            throw new BadRequestException("Slug is already in use: " + slug);
+        }
+        return slug;
+    }
+
+    private void checkVisibleTo(Group group, UUID userId) {
+        if (group.getVisibility() == Group.GroupVisibility.PRIVATE
+                && !userId.equals(group.getCreatedByUserId())
+                && !groupMembershipIndex.isMember(group.getId(), userId)) {
+            log.error("GroupServiceImpl :: checkVisibleTo :: User :: {} :: is not a member of private group :: {}",
+                    userId, group.getId());
+            throw new UnauthorizedException("User is not a member of this group");
+        }
+    }
+
+    private void checkManagedBy(Group group, UUID userId) {
+        if (!userId.equals(group.getCreatedByUserId()) && !membershipRepository.isActiveLeader(group.getId(), userId)) {
+            log.error("GroupServiceImpl :: checkManagedBy :: User :: {} :: is neither creator nor leader of group :: {}",
+                    userId, group.getId());
+            throw new UnauthorizedException("Only the creator or a leader of the group can change it");
+        }
+    }
+
+    private GroupResponse convertToGroupResponse(Group group) {
+        return GroupResponse.builder()
+                .id(group.getId())
+                .name(group.getName())
+                .slug(group.getSlug())
+                .description(group.getDescription())
+                .visibility(group.getVisibility())
+                .createdByUserId(group.getCreatedByUserId())
+                .memberCount(groupMembershipIndex.getMemberCount(group.getId()))
+                .createdAt(group.getCreatedAt())
+                .updatedAt(group.getUpdatedAt())
+                .build();
+    }
+}
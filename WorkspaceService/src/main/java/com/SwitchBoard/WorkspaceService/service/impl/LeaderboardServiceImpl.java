@@ -0,0 +1,60 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.cache.Leaderboard;
+import com.SwitchBoard.WorkspaceService.cache.PointsLeaderboardIndex;
+import com.SwitchBoard.WorkspaceService.dto.response.LeaderboardEntryResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.LeaderboardResponse;
+import com.SwitchBoard.WorkspaceService.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_LEADERBOARD_LIMIT;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_LEADERBOARD_LIMIT;
+
+/**
+ * Served from {@link PointsLeaderboardIndex}: the top of a leaderboard and the caller's rank are read from memory
+ * in logarithmic time, with no query once the index is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final PointsLeaderboardIndex pointsLeaderboardIndex;
+
+    @Override
+    public LeaderboardResponse getWorkspaceLeaderboard(UUID workspaceId, UUID userId, Integer limit) {
+        log.debug("LeaderboardServiceImpl :: getWorkspaceLeaderboard :: Reading leaderboard of workspace :: {}", workspaceId);
+        return toResponse(pointsLeaderboardIndex.getWorkspaceLeaderboard(workspaceId), userId, limit);
+    }
+
+    @Override
+    public LeaderboardResponse getGroupLeaderboard(UUID groupId, UUID userId, Integer limit) {
+        log.debug("LeaderboardServiceImpl :: getGroupLeaderboard :: Reading leaderboard of group :: {}", groupId);
+        return toResponse(pointsLeaderboardIndex.getGroupLeaderboard(groupId), userId, limit);
+    }
+
+    private LeaderboardResponse toResponse(Leaderboard leaderboard, UUID userId, Integer limit) {
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_LEADERBOARD_LIMIT : Math.min(limit, MAX_LEADERBOARD_LIMIT);
+        Leaderboard.RankedStanding me = userId != null ? leaderboard.standingOf(userId) : null;
+        return LeaderboardResponse.builder()
+                .top(leaderboard.top(resolvedLimit).stream()
+                        .map(this::convertToEntryResponse)
+                        .collect(Collectors.toList()))
+                .me(me != null ? convertToEntryResponse(me) : null)
+                .rankedUsers(leaderboard.size())
+                .build();
+    }
+
+    private LeaderboardEntryResponse convertToEntryResponse(Leaderboard.RankedStanding standing) {
+        return LeaderboardEntryResponse.builder()
+                .rank(standing.rank())
+                .userId(standing.userId())
+                .points(standing.points())
+                .build();
+    }
+}
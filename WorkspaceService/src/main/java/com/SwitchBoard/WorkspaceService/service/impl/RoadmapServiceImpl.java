@@ -1,12 +1,16 @@
 package com.SwitchBoard.WorkspaceService.service.impl;
 
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
 import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
 import com.SwitchBoard.WorkspaceService.dto.request.AssignmentRoadmapRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
 import com.SwitchBoard.WorkspaceService.entity.Assignment;
 import com.SwitchBoard.WorkspaceService.entity.Task;
 import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
 import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
 import com.SwitchBoard.WorkspaceService.service.RoadmapService;
 import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
 import lombok.RequiredArgsConstructor;
@@ -20,13 +24,18 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
 
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_ROADMAP_TASKS;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RoadmapServiceImpl implements RoadmapService {
 
   private final WorkspaceRepository workspaceRepository;
+  private final AssignmentRepository assignmentRepository;
+  private final TaskRepository taskRepository;
   private final WorkspaceService workspaceService;
+  private final WorkspaceTypeaheadIndex workspaceTypeaheadIndex;
 
   @Value("${daily.task.deadline.hours}")
   private  double DAILY_CAPACITY_HOURS ;
@@ -35,6 +44,9 @@ public class RoadmapServiceImpl implements RoadmapService {
     @Override
     public ApiResponse addRoadmapAssignmentToWorkspace(AssignmentRoadmapRequest assignmentRoadmapRequest , UUID userId) {
         log.info("RoadmapServiceImpl :: addRoadmapAssignmentToWorkspace() :: Adding roadmap assignment to workspace: {}", assignmentRoadmapRequest);
+        if (assignmentRoadmapRequest.getTasks() != null && assignmentRoadmapRequest.getTasks().size() > MAX_ROADMAP_TASKS) {
+            throw new BadRequestException("A roadmap can have at most " + MAX_ROADMAP_TASKS + " tasks");
+        }
         Assignment assignment = new Assignment();
         assignment.setTitle(assignmentRoadmapRequest.getTitle());
         assignment.setDescription(assignmentRoadmapRequest.getDescription());
@@ -47,11 +59,17 @@ public class RoadmapServiceImpl implements RoadmapService {
         // Calculate smart deadlines based on daily capacity
         List<Task> tasksWithDeadlines = calculateSmartDeadlines(sortedTasks);
         
-        Set<Task> roadmapTasks = new HashSet<>(tasksWithDeadlines);
-        assignment.setTasks(roadmapTasks);
+        // Tasks carry their assignment's id, so the assignment is persisted first to have one
         roadmapWorkspace.getAssignments().add(assignment);
+        assignmentRepository.save(assignment);
+        Set<Task> roadmapTasks = new HashSet<>(tasksWithDeadlines);
+        roadmapTasks.forEach(task -> task.setAssignmentId(assignment.getId()));
+        taskRepository.saveAll(roadmapTasks);
         try {
-            workspaceRepository.save(roadmapWorkspace);
+            // The workspace is already managed, a flush writes the new assignment and tasks without
+            // merging every existing assignment of the workspace the way save() would
+            workspaceRepository.flush();
+            workspaceTypeaheadIndex.tasksAdded(roadmapWorkspace.getId(), assignment.getId(), roadmapTasks);
             log.info("RoadmapServiceImpl :: addRoadmapAssignmentToWorkspace() :: Assignment saved successfully in workspace: {}", roadmapWorkspace.getName());
         } catch (Exception e) {
             log.error("RoadmapServiceImpl :: addRoadmapAssignmentToWorkspace() :: Error saving assignment to workspace: {}", e.getMessage());
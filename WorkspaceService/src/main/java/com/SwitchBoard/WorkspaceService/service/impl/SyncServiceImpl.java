@@ -0,0 +1,308 @@
+package com.SwitchBoard.WorkspaceService.service.impl;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+import com.SwitchBoard.WorkspaceService.dto.response.AssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.SyncResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskAssignmentResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.WorkspaceAccessResponse;
+import com.SwitchBoard.WorkspaceService.entity.Assignment;
+import com.SwitchBoard.WorkspaceService.entity.BaseEntity;
+import com.SwitchBoard.WorkspaceService.entity.OutboxOffset;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
+import com.SwitchBoard.WorkspaceService.outbox.ChangeType;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.OutboxEventRepository;
+import com.SwitchBoard.WorkspaceService.repository.OutboxOffsetRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    private static final String TASK = Task.class.getSimpleName();
+    private static final String TASK_ASSIGNMENT = TaskAssignment.class.getSimpleName();
+    private static final String ASSIGNMENT = Assignment.class.getSimpleName();
+    private static final String WORKSPACE = Workspace.class.getSimpleName();
+    private static final String WORKSPACE_ACCESS = WorkspaceAccess.class.getSimpleName();
+
+    // Aggregates whose events name the user in their audience; assignments are found through their workspaces
+    private static final List<String> USER_AUDIENCE_TYPES = List.of(TASK, TASK_ASSIGNMENT, WORKSPACE, WORKSPACE_ACCESS);
+
+    // Updates of these fields of a workspace or an access record change which workspaces a user can access
+    private static final Set<String> ACCESS_FIELDS = Set.of("ownerUserId", "workspace", "userId", "isActive");
+
+    private static final int TOKEN_BYTES = 2 * Long.BYTES;
+
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final WorkspaceAccessRepository workspaceAccessRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+
+    @Value("${outbox.retention:P7D}")
+    private Duration retention;
+
+    /**
+     * The user's tasks, task assignments, assignments and workspace access changed since the token, and tombstones
+     * for those deleted or moved out of the user's scope since, such as a task reassigned to someone else, an
+     * unassigned task or the assignments of a workspace whose access was revoked.
+     * <p>
+     * Changes are read from the outbox, whose events record who they concern before and after the change. A token
+     * is the outbox offset the previous sync read up to: offsets are taken in commit order under a row lock, so every
+     * event up to the committed counter is visible and none committed later can fall below it. Rows are read after
+     * the counter and may be newer than it; their events come again on the next sync, and clients apply rows and
+     * tombstones idempotently by id. A missing token, one older than {@code outbox.retention} whose events may
+     * already be purged, or one ahead of the counter gets everything in scope without tombstones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponse sync(UUID userId, String sinceToken) {
+        Instant now = Instant.now();
+        SyncToken since = decodeToken(sinceToken);
+        long head = outboxOffsetRepository.findById(OutboxOffset.ID).map(OutboxOffset::getLastOffset).orElse(0L);
+        boolean fullSync = since == null || since.issuedAt().isBefore(now.minus(retention)) || since.offset() > head;
+        log.info("SyncServiceImpl :: sync :: Syncing user :: {} :: {}", userId,
+                fullSync ? "from the beginning" : "offsets " + since.offset() + " to " + head);
+
+        Set<UUID> workspaceIds = new HashSet<>(workspaceRepository.findIdsAccessibleByUser(userId));
+        Changes changes = fullSync ? everything(userId, workspaceIds) : changesBetween(userId, workspaceIds, since.offset(), head);
+        Map<UUID, Integer> commentCounts = countComments(changes.tasks());
+
+        SyncResponse response = SyncResponse.builder()
+                .tasks(changes.tasks().stream().map(task -> mapToTaskResponse(task, commentCounts.getOrDefault(task.getId(), 0))).collect(Collectors.toList()))
+                .taskAssignments(changes.taskAssignments().stream().map(this::mapToTaskAssignmentResponse).collect(Collectors.toList()))
+                .assignments(changes.assignments().stream().map(this::mapToAssignmentResponse).collect(Collectors.toList()))
+                .workspaceAccess(changes.workspaceAccess().stream().map(this::mapToWorkspaceAccessResponse).collect(Collectors.toList()))
+                .deleted(changes.deleted())
+                .nextToken(encodeToken(new SyncToken(head, now.truncatedTo(ChronoUnit.MICROS))))
+                .fullSync(fullSync)
+                .build();
+
+        log.info("SyncServiceImpl :: sync :: Synced user :: {} :: {} tasks, {} task assignments, {} assignments, {} access rows, {} deleted",
+                userId, changes.tasks().size(), changes.taskAssignments().size(), changes.assignments().size(),
+                changes.workspaceAccess().size(), changes.deleted().size());
+        return response;
+    }
+
+    private Changes everything(UUID userId, Set<UUID> workspaceIds) {
+        return new Changes(taskRepository.findByAssigneeUserId(userId),
+                taskAssignmentRepository.findWithTaskByAssignedUserId(userId),
+                workspaceIds.isEmpty() ? List.of() : assignmentRepository.findByWorkspaceIdIn(workspaceIds),
+                workspaceAccessRepository.findByUserId(userId),
+                List.of());
+    }
+
+    /**
+     * Reloads the aggregates whose events concern the user and keeps those still in scope; the others become
+     * tombstones. A change of access also touches every assignment of the workspaces concerned.
+     */
+    private Changes changesBetween(UUID userId, Set<UUID> workspaceIds, long afterOffset, long toOffset) {
+        Map<String, Set<UUID>> touched = new LinkedHashMap<>();
+        Set<UUID> accessChangedWorkspaceIds = new HashSet<>();
+        for (Object[] row : outboxEventRepository.findChangesConcerningUser(userId, USER_AUDIENCE_TYPES, afterOffset, toOffset)) {
+            String type = (String) row[0];
+            if (!type.equals(WORKSPACE)) {
+                touched.computeIfAbsent(type, key -> new HashSet<>()).add((UUID) row[1]);
+            }
+            if ((type.equals(WORKSPACE) || type.equals(WORKSPACE_ACCESS)) && row[4] != null
+                    && changesAccess((ChangeType) row[2], (String) row[3])) {
+                accessChangedWorkspaceIds.add((UUID) row[4]);
+            }
+        }
+        Set<UUID> assignmentIds = touched.computeIfAbsent(ASSIGNMENT, key -> new HashSet<>());
+        if (!workspaceIds.isEmpty()) {
+            assignmentIds.addAll(outboxEventRepository.findAggregateIdsInWorkspaces(workspaceIds, ASSIGNMENT, afterOffset, toOffset));
+        }
+
+        Set<UUID> taskIds = touched.getOrDefault(TASK, Set.of());
+        List<Task> tasks = taskIds.isEmpty() ? List.of() : taskRepository.findByIdInAndAssigneeUserId(taskIds, userId);
+        Set<UUID> taskAssignmentIds = touched.getOrDefault(TASK_ASSIGNMENT, Set.of());
+        List<TaskAssignment> taskAssignments = taskAssignmentIds.isEmpty() ? List.of()
+                : taskAssignmentRepository.findWithTaskByIdInAndAssignedUserId(taskAssignmentIds, userId);
+        Set<UUID> accessIds = touched.getOrDefault(WORKSPACE_ACCESS, Set.of());
+        List<WorkspaceAccess> workspaceAccess = accessIds.isEmpty() ? List.of()
+                : workspaceAccessRepository.findByIdInAndUserId(accessIds, userId);
+
+        Map<UUID, Assignment> assignments = new LinkedHashMap<>();
+        if (!assignmentIds.isEmpty()) {
+            assignmentRepository.findByIdIn(assignmentIds).forEach(assignment -> assignments.put(assignment.getId(), assignment));
+        }
+        if (!accessChangedWorkspaceIds.isEmpty()) {
+            for (Assignment assignment : assignmentRepository.findByWorkspaceIdIn(accessChangedWorkspaceIds)) {
+                assignmentIds.add(assignment.getId());
+                assignments.putIfAbsent(assignment.getId(), assignment);
+            }
+        }
+        assignments.values().removeIf(assignment -> !workspaceIds.contains(assignment.getWorkspaceId()));
+
+        Map<String, Set<UUID>> returned = Map.of(TASK, idsOf(tasks), TASK_ASSIGNMENT, idsOf(taskAssignments),
+                ASSIGNMENT, assignments.keySet(), WORKSPACE_ACCESS, idsOf(workspaceAccess));
+        List<SyncResponse.Tombstone> deleted = new ArrayList<>();
+        touched.forEach((type, ids) -> ids.stream()
+                .filter(id -> !returned.get(type).contains(id))
+                .forEach(id -> deleted.add(SyncResponse.Tombstone.builder().type(type).id(id).build())));
+        return new Changes(tasks, taskAssignments, new ArrayList<>(assignments.values()), workspaceAccess, deleted);
+    }
+
+    private static boolean changesAccess(ChangeType changeType, String changedFields) {
+        return changeType != ChangeType.UPDATED
+                || (changedFields != null && Arrays.stream(changedFields.split(",")).anyMatch(ACCESS_FIELDS::contains));
+    }
+
+    private static Set<UUID> idsOf(Collection<? extends BaseEntity> entities) {
+        return entities.stream().map(BaseEntity::getId).collect(Collectors.toSet());
+    }
+
+    private Map<UUID, Integer> countComments(List<Task> tasks) {
+        Map<UUID, Integer> commentCounts = new HashMap<>();
+        if (!tasks.isEmpty()) {
+            for (Object[] row : taskRepository.countCommentsByTaskIds(tasks.stream().map(Task::getId).toList())) {
+                commentCounts.put((UUID) row[0], ((Long) row[1]).intValue());
+            }
+        }
+        return commentCounts;
+    }
+
+    // Tokens are the outbox offset synced up to and the epoch microseconds they were issued at, opaque to clients
+    private static String encodeToken(SyncToken token) {
+        ByteBuffer bytes = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(token.offset())
+                .putLong(ChronoUnit.MICROS.between(Instant.EPOCH, token.issuedAt()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private static SyncToken decodeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new IllegalArgumentException("Unexpected token length " + bytes.length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long offset = buffer.getLong();
+            if (offset < 0) {
+                throw new IllegalArgumentException("Negative offset " + offset);
+            }
+            return new SyncToken(offset, Instant.EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS));
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            log.error("SyncServiceImpl :: decodeToken :: Invalid sync token :: {}", token);
+            throw new BadRequestException("Invalid sync token: " + token);
+        }
+    }
+
+    private record SyncToken(long offset, Instant issuedAt) {
+    }
+
+    private record Changes(List<Task> tasks, List<TaskAssignment> taskAssignments, List<Assignment> assignments,
+                           List<WorkspaceAccess> workspaceAccess, List<SyncResponse.Tombstone> deleted) {
+    }
+
+    private TaskResponse mapToTaskResponse(Task task, Integer commentCount) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .assignmentId(task.getAssignmentId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .statusKey(task.getStatusKey())
+                .priority(task.getPriority())
+                .rewardPoints(task.getRewardPoints())
+                .estimatedHours(task.getEstimatedHours())
+                .titleColor(task.getTitleColor())
+                .orderNumber(task.getOrderNumber())
+                .topic(task.getTopic())
+                .deadline(task.getDeadline())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .assigneeUserId(task.getAssigneeUserId())
+                .reporterUserId(task.getReporterUserId())
+                .commentCount(commentCount)
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    private TaskAssignmentResponse mapToTaskAssignmentResponse(TaskAssignment assignment) {
+        return TaskAssignmentResponse.builder()
+                .id(assignment.getId())
+                .taskId(assignment.getTask().getId())
+                .taskTitle(assignment.getTask().getTitle())
+                .assignedUserId(assignment.getAssignedUserId())
+                .assignedByUserId(assignment.getAssignedByUserId())
+                .status(assignment.getStatus())
+                .rewardPointsEarned(assignment.getRewardPointsEarned())
+                .startedAt(assignment.getStartedAt())
+                .completedAt(assignment.getCompletedAt())
+                .assignedAt(assignment.getAssignedAt())
+                .userNotes(assignment.getUserNotes())
+                .submissionText(assignment.getSubmissionText())
+                .submissionUrl(assignment.getSubmissionUrl())
+                .submissionStatus(assignment.getSubmissionStatus())
+                .gradeReceived(assignment.getGradeReceived())
+                .feedback(assignment.getFeedback())
+                .createdAt(assignment.getCreatedAt())
+                .updatedAt(assignment.getUpdatedAt())
+                .build();
+    }
+
+    private AssignmentResponse mapToAssignmentResponse(Assignment assignment) {
+        return AssignmentResponse.builder()
+                .id(assignment.getId())
+                .title(assignment.getTitle())
+                .description(assignment.getDescription())
+                .assignmentTypeKey(assignment.getAssignmentTypeKey())
+                .totalRewardPoints(assignment.getTotalRewardPoints())
+                .totalEstimatedHours(assignment.getTotalEstimatedHours())
+                .deadline(assignment.getDeadline())
+                .createdAt(assignment.getCreatedAt())
+                .updatedAt(assignment.getUpdatedAt())
+                .build();
+    }
+
+    private WorkspaceAccessResponse mapToWorkspaceAccessResponse(WorkspaceAccess access) {
+        return WorkspaceAccessResponse.builder()
+                .id(access.getId())
+                .workspaceId(access.getWorkspace().getId())
+                .userId(access.getUserId())
+                .accessLevel(access.getAccessLevel())
+                .isActive(access.getIsActive())
+                .createdAt(access.getCreatedAt())
+                .updatedAt(access.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,12 +1,20 @@
 package com.SwitchBoard.WorkspaceService.service.impl;
 
+import com.SwitchBoard.WorkspaceService.analytics.ProgressRollups;
+import com.SwitchBoard.WorkspaceService.cache.PointsLeaderboardIndex;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskUserAssignmentRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskAssignmentUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskAssignmentResponse;
 import com.SwitchBoard.WorkspaceService.entity.*;
+import com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.outbox.ChangeAudience;
+import com.SwitchBoard.WorkspaceService.outbox.OutboxRecorder;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.PointsLedgerRepository;
 import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
 import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.projection.TaskAssignmentRow;
 import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
 import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +23,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +39,12 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
 
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final PointsLedgerRepository pointsLedgerRepository;
+    private final PointsLeaderboardIndex pointsLeaderboardIndex;
+    private final ProgressRollups progressRollups;
+    private final UserTaskViewProjector userTaskViewProjector;
+    private final OutboxRecorder outboxRecorder;
 
     @Transactional
     public List<TaskAssignmentResponse> assignUsersToTask(UUID taskId, TaskUserAssignmentRequest request) {
@@ -36,18 +55,23 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
 
+        Instant now = Instant.now();
+        List<TaskAssignment> revived = reviveUnassigned(List.of(taskId), request.getUserIds(), request.getAssignedBy(), now);
+        Set<UUID> revivedUserIds = revived.stream().map(TaskAssignment::getAssignedUserId).collect(Collectors.toSet());
         List<TaskAssignment> assignments = request.getUserIds().stream()
+                .filter(userId -> !revivedUserIds.contains(userId))
                 .filter(userId -> !isUserAlreadyAssigned(taskId, userId)) // Skip already assigned users
                 .map(userId -> TaskAssignment.builder()
                         .task(task)
                         .assignedUserId(userId)
                         .assignedByUserId(request.getAssignedBy())
                         .status(TaskStatus.ONGOING)
-                        .assignedAt(Instant.now())
+                        .assignedAt(now)
                         .build())
                 .collect(Collectors.toList());
 
-        List<TaskAssignment> savedAssignments = taskAssignmentRepository.saveAll(assignments);
+        List<TaskAssignment> savedAssignments = new ArrayList<>(taskAssignmentRepository.saveAll(assignments));
+        savedAssignments.addAll(revived);
         
         log.info("TaskAssignmentServiceImpl :: assignUsersToTask :: {} users assigned to task :: {}", 
                 savedAssignments.size(), taskId);
@@ -57,6 +81,76 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
+    public List<TaskAssignmentResponse> assignUsersToTasks(List<Task> tasks, TaskUserAssignmentRequest request) {
+        log.info("TaskAssignmentServiceImpl :: assignUsersToTasks :: Assigning {} users to {} tasks", 
+                request.getUserIds().size(), tasks.size());
+
+        if (tasks.isEmpty() || request.getUserIds().isEmpty()) {
+            return List.of();
+        }
+
+        // Load existing (task, user) pairs once instead of probing every combination
+        List<UUID> taskIds = tasks.stream().map(Task::getId).toList();
+        Set<String> assignedPairs = new HashSet<>();
+        for (Object[] row : taskAssignmentRepository.findAssignedPairs(taskIds, request.getUserIds())) {
+            assignedPairs.add(row[0] + ":" + row[1]);
+        }
+
+        Instant now = Instant.now();
+        List<TaskAssignment> revived = reviveUnassigned(taskIds, request.getUserIds(), request.getAssignedBy(), now);
+        for (TaskAssignment assignment : revived) {
+            assignedPairs.add(assignment.getTask().getId() + ":" + assignment.getAssignedUserId());
+        }
+        List<TaskAssignment> assignments = new ArrayList<>();
+        for (Task task : tasks) {
+            for (UUID userId : request.getUserIds()) {
+                if (assignedPairs.add(task.getId() + ":" + userId)) { // Skip already assigned users
+                    assignments.add(TaskAssignment.builder()
+                            .task(task)
+                            .assignedUserId(userId)
+                            .assignedByUserId(request.getAssignedBy())
+                            .status(TaskStatus.ONGOING)
+                            .assignedAt(now)
+                            .build());
+                }
+            }
+        }
+
+        List<TaskAssignment> savedAssignments = new ArrayList<>(taskAssignmentRepository.saveAll(assignments));
+        savedAssignments.addAll(revived);
+
+        log.info("TaskAssignmentServiceImpl :: assignUsersToTasks :: {} user assignments created across {} tasks", 
+                savedAssignments.size(), tasks.size());
+
+        return savedAssignments.stream()
+                .map(this::convertToTaskAssignmentResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void unassignUsersFromTasks(List<UUID> taskIds, List<UUID> userIds) {
+        log.info("TaskAssignmentServiceImpl :: unassignUsersFromTasks :: Unassigning {} users from {} tasks", 
+                userIds.size(), taskIds.size());
+
+        if (taskIds.isEmpty() || userIds.isEmpty()) {
+            return;
+        }
+
+        // A bulk soft delete raises no entity events; report it to the outbox, with who it concerns read before the rows
+        // are gone, and to the user task view
+        Map<UUID, ChangeAudience> removedAudiences = new HashMap<>();
+        for (Object[] row : taskAssignmentRepository.findChangeAudienceByTaskIdInAndAssignedUserIdIn(taskIds, userIds)) {
+            removedAudiences.put((UUID) row[0], new ChangeAudience(
+                    row[1] == null ? Set.of() : Set.of((UUID) row[1]), Set.of((UUID) row[2])));
+        }
+        int removed = taskAssignmentRepository.softDeleteByTaskIdInAndAssignedUserIdIn(taskIds, userIds, Instant.now());
+        outboxRecorder.recordDeleted(TaskAssignment.class, removedAudiences);
+        userTaskViewProjector.tasksChanged(taskIds);
+
+        log.info("TaskAssignmentServiceImpl :: unassignUsersFromTasks :: {} user assignments removed", removed);
+    }
+
     @Transactional
     public void unassignUsersFromTask(UUID taskId, List<UUID> userIds) {
         log.info("TaskAssignmentServiceImpl :: unassignUsersFromTask :: Unassigning {} users from task :: {}", 
@@ -67,9 +161,7 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
             throw new ResourceNotFoundException("Task not found with ID: " + taskId);
         }
 
-        for (UUID userId : userIds) {
-            taskAssignmentRepository.deleteByTaskIdAndAssignedUserId(taskId, userId);
-        }
+        unassignUsersFromTasks(List.of(taskId), userIds);
 
         log.info("TaskAssignmentServiceImpl :: unassignUsersFromTask :: {} users unassigned from task :: {}", 
                 userIds.size(), taskId);
@@ -92,12 +184,15 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
                 // Award reward points if task has them
                 if (assignment.getTask().getRewardPoints() != null) {
                     assignment.setRewardPointsEarned(assignment.getTask().getRewardPoints());
+                    recordPointsAwarded(assignment);
                 }
+                progressRollups.taskAssignmentCompleted(assignment);
             }
             
             // Set started time if moving from TODO to IN_PROGRESS
             if (request.getStatus() == TaskStatus.ONGOING && assignment.getStartedAt() == null) {
                 assignment.setStartedAt(Instant.now());
+                progressRollups.taskAssignmentStarted(assignment);
             }
         }
 
@@ -146,9 +241,9 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
     public List<TaskAssignmentResponse> getTaskAssignmentsByUserId(UUID userId) {
         log.info("TaskAssignmentServiceImpl :: getTaskAssignmentsByUserId :: Fetching assignments for user :: {}", userId);
 
-        List<TaskAssignment> assignments = taskAssignmentRepository.findByAssignedUserId(userId);
+        List<TaskAssignmentRow> assignments = taskAssignmentRepository.findRowsByAssignedUserId(userId);
         return assignments.stream()
-                .map(this::convertToTaskAssignmentResponse)
+                .map(TaskAssignmentServiceImpl::convertToTaskAssignmentResponse)
                 .collect(Collectors.toList());
     }
 
@@ -196,6 +291,74 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
         taskAssignmentRepository.deleteByTaskId(taskId);
     }
 
+    // An unassigned pair keeps its row, soft-deleted, and the (task, user) pair is unique: a re-assign revives it
+    // as a fresh assignment instead of inserting a second row
+    private List<TaskAssignment> reviveUnassigned(List<UUID> taskIds, List<UUID> userIds, UUID assignedBy, Instant now) {
+        List<TaskAssignment> unassigned = taskAssignmentRepository.findUnassignedByTaskIdInAndAssignedUserIdIn(taskIds, userIds);
+        for (TaskAssignment assignment : unassigned) {
+            assignment.setDeletedAt(null);
+            assignment.setAssignedByUserId(assignedBy);
+            assignment.setStatus(TaskStatus.ONGOING);
+            assignment.setAssignedAt(now);
+            assignment.setStartedAt(null);
+            assignment.setCompletedAt(null);
+            assignment.setRewardPointsEarned(null);
+            assignment.setUserNotes(null);
+            assignment.setSubmissionText(null);
+            assignment.setSubmissionUrl(null);
+            assignment.setSubmissionStatus(null);
+            assignment.setGradeReceived(null);
+            assignment.setFeedback(null);
+        }
+        return unassigned;
+    }
+
+    // Appends the award to the points ledger and hands it to the leaderboards
+    private void recordPointsAwarded(TaskAssignment assignment) {
+        Task task = assignment.getTask();
+        // A re-assign revives the unassigned row with its id, and a task is only ever awarded once per assignment
+        if (task.getRewardPoints() <= 0 || pointsLedgerRepository.existsByTaskAssignmentId(assignment.getId())) {
+            return;
+        }
+        UUID workspaceId = task.getAssignmentId() != null
+                ? assignmentRepository.findWorkspaceIdById(task.getAssignmentId()).orElse(null)
+                : null;
+        PointsLedgerEntry entry = pointsLedgerRepository.save(PointsLedgerEntry.builder()
+                .userId(assignment.getAssignedUserId())
+                .workspaceId(workspaceId)
+                .taskId(task.getId())
+                .taskAssignmentId(assignment.getId())
+                .points(task.getRewardPoints())
+                .awardedAt(assignment.getCompletedAt())
+                .build());
+        pointsLeaderboardIndex.pointsAwarded(entry);
+        log.info("TaskAssignmentServiceImpl :: recordPointsAwarded :: {} points awarded to user :: {}",
+                entry.getPoints(), entry.getUserId());
+    }
+
+    private static TaskAssignmentResponse convertToTaskAssignmentResponse(TaskAssignmentRow row) {
+        return TaskAssignmentResponse.builder()
+                .id(row.id())
+                .taskId(row.taskId())
+                .taskTitle(row.taskTitle())
+                .assignedUserId(row.assignedUserId())
+                .assignedByUserId(row.assignedByUserId())
+                .status(row.status())
+                .rewardPointsEarned(row.rewardPointsEarned())
+                .startedAt(row.startedAt())
+                .completedAt(row.completedAt())
+                .assignedAt(row.assignedAt())
+                .userNotes(row.userNotes())
+                .submissionText(row.submissionText())
+                .submissionUrl(row.submissionUrl())
+                .submissionStatus(row.submissionStatus())
+                .gradeReceived(row.gradeReceived())
+                .feedback(row.feedback())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     private TaskAssignmentResponse convertToTaskAssignmentResponse(TaskAssignment assignment) {
         return TaskAssignmentResponse.builder()
                 .id(assignment.getId())
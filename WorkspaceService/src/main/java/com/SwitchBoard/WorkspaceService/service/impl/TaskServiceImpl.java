@@ -1,25 +1,52 @@
 package com.SwitchBoard.WorkspaceService.service.impl;
 
+import com.SwitchBoard.WorkspaceService.analytics.ProgressRollups;
 import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskBatchUpdateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskCreateRequest;
 import com.SwitchBoard.WorkspaceService.dto.request.TaskDto;
+import com.SwitchBoard.WorkspaceService.dto.response.BatchGetResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.InboxTaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskBatchUpdateResponse;
 import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TypeaheadSuggestionResponse;
 import com.SwitchBoard.WorkspaceService.entity.*;
 import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
 import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
 import com.SwitchBoard.WorkspaceService.repository.*;
+import com.SwitchBoard.WorkspaceService.repository.projection.TaskRow;
+import com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
 import com.SwitchBoard.WorkspaceService.service.TaskService;
+import com.SwitchBoard.WorkspaceService.utility.SparseFieldset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.DEFAULT_TYPEAHEAD_LIMIT;
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_SEARCH_LIMIT;
 
 @Service
 @RequiredArgsConstructor
@@ -27,14 +54,32 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
+    // Fields of TaskResponse a sparse fieldset reads from task columns, and those it derives
+    private static final Set<String> TASK_COLUMNS = Set.of("id", "assignmentId", "title", "description", "statusKey",
+            "priority", "rewardPoints", "estimatedHours", "titleColor", "orderNumber", "topic", "deadline", "startedAt",
+            "completedAt", "assigneeUserId", "reporterUserId", "createdAt", "updatedAt");
+    private static final String COMMENT_COUNT = "commentCount";
+    private static final Set<String> TASK_FIELDS = Stream.concat(TASK_COLUMNS.stream(), Stream.of(COMMENT_COUNT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final int MAX_BATCH_UPDATE_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final WorkspaceTypeaheadIndex workspaceTypeaheadIndex;
+    private final ProgressRollups progressRollups;
+    private final UserTaskViewRepository userTaskViewRepository;
+    private final UserTaskViewProjector userTaskViewProjector;
+    private final TransactionTemplate transactionTemplate;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
 
     @Override
-    public List<Task> createTask(TaskCreateRequest request) {
-        log.info("TaskServiceImpl :: createTask :: Creating tasks");
+    public List<Task> createTask(UUID assignmentId, TaskCreateRequest request) {
+        log.info("TaskServiceImpl :: createTask :: Creating tasks in assignment :: {}", assignmentId);
         List<Task> tasks= request.getTasks().stream().map(
             taskDto -> {
                 return Task.builder()
+                        .assignmentId(assignmentId)
                         .title(taskDto.getTitle())
                         .description(taskDto.getDescription())
                         .statusKey(taskDto.getStatusKey())
@@ -65,6 +110,20 @@ public class TaskServiceImpl implements TaskService {
         return mapToTaskResponse(task);
     }
 
+    /** Resolves many tasks in one padded IN query and one comment count query, answering every ID in request order. */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchGetResponse<TaskResponse> getTasksByIds(List<UUID> ids) {
+        log.info("TaskServiceImpl :: getTasksByIds :: Fetching {} tasks", ids.size());
+
+        Map<UUID, TaskResponse> tasksById = mapToTaskResponses(taskRepository.findByIdIn(new LinkedHashSet<>(ids))).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        BatchGetResponse<TaskResponse> response = BatchGetResponse.of(ids, tasksById);
+
+        log.info("TaskServiceImpl :: getTasksByIds :: Found {} of {} tasks", ids.size() - response.getNotFoundCount(), ids.size());
+        return response;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<TaskResponse> getAllTasks(Pageable pageable) {
@@ -72,7 +131,8 @@ public class TaskServiceImpl implements TaskService {
                 pageable.getPageNumber(), pageable.getPageSize());
 
         Page<Task> tasks = taskRepository.findAll(pageable);
-        return tasks.map(this::mapToTaskResponse);
+        Map<UUID, Integer> commentCounts = countCommentsByTaskId(tasks.getContent());
+        return tasks.map(task -> mapToTaskResponse(task, commentCounts.getOrDefault(task.getId(), 0)));
     }
 
     @Override
@@ -80,10 +140,15 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskResponse> getTasksByAssignmentId(UUID assignmentId) {
         log.info("TaskServiceImpl :: getTasksByAssignmentId :: Fetching tasks for assignment :: {}", assignmentId);
 
-        List<Task> tasks = taskRepository.findByAssignmentId(assignmentId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        List<TaskRow> tasks = taskRepository.findRowsByAssignmentId(assignmentId);
+        return mapRowsToTaskResponses(tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTasksByAssignmentId(UUID assignmentId, String fields) {
+        log.info("TaskServiceImpl :: getTasksByAssignmentId :: Fetching fields {} of tasks for assignment :: {}", fields, assignmentId);
+        return findTaskFields(fields, (task, criteriaBuilder) -> criteriaBuilder.equal(task.get("assignmentId"), assignmentId));
     }
 
     @Override
@@ -91,21 +156,53 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskResponse> getTasksByAssigneeId(UUID assigneeId) {
         log.info("TaskServiceImpl :: getTasksByAssigneeId :: Fetching tasks for assignee :: {}", assigneeId);
 
-        List<Task> tasks = taskRepository.findByAssigneeUserId(assigneeId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
+        List<TaskRow> tasks = taskRepository.findRowsByAssigneeUserId(assigneeId);
+        return mapRowsToTaskResponses(tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTasksByAssigneeId(UUID assigneeId, String fields) {
+        log.info("TaskServiceImpl :: getTasksByAssigneeId :: Fetching fields {} of tasks for assignee :: {}", fields, assigneeId);
+        return findTaskFields(fields, (task, criteriaBuilder) -> criteriaBuilder.equal(task.get("assigneeUserId"), assigneeId));
+    }
+
+    /**
+     * Read from the user task view: one range scan returns every task the user is the assignee of or has a
+     * task assignment for, with the user's own status, soonest deadline first.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<InboxTaskResponse> getInbox(UUID userId) {
+        log.info("TaskServiceImpl :: getInbox :: Fetching inbox of user :: {}", userId);
+
+        return userTaskViewRepository.findInbox(userId).stream()
+                .map(this::mapToInboxTaskResponse)
                 .collect(Collectors.toList());
     }
 
+    // Runs the projector's own transactions, one per batch of tasks
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildInbox() {
+        log.info("TaskServiceImpl :: rebuildInbox :: Rebuilding the user task view");
+        return userTaskViewProjector.rebuild();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByReporterId(UUID reporterId) {
         log.info("TaskServiceImpl :: getTasksByReporterId :: Fetching tasks for reporter :: {}", reporterId);
 
-        List<Task> tasks = taskRepository.findByReporterUserId(reporterId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        List<TaskRow> tasks = taskRepository.findRowsByReporterUserId(reporterId);
+        return mapRowsToTaskResponses(tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTasksByReporterId(UUID reporterId, String fields) {
+        log.info("TaskServiceImpl :: getTasksByReporterId :: Fetching fields {} of tasks for reporter :: {}", fields, reporterId);
+        return findTaskFields(fields, (task, criteriaBuilder) -> criteriaBuilder.equal(task.get("reporterUserId"), reporterId));
     }
 
     @Override
@@ -113,12 +210,18 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskResponse> getTasksByStatus(TaskStatus status) {
         log.info("TaskServiceImpl :: getTasksByStatus :: Fetching tasks by status :: {}", status);
 
-        List<Task> tasks = taskRepository.findByStatusKey(status);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        List<TaskRow> tasks = taskRepository.findRowsByStatusKey(status);
+        return mapRowsToTaskResponses(tasks);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponse> exportTasksByWorkspaceId(UUID workspaceId, UUID afterId, int limit) {
+        log.debug("TaskServiceImpl :: exportTasksByWorkspaceId :: Exporting tasks of workspace :: {} :: after :: {}", workspaceId, afterId);
+
+        List<TaskRow> rows = taskRepository.findRowsByWorkspaceIdAfter(workspaceId, afterId, PageRequest.of(0, limit));
+        return mapRowsToTaskResponses(rows);
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -126,8 +229,25 @@ public class TaskServiceImpl implements TaskService {
         log.info("TaskServiceImpl :: getOverdueTasks :: Fetching overdue tasks");
 
         List<Task> tasks = taskRepository.findOverdueTasks(Instant.now(), TaskStatus.COMPLETED);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
+        return mapToTaskResponses(tasks);
+    }
+
+    /**
+     * Served from {@link WorkspaceTypeaheadIndex}: only the first lookup in a workspace queries the database,
+     * so no transaction is opened per keystroke.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TypeaheadSuggestionResponse> getTypeaheadSuggestions(UUID workspaceId, String query, Integer limit) {
+        log.debug("TaskServiceImpl :: getTypeaheadSuggestions :: Suggesting :: {} :: in workspace :: {}", query, workspaceId);
+
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_TYPEAHEAD_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        return workspaceTypeaheadIndex.suggest(workspaceId, query, resolvedLimit).stream()
+                .map(suggestion -> TypeaheadSuggestionResponse.builder()
+                        .text(suggestion.text())
+                        .type(TypeaheadSuggestionResponse.SuggestionType.valueOf(suggestion.type().name()))
+                        .taskCount(suggestion.taskCount())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -141,6 +261,7 @@ public class TaskServiceImpl implements TaskService {
                     return new ResourceNotFoundException("Task not found with id: " + id);
                 });
         TaskDto taskDto = request.getTasks().get(0);
+        String previousTitle = task.getTitle();
 
         // Update basic fields
         if (taskDto.getTitle() != null) {
@@ -151,7 +272,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         if (taskDto.getStatusKey() != null) {
-            task.setStatusKey(taskDto.getStatusKey());
+            changeStatus(task, taskDto.getStatusKey());
         }
         if (taskDto.getPriority() != null) {
             task.setPriority(taskDto.getPriority());
@@ -177,6 +298,7 @@ public class TaskServiceImpl implements TaskService {
 
 
         Task updatedTask = taskRepository.save(task);
+        workspaceTypeaheadIndex.taskRenamed(updatedTask.getAssignmentId(), previousTitle, updatedTask.getTitle());
         log.info("TaskServiceImpl :: updateTask :: Task updated successfully :: {}", updatedTask.getId());
 
         return mapToTaskResponse(updatedTask);
@@ -192,15 +314,7 @@ public class TaskServiceImpl implements TaskService {
                     return new ResourceNotFoundException("Task not found with id: " + id);
                 });
 
-        TaskStatus previousStatus = task.getStatusKey();
-        task.setStatusKey(status);
-
-        // Set timestamps based on status
-        if (status == TaskStatus.ONGOING && previousStatus != TaskStatus.ONGOING) {
-            task.setStartedAt(Instant.now());
-        } else if (status == TaskStatus.COMPLETED && previousStatus != TaskStatus.COMPLETED) {
-            task.setCompletedAt(Instant.now());
-        }
+        changeStatus(task, status);
 
         Task updatedTask = taskRepository.save(task);
         log.info("TaskServiceImpl :: updateTaskStatus :: Task status updated successfully :: {}", id);
@@ -208,6 +322,112 @@ public class TaskServiceImpl implements TaskService {
         return mapToTaskResponse(updatedTask);
     }
 
+    /**
+     * Applies many task changes in one transaction. Every task is loaded by one query and checked against the
+     * version its change was made against; matching ones are changed through the entity, so status transitions
+     * follow the rules of {@link #updateTaskStatus} and the outbox and user task view see every change. Hibernate
+     * then writes them as JDBC batches of {@code UPDATE task ... WHERE id = ? AND version = ?}, and the rollups
+     * of all the transitions as one set of row updates.
+     * <p>
+     * Stale, missing and invalid changes are reported per item and skipped. A batch cannot be partly rolled back,
+     * so when a task is changed by someone else between the read and the write the whole attempt is rolled back and
+     * run again from a fresh read, where that task is reported as a conflict like any other stale change. Only a
+     * batch that keeps losing races {@value #MAX_BATCH_UPDATE_ATTEMPTS} times in a row fails as a whole.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskBatchUpdateResponse updateTasks(List<TaskBatchUpdateRequest.TaskChange> changes) {
+        log.info("TaskServiceImpl :: updateTasks :: Applying {} task changes", changes.size());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyChanges(changes));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt == MAX_BATCH_UPDATE_ATTEMPTS) {
+                    log.error("TaskServiceImpl :: updateTasks :: Tasks kept changing concurrently, giving up after {} attempts", attempt);
+                    throw e;
+                }
+                log.warn("TaskServiceImpl :: updateTasks :: A task changed concurrently, re-reading :: attempt {} :: {}",
+                        attempt, e.getMessage());
+            }
+        }
+    }
+
+    private TaskBatchUpdateResponse applyChanges(List<TaskBatchUpdateRequest.TaskChange> changes) {
+        Map<UUID, Task> tasksById = taskRepository.findByIdIn(changes.stream().map(TaskBatchUpdateRequest.TaskChange::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<UUID> targetAssignmentIds = changes.stream()
+                .map(TaskBatchUpdateRequest.TaskChange::getAssignmentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<UUID> existingAssignmentIds = targetAssignmentIds.isEmpty()
+                ? Set.of() : new HashSet<>(assignmentRepository.findIdsByIdIn(targetAssignmentIds));
+
+        List<TaskBatchUpdateResponse.Result> results = new ArrayList<>(changes.size());
+        Map<UUID, List<Task>> movedByAssignment = new LinkedHashMap<>();
+        Set<UUID> previousAssignmentIds = new HashSet<>();
+        Set<UUID> seen = new HashSet<>();
+        ProgressRollups.Batch rollups = new ProgressRollups.Batch();
+        for (TaskBatchUpdateRequest.TaskChange change : changes) {
+            TaskBatchUpdateResponse.Result result = TaskBatchUpdateResponse.Result.builder().id(change.getId()).build();
+            results.add(result);
+            Task task = tasksById.get(change.getId());
+            String invalid = task != null ? validateChange(change, task, existingAssignmentIds) : null;
+            if (!seen.add(change.getId())) {
+                result.setOutcome(TaskBatchUpdateResponse.Outcome.INVALID);
+                result.setMessage("Task changed more than once in the batch");
+            } else if (task == null) {
+                result.setOutcome(TaskBatchUpdateResponse.Outcome.NOT_FOUND);
+            } else if (!task.getVersion().equals(change.getVersion())) {
+                result.setOutcome(TaskBatchUpdateResponse.Outcome.CONFLICT);
+                result.setVersion(task.getVersion());
+            } else if (invalid != null) {
+                result.setOutcome(TaskBatchUpdateResponse.Outcome.INVALID);
+                result.setMessage(invalid);
+            } else {
+                UUID previousAssignmentId = task.getAssignmentId();
+                if (change.getAssignmentId() != null && !change.getAssignmentId().equals(previousAssignmentId)) {
+                    task.setAssignmentId(change.getAssignmentId());
+                    rollups.taskMoved(task, previousAssignmentId);
+                    movedByAssignment.computeIfAbsent(change.getAssignmentId(), id -> new ArrayList<>()).add(task);
+                    if (previousAssignmentId != null) {
+                        previousAssignmentIds.add(previousAssignmentId);
+                    }
+                }
+                if (change.getStatusKey() != null) {
+                    changeStatus(task, change.getStatusKey(), rollups);
+                }
+                if (change.getPriority() != null) {
+                    task.setPriority(change.getPriority());
+                }
+                if (change.getTitleColor() != null) {
+                    task.setTitleColor(change.getTitleColor());
+                }
+                if (change.getDeadline() != null) {
+                    task.setDeadline(change.getDeadline());
+                } else if (change.getDeadlineShift() != null) {
+                    task.setDeadline(task.getDeadline().plus(change.getDeadlineShift()));
+                }
+                result.setOutcome(TaskBatchUpdateResponse.Outcome.UPDATED);
+            }
+        }
+
+        progressRollups.write(rollups);
+        taskRepository.flush();
+        List<TaskBatchUpdateResponse.Result> updated = results.stream()
+                .filter(result -> result.getOutcome() == TaskBatchUpdateResponse.Outcome.UPDATED)
+                .toList();
+        updated.forEach(result -> result.setVersion(tasksById.get(result.getId()).getVersion()));
+        previousAssignmentIds.forEach(workspaceTypeaheadIndex::tasksRemoved);
+        movedByAssignment.forEach((assignmentId, tasks) -> workspaceTypeaheadIndex.tasksAdded(null, assignmentId, tasks));
+
+        log.info("TaskServiceImpl :: updateTasks :: Updated {} of {} tasks", updated.size(), changes.size());
+        return TaskBatchUpdateResponse.builder()
+                .results(results)
+                .updatedCount(updated.size())
+                .build();
+    }
+
     @Override
     public TaskResponse assignTask(UUID id, UUID assigneeId) {
         log.info("TaskServiceImpl :: assignTask :: Assigning task :: id: {}, assignee: {}", id, assigneeId);
@@ -250,17 +470,148 @@ public class TaskServiceImpl implements TaskService {
     public void deleteTask(UUID id) {
         log.info("TaskServiceImpl :: deleteTask :: Deleting task :: {}", id);
 
-        if (!taskRepository.existsById(id)) {
-            log.error("TaskServiceImpl :: deleteTask :: Task not found :: {}", id);
-            throw new ResourceNotFoundException("Task not found with id: " + id);
-        }
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("TaskServiceImpl :: deleteTask :: Task not found :: {}", id);
+                    return new ResourceNotFoundException("Task not found with id: " + id);
+                });
 
-        taskRepository.deleteById(id);
+        taskRepository.delete(task);
+        workspaceTypeaheadIndex.tasksRemoved(task.getAssignmentId());
         log.info("TaskServiceImpl :: deleteTask :: Task deleted successfully :: {}", id);
     }
 
 
+    private List<TaskResponse> mapToTaskResponses(List<Task> tasks) {
+        Map<UUID, Integer> commentCounts = countCommentsByTaskId(tasks);
+        return tasks.stream()
+                .map(task -> mapToTaskResponse(task, commentCounts.getOrDefault(task.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<TaskResponse> mapRowsToTaskResponses(List<TaskRow> rows) {
+        return rows.stream()
+                .map(TaskServiceImpl::mapRowToTaskResponse)
+                .collect(Collectors.toList());
+    }
+
+    private static TaskResponse mapRowToTaskResponse(TaskRow row) {
+        return TaskResponse.builder()
+                .id(row.id())
+                .assignmentId(row.assignmentId())
+                .title(row.title())
+                .description(row.description())
+                .statusKey(row.statusKey())
+                .priority(row.priority())
+                .rewardPoints(row.rewardPoints())
+                .estimatedHours(row.estimatedHours())
+                .titleColor(row.titleColor())
+                .deadline(row.deadline())
+                .startedAt(row.startedAt())
+                .completedAt(row.completedAt())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .assigneeUserId(row.assigneeUserId())
+                .reporterUserId(row.reporterUserId())
+                .commentCount(row.commentCount().intValue())
+                .build();
+    }
+
+    // Only the requested fields of TaskResponse, reading only their columns; comment counts take one more query
+    private List<Map<String, Object>> findTaskFields(String fields, SparseFieldsetQuery.Filter<Task> filter) {
+        SparseFieldset fieldset = SparseFieldset.parse(fields, TASK_FIELDS);
+        List<Map<String, Object>> rows = sparseFieldsetQuery.find(Task.class, fieldset.columns(TASK_COLUMNS), filter);
+        if (fieldset.includes(COMMENT_COUNT) && !rows.isEmpty()) {
+            Map<UUID, Integer> commentCounts = countCommentsByTaskIds(rows.stream().map(row -> (UUID) row.get(SparseFieldset.ID)).toList());
+            rows.forEach(row -> row.put(COMMENT_COUNT, commentCounts.getOrDefault((UUID) row.get(SparseFieldset.ID), 0)));
+        }
+        log.debug("TaskServiceImpl :: findTaskFields :: Read {} fields of {} tasks", fieldset.fields().size(), rows.size());
+        return rows;
+    }
+
+    // One grouped query instead of initializing the comments collection of every task
+    private Map<UUID, Integer> countCommentsByTaskId(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new HashMap<>();
+        }
+        return countCommentsByTaskIds(tasks.stream().map(Task::getId).toList());
+    }
+
+    private Map<UUID, Integer> countCommentsByTaskIds(List<UUID> taskIds) {
+        Map<UUID, Integer> commentCounts = new HashMap<>();
+        for (Object[] row : taskRepository.countCommentsByTaskIds(taskIds)) {
+            commentCounts.put((UUID) row[0], ((Long) row[1]).intValue());
+        }
+        return commentCounts;
+    }
+
+    // Sets the status with its timestamps and moves the task's progress between the daily rollups
+    private void changeStatus(Task task, TaskStatus status) {
+        ProgressRollups.Batch rollups = new ProgressRollups.Batch();
+        changeStatus(task, status, rollups);
+        progressRollups.write(rollups);
+    }
+
+    private static void changeStatus(Task task, TaskStatus status, ProgressRollups.Batch rollups) {
+        TaskStatus previousStatus = task.getStatusKey();
+        task.setStatusKey(status);
+
+        // Set timestamps based on status
+        if (status == TaskStatus.ONGOING && previousStatus != TaskStatus.ONGOING) {
+            Instant previousStartedAt = task.getStartedAt();
+            task.setStartedAt(Instant.now());
+            rollups.taskStarted(task, previousStartedAt);
+        } else if (status == TaskStatus.COMPLETED && previousStatus != TaskStatus.COMPLETED) {
+            task.setCompletedAt(Instant.now());
+            rollups.taskCompleted(task);
+        }
+        if (previousStatus == TaskStatus.COMPLETED && status != TaskStatus.COMPLETED) {
+            rollups.taskReopened(task);
+        }
+    }
+
+    // Why a change cannot be applied to its task, or null when it can
+    private static String validateChange(TaskBatchUpdateRequest.TaskChange change, Task task, Set<UUID> existingAssignmentIds) {
+        if (change.getDeadline() != null && change.getDeadlineShift() != null) {
+            return "Give either a deadline or a deadline shift, not both";
+        }
+        if (change.getDeadlineShift() != null && task.getDeadline() == null) {
+            return "Task has no deadline to shift";
+        }
+        if (change.getAssignmentId() != null && !existingAssignmentIds.contains(change.getAssignmentId())) {
+            return "Assignment not found with ID: " + change.getAssignmentId();
+        }
+        return null;
+    }
+
+    private InboxTaskResponse mapToInboxTaskResponse(UserTaskView view) {
+        return InboxTaskResponse.builder()
+                .taskId(view.getTaskId())
+                .assignmentId(view.getAssignmentId())
+                .workspaceId(view.getWorkspaceId())
+                .taskAssignmentId(view.getTaskAssignmentId())
+                .assignee(view.isAssignee())
+                .title(view.getTitle())
+                .topic(view.getTopic())
+                .statusKey(view.getStatusKey())
+                .myStatus(view.getMyStatus())
+                .priority(view.getPriority())
+                .rewardPoints(view.getRewardPoints())
+                .rewardPointsEarned(view.getRewardPointsEarned())
+                .estimatedHours(view.getEstimatedHours())
+                .titleColor(view.getTitleColor())
+                .deadline(view.getDeadline())
+                .completedAt(view.getCompletedAt())
+                .updatedAt(view.getTaskUpdatedAt())
+                .build();
+    }
+
     private TaskResponse mapToTaskResponse(Task task) {
+        Integer commentCount = task.getComments() != null ? task.getComments().size() : 0;
+        return mapToTaskResponse(task, commentCount);
+    }
+
+    private TaskResponse mapToTaskResponse(Task task, Integer commentCount) {
         TaskResponse.TaskResponseBuilder builder = TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -286,7 +637,6 @@ public class TaskServiceImpl implements TaskService {
             builder.reporterUserId(task.getReporterUserId());
         }
 
-        Integer commentCount = task.getComments() != null ? task.getComments().size() : 0;
         builder.commentCount(commentCount);
 
         return builder.build();
@@ -8,8 +8,13 @@ import com.SwitchBoard.WorkspaceService.entity.Workspace;
 import com.SwitchBoard.WorkspaceService.entity.WorkspaceAccess;
 import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
 import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.repository.SparseFieldsetQuery;
 import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.search.TrigramIndex;
+import com.SwitchBoard.WorkspaceService.search.TrigramSearchSupport;
+import com.SwitchBoard.WorkspaceService.search.WorkspaceTypeaheadIndex;
 import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
+import com.SwitchBoard.WorkspaceService.utility.SparseFieldset;
 import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +24,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.SwitchBoard.WorkspaceService.config.Constant.*;
 
@@ -29,8 +37,19 @@ import static com.SwitchBoard.WorkspaceService.config.Constant.*;
 @Slf4j
 public class WorkspaceServiceImpl implements WorkspaceService {
 
+    // Fields of WorkspaceResponse a sparse fieldset reads from workspace columns, and those it derives
+    private static final Set<String> WORKSPACE_COLUMNS = Set.of("id", "name", "description", "workspaceType",
+            "ownerUserId", "createdAt", "updatedAt");
+    private static final String ACCESS_USER_IDS = "accessUserIds";
+    private static final String USER_ACCESS_COUNT = "userAccessCount";
+    private static final Set<String> WORKSPACE_FIELDS = Stream.concat(WORKSPACE_COLUMNS.stream(),
+            Stream.of(ACCESS_USER_IDS, USER_ACCESS_COUNT)).collect(Collectors.toUnmodifiableSet());
+
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceAccessRepository workspaceAccessRepository;
+    private final TrigramSearchSupport trigramSearchSupport;
+    private final WorkspaceTypeaheadIndex workspaceTypeaheadIndex;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
 
 
     @Override
@@ -63,9 +82,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
             workspaces = createDefaultWorkspaces(ownerUserId);
         }
         
-        List<WorkspaceResponse> responses = workspaces.stream()
-                .map(this::convertToWorkspaceResponse)
-                .collect(Collectors.toList());
+        List<WorkspaceResponse> responses = convertToWorkspaceResponses(workspaces);
         
         log.info("WorkspaceServiceImpl :: getWorkspacesByOwnerUserId :: Successfully retrieved {} workspaces for user :: {}", 
                 responses.size(), ownerUserId);
@@ -127,6 +144,23 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         return defaultWorkspaces;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getWorkspacesByOwnerUserId(UUID ownerUserId, String fields) {
+        log.info("WorkspaceServiceImpl :: getWorkspacesByOwnerUserId :: Fetching fields {} of workspaces for user :: {}", fields, ownerUserId);
+
+        SparseFieldset fieldset = SparseFieldset.parse(fields, WORKSPACE_FIELDS);
+        List<Map<String, Object>> rows = sparseFieldsetQuery.find(Workspace.class, fieldset.columns(WORKSPACE_COLUMNS),
+                (workspace, criteriaBuilder) -> criteriaBuilder.equal(workspace.get("ownerUserId"), ownerUserId));
+        if (rows.isEmpty()) {
+            log.info("WorkspaceServiceImpl :: getWorkspacesByOwnerUserId :: No workspaces found, creating default workspaces for user :: {}", ownerUserId);
+            rows = createDefaultWorkspaces(ownerUserId).stream()
+                    .map(workspace -> fieldset.row(workspace, WORKSPACE_COLUMNS))
+                    .collect(Collectors.toList());
+        }
+        return addWorkspaceAccessFields(rows, fieldset);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<WorkspaceResponse> getWorkspacesAccessibleByUser(UUID userId) {
@@ -137,10 +171,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         log.debug("WorkspaceServiceImpl :: getWorkspacesAccessibleByUser :: Found {} owned workspaces for user :: {}", 
                 userOwnedWorkspaces.size(), userId);
         
-        List<WorkspaceResponse> responses = userOwnedWorkspaces.stream()
-                .distinct()
-                .map(this::convertToWorkspaceResponse)
-                .collect(Collectors.toList());
+        List<WorkspaceResponse> responses = convertToWorkspaceResponses(userOwnedWorkspaces);
         
         log.info("WorkspaceServiceImpl :: getWorkspacesAccessibleByUser :: Successfully retrieved {} accessible workspaces for user :: {}", 
                 responses.size(), userId);
@@ -148,6 +179,49 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         return responses;
     }
 
+    // Like the full response, lists only the workspaces the user owns
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getWorkspacesAccessibleByUser(UUID userId, String fields) {
+        log.info("WorkspaceServiceImpl :: getWorkspacesAccessibleByUser :: Fetching fields {} of accessible workspaces for user :: {}", fields, userId);
+
+        SparseFieldset fieldset = SparseFieldset.parse(fields, WORKSPACE_FIELDS);
+        List<Map<String, Object>> rows = sparseFieldsetQuery.find(Workspace.class, fieldset.columns(WORKSPACE_COLUMNS),
+                (workspace, criteriaBuilder) -> criteriaBuilder.equal(workspace.get("ownerUserId"), userId));
+        return addWorkspaceAccessFields(rows, fieldset);
+    }
+
+    /**
+     * Substring search over the names of the workspaces a user owns or has access to. Runs on the pg_trgm index
+     * when available; otherwise the user's workspaces, which are few, are ranked in memory.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkspaceResponse> searchWorkspaces(String query, UUID userId, Integer limit) {
+        log.info("WorkspaceServiceImpl :: searchWorkspaces :: Searching workspaces :: {} :: for user :: {}", query, userId);
+
+        String term = query == null ? "" : query.trim();
+        if (term.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int resultLimit = trigramSearchSupport.resolveLimit(limit);
+
+        List<Workspace> workspaces;
+        if (trigramSearchSupport.isDatabaseSearchEnabled()) {
+            workspaces = workspaceRepository.searchAccessibleByName(term,
+                    trigramSearchSupport.containsPattern(term),
+                    trigramSearchSupport.prefixPattern(term),
+                    userId,
+                    resultLimit);
+        } else {
+            workspaces = TrigramIndex.rank(workspaceRepository.findWorkspacesAccessibleByUser(userId),
+                    Workspace::getName, term, resultLimit);
+        }
+
+        log.info("WorkspaceServiceImpl :: searchWorkspaces :: Found {} workspaces for :: {}", workspaces.size(), query);
+        return convertToWorkspaceResponses(workspaces);
+    }
+
     @Override
     @Transactional
     public void deleteWorkspace(UUID id) {
@@ -161,6 +235,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
 
         log.debug("WorkspaceServiceImpl :: deleteWorkspace :: Found workspace :: {} :: Name: {}", id, workspace.getName());
         workspaceRepository.delete(workspace);
+        workspaceTypeaheadIndex.workspaceRemoved(id);
         log.info("WorkspaceServiceImpl :: deleteWorkspace :: Workspace deleted successfully :: {}", id);
     }
 
@@ -298,17 +373,61 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         throw new ResourceNotFoundException("Roadmap workspace not found for user with ID: " + userId);
     }
 
+    // The users with active access of every workspace in one query, when a sparse fieldset asks for them
+    private List<Map<String, Object>> addWorkspaceAccessFields(List<Map<String, Object>> rows, SparseFieldset fieldset) {
+        if (rows.isEmpty() || !fieldset.includesAny(List.of(ACCESS_USER_IDS, USER_ACCESS_COUNT))) {
+            return rows;
+        }
+        List<UUID> workspaceIds = rows.stream().map(row -> (UUID) row.get(SparseFieldset.ID)).toList();
+        Map<UUID, List<UUID>> accessUserIdsByWorkspace = workspaceAccessRepository.findByWorkspaceIdInAndIsActiveTrue(workspaceIds)
+                .stream()
+                .collect(Collectors.groupingBy(access -> access.getWorkspace().getId(),
+                        Collectors.mapping(WorkspaceAccess::getUserId, Collectors.toList())));
+        for (Map<String, Object> row : rows) {
+            List<UUID> accessUserIds = accessUserIdsByWorkspace.getOrDefault((UUID) row.get(SparseFieldset.ID), new ArrayList<>());
+            if (fieldset.includes(ACCESS_USER_IDS)) {
+                row.put(ACCESS_USER_IDS, accessUserIds);
+            }
+            if (fieldset.includes(USER_ACCESS_COUNT)) {
+                row.put(USER_ACCESS_COUNT, accessUserIds.size());
+            }
+        }
+        return rows;
+    }
+
+    private List<WorkspaceResponse> convertToWorkspaceResponses(List<Workspace> workspaces) {
+        if (workspaces.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Active access records of all workspaces in one query, grouped in memory
+        List<UUID> workspaceIds = workspaces.stream().map(Workspace::getId).toList();
+        Map<UUID, List<UUID>> accessUserIdsByWorkspace = workspaceAccessRepository.findByWorkspaceIdInAndIsActiveTrue(workspaceIds)
+                .stream()
+                .collect(Collectors.groupingBy(access -> access.getWorkspace().getId(),
+                        Collectors.mapping(WorkspaceAccess::getUserId, Collectors.toList())));
+
+        return workspaces.stream()
+                .map(workspace -> convertToWorkspaceResponse(workspace,
+                        accessUserIdsByWorkspace.getOrDefault(workspace.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
     private WorkspaceResponse convertToWorkspaceResponse(Workspace workspace) {
-        log.debug("WorkspaceServiceImpl :: convertToWorkspaceResponse :: Converting workspace :: {} to response", 
-                workspace.getId());
-        
         // Get access user IDs
         List<UUID> accessUserIds = workspaceAccessRepository.findByWorkspaceIdAndIsActiveTrue(workspace.getId())
                 .stream()
                 .map(WorkspaceAccess::getUserId)
                 .collect(Collectors.toList());
+        return convertToWorkspaceResponse(workspace, accessUserIds);
+    }
+
+    private WorkspaceResponse convertToWorkspaceResponse(Workspace workspace, List<UUID> accessUserIds) {
+        log.debug("WorkspaceServiceImpl :: convertToWorkspaceResponse :: Converting workspace :: {} to response", 
+                workspace.getId());
 
-        Long userAccessCount = workspaceAccessRepository.countActiveUsersByWorkspaceId(workspace.getId());
+        // Same predicate as countActiveUsersByWorkspaceId, so the list size is the count
+        long userAccessCount = accessUserIds.size();
 
         log.debug("WorkspaceServiceImpl :: convertToWorkspaceResponse :: Workspace {} has {} active users with access", 
                 workspace.getId(), userAccessCount);
@@ -319,7 +438,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
                 .description(workspace.getDescription())
                 .ownerUserId(workspace.getOwnerUserId())
                 .accessUserIds(accessUserIds)
-                .userAccessCount(userAccessCount.intValue())
+                .userAccessCount((int) userAccessCount)
                 .createdAt(workspace.getCreatedAt())
                 .updatedAt(workspace.getUpdatedAt())
                 .build();
@@ -1,7 +1,12 @@
 package com.SwitchBoard.WorkspaceService.utility;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 @Component
@@ -10,24 +15,21 @@ public class SlugUtils {
 
     private static final Pattern VALID_SLUG_PATTERN = Pattern.compile("^[a-z0-9]+(?:-[a-z0-9]+)*$");
 
+    private static final int MAX_INSERT_ATTEMPTS = 5;
+
     /**
      * Generate a slug from a given text
      */
     public String generateSlug(String text) {
         log.debug("SlugUtils :: generateSlug :: Generating slug from :: {}", text);
-        
+
         if (text == null || text.trim().isEmpty()) {
             log.warn("SlugUtils :: generateSlug :: Text is null or empty");
             return "";
         }
-        
-        String slug = text.toLowerCase()
-                .trim()
-                .replaceAll("[^a-z0-9\\s-]", "") // Remove special characters
-                .replaceAll("\\s+", "-") // Replace spaces with hyphens
-                .replaceAll("-+", "-") // Replace multiple hyphens with single hyphen
-                .replaceAll("^-|-$", ""); // Remove leading/trailing hyphens
-        
+
+        String slug = slugify(text, true);
+
         log.debug("SlugUtils :: generateSlug :: Generated slug :: {}", slug);
         return slug;
     }
@@ -37,60 +39,163 @@ public class SlugUtils {
      */
     public boolean isValidSlug(String slug) {
         log.debug("SlugUtils :: isValidSlug :: Validating slug :: {}", slug);
-        
+
         if (slug == null || slug.trim().isEmpty()) {
             return false;
         }
-        
+
         boolean isValid = VALID_SLUG_PATTERN.matcher(slug).matches();
         log.debug("SlugUtils :: isValidSlug :: Slug validation result :: {}", isValid);
-        
+
         return isValid;
     }
 
     /**
-     * Generate a unique slug by appending a number if necessary
+     * Generate a unique slug by appending the smallest free number if necessary.
+     * {@code takenSlugsLoader} receives the base slug and returns every taken slug that is either the base
+     * itself or {@code base-<suffix>}, in one query (see {@code GroupRepository.findSlugsByBase}).
      */
-    public String generateUniqueSlug(String text, java.util.function.Function<String, Boolean> existsChecker) {
+    public String generateUniqueSlug(String text, Function<String, Collection<String>> takenSlugsLoader) {
         log.debug("SlugUtils :: generateUniqueSlug :: Generating unique slug from :: {}", text);
-        
+
         String baseSlug = generateSlug(text);
-        
+
         if (baseSlug.isEmpty()) {
             log.warn("SlugUtils :: generateUniqueSlug :: Base slug is empty");
             return "";
         }
-        
-        String uniqueSlug = baseSlug;
-        int counter = 1;
-        
-        while (existsChecker.apply(uniqueSlug)) {
-            uniqueSlug = baseSlug + "-" + counter;
-            counter++;
-            log.debug("SlugUtils :: generateUniqueSlug :: Trying slug :: {}", uniqueSlug);
-        }
-        
+
+        String uniqueSlug = nextFreeSlug(baseSlug, takenSlugsLoader.apply(baseSlug));
+
         log.debug("SlugUtils :: generateUniqueSlug :: Generated unique slug :: {}", uniqueSlug);
         return uniqueSlug;
     }
 
+    /**
+     * Allocate a unique slug and insert with it, relying on the unique index on the slug column for
+     * concurrent inserts: when another request takes the same slug first, the insert fails and the slug
+     * is allocated again. Each {@code insert} call must run and flush in its own transaction.
+     */
+    public <T> T insertWithUniqueSlug(String text, Function<String, Collection<String>> takenSlugsLoader,
+                                      Function<String, T> insert) {
+        for (int attempt = 1; ; attempt++) {
+            String slug = generateUniqueSlug(text, takenSlugsLoader);
+            try {
+                return insert.apply(slug);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    log.error("SlugUtils :: insertWithUniqueSlug :: Giving up on slug :: {} :: after {} attempts", slug, attempt);
+                    throw e;
+                }
+                log.warn("SlugUtils :: insertWithUniqueSlug :: Slug taken concurrently :: {} :: retrying", slug);
+            }
+        }
+    }
+
     /**
      * Clean and normalize a slug
      */
     public String normalizeSlug(String slug) {
         log.debug("SlugUtils :: normalizeSlug :: Normalizing slug :: {}", slug);
-        
+
         if (slug == null) {
             return "";
         }
-        
-        String normalized = slug.toLowerCase()
-                .trim()
-                .replaceAll("[^a-z0-9-]", "") // Keep only alphanumeric and hyphens
-                .replaceAll("-+", "-") // Replace multiple hyphens with single hyphen
-                .replaceAll("^-|-$", ""); // Remove leading/trailing hyphens
-        
+
+        String normalized = slugify(slug, false);
+
         log.debug("SlugUtils :: normalizeSlug :: Normalized slug :: {}", normalized);
         return normalized;
     }
-}
\ No newline at end of file
+
+    /**
+     * Smallest free slug among {@code base}, {@code base-1}, {@code base-2}... given the taken ones.
+     * With n taken slugs one of the first n + 1 candidates is free, so a bit set of that size is enough.
+     */
+    static String nextFreeSlug(String baseSlug, Collection<String> takenSlugs) {
+        if (!takenSlugs.contains(baseSlug)) {
+            return baseSlug;
+        }
+        int limit = takenSlugs.size() + 1;
+        BitSet usedSuffixes = new BitSet(limit + 1);
+        int prefixLength = baseSlug.length() + 1;
+        for (String taken : takenSlugs) {
+            if (taken.length() > prefixLength && taken.startsWith(baseSlug) && taken.charAt(baseSlug.length()) == '-') {
+                int suffix = parseSuffix(taken, prefixLength, limit);
+                if (suffix > 0) {
+                    usedSuffixes.set(suffix);
+                }
+            }
+        }
+        return baseSlug + "-" + usedSuffixes.nextClearBit(1);
+    }
+
+    /** Numeric suffix starting at {@code from}, or -1 if it is not a plain number in [1, limit]. */
+    private static int parseSuffix(String slug, int from, int limit) {
+        if (slug.charAt(from) == '0') {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+            if (value > limit) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Single pass over the text: keeps lowercase ASCII letters and digits, turns runs of hyphens (and of
+     * whitespace when {@code whitespaceSeparates}, otherwise whitespace is dropped) into one hyphen, drops
+     * everything else and never emits a leading or trailing hyphen. Returns the input itself when it is
+     * already a valid slug.
+     */
+    private static String slugify(String text, boolean whitespaceSeparates) {
+        char[] out = null;
+        int size = 0;
+        boolean pendingSeparator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c > 0x7F ? Character.toLowerCase(c) : c;
+            if ((lower >= 'a' && lower <= 'z') || (lower >= '0' && lower <= '9')) {
+                if (pendingSeparator && size > 0) {
+                    out = append(out, size++, '-', text);
+                }
+                pendingSeparator = false;
+                out = append(out, size++, lower, text);
+            } else if (c == '-' || (whitespaceSeparates && isWhitespace(c))) {
+                pendingSeparator = true;
+            }
+        }
+        if (out == null) {
+            return size == text.length() ? text : text.substring(0, size);
+        }
+        return new String(out, 0, size);
+    }
+
+    /**
+     * Writes {@code c} at {@code index}. While the output is still a prefix of the input nothing is copied;
+     * a buffer holding that prefix is allocated the first time they differ. The output is never longer
+     * than the input.
+     */
+    private static char[] append(char[] out, int index, char c, String text) {
+        if (out == null) {
+            if (text.charAt(index) == c) {
+                return null;
+            }
+            out = new char[text.length()];
+            text.getChars(0, index, out, 0);
+        }
+        out[index] = c;
+        return out;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,60 @@
+package com.SwitchBoard.WorkspaceService.utility;
+
+import com.SwitchBoard.WorkspaceService.Exception.BadRequestException;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The fields a client asked a list endpoint for with {@code fields=title,statusKey}, in the order asked. The id is
+ * always included so rows can be told apart.
+ */
+public record SparseFieldset(Set<String> fields) {
+
+    public static final String ID = "id";
+
+    public static SparseFieldset parse(String fields, Set<String> allowed) {
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BadRequestException("Unknown field: " + name + ", expected some of " + new TreeSet<>(allowed));
+            }
+            requested.add(name);
+        }
+        return new SparseFieldset(requested);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean includesAny(Collection<String> candidates) {
+        return candidates.stream().anyMatch(fields::contains);
+    }
+
+    /** The requested fields among {@code columns}, in the order asked. */
+    public List<String> columns(Set<String> columns) {
+        return fields.stream().filter(columns::contains).toList();
+    }
+
+    /** A row of the requested {@code columns} read from an entity already in memory. */
+    public Map<String, Object> row(Object entity, Set<String> columns) {
+        BeanWrapper bean = new BeanWrapperImpl(entity);
+        Map<String, Object> row = new LinkedHashMap<>();
+        columns(columns).forEach(column -> row.put(column, bean.getPropertyValue(column)));
+        return row;
+    }
+}
@@ -0,0 +1,29 @@
+package com.SwitchBoard.WorkspaceService.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class TransactionUtils {
+
+    /**
+     * Run an action once the current transaction commits, or right away when there is no transaction.
+     * Nothing runs if the transaction rolls back.
+     */
+    public void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.debug("TransactionUtils :: runAfterCommit :: Deferring action until commit");
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
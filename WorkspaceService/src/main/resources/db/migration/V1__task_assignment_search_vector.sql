@@ -0,0 +1,14 @@
+-- Weighted full-text search columns for content search (FullTextSearchSupport, ContentSearchRepository).
+-- Applied at startup by SchemaMigrationRunner. Adding a STORED generated column rewrites the table under an
+-- ACCESS EXCLUSIVE lock; on large tables disable the runner (schema.migrations.enabled=false) and apply this in a
+-- maintenance window instead, the service using its LIKE fallback until then. Keep the expressions in step with
+-- FullTextSearchSupport.TEXT_SEARCH_CONFIG.
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(topic, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED;
+
+ALTER TABLE assignment ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED;
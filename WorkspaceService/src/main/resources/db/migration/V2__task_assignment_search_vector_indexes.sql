@@ -0,0 +1,7 @@
+-- GIN indexes over the search columns of V1. CREATE INDEX CONCURRENTLY cannot run inside a transaction block, so
+-- SchemaMigrationRunner runs this script without one (by hand: psql without --single-transaction); writes continue
+-- while the indexes build.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search_vector ON task USING gin (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assignment_search_vector ON assignment USING gin (search_vector);
@@ -0,0 +1,88 @@
+package com.SwitchBoard.WorkspaceService.perf;
+
+import java.util.SplittableRandom;
+
+/**
+ * A non-negative integer distribution given on the command line:
+ * <ul>
+ *     <li>{@code fixed:5} - always 5</li>
+ *     <li>{@code uniform:1:10} - uniform in [1, 10]</li>
+ *     <li>{@code geometric:4:1:200} - geometric with mean 4, clamped to [1, 200]; most users are small,
+ *     a long tail is large, which is the shape production data has</li>
+ * </ul>
+ */
+abstract class Distribution {
+
+    abstract int sample(SplittableRandom random);
+
+    /** Mean after clamping, estimated by sampling. */
+    double mean() {
+        SplittableRandom random = new SplittableRandom(1);
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sum += sample(random);
+        }
+        return sum / 10_000.0;
+    }
+
+    static Distribution parse(String spec) {
+        String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "fixed":
+                return fixed(Integer.parseInt(parts[1]));
+            case "uniform":
+                return uniform(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            case "geometric":
+                return geometric(Double.parseDouble(parts[1]),
+                        parts.length > 2 ? Integer.parseInt(parts[2]) : 0,
+                        parts.length > 3 ? Integer.parseInt(parts[3]) : Integer.MAX_VALUE);
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + spec);
+        }
+    }
+
+    static Distribution fixed(int value) {
+        return new Distribution() {
+            @Override
+            int sample(SplittableRandom random) {
+                return value;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed:" + value;
+            }
+        };
+    }
+
+    static Distribution uniform(int min, int max) {
+        return new Distribution() {
+            @Override
+            int sample(SplittableRandom random) {
+                return random.nextInt(min, max + 1);
+            }
+
+            @Override
+            public String toString() {
+                return "uniform:" + min + ":" + max;
+            }
+        };
+    }
+
+    static Distribution geometric(double mean, int min, int max) {
+        double p = 1.0 / (1.0 + mean);
+        double logQ = Math.log(1.0 - p);
+        return new Distribution() {
+            @Override
+            int sample(SplittableRandom random) {
+                int value = (int) Math.floor(Math.log(1.0 - random.nextDouble()) / logQ);
+                return Math.max(min, Math.min(max, value));
+            }
+
+            @Override
+            public String toString() {
+                return "geometric:" + mean + ":" + min + ":" + max;
+            }
+        };
+    }
+}
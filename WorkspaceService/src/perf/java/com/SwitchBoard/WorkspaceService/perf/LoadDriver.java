@@ -0,0 +1,246 @@
+package com.SwitchBoard.WorkspaceService.perf;
+
+import com.SwitchBoard.WorkspaceService.perf.SyntheticDataset.UserPlan;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load driver: {@code --clients} threads each send a request, wait for the response, optionally
+ * think, and repeat, picking the operation from a weighted mix and the user uniformly from the seeded dataset.
+ * Latency percentiles are reported per operation for the measurement window after {@code --warmup}.
+ * <p>
+ * Run it with the same dataset options as {@link SyntheticDataSeeder} so it addresses users and tasks that exist.
+ * Being closed-loop, a slow server also slows the offered load, so compare runs at the same client count.
+ * <pre>
+ * mvn -Pperf test -Dperf.main=com.SwitchBoard.WorkspaceService.perf.LoadDriver \
+ *     -Dperf.args="--base-url http://localhost:8089 --users 100000 --clients 32 --duration 120"
+ * </pre>
+ */
+public final class LoadDriver {
+
+    enum Operation {
+        ASSIGNED_TO_ME, WORKSPACES_OWNER, ROADMAP_IMPORT, STATUS_UPDATE
+    }
+
+    private final SyntheticDataset dataset;
+    private final String baseUrl;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long thinkTimeMillis;
+    private final int roadmapTasks;
+    private final Operation[] mix;
+    private final HttpClient httpClient;
+
+    LoadDriver(PerfArgs args) {
+        this.dataset = new SyntheticDataset(args);
+        this.baseUrl = args.get("base-url", "http://localhost:8089");
+        this.clients = args.getInt("clients", 16);
+        this.warmup = Duration.ofSeconds(args.getInt("warmup", 15));
+        this.duration = Duration.ofSeconds(args.getInt("duration", 60));
+        this.thinkTimeMillis = args.getLong("think-ms", 0);
+        this.roadmapTasks = args.getInt("roadmap-tasks", 30);
+        this.mix = parseMix(args.get("mix", "assigned=45,owner=30,status=20,roadmap=5"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new PerfArgs(args)).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Driving %s with %d clients, warmup %ds, duration %ds, dataset %s%n",
+                baseUrl, clients, warmup.toSeconds(), duration.toSeconds(), dataset);
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureTo = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Recorder>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            SplittableRandom random = new SplittableRandom(dataset.seed * 7919 + c);
+            results.add(executor.submit(() -> drive(random, measureFrom, measureTo)));
+        }
+        Recorder total = new Recorder();
+        for (Future<Recorder> result : results) {
+            total.merge(result.get());
+        }
+        executor.shutdown();
+        total.print(duration);
+    }
+
+    private Recorder drive(SplittableRandom random, long measureFrom, long measureTo) throws InterruptedException {
+        Recorder recorder = new Recorder();
+        long now;
+        while ((now = System.nanoTime()) < measureTo) {
+            Operation operation = mix[random.nextInt(mix.length)];
+            HttpRequest request = request(operation, random);
+            if (request == null) {
+                continue;
+            }
+            boolean ok;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long latency = System.nanoTime() - now;
+            if (now >= measureFrom) {
+                recorder.record(operation, latency, ok);
+            }
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis);
+            }
+        }
+        return recorder;
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        int user = random.nextInt(dataset.users);
+        UUID userId = SyntheticDataset.userId(user);
+        switch (operation) {
+            case ASSIGNED_TO_ME:
+                return get("/api/v1/tasks/assigned-to-me", userId);
+            case WORKSPACES_OWNER:
+                return get("/api/v1/workspaces/owner", userId);
+            case ROADMAP_IMPORT:
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/roadmap/add-assignment"))
+                        .header("X-User-Id", userId.toString())
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(roadmapJson(random)))
+                        .build();
+            case STATUS_UPDATE:
+                UserPlan plan = dataset.plan(user);
+                if (plan.roadmaps() == 0) {
+                    return null;
+                }
+                int roadmap = random.nextInt(plan.roadmaps());
+                int task = random.nextInt(plan.tasksPerRoadmap()[roadmap]);
+                String status = random.nextBoolean() ? "COMPLETED" : "ONGOING";
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks/"
+                                + SyntheticDataset.taskId(user, roadmap, task) + "/status?status=" + status))
+                        .header("X-User-Id", userId.toString())
+                        .PUT(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest get(String path, UUID userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-User-Id", userId.toString())
+                .GET()
+                .build();
+    }
+
+    private String roadmapJson(SplittableRandom random) {
+        StringBuilder json = new StringBuilder(roadmapTasks * 128);
+        json.append("{\"title\":\"Load roadmap ").append(random.nextInt(1_000_000))
+                .append("\",\"description\":\"Imported by the load driver\",\"tasks\":[");
+        for (int i = 0; i < roadmapTasks; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"Step ").append(i)
+                    .append("\",\"description\":\"Load driver step ").append(i)
+                    .append("\",\"rewardPoints\":10,\"titleColor\":\"#3357FF\",\"topic\":\"Load\",\"orderNumber\":").append(i)
+                    .append(",\"estimatedHours\":").append(0.5 + random.nextInt(8) * 0.5)
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    /** Expands {@code assigned=45,owner=30,...} into a lookup table sampled uniformly. */
+    private static Operation[] parseMix(String spec) {
+        Map<String, Operation> names = Map.of(
+                "assigned", Operation.ASSIGNED_TO_ME,
+                "owner", Operation.WORKSPACES_OWNER,
+                "roadmap", Operation.ROADMAP_IMPORT,
+                "status", Operation.STATUS_UPDATE);
+        List<Operation> table = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            Operation operation = names.get(parts[0].trim());
+            if (operation == null) {
+                throw new IllegalArgumentException("Unknown operation in mix: " + parts[0]);
+            }
+            for (int i = 0; i < Integer.parseInt(parts[1].trim()); i++) {
+                table.add(operation);
+            }
+        }
+        return table.toArray(Operation[]::new);
+    }
+
+    /** Per-client latency samples in nanoseconds, merged and sorted once at the end of the run. */
+    private static final class Recorder {
+
+        private final Map<Operation, long[]> samples = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> sizes = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> errors = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, long latencyNanos, boolean ok) {
+            long[] values = samples.computeIfAbsent(operation, o -> new long[1024]);
+            int size = sizes.getOrDefault(operation, 0);
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                samples.put(operation, values);
+            }
+            values[size] = latencyNanos;
+            sizes.put(operation, size + 1);
+            if (!ok) {
+                errors.merge(operation, 1, Integer::sum);
+            }
+        }
+
+        void merge(Recorder other) {
+            for (Operation operation : other.samples.keySet()) {
+                long[] values = other.samples.get(operation);
+                for (int i = 0; i < other.sizes.get(operation); i++) {
+                    record(operation, values[i], true);
+                }
+                errors.merge(operation, other.errors.getOrDefault(operation, 0), Integer::sum);
+            }
+        }
+
+        void print(Duration duration) {
+            System.out.printf("%n%-18s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                    "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Operation operation : Operation.values()) {
+                int size = sizes.getOrDefault(operation, 0);
+                if (size == 0) {
+                    continue;
+                }
+                long[] values = Arrays.copyOf(samples.get(operation), size);
+                Arrays.sort(values);
+                System.out.printf("%-18s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        operation, size, errors.getOrDefault(operation, 0), size / (double) duration.toSeconds(),
+                        percentile(values, 0.50), percentile(values, 0.90), percentile(values, 0.99),
+                        percentile(values, 0.999), values[size - 1] / 1e6);
+            }
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
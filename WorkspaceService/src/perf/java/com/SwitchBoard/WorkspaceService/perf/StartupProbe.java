@@ -0,0 +1,127 @@
+package com.SwitchBoard.WorkspaceService.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: launches the service {@code --runs} times, each in a fresh JVM, and reports the time from
+ * process start to the first successful response of {@code --url}, with the resident set size of the process at
+ * that moment and once more after {@code --settle} seconds, when the ready-time cache loads have run.
+ * <p>
+ * {@code --command} is the whole launch command, run from {@code --dir}; compare a plain start with the faststart
+ * build against the same database. RSS is read from {@code /proc}, so it is only reported on Linux.
+ * <pre>
+ * mvn -Pperf test -Dperf.main=com.SwitchBoard.WorkspaceService.perf.StartupProbe \
+ *     -Dperf.args="--dir target/faststart --command 'java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true
+ *         -Dspring.profiles.active=faststart -Dspring.cloud.config.fail-fast=false -jar WorkspaceService-0.0.1-SNAPSHOT.jar'"
+ * </pre>
+ */
+public final class StartupProbe {
+
+    private final List<String> command;
+    private final File dir;
+    private final URI url;
+    private final int runs;
+    private final Duration timeout;
+    private final Duration settle;
+    private final HttpClient httpClient;
+
+    StartupProbe(PerfArgs args) {
+        this.command = Arrays.asList(args.get("command", "java -jar target/WorkspaceService-0.0.1-SNAPSHOT.jar").trim().split("\\s+"));
+        this.dir = new File(args.get("dir", "."));
+        this.url = URI.create(args.get("url", "http://localhost:8089/api/v1/health"));
+        this.runs = args.getInt("runs", 5);
+        this.timeout = Duration.ofSeconds(args.getInt("timeout", 120));
+        this.settle = Duration.ofSeconds(args.getInt("settle", 10));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupProbe(new PerfArgs(args)).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Starting %s %d times in %s, polling %s%n", String.join(" ", command), runs, dir, url);
+        long[] firstRequestMillis = new long[runs];
+        long[] rssAtFirstRequest = new long[runs];
+        long[] rssSettled = new long[runs];
+        System.out.printf("%n%-4s %18s %16s %16s%n", "run", "first request ms", "RSS then MB", "RSS settled MB");
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .directory(dir)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                firstRequestMillis[run] = awaitFirstResponse(process, start);
+                rssAtFirstRequest[run] = residentSetMegabytes(process);
+                Thread.sleep(settle.toMillis());
+                rssSettled[run] = residentSetMegabytes(process);
+            } finally {
+                stop(process);
+            }
+            System.out.printf("%-4d %,18d %,16d %,16d%n", run + 1, firstRequestMillis[run], rssAtFirstRequest[run], rssSettled[run]);
+        }
+        System.out.printf("%-4s %,18d %,16d %,16d%n", "p50", median(firstRequestMillis), median(rssAtFirstRequest), median(rssSettled));
+    }
+
+    private long awaitFirstResponse(Process process, long start) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(2)).GET().build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Service exited with code " + process.exitValue() + " before answering " + url);
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No response from " + url + " within " + timeout.toSeconds() + "s");
+    }
+
+    /** VmRSS of the process in MB, or -1 where {@code /proc} is not available. */
+    private static long residentSetMegabytes(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+            }
+        }
+        return -1;
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,314 @@
+package com.SwitchBoard.WorkspaceService.perf;
+
+import com.SwitchBoard.WorkspaceService.config.Constant;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.perf.SyntheticDataset.UserPlan;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds a local Postgres with a production-shaped dataset: every user gets the three default workspaces,
+ * a number of roadmap assignments in the roadmap workspace, their tasks, {@code TaskAssignment} rows for
+ * the owner and co-assignees, and {@code WorkspaceAccess} grants on the shared workspaces.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN}, one chunk of users per transaction and several chunks
+ * in parallel, which loads around 10M rows in a few minutes on a laptop. The schema must already exist:
+ * start the service once against the database so Hibernate creates it. {@code --dry-run} generates the rows
+ * without a database, to check the shape and the generator's own throughput.
+ * <pre>
+ * mvn -Pperf test -Dperf.args="--url jdbc:postgresql://localhost:5432/switchboard --users 100000 --truncate"
+ * </pre>
+ */
+public final class SyntheticDataSeeder {
+
+    private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String[] TOPICS = {"Java Basics", "Collections", "Concurrency", "Spring Boot", "JPA", "Testing"};
+    private static final String[] COLORS = {"#FF5733", "#33FF57", "#3357FF", "#F1C40F"};
+    private static final WorkspaceType[] SHARED_WORKSPACES = {WorkspaceType.ROADMAP, WorkspaceType.GROUP_PROJECT};
+
+    private final SyntheticDataset dataset;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int chunkSize;
+    private final int threads;
+    private final boolean dryRun;
+
+    private final AtomicLong workspaces = new AtomicLong();
+    private final AtomicLong assignments = new AtomicLong();
+    private final AtomicLong tasks = new AtomicLong();
+    private final AtomicLong taskAssignments = new AtomicLong();
+    private final AtomicLong accesses = new AtomicLong();
+
+    SyntheticDataSeeder(PerfArgs args) {
+        this.dataset = new SyntheticDataset(args);
+        this.url = args.get("url", "jdbc:postgresql://localhost:5432/switchboard");
+        this.user = args.get("db-user", System.getenv().getOrDefault("DB_USERNAME", "postgres"));
+        this.password = args.get("db-password", System.getenv().getOrDefault("DB_PASSWORD", "postgres"));
+        this.chunkSize = args.getInt("chunk", 2_000);
+        this.threads = args.getInt("threads", Runtime.getRuntime().availableProcessors());
+        this.dryRun = args.getBoolean("dry-run");
+    }
+
+    public static void main(String[] args) throws Exception {
+        PerfArgs perfArgs = new PerfArgs(args);
+        SyntheticDataSeeder seeder = new SyntheticDataSeeder(perfArgs);
+        if (perfArgs.getBoolean("truncate")) {
+            seeder.truncate();
+        }
+        seeder.seed();
+    }
+
+    void truncate() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE comment, task_assignment, task, assignment, workspace_access, workspace CASCADE");
+        }
+        System.out.println("Truncated workspace tables");
+    }
+
+    void seed() throws Exception {
+        System.out.printf("Seeding %s (~%,d rows) with %d threads%n", dataset, dataset.estimatedRows(), threads);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < dataset.users; from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(dataset.users, from + chunkSize);
+                chunks.add(executor.submit(() -> {
+                    seedChunk(chunkStart, chunkEnd);
+                    return null;
+                }));
+            }
+            int done = 0;
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+                if (++done % Math.max(1, chunks.size() / 20) == 0 && done < chunks.size()) {
+                    printProgress(start, done, chunks.size());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!dryRun) {
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE workspace, assignment, task, task_assignment, workspace_access");
+            }
+        }
+        printProgress(start, 1, 1);
+    }
+
+    private void seedChunk(int from, int to) throws SQLException, IOException {
+        List<UserPlan> plans = new ArrayList<>(to - from);
+        for (int u = from; u < to; u++) {
+            plans.add(dataset.plan(u));
+        }
+        if (dryRun) {
+            Writer out = Writer.nullWriter();
+            writeWorkspaces(plans, out);
+            writeAssignments(plans, out);
+            writeTasks(plans, out);
+            writeTaskAssignments(plans, out);
+            writeAccesses(plans, out);
+            return;
+        }
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL synchronous_commit = off");
+            }
+            // Parents before children, the foreign keys stay enabled
+            copy(connection, "workspace (id, name, description, workspace_type, owner_user_id, created_at, updated_at, version)",
+                    out -> writeWorkspaces(plans, out));
+            copy(connection, "assignment (id, title, description, assignment_type_key, total_reward_points, total_estimated_hours, "
+                    + "deadline, workspace_id, created_at, updated_at, version)", out -> writeAssignments(plans, out));
+            copy(connection, "task (id, title, description, status_key, priority, reward_points, estimated_hours, title_color, "
+                    + "order_number, topic, deadline, started_at, completed_at, assignee_user_id, reporter_user_id, assignment_id, "
+                    + "created_at, updated_at, version)", out -> writeTasks(plans, out));
+            copy(connection, "task_assignment (id, task_id, assigned_user_id, assigned_by_user_id, status, reward_points_earned, "
+                    + "assigned_at, completed_at, submission_status, created_at, updated_at, version)",
+                    out -> writeTaskAssignments(plans, out));
+            copy(connection, "workspace_access (id, workspace_id, user_id, access_level, is_active, created_at, updated_at, version)",
+                    out -> writeAccesses(plans, out));
+            connection.commit();
+        }
+    }
+
+    private void writeWorkspaces(List<UserPlan> plans, Writer out) throws IOException {
+        for (UserPlan plan : plans) {
+            UUID owner = SyntheticDataset.userId(plan.user());
+            Instant created = createdAt(plan.user());
+            row(out, SyntheticDataset.workspaceId(plan.user(), WorkspaceType.DEFAULT), Constant.DEFAULT_WORKSPACE_NAME,
+                    Constant.DEFAULT_WORKSPACE_DESC, WorkspaceType.DEFAULT, owner, created, created, 0);
+            row(out, SyntheticDataset.workspaceId(plan.user(), WorkspaceType.ROADMAP), Constant.ROADMAP_WORKSPACE_NAME,
+                    Constant.ROADMAP_WORKSPACE_DESC, WorkspaceType.ROADMAP, owner, created, created, 0);
+            row(out, SyntheticDataset.workspaceId(plan.user(), WorkspaceType.GROUP_PROJECT), Constant.PROJECT_WORKSPACE_NAME,
+                    Constant.PROJECT_WORKSPACE_DESC, WorkspaceType.GROUP_PROJECT, owner, created, created, 0);
+            workspaces.addAndGet(3);
+        }
+    }
+
+    private void writeAssignments(List<UserPlan> plans, Writer out) throws IOException {
+        for (UserPlan plan : plans) {
+            UUID workspaceId = SyntheticDataset.workspaceId(plan.user(), WorkspaceType.ROADMAP);
+            Instant created = createdAt(plan.user());
+            for (int r = 0; r < plan.roadmaps(); r++) {
+                int taskCount = plan.tasksPerRoadmap()[r];
+                row(out, SyntheticDataset.assignmentId(plan.user(), r), "Roadmap " + r, "Synthetic roadmap " + r + " of user " + plan.user(),
+                        "ROADMAP", taskCount * 10, taskCount * 1.5, created.plus(Duration.ofDays(taskCount / 3 + 1)),
+                        workspaceId, created, created, 0);
+            }
+            assignments.addAndGet(plan.roadmaps());
+        }
+    }
+
+    private void writeTasks(List<UserPlan> plans, Writer out) throws IOException {
+        for (UserPlan plan : plans) {
+            SplittableRandom random = dataset.random(plan.user(), SyntheticDataset.SALT_TASKS);
+            UUID owner = SyntheticDataset.userId(plan.user());
+            Instant created = createdAt(plan.user());
+            for (int r = 0; r < plan.roadmaps(); r++) {
+                UUID assignmentId = SyntheticDataset.assignmentId(plan.user(), r);
+                for (int t = 0; t < plan.tasksPerRoadmap()[r]; t++) {
+                    Instant deadline = created.plus(Duration.ofDays(t / 3 + 1));
+                    boolean completed = random.nextDouble() < dataset.completedFraction;
+                    String status = completed ? "COMPLETED" : deadline.isBefore(Instant.now()) ? "BACKLOG" : "ONGOING";
+                    row(out, SyntheticDataset.taskId(plan.user(), r, t), "Step " + t + " of roadmap " + r,
+                            "Synthetic task " + t + " of roadmap " + r, status, 1 + random.nextInt(5), 10,
+                            0.5 + random.nextInt(8) * 0.5, COLORS[random.nextInt(COLORS.length)], t,
+                            TOPICS[random.nextInt(TOPICS.length)], deadline, completed ? created : null,
+                            completed ? deadline.minus(Duration.ofHours(2)) : null, owner, owner, assignmentId,
+                            created, created, 0);
+                }
+                tasks.addAndGet(plan.tasksPerRoadmap()[r]);
+            }
+        }
+    }
+
+    private void writeTaskAssignments(List<UserPlan> plans, Writer out) throws IOException {
+        for (UserPlan plan : plans) {
+            SplittableRandom random = dataset.random(plan.user(), SyntheticDataset.SALT_TASK_ASSIGNMENTS);
+            UUID owner = SyntheticDataset.userId(plan.user());
+            Instant created = createdAt(plan.user());
+            Set<Integer> assignees = new HashSet<>();
+            for (int r = 0; r < plan.roadmaps(); r++) {
+                for (int t = 0; t < plan.tasksPerRoadmap()[r]; t++) {
+                    // The owner always works on their own roadmap, co-assignees are other seeded users
+                    int count = Math.min(dataset.users, Math.max(1, dataset.assigneesPerTask.sample(random)));
+                    assignees.clear();
+                    assignees.add(plan.user());
+                    while (assignees.size() < count) {
+                        assignees.add(random.nextInt(dataset.users));
+                    }
+                    int k = 0;
+                    for (int assignee : assignees) {
+                        boolean completed = random.nextDouble() < dataset.completedFraction;
+                        row(out, SyntheticDataset.taskAssignmentId(plan.user(), r, t, k++), SyntheticDataset.taskId(plan.user(), r, t),
+                                SyntheticDataset.userId(assignee), owner, completed ? "COMPLETED" : "ONGOING",
+                                completed ? 10 : null, created, completed ? created.plus(Duration.ofDays(t / 3 + 1)) : null,
+                                "NOT_SUBMITTED", created, created, 0);
+                    }
+                    taskAssignments.addAndGet(assignees.size());
+                }
+            }
+        }
+    }
+
+    private void writeAccesses(List<UserPlan> plans, Writer out) throws IOException {
+        for (UserPlan plan : plans) {
+            SplittableRandom random = dataset.random(plan.user(), SyntheticDataset.SALT_ACCESS);
+            Instant created = createdAt(plan.user());
+            Set<Integer> grantees = new HashSet<>();
+            for (WorkspaceType type : SHARED_WORKSPACES) {
+                int count = Math.min(dataset.users - 1, dataset.grantsPerWorkspace.sample(random));
+                grantees.clear();
+                while (grantees.size() < count) {
+                    int grantee = random.nextInt(dataset.users);
+                    if (grantee != plan.user()) {
+                        grantees.add(grantee);
+                    }
+                }
+                int g = 0;
+                for (int grantee : grantees) {
+                    double level = random.nextDouble();
+                    row(out, SyntheticDataset.accessId(plan.user(), type, g++), SyntheticDataset.workspaceId(plan.user(), type),
+                            SyntheticDataset.userId(grantee), level < 0.05 ? "ADMIN" : level < 0.3 ? "read" : "WRITE",
+                            true, created, created, 0);
+                }
+                accesses.addAndGet(grantees.size());
+            }
+        }
+    }
+
+    private Instant createdAt(int user) {
+        return BASE_TIME.plus(Duration.ofMinutes(user % (365 * 24 * 60)));
+    }
+
+    private void copy(Connection connection, String table, RowWriter rows) throws SQLException, IOException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, "COPY " + table + " FROM STDIN (FORMAT csv)", 1 << 16),
+                StandardCharsets.UTF_8), 1 << 16)) {
+            rows.write(out);
+        }
+    }
+
+    /** One CSV row, strings are quoted and {@code null} is an empty unquoted field. */
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] instanceof String text) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else if (values[i] != null) {
+                out.write(values[i].toString());
+            }
+        }
+        out.write('\n');
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    private void printProgress(long start, int done, int total) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rows = workspaces.get() + assignments.get() + tasks.get() + taskAssignments.get() + accesses.get();
+        System.out.printf("%3d%% %,12d rows in %6.1fs (%,.0f rows/s) :: workspaces=%,d assignments=%,d tasks=%,d "
+                        + "task_assignments=%,d workspace_access=%,d%n",
+                done * 100 / total, rows, seconds, rows / seconds, workspaces.get(), assignments.get(), tasks.get(),
+                taskAssignments.get(), accesses.get());
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer out) throws IOException;
+    }
+}
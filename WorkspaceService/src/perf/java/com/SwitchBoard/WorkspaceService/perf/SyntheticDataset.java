@@ -0,0 +1,109 @@
+package com.SwitchBoard.WorkspaceService.perf;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Shape of a synthetic dataset, shared by {@link SyntheticDataSeeder} and {@link LoadDriver}.
+ * <p>
+ * Everything is derived from {@code (seed, userIndex)}: ids are built from the indexes of the rows they
+ * identify and every user's random choices come from its own generator. The seeder can therefore stream
+ * each table independently without keeping the graph in memory, and the load driver can address real
+ * users and tasks without reading anything back from the database, as long as both run with the same
+ * {@code --users}, {@code --seed} and distribution options.
+ */
+final class SyntheticDataset {
+
+    private static final long TAG_USER = 0x5E01L << 48;
+    private static final long TAG_WORKSPACE = 0x5E02L << 48;
+    private static final long TAG_ASSIGNMENT = 0x5E03L << 48;
+    private static final long TAG_TASK = 0x5E04L << 48;
+    private static final long TAG_TASK_ASSIGNMENT = 0x5E05L << 48;
+    private static final long TAG_ACCESS = 0x5E06L << 48;
+
+    static final int SALT_PLAN = 1;
+    static final int SALT_TASKS = 2;
+    static final int SALT_TASK_ASSIGNMENTS = 3;
+    static final int SALT_ACCESS = 4;
+
+    final int users;
+    final long seed;
+    final Distribution roadmapsPerUser;
+    final Distribution tasksPerRoadmap;
+    final Distribution assigneesPerTask;
+    final Distribution grantsPerWorkspace;
+    final double completedFraction;
+
+    SyntheticDataset(PerfArgs args) {
+        this.users = args.getInt("users", 10_000);
+        this.seed = args.getLong("seed", 42L);
+        this.roadmapsPerUser = Distribution.parse(args.get("roadmaps", "geometric:3:1:50"));
+        this.tasksPerRoadmap = Distribution.parse(args.get("tasks", "uniform:10:60"));
+        this.assigneesPerTask = Distribution.parse(args.get("assignees", "geometric:0.5:1:10"));
+        this.grantsPerWorkspace = Distribution.parse(args.get("grants", "geometric:1:0:50"));
+        this.completedFraction = args.getDouble("completed-fraction", 0.4);
+    }
+
+    /**
+     * Row-count skeleton of one user: {@code tasksPerRoadmap[r]} is the task count of roadmap {@code r}.
+     */
+    record UserPlan(int user, int[] tasksPerRoadmap) {
+
+        int roadmaps() {
+            return tasksPerRoadmap.length;
+        }
+    }
+
+    UserPlan plan(int user) {
+        SplittableRandom random = random(user, SALT_PLAN);
+        int[] taskCounts = new int[Math.max(0, roadmapsPerUser.sample(random))];
+        for (int r = 0; r < taskCounts.length; r++) {
+            taskCounts[r] = Math.max(1, tasksPerRoadmap.sample(random));
+        }
+        return new UserPlan(user, taskCounts);
+    }
+
+    SplittableRandom random(int user, int salt) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + (long) user * 31 + salt);
+    }
+
+    /** Estimated total rows, for progress and sizing. */
+    long estimatedRows() {
+        double tasks = users * roadmapsPerUser.mean() * tasksPerRoadmap.mean();
+        double perUser = 3 + roadmapsPerUser.mean() + 2 * grantsPerWorkspace.mean();
+        return (long) (users * perUser + tasks * (1 + Math.max(1, assigneesPerTask.mean())));
+    }
+
+    static UUID userId(int user) {
+        return new UUID(TAG_USER, user);
+    }
+
+    static UUID workspaceId(int user, WorkspaceType type) {
+        return new UUID(TAG_WORKSPACE | type.ordinal(), user);
+    }
+
+    static UUID assignmentId(int user, int roadmap) {
+        return new UUID(TAG_ASSIGNMENT | roadmap, user);
+    }
+
+    static UUID taskId(int user, int roadmap, int task) {
+        return new UUID(TAG_TASK | ((long) roadmap << 24) | task, user);
+    }
+
+    static UUID taskAssignmentId(int user, int roadmap, int task, int assignee) {
+        return new UUID(TAG_TASK_ASSIGNMENT | ((long) roadmap << 24) | task, ((long) assignee << 32) | user);
+    }
+
+    static UUID accessId(int user, WorkspaceType type, int grant) {
+        return new UUID(TAG_ACCESS | ((long) type.ordinal() << 24) | grant, user);
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", seed=" + seed + ", roadmaps=" + roadmapsPerUser + ", tasks=" + tasksPerRoadmap
+                + ", assignees=" + assigneesPerTask + ", grants=" + grantsPerWorkspace
+                + ", completed-fraction=" + completedFraction;
+    }
+}
@@ -0,0 +1,63 @@
+package com.SwitchBoard.WorkspaceService.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    @Test
+    void ranksByPointsSharingRanksOnTies() {
+        UUID first = new UUID(0, 1);
+        UUID tiedLow = new UUID(0, 2);
+        UUID tiedHigh = new UUID(0, 3);
+        UUID last = new UUID(0, 4);
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(last, 5);
+        leaderboard.add(tiedHigh, 20);
+        leaderboard.add(tiedLow, 20);
+        leaderboard.add(first, 10);
+        leaderboard.add(first, 20);
+
+        assertThat(leaderboard.top(10)).containsExactly(
+                new Leaderboard.RankedStanding(1, first, 30),
+                new Leaderboard.RankedStanding(2, tiedLow, 20),
+                new Leaderboard.RankedStanding(2, tiedHigh, 20),
+                new Leaderboard.RankedStanding(4, last, 5));
+        assertThat(leaderboard.top(2)).extracting(Leaderboard.RankedStanding::userId).containsExactly(first, tiedLow);
+        assertThat(leaderboard.standingOf(tiedHigh)).isEqualTo(new Leaderboard.RankedStanding(2, tiedHigh, 20));
+        assertThat(leaderboard.standingOf(last).rank()).isEqualTo(4);
+        assertThat(leaderboard.standingOf(UUID.randomUUID())).isNull();
+
+        leaderboard.set(first, 0);
+        assertThat(leaderboard.size()).isEqualTo(3);
+        assertThat(leaderboard.standingOf(tiedLow).rank()).isEqualTo(1);
+    }
+
+    @Test
+    void orderStatisticTreeMatchesSortedSet() {
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            }
+            int probe = random.nextInt(500);
+            assertThat(tree.countBefore(probe)).isEqualTo(expected.headSet(probe).size());
+        }
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.first(20)).isEqualTo(new ArrayList<>(expected).subList(0, 20));
+        assertThat(tree.first(Integer.MAX_VALUE)).isEqualTo(List.copyOf(expected));
+    }
+}
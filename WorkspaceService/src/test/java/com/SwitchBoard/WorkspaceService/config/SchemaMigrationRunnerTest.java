@@ -0,0 +1,29 @@
+package com.SwitchBoard.WorkspaceService.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+class SchemaMigrationRunnerTest {
+
+    private final SchemaMigrationRunner runner = new SchemaMigrationRunner(mock(JdbcTemplate.class), true);
+
+    @Test
+    void findTheSearchMigrationsInVersionOrder() {
+        assertThat(runner.migrations())
+                .extracting(SchemaMigrationRunner.Migration::version, SchemaMigrationRunner.Migration::description)
+                .containsExactly(
+                        tuple(1, "task_assignment_search_vector"),
+                        tuple(2, "task_assignment_search_vector_indexes"));
+    }
+
+    @Test
+    void runConcurrentIndexBuildsOutsideATransaction() {
+        assertThat(runner.migrations())
+                .extracting(SchemaMigrationRunner.Migration::transactional)
+                .containsExactly(true, false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.SwitchBoard.WorkspaceService.config.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rejectsTamperedSnapshot() throws IOException {
+        Path path = directory.resolve("config-snapshot.json");
+        ConfigSnapshot snapshot = snapshot("default", Map.of("daily.task.deadline.hours", "5", "server.port", "8089"));
+        snapshot.write(path);
+        assertThat(ConfigSnapshot.read(path)).isEqualTo(snapshot);
+        assertThat(ConfigSnapshot.read(directory.resolve("missing.json"))).isNull();
+
+        Files.writeString(path, Files.readString(path).replace("8089", "9999"));
+        assertThatThrownBy(() -> ConfigSnapshot.read(path)).isInstanceOf(IOException.class).hasMessageContaining("Checksum");
+    }
+
+    @Test
+    void bootsFromSnapshotOfTheActiveProfilesOnly() throws IOException {
+        Path path = directory.resolve("config-snapshot.json");
+        snapshot("faststart", Map.of("daily.task.deadline.hours", "5")).write(path);
+        ConfigSnapshotEnvironmentPostProcessor postProcessor = new ConfigSnapshotEnvironmentPostProcessor(Supplier::get);
+
+        MockEnvironment otherProfile = new MockEnvironment().withProperty(ConfigSnapshot.PATH_PROPERTY, path.toString());
+        postProcessor.postProcessEnvironment(otherProfile, new SpringApplication());
+        assertThat(otherProfile.getPropertySources().contains(ConfigSnapshot.PROPERTY_SOURCE_NAME)).isFalse();
+
+        MockEnvironment environment = new MockEnvironment().withProperty(ConfigSnapshot.PATH_PROPERTY, path.toString());
+        environment.setActiveProfiles("faststart");
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+        assertThat(environment.getProperty("daily.task.deadline.hours")).isEqualTo("5");
+        assertThat(environment.getProperty("spring.cloud.config.enabled", Boolean.class)).isFalse();
+        assertThat(environment.getProperty(ConfigSnapshot.LOADED_PROPERTY, Boolean.class)).isTrue();
+    }
+
+    @Test
+    void appliesChangedPropertiesLiveAndStoresThem() throws IOException {
+        Path path = directory.resolve("config-snapshot.json");
+        ConfigSnapshot booted = snapshot("default", Map.of("typeahead.max-workspaces", "1000", "outbox.batch-size", "200"));
+        MockEnvironment environment = new MockEnvironment().withProperty(ConfigSnapshot.PATH_PROPERTY, path.toString());
+        environment.getPropertySources().addLast(booted.toPropertySource(true));
+
+        List<EnvironmentChangeEvent> events = new ArrayList<>();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.addApplicationListener((ApplicationListener<EnvironmentChangeEvent>) events::add);
+        context.refresh();
+        ConfigSnapshotReconciler reconciler = new ConfigSnapshotReconciler(environment, context,
+                context.getBeanProvider(RefreshScope.class), new RestTemplateBuilder(), Duration.ofSeconds(1));
+
+        ConfigSnapshot fetched = snapshot("default", Map.of("typeahead.max-workspaces", "500", "outbox.batch-size", "200", "outbox.retention", "P3D"));
+        assertThat(reconciler.apply(fetched)).containsExactlyInAnyOrder("typeahead.max-workspaces", "outbox.retention");
+        assertThat(environment.getProperty("typeahead.max-workspaces")).isEqualTo("500");
+        assertThat(environment.getProperty("outbox.retention")).isEqualTo("P3D");
+        assertThat(environment.getProperty(ConfigSnapshot.LOADED_PROPERTY, Boolean.class)).isTrue();
+        assertThat(events).singleElement().extracting(EnvironmentChangeEvent::getKeys)
+                .isEqualTo(Set.of("typeahead.max-workspaces", "outbox.retention"));
+        assertThat(ConfigSnapshot.read(path)).isEqualTo(fetched);
+
+        assertThat(reconciler.apply(fetched)).isEmpty();
+        assertThat(events).hasSize(1);
+        context.close();
+    }
+
+    private static ConfigSnapshot snapshot(String profiles, Map<String, String> properties) {
+        return new ConfigSnapshot("WORKSPACESERVICE", profiles, null, "a1b2c3", Instant.parse("2026-01-01T00:00:00Z"), properties);
+    }
+}
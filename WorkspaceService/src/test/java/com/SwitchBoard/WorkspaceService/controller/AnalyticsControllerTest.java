@@ -0,0 +1,134 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.analytics.ProgressRollups;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+    private UUID memberId;
+    private final UUID outsiderId = UUID.randomUUID();
+
+    @BeforeAll
+    void seed() {
+        // The second assignee is given access to the owner's workspaces
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 3, 2, 1);
+        memberId = graph.assigneeIds().get(1);
+    }
+
+    @Test
+    void readDailyProgressFromRollups() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(0);
+        UUID taskId = taskRepository.findByAssignmentId(assignmentId).stream()
+                .filter(task -> task.getStatusKey() == TaskStatus.ONGOING)
+                .findFirst().orElseThrow().getId();
+        String today = LocalDate.now(ProgressRollups.ROLLUP_ZONE).toString();
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+
+        assertThat(JsonPath.<Integer>read(assignmentProgress(assignmentId, today), "$[0].tasksCompleted")).isEqualTo(1);
+        String response = mockMvc.perform(get("/api/v1/analytics/users/me/daily")
+                        .param("from", today).param("to", today)
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(JsonPath.<Integer>read(response, "$[0].tasksCompleted")).isEqualTo(1);
+
+        // Rebuilding the day from the task tables yields the rollups maintained on write
+        mockMvc.perform(post("/api/v1/analytics/rollups/backfill").param("from", today).param("to", today)
+                        .header("X-User-Id", IntegrationTest.OPERATOR_ID))
+                .andExpect(status().isOk());
+        assertThat(JsonPath.<Integer>read(assignmentProgress(assignmentId, today), "$[0].tasksCompleted")).isEqualTo(1);
+    }
+
+    @Test
+    void showUserProgressToWorkspaceMembersOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/users/{id}/daily", graph.ownerId()).header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/analytics/users/{id}/daily", graph.ownerId()).header("X-User-Id", memberId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/analytics/users/{id}/daily", graph.ownerId()).header("X-User-Id", outsiderId))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/analytics/users/me/daily").header("X-User-Id", outsiderId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void showAssignmentProgressToWorkspaceMembersOnly() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(0);
+        mockMvc.perform(get("/api/v1/analytics/assignments/{id}/daily", assignmentId).header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/analytics/assignments/{id}/daily", assignmentId).header("X-User-Id", memberId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/analytics/assignments/{id}/daily", assignmentId).header("X-User-Id", outsiderId))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void backfillOnlyForOperatorsAndBoundedRanges() throws Exception {
+        LocalDate today = LocalDate.now(ProgressRollups.ROLLUP_ZONE);
+        mockMvc.perform(post("/api/v1/analytics/rollups/backfill")
+                        .param("from", today.toString()).param("to", today.toString())
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/analytics/rollups/backfill")
+                        .param("from", today.minusDays(366).toString()).param("to", today.toString())
+                        .header("X-User-Id", IntegrationTest.OPERATOR_ID))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/analytics/rollups/backfill")
+                        .param("from", today.minusDays(365).toString()).param("to", today.toString())
+                        .header("X-User-Id", IntegrationTest.OPERATOR_ID))
+                .andExpect(status().isOk());
+    }
+
+    private String assignmentProgress(UUID assignmentId, String day) throws Exception {
+        return mockMvc.perform(get("/api/v1/analytics/assignments/{id}/daily", assignmentId)
+                        .param("from", day).param("to", day)
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserTaskViewProjector userTaskViewProjector;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(2, 3, 1, 1);
+    }
+
+    @Test
+    void changeTheTagsOfTheRepresentationsShowingAChangedTask() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(0);
+        UUID taskId = taskRepository.findByAssignmentId(assignmentId).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .findFirst().orElseThrow().getId();
+        List<MockHttpServletRequestBuilder> requests = List.of(
+                get("/api/v1/tasks/{id}", taskId),
+                get("/api/v1/tasks/assignment/{id}", assignmentId),
+                get("/api/v1/tasks/assigned-to-me").header("X-User-Id", graph.ownerId()),
+                get("/api/v1/assignments/{id}", assignmentId),
+                get("/api/v1/assignments/workspace/{id}", graph.workspaceId()),
+                get("/api/v1/workspaces/{id}", graph.workspaceId()),
+                get("/api/v1/workspaces/owner").header("X-User-Id", graph.ownerId()));
+
+        List<String> eTags = new ArrayList<>();
+        for (MockHttpServletRequestBuilder request : requests) {
+            String eTag = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+            assertThat(eTag).isNotNull();
+            eTags.add(eTag);
+            mockMvc.perform(request.header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        // Completing the task changes every representation that shows it, and only those
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+        assertThat(userTaskViewProjector.awaitIdle(Duration.ofSeconds(30))).isTrue();
+        for (int i = 0; i < requests.size(); i++) {
+            MockHttpServletRequestBuilder request = requests.get(i).header("If-None-Match", eTags.get(i));
+            if (i < 5) {
+                String eTag = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+                assertThat(eTag).isNotEqualTo(eTags.get(i));
+            } else {
+                mockMvc.perform(request).andExpect(status().isNotModified());
+            }
+        }
+    }
+
+    @Test
+    void tagEachEncodingAsARepresentationOfItsOwn() throws Exception {
+        UUID taskId = graph.taskIds().get(2);
+        String jsonTag = mockMvc.perform(get("/api/v1/tasks/{id}", taskId)).andReturn().getResponse().getHeader("ETag");
+        String smileTag = mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(smileTag).isNotEqualTo(jsonTag);
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept("application/cbor").header("If-None-Match", smileTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept("application/x-jackson-smile").header("If-None-Match", smileTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept("application/json, */*;q=0.8").header("If-None-Match", jsonTag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,83 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class EncodingNegotiationTest {
+
+    private static final TypeReference<List<TaskResponse>> TASKS = new TypeReference<>() {
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID assignmentId;
+
+    @BeforeEach
+    void seed() {
+        assignmentId = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 5, 1, 0).assignmentIds().get(0);
+    }
+
+    @Test
+    void negotiateBinaryEncodingsOfTaskLists() throws Exception {
+        // Binary encodings write UUIDs as 16 bytes, so the payloads are compared as the DTOs callers read them into
+        List<TaskResponse> json = new ObjectMapper().findAndRegisterModules().readValue(mockMvc
+                .perform(get("/api/v1/tasks/assignment/{id}", assignmentId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray(), TASKS);
+        for (ObjectMapper binary : List.of(new ObjectMapper(new SmileFactory()), new ObjectMapper(new CBORFactory()))) {
+            String mediaType = binary.getFactory() instanceof SmileFactory ? "application/x-jackson-smile" : "application/cbor";
+            byte[] body = mockMvc.perform(get("/api/v1/tasks/assignment/{id}", assignmentId).accept(mediaType))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(mediaType))
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertThat(binary.findAndRegisterModules().readValue(body, TASKS)).isEqualTo(json).isNotEmpty();
+        }
+    }
+
+    @Test
+    void varyNegotiatedResponsesByAccept() throws Exception {
+        for (String accept : List.of("application/json", "application/x-jackson-smile", "application/cbor")) {
+            List<String> vary = mockMvc.perform(get("/api/v1/tasks/assignment/{id}", assignmentId).accept(accept))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeaders(HttpHeaders.VARY);
+            assertThat(vary).contains(HttpHeaders.ACCEPT);
+        }
+    }
+}
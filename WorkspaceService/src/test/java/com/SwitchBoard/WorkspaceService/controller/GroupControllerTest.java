@@ -0,0 +1,121 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class GroupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID creatorId;
+    private UUID memberId;
+    private UUID outsiderId;
+    private UUID groupId;
+
+    @BeforeEach
+    void createPrivateGroup() throws Exception {
+        creatorId = UUID.randomUUID();
+        memberId = UUID.randomUUID();
+        outsiderId = UUID.randomUUID();
+        String response = mockMvc.perform(post("/api/v1/groups")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Private Study Group\",\"visibility\":\"PRIVATE\",\"createdByUserId\":\"" + creatorId + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        groupId = UUID.fromString(JsonPath.read(response, "$.id"));
+        addMembers(creatorId, memberId, "MEMBER").andExpect(status().isCreated());
+    }
+
+    @Test
+    void onlyCreatorAndLeadersChangeGroup() throws Exception {
+        mockMvc.perform(put("/api/v1/groups/{id}", groupId)
+                        .header("X-User-Id", memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isUnauthorized());
+        addMembers(outsiderId, outsiderId, "MEMBER").andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/v1/groups/{id}/members", groupId)
+                        .header("X-User-Id", memberId)
+                        .param("userIds", creatorId.toString()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/v1/groups/{id}", groupId).header("X-User-Id", outsiderId))
+                .andExpect(status().isUnauthorized());
+
+        UUID leaderId = UUID.randomUUID();
+        addMembers(creatorId, leaderId, "LEADER").andExpect(status().isCreated());
+        mockMvc.perform(put("/api/v1/groups/{id}", groupId)
+                        .header("X-User-Id", leaderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed by leader\"}"))
+                .andExpect(status().isOk());
+        addMembers(leaderId, outsiderId, "MEMBER").andExpect(status().isCreated());
+    }
+
+    @Test
+    void hideMembersOfPrivateGroupFromOutsiders() throws Exception {
+        mockMvc.perform(get("/api/v1/groups/{id}/members", groupId).header("X-User-Id", outsiderId))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/groups/{id}/members/{userId}", groupId, memberId).header("X-User-Id", outsiderId))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/groups/{id}/members/{userId}", groupId, outsiderId).header("X-User-Id", outsiderId))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+
+        String members = mockMvc.perform(get("/api/v1/groups/{id}/members", groupId).header("X-User-Id", memberId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(JsonPath.<List<String>>read(members, "$")).containsExactlyInAnyOrder(creatorId.toString(), memberId.toString());
+    }
+
+    @Test
+    void removedMembersAreDeactivatedAndCanRejoin() throws Exception {
+        // A member may leave on their own
+        mockMvc.perform(delete("/api/v1/groups/{id}/members", groupId)
+                        .header("X-User-Id", memberId)
+                        .param("userIds", memberId.toString()))
+                .andExpect(status().isOk());
+        assertThat(jdbcTemplate.queryForObject("SELECT is_active FROM user_group_membership WHERE group_id = ? AND user_id = ?",
+                Boolean.class, groupId, memberId)).isFalse();
+
+        addMembers(creatorId, memberId, "MEMBER").andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/groups/{id}/members/{userId}", groupId, memberId).header("X-User-Id", creatorId))
+                .andExpect(content().string("true"));
+
+        mockMvc.perform(delete("/api/v1/groups/{id}", groupId).header("X-User-Id", creatorId)).andExpect(status().isOk());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_group_membership WHERE group_id = ? AND is_active",
+                Integer.class, groupId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_group_membership WHERE group_id = ?",
+                Integer.class, groupId)).isEqualTo(2);
+        mockMvc.perform(get("/api/v1/groups/{id}", groupId).header("X-User-Id", creatorId)).andExpect(status().isNotFound());
+    }
+
+    private ResultActions addMembers(UUID callerId, UUID userId, String role) throws Exception {
+        return mockMvc.perform(post("/api/v1/groups/{id}/members", groupId)
+                .header("X-User-Id", callerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[\"" + userId + "\"],\"role\":\"" + role + "\"}"));
+    }
+}
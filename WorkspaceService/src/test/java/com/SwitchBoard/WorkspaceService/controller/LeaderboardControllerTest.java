@@ -0,0 +1,70 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.request.TaskAssignmentUpdateRequest;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class LeaderboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 3, 2, 0);
+    }
+
+    @Test
+    void rankUsersByThePointsOfTheirCompletedTasks() throws Exception {
+        TaskAssignment taskAssignment = taskAssignmentRepository.findByTaskId(graph.taskIds().get(1)).get(0);
+        TaskAssignmentUpdateRequest completed = new TaskAssignmentUpdateRequest();
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskAssignmentService.updateTaskAssignment(taskAssignment.getId(), completed);
+
+        String response = mockMvc.perform(get("/api/v1/leaderboards/workspaces/{id}", graph.workspaceId())
+                        .param("limit", "5")
+                        .header("X-User-Id", taskAssignment.getAssignedUserId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(JsonPath.<Integer>read(response, "$.me.rank")).isEqualTo(1);
+        assertThat(JsonPath.<String>read(response, "$.top[0].userId")).isEqualTo(taskAssignment.getAssignedUserId().toString());
+    }
+}
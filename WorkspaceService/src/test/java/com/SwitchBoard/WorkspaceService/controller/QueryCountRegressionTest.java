@@ -0,0 +1,457 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.request.TaskAssignmentUpdateRequest;
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.inbox.UserTaskViewProjector;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.QueryCounter;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Upper bounds on the SQL statements each endpoint issues against a seeded graph of
+ * hundreds of assignments and thousands of tasks. Read endpoints must stay constant in the
+ * size of the graph, so an N+1 introduced in a service fails here rather than in production.
+ * Only statement counts are asserted here; what the endpoints return is covered by the tests of each feature.
+ */
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountRegressionTest {
+
+    private static final int ASSIGNMENTS = 200;
+    private static final int TASKS_PER_ASSIGNMENT = 5;
+    private static final int ASSIGNEES_PER_TASK = 3;
+    private static final int ACCESS_USERS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private UserTaskViewProjector userTaskViewProjector;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeAll
+    void seed() {
+        graph = newSeeder().seed(ASSIGNMENTS, TASKS_PER_ASSIGNMENT, ASSIGNEES_PER_TASK, ACCESS_USERS);
+    }
+
+    // ---- Tasks ----
+    // Reads that support conditional GETs run one more statement on a miss, for their entity tag
+
+
+    @Test
+    void getTaskById() throws Exception {
+        expectStatementsAtMost(3, get("/api/v1/tasks/{id}", graph.taskIds().get(0)));
+    }
+
+    @Test
+    void batchGetTasksInRequestOrder() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = new ArrayList<>(graph.taskIds().subList(0, 100));
+        ids.add(50, missingId);
+        // The tasks and their comment counts, however many are asked for
+        String response = expectStatementsAtMost(2, post("/api/v1/tasks/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGetJson(ids)));
+        assertThat(JsonPath.<List<String>>read(response, "$.results[*].id"))
+                .containsExactlyElementsOf(ids.stream().map(UUID::toString).toList());
+        assertThat(JsonPath.<Boolean>read(response, "$.results[50].found")).isFalse();
+        assertThat(JsonPath.<Integer>read(response, "$.notFoundCount")).isEqualTo(1);
+    }
+
+    @Test
+    void getTasksByAssignment() throws Exception {
+        // The validator and the task rows with their comment counts
+        expectStatementsAtMost(2, get("/api/v1/tasks/assignment/{id}", graph.assignmentIds().get(0)));
+    }
+
+    @Test
+    void getTasksByAssignmentWithSparseFieldset() throws Exception {
+        // The validator and the requested columns; no comment counts and no descriptions
+        String response = expectStatementsAtMost(2, get("/api/v1/tasks/assignment/{id}", graph.assignmentIds().get(0))
+                .param("fields", "title,statusKey,deadline"));
+        assertThat(JsonPath.<Map<String, Object>>read(response, "$[0]")).containsOnlyKeys("id", "title", "statusKey", "deadline");
+        assertThat(queryCounter.statements()).noneMatch(statement -> statement.contains("description"));
+
+        mockMvc.perform(get("/api/v1/tasks/assignment/{id}", graph.assignmentIds().get(0)).param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasksAssignedToMe() throws Exception {
+        expectStatementsAtMost(2, get("/api/v1/tasks/assigned-to-me").header("X-User-Id", graph.ownerId()));
+    }
+
+    @Test
+    void getTasksCreatedByMe() throws Exception {
+        expectStatementsAtMost(1, get("/api/v1/tasks/created-by-me").header("X-User-Id", graph.ownerId()));
+    }
+
+    @Test
+    void suggestTaskTitlesAndTopicsFromMemory() throws Exception {
+        expectStatementsAtMost(1, get("/api/v1/tasks/workspace/{id}/typeahead", graph.workspaceId()).param("q", "to"));
+        expectStatementsAtMost(0, get("/api/v1/tasks/workspace/{id}/typeahead", graph.workspaceId()).param("q", "topic 1"));
+    }
+
+    @Test
+    void getInboxFromUserTaskView() throws Exception {
+        expectStatementsAtMost(1, get("/api/v1/tasks/inbox").header("X-User-Id", graph.ownerId()));
+    }
+
+    @Test
+    void updateTaskStatus() throws Exception {
+        // Load, update and comment count, an update or insert for each of the assignee's and assignment's daily rollups,
+        // the four statements projecting the task into the user task view, and the outbox insert after taking its
+        // offset and resolving its audience in two queries, with its audience rows
+        expectStatementsAtMost(17, put("/api/v1/tasks/{id}/status", graph.taskIds().get(1)).param("status", "COMPLETED"));
+    }
+
+    @Test
+    void updateManyTasksInOneBatch() throws Exception {
+        List<Task> tasks = taskRepository.findByAssignmentId(graph.assignmentIds().get(10)).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .toList();
+        Task moved = taskRepository.findByAssignmentId(graph.assignmentIds().get(11)).get(0);
+        StringBuilder changes = new StringBuilder();
+        for (Task task : tasks) {
+            changes.append("{\"id\":\"").append(task.getId()).append("\",\"version\":").append(task.getVersion())
+                    .append(",\"statusKey\":\"COMPLETED\",\"deadlineShift\":\"P1D\"},");
+        }
+        changes.append("{\"id\":\"").append(moved.getId()).append("\",\"version\":").append(moved.getVersion())
+                .append(",\"assignmentId\":\"").append(graph.assignmentIds().get(12)).append("\",\"priority\":1}");
+
+        // One read of the tasks and one of the target assignments, the versioned updates as one JDBC batch, the
+        // rollup rows of the completions, the outbox inserts with their audiences and the user task view projection
+        expectStatementsAtMost(17, post("/api/v1/tasks/batch-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"changes\":[" + changes + "]}"));
+    }
+
+    @Test
+    void answerUnchangedConditionalGetsFromTheirValidator() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(6);
+        List<MockHttpServletRequestBuilder> requests = List.of(
+                get("/api/v1/tasks/{id}", graph.taskIds().get(30)),
+                get("/api/v1/tasks/assignment/{id}", assignmentId),
+                get("/api/v1/tasks/assigned-to-me").header("X-User-Id", graph.ownerId()),
+                get("/api/v1/assignments/{id}", assignmentId),
+                get("/api/v1/assignments/workspace/{id}", graph.workspaceId()),
+                get("/api/v1/workspaces/{id}", graph.workspaceId()),
+                get("/api/v1/workspaces/owner").header("X-User-Id", graph.ownerId()));
+
+        for (MockHttpServletRequestBuilder request : requests) {
+            String eTag = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+            awaitUserTaskView();
+            queryCounter.reset();
+            mockMvc.perform(request.header("If-None-Match", eTag)).andExpect(status().isNotModified());
+            assertThat(queryCounter.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void syncOnlyWhatChangedSinceTheToken() throws Exception {
+        UUID taskId = taskRepository.findByAssignmentId(graph.assignmentIds().get(7)).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .findFirst().orElseThrow().getId();
+        String token = JsonPath.read(mockMvc.perform(get("/api/v1/sync").header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+        // The offset counter, accessible workspaces, the user's and their workspaces' events, then the changed
+        // tasks with their comment counts
+        expectStatementsAtMost(6, get("/api/v1/sync").param("since", token).header("X-User-Id", graph.ownerId()));
+    }
+
+    // ---- Assignments ----
+
+    @Test
+    void getAssignmentById() throws Exception {
+        expectStatementsAtMost(5, get("/api/v1/assignments/{id}", graph.assignmentIds().get(0)));
+    }
+
+    @Test
+    void batchGetAssignmentsInRequestOrder() throws Exception {
+        List<UUID> ids = List.of(graph.assignmentIds().get(9), UUID.randomUUID(), graph.assignmentIds().get(8));
+        // The assignments and their task statistics
+        String response = expectStatementsAtMost(2, post("/api/v1/assignments/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchGetJson(ids)));
+        assertThat(JsonPath.<List<String>>read(response, "$.results[*].id"))
+                .containsExactlyElementsOf(ids.stream().map(UUID::toString).toList());
+        assertThat(JsonPath.<List<Boolean>>read(response, "$.results[*].found")).containsExactly(true, false, true);
+        assertThat(JsonPath.<Integer>read(response, "$.results[0].data.completedTasks")
+                + JsonPath.<Integer>read(response, "$.results[0].data.pendingTasks")).isEqualTo(TASKS_PER_ASSIGNMENT);
+    }
+
+    @Test
+    void getAssignmentsByWorkspace() throws Exception {
+        expectStatementsAtMost(3, get("/api/v1/assignments/workspace/{id}", graph.workspaceId()));
+    }
+
+    @Test
+    void getAssignmentsByWorkspaceWithSparseFieldset() throws Exception {
+        String response = expectStatementsAtMost(3, get("/api/v1/assignments/workspace/{id}", graph.workspaceId())
+                .param("fields", "title,completionPercentage"));
+        assertThat(JsonPath.<Map<String, Object>>read(response, "$[0]")).containsOnlyKeys("id", "title", "completionPercentage");
+        assertThat(queryCounter.statements()).noneMatch(statement -> statement.contains("description"));
+    }
+
+    @Test
+    void getOverdueAssignments() throws Exception {
+        expectStatementsAtMost(2, get("/api/v1/assignments/overdue"));
+    }
+
+    @Test
+    void getAssignmentTasks() throws Exception {
+        expectStatementsAtMost(1, get("/api/v1/assignments/{id}/tasks", graph.assignmentIds().get(0)));
+    }
+
+    @Test
+    void assignAndUnassignUsersToAllTasks() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(2);
+        List<String> userIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        // Each request also re-projects the assignment's tasks into the user task view in four statements and writes
+        // outbox events with their audiences after taking their offsets; assigning first looks for unassigned rows to
+        // revive, and unassigning is a bulk statement, so it reads who the rows it deletes concern to record them
+        expectStatementsAtMost(19, post("/api/v1/assignments/{id}/assign-users", assignmentId)
+                .param("userIds", userIds.toArray(String[]::new))
+                .header("X-User-Id", graph.ownerId()));
+        expectStatementsAtMost(13, delete("/api/v1/assignments/{id}/unassign-users", assignmentId)
+                .param("userIds", userIds.toArray(String[]::new)));
+    }
+
+    // ---- Workspaces ----
+
+    @Test
+    void getWorkspaceById() throws Exception {
+        expectStatementsAtMost(3, get("/api/v1/workspaces/{id}", graph.workspaceId()));
+    }
+
+    @Test
+    void getWorkspacesByOwner() throws Exception {
+        expectStatementsAtMost(3, get("/api/v1/workspaces/owner").header("X-User-Id", graph.ownerId()));
+    }
+
+    @Test
+    void getWorkspacesAccessible() throws Exception {
+        expectStatementsAtMost(3, get("/api/v1/workspaces/accessible").header("X-User-Id", graph.ownerId()));
+    }
+
+    @Test
+    void getWorkspaceUsers() throws Exception {
+        expectStatementsAtMost(2, get("/api/v1/workspaces/{id}/users", graph.workspaceId()));
+    }
+
+    @Test
+    void searchWorkspacesByName() throws Exception {
+        expectStatementsAtMost(2, get("/api/v1/workspaces/search")
+                .param("q", "road")
+                .header("X-User-Id", graph.ownerId()));
+    }
+
+    // ---- Dashboard ----
+
+    @Test
+    void getDashboard() throws Exception {
+        expectStatementsAtMost(4, get("/api/v1/dashboard").header("X-User-Id", graph.ownerId()));
+    }
+
+    // ---- Leaderboards ----
+
+    @Test
+    void readLeaderboardsFromMemory() throws Exception {
+        TaskAssignment taskAssignment = taskAssignmentRepository.findByTaskId(graph.taskIds().get(4)).get(0);
+        TaskAssignmentUpdateRequest completed = new TaskAssignmentUpdateRequest();
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskAssignmentService.updateTaskAssignment(taskAssignment.getId(), completed);
+
+        expectStatementsAtMost(0, get("/api/v1/leaderboards/workspaces/{id}", graph.workspaceId())
+                .param("limit", "5")
+                .header("X-User-Id", taskAssignment.getAssignedUserId()));
+        expectStatementsAtMost(0, get("/api/v1/leaderboards/groups/{id}", createGroup("Leaderboard", UUID.randomUUID())));
+    }
+
+    // ---- Analytics ----
+
+    @Test
+    void readDailyProgressFromRollups() throws Exception {
+        // The rollup rows and the workspace access check
+        expectStatementsAtMost(2, get("/api/v1/analytics/assignments/{id}/daily", graph.assignmentIds().get(5))
+                .header("X-User-Id", graph.ownerId()));
+        expectStatementsAtMost(1, get("/api/v1/analytics/users/me/daily").header("X-User-Id", graph.ownerId()));
+    }
+
+    // ---- Search ----
+
+    @Test
+    void searchTasksAndAssignments() throws Exception {
+        expectStatementsAtMost(2, get("/api/v1/search")
+                .param("q", "seeded task")
+                .param("size", "20")
+                .header("X-User-Id", graph.ownerId()));
+    }
+
+    // ---- Groups ----
+
+    @Test
+    void createGroupWithTakenSlug() throws Exception {
+        createGroup("Slug Clash", UUID.randomUUID());
+        expectStatementsAtMost(3, post("/api/v1/groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(groupJson("Slug Clash", UUID.randomUUID())));
+    }
+
+    @Test
+    void addAndRemoveGroupMembersInBulk() throws Exception {
+        UUID leaderId = UUID.randomUUID();
+        UUID groupId = createGroup("Bulk Members", leaderId);
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            userIds.add(UUID.randomUUID().toString());
+        }
+        expectStatementsAtMost(4, post("/api/v1/groups/{id}/members", groupId)
+                .header("X-User-Id", leaderId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[\"" + String.join("\",\"", userIds) + "\"]}"));
+        expectStatementsAtMost(2, delete("/api/v1/groups/{id}/members", groupId)
+                .header("X-User-Id", leaderId)
+                .param("userIds", userIds.toArray(String[]::new)));
+    }
+
+    @Test
+    void getGroupsOfUser() throws Exception {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 10; i++) {
+            createGroup("Joined " + i, userId);
+        }
+        expectStatementsAtMost(1, get("/api/v1/groups/joined").header("X-User-Id", userId));
+    }
+
+    @Test
+    void checkGroupMembershipWithoutQueries() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID groupId = createGroup("Membership Check", userId);
+        expectStatementsAtMost(0, get("/api/v1/groups/{id}/members/{userId}", groupId, userId).header("X-User-Id", userId));
+    }
+
+    @Test
+    void searchGroupsByName() throws Exception {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 30; i++) {
+            createGroup("Searchable Java Group " + i, userId);
+        }
+        expectStatementsAtMost(1, get("/api/v1/groups/search")
+                .param("q", "JAVA gro")
+                .param("limit", "10")
+                .header("X-User-Id", userId));
+    }
+
+    // ---- Roadmap ----
+
+    @Test
+    void addRoadmapAssignment() throws Exception {
+        StringBuilder tasks = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) {
+                tasks.append(',');
+            }
+            tasks.append("{\"title\":\"Step ").append(i).append("\",\"orderNumber\":").append(i)
+                    .append(",\"estimatedHours\":2,\"rewardPoints\":10,\"topic\":\"Basics\",\"daysToComplete\":1}");
+        }
+        // Includes the four statements projecting the new tasks into the user task view, and two outbox batches for
+        // the assignment and its 50 tasks with their audience rows, after taking their offsets and resolving their
+        // audiences in two statements each
+        expectStatementsAtMost(19, post("/api/roadmap/add-assignment")
+                .header("X-User-Id", graph.ownerId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Roadmap\",\"description\":\"Imported roadmap\",\"tasks\":[" + tasks + "]}"));
+    }
+
+    private String expectStatementsAtMost(int maxStatements, MockHttpServletRequestBuilder request) throws Exception {
+        awaitUserTaskView();
+        queryCounter.reset();
+        String response = mockMvc.perform(request).andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        awaitUserTaskView(); // Count the projection the request's writes trigger
+        assertThat(queryCounter.count())
+                .withFailMessage(() -> "Expected at most " + maxStatements + " statements but was " + queryCounter.count()
+                        + ":\n" + String.join("\n", queryCounter.statements()))
+                .isLessThanOrEqualTo(maxStatements);
+        return response;
+    }
+
+    private void awaitUserTaskView() throws InterruptedException {
+        assertThat(userTaskViewProjector.awaitIdle(Duration.ofSeconds(30))).isTrue();
+    }
+
+    private UUID createGroup(String name, UUID createdBy) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/groups")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(groupJson(name, createdBy)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(JsonPath.read(response, "$.id"));
+    }
+
+    private static String batchGetJson(List<UUID> ids) {
+        return "{\"ids\":[" + ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",")) + "]}";
+    }
+
+    private static String groupJson(String name, UUID createdBy) {
+        return "{\"name\":\"" + name + "\",\"visibility\":\"PUBLIC\",\"createdByUserId\":\"" + createdBy + "\"}";
+    }
+
+    private WorkspaceGraphSeeder newSeeder() {
+        return new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository, transactionManager);
+    }
+}
@@ -0,0 +1,78 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.dto.request.AssignmentRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_ROADMAP_TASKS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class RoadmapControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Test
+    void refuseRoadmapOverTheTaskLimitTheGrpcImportAppliesToo() throws Exception {
+        UUID userId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/workspaces/activate/{userId}", userId)).andExpect(status().is2xxSuccessful());
+        UUID roadmapWorkspaceId = workspaceRepository.findByOwnerUserId(userId).stream()
+                .filter(workspace -> workspace.getWorkspaceType() == WorkspaceType.ROADMAP)
+                .map(Workspace::getId)
+                .findFirst().orElseThrow();
+
+        addRoadmap(userId, MAX_ROADMAP_TASKS + 1, status().isBadRequest());
+        assertThat(assignmentRepository.findByWorkspaceId(roadmapWorkspaceId)).isEmpty();
+
+        addRoadmap(userId, 3, status().isOk());
+        assertThat(assignmentRepository.findByWorkspaceId(roadmapWorkspaceId)).hasSize(1);
+    }
+
+    private void addRoadmap(UUID userId, int taskCount, ResultMatcher expected) throws Exception {
+        List<TaskRoadmapRequest> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            TaskRoadmapRequest task = new TaskRoadmapRequest();
+            task.setTitle("Step " + i);
+            task.setDescription("Roadmap step " + i);
+            task.setOrderNumber(i);
+            task.setEstimatedHours(1.0);
+            task.setRewardPoints(10);
+            task.setTopic("Basics");
+            task.setDaysToComplete(1);
+            tasks.add(task);
+        }
+        AssignmentRoadmapRequest request = AssignmentRoadmapRequest.builder()
+                .title("Posted roadmap")
+                .description("Posted in one request")
+                .tasks(tasks)
+                .build();
+        mockMvc.perform(post("/api/roadmap/add-assignment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(request))
+                        .header("X-User-Id", userId))
+                .andExpect(expected);
+    }
+}
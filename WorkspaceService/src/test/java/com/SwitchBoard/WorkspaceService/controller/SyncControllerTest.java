@@ -0,0 +1,123 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class SyncControllerTest {
+
+    private static final int ASSIGNMENTS = 2;
+    private static final int TASKS_PER_ASSIGNMENT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(ASSIGNMENTS, TASKS_PER_ASSIGNMENT, 1, 0);
+    }
+
+    @Test
+    void syncOnlyWhatChangedSinceTheToken() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(0);
+        UUID taskId = taskRepository.findByAssignmentId(assignmentId).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .findFirst().orElseThrow().getId();
+        String response = sync(graph.ownerId(), null);
+        assertThat(JsonPath.<Boolean>read(response, "$.fullSync")).isTrue();
+        assertThat(JsonPath.<List<?>>read(response, "$.tasks")).hasSize(ASSIGNMENTS * TASKS_PER_ASSIGNMENT);
+        String token = JsonPath.read(response, "$.nextToken");
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+        response = sync(graph.ownerId(), token);
+        assertThat(JsonPath.<Boolean>read(response, "$.fullSync")).isFalse();
+        assertThat(JsonPath.<List<String>>read(response, "$.tasks[*].id")).containsExactly(taskId.toString());
+        assertThat(JsonPath.<List<?>>read(response, "$.assignments")).isEmpty();
+        assertThat(JsonPath.<List<?>>read(response, "$.deleted")).isEmpty();
+        token = JsonPath.read(response, "$.nextToken");
+
+        // A task reassigned to someone else leaves the previous assignee's scope as a tombstone
+        mockMvc.perform(put("/api/v1/tasks/{id}/assign", taskId).param("assigneeId", UUID.randomUUID().toString()))
+                .andExpect(status().isOk());
+        response = sync(graph.ownerId(), token);
+        assertThat(JsonPath.<List<?>>read(response, "$.tasks")).isEmpty();
+        assertThat(JsonPath.<List<String>>read(response, "$.deleted[?(@.type == 'Task')].id")).containsExactly(taskId.toString());
+        String ownerToken = JsonPath.read(response, "$.nextToken");
+
+        // Deletions come back as tombstones, even those made by bulk statements
+        UUID userId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/assignments/{id}/assign-users", assignmentId)
+                        .param("userIds", userId.toString())
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().is2xxSuccessful());
+        response = sync(userId, null);
+        List<String> taskAssignmentIds = JsonPath.read(response, "$.taskAssignments[*].id");
+        assertThat(taskAssignmentIds).hasSize(TASKS_PER_ASSIGNMENT);
+        token = JsonPath.read(response, "$.nextToken");
+
+        mockMvc.perform(delete("/api/v1/assignments/{id}/unassign-users", assignmentId).param("userIds", userId.toString()))
+                .andExpect(status().is2xxSuccessful());
+        response = sync(userId, token);
+        assertThat(JsonPath.<List<?>>read(response, "$.taskAssignments")).isEmpty();
+        assertThat(JsonPath.<List<String>>read(response, "$.deleted[?(@.type == 'TaskAssignment')].id"))
+                .containsExactlyInAnyOrderElementsOf(taskAssignmentIds);
+
+        // Other users only hear of the deletions that concern them
+        response = sync(graph.ownerId(), ownerToken);
+        assertThat(JsonPath.<List<?>>read(response, "$.deleted")).isEmpty();
+
+        mockMvc.perform(get("/api/v1/sync").param("since", "not a token").header("X-User-Id", userId))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String sync(UUID userId, String since) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/sync").header("X-User-Id", userId);
+        if (since != null) {
+            request.param("since", since);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.SwitchBoard.WorkspaceService.controller;
+
+import com.SwitchBoard.WorkspaceService.entity.Task;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class TaskBatchUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(3, 5, 1, 0);
+    }
+
+    @Test
+    void updateManyTasksInOneBatch() throws Exception {
+        List<Task> tasks = taskRepository.findByAssignmentId(graph.assignmentIds().get(0)).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .toList();
+        Task moved = taskRepository.findByAssignmentId(graph.assignmentIds().get(1)).get(0);
+        UUID targetAssignmentId = graph.assignmentIds().get(2);
+        StringBuilder changes = new StringBuilder();
+        for (Task task : tasks) {
+            changes.append("{\"id\":\"").append(task.getId()).append("\",\"version\":").append(task.getVersion())
+                    .append(",\"statusKey\":\"COMPLETED\",\"deadlineShift\":\"P1D\"},");
+        }
+        changes.append("{\"id\":\"").append(moved.getId()).append("\",\"version\":").append(moved.getVersion())
+                .append(",\"assignmentId\":\"").append(targetAssignmentId).append("\",\"priority\":1},");
+        // The same task twice in one batch, and a task that does not exist
+        changes.append("{\"id\":\"").append(tasks.get(0).getId()).append("\",\"version\":").append(tasks.get(0).getVersion())
+                .append(",\"priority\":2},");
+        changes.append("{\"id\":\"").append(UUID.randomUUID()).append("\",\"version\":0,\"priority\":2}");
+
+        String response = batchUpdate(changes);
+        List<String> outcomes = JsonPath.read(response, "$.results[*].outcome");
+        assertThat(outcomes.subList(0, tasks.size() + 1)).containsOnly("UPDATED");
+        assertThat(outcomes.subList(tasks.size() + 1, outcomes.size())).containsExactly("INVALID", "NOT_FOUND");
+        assertThat(JsonPath.<Integer>read(response, "$.updatedCount")).isEqualTo(tasks.size() + 1);
+
+        Task completed = taskRepository.findById(tasks.get(0).getId()).orElseThrow();
+        assertThat(completed.getStatusKey()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(completed.getCompletedAt()).isNotNull();
+        assertThat(completed.getVersion()).isEqualTo(tasks.get(0).getVersion() + 1);
+        assertThat(taskRepository.findById(moved.getId()).orElseThrow().getAssignmentId()).isEqualTo(targetAssignmentId);
+
+        // Replaying the same changes finds every task at a newer version
+        response = batchUpdate(changes);
+        assertThat(JsonPath.<List<String>>read(response, "$.results[0:" + (tasks.size() + 1) + "].outcome")).containsOnly("CONFLICT");
+        assertThat(JsonPath.<Integer>read(response, "$.updatedCount")).isZero();
+    }
+
+    private String batchUpdate(CharSequence changes) throws Exception {
+        return mockMvc.perform(post("/api/v1/tasks/batch-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"changes\":[" + changes + "]}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
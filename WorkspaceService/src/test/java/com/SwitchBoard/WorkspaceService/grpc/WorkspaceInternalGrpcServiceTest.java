@@ -0,0 +1,212 @@
+package com.SwitchBoard.WorkspaceService.grpc;
+
+import com.SwitchBoard.WorkspaceService.dto.ApiResponse;
+import com.SwitchBoard.WorkspaceService.dto.request.TaskRoadmapRequest;
+import com.SwitchBoard.WorkspaceService.dto.response.DashboardResponse;
+import com.SwitchBoard.WorkspaceService.dto.response.TaskResponse;
+import com.SwitchBoard.WorkspaceService.entity.Assignment;
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.ActivateWorkspaceRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.AssignmentProgressRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.ExportTasksRequest;
+import com.SwitchBoard.WorkspaceService.grpc.WorkspaceInternalGrpc.RoadmapChunk;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import io.grpc.CallOptions;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.SwitchBoard.WorkspaceService.config.Constant.MAX_ROADMAP_TASKS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The internal gRPC API end to end over an in-process channel: real services and database, no network.
+ */
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkspaceInternalGrpcServiceTest {
+
+    @Autowired
+    private WorkspaceInternalGrpcService workspaceInternalGrpcService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeAll
+    void startServer() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(workspaceInternalGrpcService).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterAll
+    void stopServer() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void importRoadmapInChunksThenReadProgressAndExport() throws Exception {
+        UUID userId = UUID.randomUUID();
+        ApiResponse activated = ClientCalls.blockingUnaryCall(channel, WorkspaceInternalGrpc.ACTIVATE_WORKSPACE,
+                CallOptions.DEFAULT, new ActivateWorkspaceRequest(userId));
+        assertThat(activated.isSuccess()).isTrue();
+
+        CompletableFuture<ApiResponse> imported = new CompletableFuture<>();
+        StreamObserver<RoadmapChunk> upload = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(WorkspaceInternalGrpc.IMPORT_ROADMAP, CallOptions.DEFAULT), completing(imported));
+        upload.onNext(new RoadmapChunk(userId, "Streamed roadmap", "Uploaded in chunks", roadmapTasks(0, 40)));
+        upload.onNext(new RoadmapChunk(null, null, null, roadmapTasks(40, 40)));
+        upload.onNext(new RoadmapChunk(null, null, null, roadmapTasks(80, 40)));
+        upload.onCompleted();
+        assertThat(imported.get(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        UUID roadmapWorkspaceId = workspaceRepository.findByOwnerUserId(userId).stream()
+                .filter(workspace -> workspace.getWorkspaceType() == WorkspaceType.ROADMAP)
+                .map(Workspace::getId)
+                .findFirst().orElseThrow();
+        List<UUID> assignmentIds = assignmentRepository.findByWorkspaceId(roadmapWorkspaceId).stream().map(Assignment::getId).toList();
+        List<DashboardResponse.AssignmentProgress> progress = ClientCalls.blockingUnaryCall(channel, WorkspaceInternalGrpc.GET_ASSIGNMENT_PROGRESS,
+                CallOptions.DEFAULT, new AssignmentProgressRequest(assignmentIds)).assignments();
+        assertThat(progress).singleElement().satisfies(assignment -> {
+            assertThat(assignment.getTitle()).isEqualTo("Streamed roadmap");
+            assertThat(assignment.getTotalTasks()).isEqualTo(120);
+        });
+
+        List<TaskResponse> exported = new ArrayList<>();
+        ClientCalls.blockingServerStreamingCall(channel, WorkspaceInternalGrpc.EXPORT_TASKS, CallOptions.DEFAULT,
+                new ExportTasksRequest(roadmapWorkspaceId)).forEachRemaining(exported::add);
+        assertThat(exported).hasSize(120).allSatisfy(task -> {
+            assertThat(task.getTitle()).startsWith("Step ");
+            assertThat(task.getAssignmentId()).isEqualTo(assignmentIds.get(0));
+        });
+    }
+
+    @Test
+    void refuseRoadmapOverTaskLimit() {
+        CompletableFuture<ApiResponse> imported = new CompletableFuture<>();
+        StreamObserver<RoadmapChunk> upload = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(WorkspaceInternalGrpc.IMPORT_ROADMAP, CallOptions.DEFAULT), completing(imported));
+        upload.onNext(new RoadmapChunk(UUID.randomUUID(), "Oversized roadmap", "Too many tasks", roadmapTasks(0, MAX_ROADMAP_TASKS)));
+        upload.onNext(new RoadmapChunk(null, null, null, roadmapTasks(MAX_ROADMAP_TASKS, 1)));
+        upload.onCompleted();
+
+        assertThatThrownBy(() -> imported.get(10, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+    }
+
+    @Test
+    void rejectCallsWithoutToken() throws IOException, InterruptedException {
+        String name = InProcessServerBuilder.generateName();
+        Server secured = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(ServerInterceptors.intercept(workspaceInternalGrpcService, new GrpcAuthInterceptor("internal-token")))
+                .build().start();
+        ManagedChannel securedChannel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        try {
+            ActivateWorkspaceRequest request = new ActivateWorkspaceRequest(UUID.randomUUID());
+            assertThatThrownBy(() -> ClientCalls.blockingUnaryCall(securedChannel, WorkspaceInternalGrpc.ACTIVATE_WORKSPACE,
+                    CallOptions.DEFAULT, request))
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+
+            Metadata headers = new Metadata();
+            headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer internal-token");
+            ApiResponse activated = ClientCalls.blockingUnaryCall(
+                    ClientInterceptors.intercept(securedChannel, MetadataUtils.newAttachHeadersInterceptor(headers)),
+                    WorkspaceInternalGrpc.ACTIVATE_WORKSPACE, CallOptions.DEFAULT, request);
+            assertThat(activated.isSuccess()).isTrue();
+        } finally {
+            securedChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            secured.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void rejectRoadmapWithoutUser() {
+        CompletableFuture<ApiResponse> imported = new CompletableFuture<>();
+        StreamObserver<RoadmapChunk> upload = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(WorkspaceInternalGrpc.IMPORT_ROADMAP, CallOptions.DEFAULT), completing(imported));
+        upload.onNext(new RoadmapChunk(null, "No owner", "Missing user", roadmapTasks(0, 1)));
+        upload.onCompleted();
+
+        assertThatThrownBy(() -> imported.get(10, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    @Test
+    void rejectProgressWithoutAssignments() {
+        assertThatThrownBy(() -> ClientCalls.blockingUnaryCall(channel, WorkspaceInternalGrpc.GET_ASSIGNMENT_PROGRESS,
+                CallOptions.DEFAULT, new AssignmentProgressRequest(List.of())))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    private static List<TaskRoadmapRequest> roadmapTasks(int from, int count) {
+        List<TaskRoadmapRequest> tasks = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            TaskRoadmapRequest task = new TaskRoadmapRequest();
+            task.setTitle("Step " + i);
+            task.setDescription("Roadmap step " + i);
+            task.setOrderNumber(i);
+            task.setEstimatedHours(1.0);
+            task.setRewardPoints(10);
+            task.setTopic("Basics");
+            task.setDaysToComplete(1);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static <T> StreamObserver<T> completing(CompletableFuture<T> future) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                future.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.SwitchBoard.WorkspaceService.idempotency;
+
+import com.SwitchBoard.WorkspaceService.entity.Workspace;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.WorkspaceService;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class IdempotencyFilterTest {
+
+    private static final String ROADMAP = """
+            {"title": "Retried roadmap", "description": "Imported once",
+             "tasks": [{"title": "Step 1", "orderNumber": 1, "daysToComplete": 1, "rewardPoints": 10},
+                       {"title": "Step 2", "orderNumber": 2, "daysToComplete": 1, "rewardPoints": 10}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void activateWorkspaces() {
+        userId = UUID.randomUUID();
+        workspaceService.activateWorkspace(userId);
+    }
+
+    @Test
+    void retryWithSameKeyReturnsStoredResponseWithoutImportingAgain() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(importRoadmap("retry-1", ROADMAP))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse();
+        MockHttpServletResponse retry = mockMvc.perform(importRoadmap("retry-1", ROADMAP))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(roadmapAssignments()).isEqualTo(1);
+
+        mockMvc.perform(importRoadmap("retry-2", ROADMAP)).andExpect(status().isOk());
+        mockMvc.perform(post("/api/roadmap/add-assignment").header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON).content(ROADMAP)).andExpect(status().isOk());
+        assertThat(roadmapAssignments()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectKeyReusedForDifferentRequest() throws Exception {
+        mockMvc.perform(importRoadmap("reused", ROADMAP)).andExpect(status().isOk());
+        mockMvc.perform(importRoadmap("reused", ROADMAP.replace("Retried roadmap", "Another roadmap")))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(roadmapAssignments()).isEqualTo(1);
+    }
+
+    @Test
+    void failedAttemptReleasesKey() throws Exception {
+        UUID missingAssignment = UUID.randomUUID();
+        MockHttpServletRequestBuilder assignUsers = post("/api/v1/assignments/{id}/assign-users", missingAssignment)
+                .header("X-User-Id", userId)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "assign-1")
+                .param("userIds", userId.toString());
+
+        mockMvc.perform(assignUsers).andExpect(status().isNotFound());
+        mockMvc.perform(assignUsers)
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void rejectKeyWithoutUser() throws Exception {
+        mockMvc.perform(post("/api/roadmap/add-assignment")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "anonymous")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ROADMAP))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectOversizedBody() throws Exception {
+        String description = "x".repeat(2 * 1024 * 1024);
+        mockMvc.perform(importRoadmap("oversized", ROADMAP.replace("Imported once", description)))
+                .andExpect(status().isPayloadTooLarge());
+        assertThat(roadmapAssignments()).isZero();
+    }
+
+    private MockHttpServletRequestBuilder importRoadmap(String key, String body) {
+        return post("/api/roadmap/add-assignment")
+                .header("X-User-Id", userId)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    private int roadmapAssignments() {
+        UUID roadmapWorkspaceId = workspaceRepository.findByOwnerUserId(userId).stream()
+                .filter(workspace -> workspace.getWorkspaceType() == WorkspaceType.ROADMAP)
+                .map(Workspace::getId)
+                .findFirst().orElseThrow();
+        return assignmentRepository.findByWorkspaceId(roadmapWorkspaceId).size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.SwitchBoard.WorkspaceService.inbox;
+
+import com.SwitchBoard.WorkspaceService.dto.request.TaskAssignmentUpdateRequest;
+import com.SwitchBoard.WorkspaceService.entity.TaskAssignment;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.service.TaskAssignmentService;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class UserTaskViewProjectorTest {
+
+    private static final int ASSIGNMENTS = 2;
+    private static final int TASKS_PER_ASSIGNMENT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserTaskViewProjector userTaskViewProjector;
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(ASSIGNMENTS, TASKS_PER_ASSIGNMENT, 3, 0);
+    }
+
+    @Test
+    void getInboxFromUserTaskView() throws Exception {
+        awaitUserTaskView();
+        assertThat(JsonPath.<List<Object>>read(inbox(graph.ownerId()), "$")).hasSize(ASSIGNMENTS * TASKS_PER_ASSIGNMENT);
+
+        UUID assigneeId = graph.assigneeIds().get(2);
+        UUID taskId = graph.taskIds().get(4);
+        TaskAssignment taskAssignment = taskAssignmentRepository.findByTaskId(taskId).stream()
+                .filter(candidate -> candidate.getAssignedUserId().equals(assigneeId))
+                .findFirst().orElseThrow();
+        TaskAssignmentUpdateRequest completed = new TaskAssignmentUpdateRequest();
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskAssignmentService.updateTaskAssignment(taskAssignment.getId(), completed);
+        awaitUserTaskView();
+
+        assertThat(JsonPath.<List<String>>read(inbox(assigneeId), "$[?(@.myStatus == 'COMPLETED')].taskId"))
+                .containsExactly(taskId.toString());
+
+        // A rebuild from the source tables projects the same rows
+        mockMvc.perform(post("/api/v1/tasks/inbox/rebuild")).andExpect(status().isOk());
+        assertThat(JsonPath.<List<String>>read(inbox(assigneeId), "$[?(@.myStatus == 'COMPLETED')].taskId"))
+                .containsExactly(taskId.toString());
+    }
+
+    private String inbox(UUID userId) throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks/inbox").header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private void awaitUserTaskView() throws InterruptedException {
+        assertThat(userTaskViewProjector.awaitIdle(Duration.ofSeconds(30))).isTrue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.SwitchBoard.WorkspaceService.outbox;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class OutboxRelayTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxTransport outboxTransport;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID assignmentId;
+
+    @BeforeEach
+    void seed() {
+        assignmentId = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 3, 1, 0).assignmentIds().get(0);
+    }
+
+    @Test
+    void publishTaskChangesThroughOutbox() throws Exception {
+        UUID taskId = taskRepository.findByAssignmentId(assignmentId).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .findFirst().orElseThrow().getId();
+        outboxRelay.relayPending();
+        outboxTransport.clear();
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+        assertThat(outboxTransport.sent()).isEmpty();
+        assertThat(outboxRelay.relayPending()).isEqualTo(1);
+
+        ChangeEvent event = outboxTransport.sent().get(0);
+        assertThat(event.aggregateType()).isEqualTo("Task");
+        assertThat(event.aggregateId()).isEqualTo(taskId);
+        assertThat(event.changeType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(event.changedFields()).contains("statusKey", "completedAt");
+
+        String response = mockMvc.perform(get("/api/v1/changes").param("fromOffset", String.valueOf(event.offset())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(JsonPath.<String>read(response, "$.events[0].aggregateId")).isEqualTo(taskId.toString());
+        assertThat(JsonPath.<Number>read(response, "$.nextOffset").longValue()).isEqualTo(event.offset() + 1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.SwitchBoard.WorkspaceService.push;
+
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class ChangeStreamBroadcasterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeStreamBroadcaster changeStreamBroadcaster;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededGraph graph;
+
+    @BeforeEach
+    void seed() {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 3, 1, 0);
+    }
+
+    // An open stream makes the broadcaster poll the outbox every second, into the statement counts of other tests
+    @AfterEach
+    void closeStreams() {
+        assertThat(changeStreamBroadcaster.connectionCount()).isZero();
+    }
+
+    @Test
+    void streamTaskChangesToUsersWhoCanSeeThem() throws Exception {
+        UUID taskId = taskRepository.findByAssignmentId(graph.assignmentIds().get(0)).stream()
+                .filter(task -> task.getStatusKey() != TaskStatus.COMPLETED)
+                .findFirst().orElseThrow().getId();
+        MvcResult ownerStream = openChangeStream(graph.ownerId());
+        MvcResult strangerStream = openChangeStream(UUID.randomUUID());
+
+        // Streamed from the outbox, with the relay off as on every instance but one
+        mockMvc.perform(put("/api/v1/tasks/{id}/status", taskId).param("status", "COMPLETED")).andExpect(status().isOk());
+        changeStreamBroadcaster.pollOutbox();
+
+        awaitStreamed(ownerStream, taskId.toString());
+        assertThat(ownerStream.getResponse().getContentAsString()).contains("event:Task", taskId.toString());
+        assertThat(strangerStream.getResponse().getContentAsString()).doesNotContain("event:");
+
+        ownerStream.getRequest().getAsyncContext().complete();
+        strangerStream.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    void streamDeletionsAsTombstones() throws Exception {
+        UUID assignmentId = graph.assignmentIds().get(0);
+        UUID userId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/assignments/{id}/assign-users", assignmentId)
+                .param("userIds", userId.toString())
+                .header("X-User-Id", graph.ownerId())).andExpect(status().is2xxSuccessful());
+        MvcResult userStream = openChangeStream(userId);
+
+        // The removed rows are gone by the time they are streamed; who they concerned was stored with their events
+        mockMvc.perform(delete("/api/v1/assignments/{id}/unassign-users", assignmentId).param("userIds", userId.toString()))
+                .andExpect(status().is2xxSuccessful());
+        changeStreamBroadcaster.pollOutbox();
+
+        awaitStreamed(userStream, "DELETED");
+        assertThat(userStream.getResponse().getContentAsString()).contains("event:TaskAssignment", "\"changeType\":\"DELETED\"");
+        userStream.getRequest().getAsyncContext().complete();
+    }
+
+    private MvcResult openChangeStream(UUID userId) throws Exception {
+        return mockMvc.perform(get("/api/v1/changes/stream").header("X-User-Id", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static void awaitStreamed(MvcResult stream, String text) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!stream.getResponse().getContentAsString().contains(text) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HighlighterTest {
+
+    @Test
+    void escapesUserTextBeforeAddingMarkTags() {
+        String marked = Highlighter.markAll("<b>Binary</b> search & trees", List.of("binary", "tree"));
+
+        assertThat(Highlighter.toHtml(marked))
+                .isEqualTo("&lt;b&gt;<mark>Binary</mark>&lt;/b&gt; search &amp; <mark>tree</mark>s");
+    }
+
+    @Test
+    void snippetIsCenteredOnFirstMatch() {
+        String text = "x".repeat(200) + " graph traversal " + "y".repeat(200);
+
+        String snippet = Highlighter.toHtml(Highlighter.markSnippet(text, List.of("graph")));
+
+        assertThat(snippet).startsWith("... ").endsWith(" ...").contains("<mark>graph</mark> traversal");
+    }
+}
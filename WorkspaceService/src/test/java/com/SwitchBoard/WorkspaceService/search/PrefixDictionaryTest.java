@@ -0,0 +1,55 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixDictionaryTest {
+
+    @Test
+    void matchesWordStartsIgnoringCaseAndRanksTextPrefixFirst() {
+        PrefixDictionary<String> dictionary = PrefixDictionary.of(
+                List.of("Binary Trees", "AVL trees", "Tree traversal", "Streets", "Graphs (tree-like)", "Heaps"),
+                Function.identity());
+
+        assertThat(dictionary.search("TREE", text -> true, Comparator.naturalOrder(), 10))
+                .containsExactly("Tree traversal", "AVL trees", "Binary Trees", "Graphs (tree-like)");
+        assertThat(dictionary.search("trees", text -> true, Comparator.naturalOrder(), 10))
+                .containsExactly("AVL trees", "Binary Trees");
+        assertThat(dictionary.search("tr", text -> true, Comparator.naturalOrder(), 2))
+                .containsExactly("Tree traversal", "AVL trees");
+        assertThat(dictionary.search("reet", text -> true, Comparator.naturalOrder(), 10)).isEmpty();
+        assertThat(dictionary.search("  ", text -> true, Comparator.naturalOrder(), 10)).isEmpty();
+    }
+
+    @Test
+    void matchesEachTextOnceAndAppliesFilter() {
+        PrefixDictionary<String> dictionary = PrefixDictionary.of(List.of("java java java", "Java Streams"), Function.identity());
+
+        assertThat(dictionary.search("java", text -> true, Comparator.naturalOrder(), 10))
+                .containsExactly("Java Streams", "java java java");
+        assertThat(dictionary.search("java", text -> text.contains("Streams"), Comparator.naturalOrder(), 10))
+                .containsExactly("Java Streams");
+    }
+
+    @Test
+    void replacesValuesWithoutChangingMatches() {
+        record Counted(String text, int count) {
+        }
+        PrefixDictionary<Counted> dictionary = PrefixDictionary.of(
+                List.of(new Counted("Sorting", 1), new Counted("Searching", 5)), Counted::text);
+        Comparator<Counted> mostFirst = Comparator.comparingInt(Counted::count).reversed();
+
+        assertThat(dictionary.search("s", counted -> true, mostFirst, 10))
+                .extracting(Counted::text).containsExactly("Searching", "Sorting");
+
+        PrefixDictionary<Counted> updated = dictionary.withValues(
+                counted -> counted.text().equals("Sorting") ? new Counted("Sorting", 9) : counted);
+        assertThat(updated.search("s", counted -> true, mostFirst, 10))
+                .extracting(Counted::text).containsExactly("Sorting", "Searching");
+    }
+}
@@ -0,0 +1,50 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrigramIndexTest {
+
+    @Test
+    void matchesSubstringsIgnoringCaseAndRanksExactThenPrefixThenSimilarity() {
+        TrigramIndex<String> index = new TrigramIndex<>();
+        for (String name : List.of("Advanced JAVA", "Java Learners", "java", "JavaScript Club", "Kotlin", "Javanese Cooking")) {
+            index.put(UUID.randomUUID(), name, name);
+        }
+
+        assertThat(index.search("Java", name -> true, 10))
+                .containsExactly("java", "Java Learners", "JavaScript Club", "Javanese Cooking", "Advanced JAVA");
+        assertThat(index.search("va l", name -> true, 10)).containsExactly("Java Learners");
+        assertThat(index.search("ja", name -> true, 2)).containsExactly("java", "Java Learners");
+        assertThat(index.search("rust", name -> true, 10)).isEmpty();
+    }
+
+    @Test
+    void appliesFilterAndFollowsUpdates() {
+        TrigramIndex<String> index = new TrigramIndex<>();
+        UUID id = UUID.randomUUID();
+        index.put(id, "Spring Study Group", "first");
+        index.put(UUID.randomUUID(), "Spring Boot Learners", "second");
+
+        assertThat(index.search("spring", "second"::equals, 10)).containsExactly("second");
+
+        index.put(id, "Quarkus Study Group", "first");
+        assertThat(index.search("spring", value -> true, 10)).containsExactly("second");
+        assertThat(index.search("quarkus", value -> true, 10)).containsExactly("first");
+
+        index.remove(id);
+        assertThat(index.search("study", value -> true, 10)).isEmpty();
+    }
+
+    @Test
+    void similarityMatchesPgTrgm() {
+        // SELECT similarity('word', 'two words') = 0.36363637
+        assertThat(TrigramIndex.similarity("word", "two words")).isCloseTo(0.363636, within(1e-5));
+        assertThat(TrigramIndex.similarity("abc", "abc")).isEqualTo(1.0);
+    }
+}
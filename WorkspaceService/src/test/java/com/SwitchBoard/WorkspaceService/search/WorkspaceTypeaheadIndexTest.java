@@ -0,0 +1,99 @@
+package com.SwitchBoard.WorkspaceService.search;
+
+import com.SwitchBoard.WorkspaceService.Exception.ResourceNotFoundException;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.utility.TransactionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkspaceTypeaheadIndexTest {
+
+    private static final int CALLERS = 8;
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID assignmentId = UUID.randomUUID();
+
+    private AssignmentRepository assignmentRepository;
+    private WorkspaceRepository workspaceRepository;
+    private WorkspaceTypeaheadIndex index;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(AssignmentRepository.class);
+        workspaceRepository = mock(WorkspaceRepository.class);
+        index = new WorkspaceTypeaheadIndex(assignmentRepository, workspaceRepository, mock(TransactionUtils.class));
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentFirstLookupsShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assignmentRepository.findTypeaheadTermsByWorkspaceId(workspaceId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{assignmentId, "Binary trees", "Trees"});
+        });
+
+        List<Future<List<WorkspaceTypeaheadIndex.Suggestion>>> lookups = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            lookups.add(executor.submit(() -> index.suggest(workspaceId, "tree", 10)));
+        }
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        for (Future<List<WorkspaceTypeaheadIndex.Suggestion>> lookup : lookups) {
+            assertThat(lookup.get(5, TimeUnit.SECONDS))
+                    .extracting(WorkspaceTypeaheadIndex.Suggestion::text)
+                    .containsExactlyInAnyOrder("Binary trees", "Trees");
+        }
+        index.suggest(workspaceId, "bin", 10);
+        verify(assignmentRepository, times(1)).findTypeaheadTermsByWorkspaceId(workspaceId);
+    }
+
+    @Test
+    void waitersSeeTheLoadersNotFound() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assignmentRepository.findTypeaheadTermsByWorkspaceId(workspaceId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(workspaceRepository.existsById(workspaceId)).thenReturn(false);
+
+        Future<?> loader = executor.submit(() -> index.suggest(workspaceId, "tree", 10));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> waiter = executor.submit(() -> index.suggest(workspaceId, "tree", 10));
+        release.countDown();
+
+        for (Future<?> lookup : List.of(loader, waiter)) {
+            assertThatThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.dto.response.SearchHitResponse;
+import com.SwitchBoard.WorkspaceService.repository.AssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.ContentSearchRepository;
+import com.SwitchBoard.WorkspaceService.repository.TaskRepository;
+import com.SwitchBoard.WorkspaceService.search.FullTextSearchSupport;
+import com.SwitchBoard.WorkspaceService.search.Highlighter;
+import com.SwitchBoard.WorkspaceService.service.impl.ContentSearchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Which content search path runs once {@link FullTextSearchSupport} has checked the schema. The check is fed the
+ * answers PostgreSQL gives before and after {@code db/migration}, as the integration tests run on H2.
+ */
+class ContentSearchServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final PageRequest pageable = PageRequest.of(0, 20);
+
+    private JdbcTemplate jdbcTemplate;
+    private ContentSearchRepository contentSearchRepository;
+    private TaskRepository taskRepository;
+    private AssignmentRepository assignmentRepository;
+    private FullTextSearchSupport fullTextSearchSupport;
+    private ContentSearchService contentSearchService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        contentSearchRepository = mock(ContentSearchRepository.class);
+        taskRepository = mock(TaskRepository.class);
+        assignmentRepository = mock(AssignmentRepository.class);
+        fullTextSearchSupport = new FullTextSearchSupport(jdbcTemplate);
+        contentSearchService = new ContentSearchServiceImpl(contentSearchRepository, taskRepository,
+                assignmentRepository, fullTextSearchSupport);
+    }
+
+    @Test
+    void searchMigratedPostgresWithFullText() {
+        givenPostgres(2, 2);
+        SearchHitResponse hit = SearchHitResponse.builder()
+                .type(SearchHitResponse.HitType.TASK)
+                .id(UUID.randomUUID())
+                .title("Index the " + Highlighter.START + "roadmap" + Highlighter.STOP)
+                .snippet("")
+                .score(0.6)
+                .build();
+        when(contentSearchRepository.search("roadmap", userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(hit), pageable, 1));
+
+        fullTextSearchSupport.initialize();
+        Page<SearchHitResponse> hits = contentSearchService.search(" roadmap ", userId, pageable);
+
+        assertThat(fullTextSearchSupport.isDatabaseSearchEnabled()).isTrue();
+        assertThat(hits.getContent()).extracting(SearchHitResponse::getTitle)
+                .containsExactly("Index the <mark>roadmap</mark>");
+        verify(contentSearchRepository).search("roadmap", userId, pageable);
+        verifyNoInteractions(taskRepository, assignmentRepository);
+    }
+
+    @Test
+    void searchWithLikeUntilTheIndexesAreBuilt() {
+        givenPostgres(2, 1);
+        when(taskRepository.findMatchingInAccessibleWorkspaces(userId, "%roadmap%")).thenReturn(List.of());
+        when(assignmentRepository.findMatchingInAccessibleWorkspaces(userId, "%roadmap%")).thenReturn(List.of());
+
+        fullTextSearchSupport.initialize();
+        contentSearchService.search("roadmap", userId, pageable);
+
+        assertThat(fullTextSearchSupport.isDatabaseSearchEnabled()).isFalse();
+        verify(taskRepository).findMatchingInAccessibleWorkspaces(userId, "%roadmap%");
+        verifyNoInteractions(contentSearchRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPostgres(int searchColumns, int validIndexes) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("information_schema.columns"), eq(Integer.class))).thenReturn(searchColumns);
+        when(jdbcTemplate.queryForObject(contains("pg_index"), eq(Integer.class))).thenReturn(validIndexes);
+    }
+}
@@ -0,0 +1,85 @@
+package com.SwitchBoard.WorkspaceService.service;
+
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import com.SwitchBoard.WorkspaceService.support.IntegrationTest;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder;
+import com.SwitchBoard.WorkspaceService.support.WorkspaceGraphSeeder.SeededGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class TaskAssignmentServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceAccessRepository workspaceAccessRepository;
+
+    @Autowired
+    private TaskAssignmentRepository taskAssignmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SeededGraph graph;
+    private UUID userId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        graph = new WorkspaceGraphSeeder(workspaceRepository, workspaceAccessRepository, taskAssignmentRepository,
+                transactionManager).seed(1, 3, 1, 0);
+        userId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/assignments/{id}/assign-users", graph.assignmentIds().get(0))
+                        .param("userIds", userId.toString())
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bulkUnassignSoftDeletesLikeSingleUnassign() {
+        taskAssignmentService.unassignUsersFromTask(graph.taskIds().get(0), List.of(userId));
+        taskAssignmentService.unassignUsersFromTasks(graph.taskIds().subList(1, 3), List.of(userId));
+
+        assertThat(taskAssignmentRepository.findRowsByAssignedUserId(userId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_assignment WHERE assigned_user_id = ? AND deleted_at IS NOT NULL", Integer.class, userId))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void reassignRevivesUnassignedRows() throws Exception {
+        taskAssignmentService.unassignUsersFromTasks(graph.taskIds(), List.of(userId));
+        mockMvc.perform(post("/api/v1/assignments/{id}/assign-users", graph.assignmentIds().get(0))
+                        .param("userIds", userId.toString())
+                        .header("X-User-Id", graph.ownerId()))
+                .andExpect(status().isOk());
+
+        assertThat(taskAssignmentRepository.findRowsByAssignedUserId(userId)).hasSize(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_assignment WHERE assigned_user_id = ?", Integer.class, userId))
+                .isEqualTo(3);
+    }
+}
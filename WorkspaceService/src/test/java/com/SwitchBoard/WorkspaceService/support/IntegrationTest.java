@@ -0,0 +1,37 @@
+package com.SwitchBoard.WorkspaceService.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.*;
+
+/**
+ * Boots the full application against an embedded H2 database with the config server and
+ * Eureka switched off, and every JDBC statement counted by {@link QueryCounter}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.config.fail-fast=false",
+        "spring.cloud.config.import-check.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:workspace;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "daily.task.deadline.hours=5",
+        "outbox.relay-enabled=false",
+        "outbox.transport=in-memory",
+        "grpc.enabled=false",
+        "group-membership.reload-interval=PT1H",
+        "leaderboard.reload-interval=PT1H",
+        "analytics.backfill-user-ids=" + IntegrationTest.OPERATOR_ID
+})
+@AutoConfigureMockMvc
+@Import(QueryCountingDataSourceConfig.class)
+public @interface IntegrationTest {
+
+    /** A user allowed to run operator endpoints such as the rollup backfill. */
+    String OPERATOR_ID = "00000000-0000-0000-0000-0000000000ad";
+}
@@ -0,0 +1,44 @@
+package com.SwitchBoard.WorkspaceService.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts statements sent to the database through the proxied {@code DataSource}.
+ * A JDBC batch counts as one statement since it is a single round trip.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        count.incrementAndGet();
+        if (!queryInfoList.isEmpty()) {
+            statements.add(queryInfoList.get(0).getQuery());
+        }
+    }
+
+    public void reset() {
+        count.set(0);
+        statements.clear();
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+}
@@ -0,0 +1,147 @@
+package com.SwitchBoard.WorkspaceService.support;
+
+import com.SwitchBoard.WorkspaceService.entity.*;
+import com.SwitchBoard.WorkspaceService.entity.enums.AssignmentType;
+import com.SwitchBoard.WorkspaceService.entity.enums.TaskStatus;
+import com.SwitchBoard.WorkspaceService.entity.enums.WorkspaceType;
+import com.SwitchBoard.WorkspaceService.repository.TaskAssignmentRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceAccessRepository;
+import com.SwitchBoard.WorkspaceService.repository.WorkspaceRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seeds a realistic workspace graph: one owner with the three default workspaces, one of which
+ * holds {@code assignments x tasksPerAssignment} tasks, each assigned to several users and
+ * carrying a couple of comments, plus a set of users with access to the workspace.
+ */
+public class WorkspaceGraphSeeder {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessRepository workspaceAccessRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public WorkspaceGraphSeeder(WorkspaceRepository workspaceRepository,
+                                WorkspaceAccessRepository workspaceAccessRepository,
+                                TaskAssignmentRepository taskAssignmentRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.workspaceRepository = workspaceRepository;
+        this.workspaceAccessRepository = workspaceAccessRepository;
+        this.taskAssignmentRepository = taskAssignmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SeededGraph seed(int assignments, int tasksPerAssignment, int assigneesPerTask, int accessUsers) {
+        return transactionTemplate.execute(status -> {
+            UUID ownerId = UUID.randomUUID();
+            List<UUID> assigneeIds = new ArrayList<>();
+            assigneeIds.add(ownerId);
+            for (int i = 1; i < assigneesPerTask; i++) {
+                assigneeIds.add(UUID.randomUUID());
+            }
+
+            Workspace roadmapWorkspace = workspace(ownerId, WorkspaceType.ROADMAP);
+            Instant now = Instant.now();
+            List<Task> tasks = new ArrayList<>();
+            Map<Assignment, List<Task>> tasksByAssignment = new LinkedHashMap<>();
+            for (int a = 0; a < assignments; a++) {
+                Assignment assignment = Assignment.builder()
+                        .title("Assignment " + a)
+                        .description("Seeded assignment " + a)
+                        .assignmentTypeKey(AssignmentType.ROADMAP)
+                        .totalRewardPoints(100)
+                        .totalEstimatedHours(10.0)
+                        .deadline(now.plus(Duration.ofDays(a % 30 - 5)))
+                        .build();
+                for (int t = 0; t < tasksPerAssignment; t++) {
+                    Task task = Task.builder()
+                            .title("Task " + a + "." + t)
+                            .description("Seeded task description " + a + "." + t)
+                            .statusKey(t % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.ONGOING)
+                            .priority(1 + t % 5)
+                            .rewardPoints(10)
+                            .estimatedHours(1.5)
+                            .titleColor("#3357FF")
+                            .orderNumber(t)
+                            .topic("Topic " + t % 4)
+                            .deadline(now.plus(Duration.ofDays(t - 2)))
+                            .assigneeUserId(ownerId)
+                            .reporterUserId(ownerId)
+                            .build();
+                    for (int c = 0; c < 2; c++) {
+                        task.getComments().add(Comment.builder().task(task).userId(ownerId).body("Comment " + c).build());
+                    }
+                    tasksByAssignment.computeIfAbsent(assignment, key -> new ArrayList<>()).add(task);
+                    tasks.add(task);
+                }
+                roadmapWorkspace.getAssignments().add(assignment);
+            }
+
+            List<Workspace> workspaces = workspaceRepository.saveAll(List.of(
+                    workspace(ownerId, WorkspaceType.DEFAULT),
+                    roadmapWorkspace,
+                    workspace(ownerId, WorkspaceType.GROUP_PROJECT)));
+            // Tasks own their assignment id, which the assignments only have once saved
+            tasksByAssignment.forEach((assignment, assignmentTasks) -> assignmentTasks.forEach(task -> {
+                task.setAssignmentId(assignment.getId());
+                assignment.getTasks().add(task);
+            }));
+            workspaceRepository.flush();
+
+            List<TaskAssignment> taskAssignments = new ArrayList<>();
+            for (Task task : tasks) {
+                for (UUID assigneeId : assigneeIds) {
+                    taskAssignments.add(TaskAssignment.builder()
+                            .task(task)
+                            .assignedUserId(assigneeId)
+                            .assignedByUserId(ownerId)
+                            .status(TaskStatus.ONGOING)
+                            .assignedAt(now)
+                            .build());
+                }
+            }
+            taskAssignmentRepository.saveAll(taskAssignments);
+
+            List<WorkspaceAccess> accesses = new ArrayList<>();
+            for (Workspace workspace : workspaces) {
+                for (int u = 0; u < accessUsers; u++) {
+                    accesses.add(WorkspaceAccess.builder()
+                            .workspace(workspace)
+                            .userId(u == 0 && assigneeIds.size() > 1 ? assigneeIds.get(1) : UUID.randomUUID())
+                            .accessLevel(WorkspaceAccess.AccessLevel.WRITE)
+                            .build());
+                }
+            }
+            workspaceAccessRepository.saveAll(accesses);
+
+            return new SeededGraph(
+                    ownerId,
+                    assigneeIds,
+                    roadmapWorkspace.getId(),
+                    roadmapWorkspace.getAssignments().stream().map(Assignment::getId).toList(),
+                    tasks.stream().map(Task::getId).toList());
+        });
+    }
+
+    private Workspace workspace(UUID ownerId, WorkspaceType type) {
+        return Workspace.builder()
+                .name(type.name() + " workspace")
+                .description("Seeded " + type.name().toLowerCase() + " workspace")
+                .workspaceType(type)
+                .ownerUserId(ownerId)
+                .build();
+    }
+
+    public record SeededGraph(UUID ownerId, List<UUID> assigneeIds, UUID workspaceId,
+                              List<UUID> assignmentIds, List<UUID> taskIds) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.SwitchBoard.WorkspaceService.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlugUtilsTest {
+
+    // Characters the random inputs are drawn from: ASCII, separators, punctuation, accents and case-mapping oddities
+    private static final String ALPHABET = "aZz09 -\t\n_.!?/&'\"éÉñÜßİıK—–  ";
+
+    private final SlugUtils slugUtils = new SlugUtils();
+
+    @Test
+    void dropsAccentedLettersAndPunctuation() {
+        assertThat(slugUtils.generateSlug("Café Déjà Vu")).isEqualTo("caf-dj-vu");
+        assertThat(slugUtils.generateSlug("Straße & Söhne")).isEqualTo("strae-shne");
+        assertThat(slugUtils.generateSlug("Data Structures: Trees (Part 2)!")).isEqualTo("data-structures-trees-part-2");
+        assertThat(slugUtils.generateSlug("ÉÉÉ")).isEmpty();
+    }
+
+    @Test
+    void collapsesRunsOfSeparators() {
+        assertThat(slugUtils.generateSlug("binary   --  search \t trees")).isEqualTo("binary-search-trees");
+        assertThat(slugUtils.generateSlug("c++ / c# & go")).isEqualTo("c-c-go");
+        assertThat(slugUtils.normalizeSlug("my--group---slug")).isEqualTo("my-group-slug");
+        assertThat(slugUtils.normalizeSlug("my group slug")).isEqualTo("mygroupslug");
+    }
+
+    @Test
+    void trimsLeadingAndTrailingSeparators() {
+        assertThat(slugUtils.generateSlug("  --Hello World--  ")).isEqualTo("hello-world");
+        assertThat(slugUtils.generateSlug("!!!start")).isEqualTo("start");
+        assertThat(slugUtils.normalizeSlug("-already-a-slug-")).isEqualTo("already-a-slug");
+        assertThat(slugUtils.normalizeSlug("---")).isEmpty();
+    }
+
+    @Test
+    void returnsValidSlugsUnchanged() {
+        String slug = "already-a-slug-2";
+        assertThat(slugUtils.generateSlug(slug)).isSameAs(slug);
+        assertThat(slugUtils.normalizeSlug(slug)).isSameAs(slug);
+    }
+
+    @Test
+    void matchesRegexPipelineOnRandomText() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            String text = randomText(random);
+            assertThat(slugUtils.generateSlug(text)).as("generateSlug(%s)", text).isEqualTo(regexGenerateSlug(text));
+            assertThat(slugUtils.normalizeSlug(text)).as("normalizeSlug(%s)", text).isEqualTo(regexNormalizeSlug(text));
+        }
+    }
+
+    @Test
+    void picksLowestFreeSuffix() {
+        assertThat(SlugUtils.nextFreeSlug("java", List.of())).isEqualTo("java");
+        assertThat(SlugUtils.nextFreeSlug("java", List.of("java-1", "java-2"))).isEqualTo("java");
+        assertThat(SlugUtils.nextFreeSlug("java", List.of("java", "java-1", "java-2"))).isEqualTo("java-3");
+        assertThat(SlugUtils.nextFreeSlug("java", Set.of("java", "java-1", "java-3", "java-4"))).isEqualTo("java-2");
+        assertThat(SlugUtils.nextFreeSlug("java", Set.of("java", "java-2", "java-5"))).isEqualTo("java-1");
+    }
+
+    @Test
+    void ignoresSuffixesThatAreNotPlainNumbers() {
+        assertThat(SlugUtils.nextFreeSlug("java", List.of("java", "java-01", "java-x", "java-1a", "javascript")))
+                .isEqualTo("java-1");
+        assertThat(SlugUtils.nextFreeSlug("java", List.of("java", "java-1", "java-99999999999"))).isEqualTo("java-2");
+    }
+
+    private static String randomText(Random random) {
+        char[] chars = new char[random.nextInt(24)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+
+    // The multi-pass normalizations slugify replaced
+    private static String regexGenerateSlug(String text) {
+        if (text.trim().isEmpty()) {
+            return "";
+        }
+        return text.toLowerCase().trim()
+                .replaceAll("[^a-z0-9\\s-]", "")
+                .replaceAll("\\s+", "-")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "");
+    }
+
+    private static String regexNormalizeSlug(String text) {
+        return text.toLowerCase().trim()
+                .replaceAll("[^a-z0-9-]", "")
+                .replaceAll("-+", "-")
+                .replaceAll("^-|-$", "");
+    }
+}